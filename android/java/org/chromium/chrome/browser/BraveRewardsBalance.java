@@ -6,9 +6,8 @@
 package org.chromium.chrome.browser;
 
 import androidx.annotation.VisibleForTesting;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.Map;
-import java.util.HashMap;
 
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -25,23 +24,39 @@ public class BraveRewardsBalance {
     public static final String JSON_WALLETS = "wallets";
 
     private double mTotal;
-    Map <String, Double> mWallets;
+    private String[] mWalletTypes;
+    private double[] mWalletAmounts;
 
+    /**
+     * JSON fallback of the typed constructor, parses the payload of
+     * BraveRewardsNativeWorker::GetWalletBalance.
+     */
     BraveRewardsBalance (String json_balance) throws JSONException {
         fromJson (json_balance);
     }
 
+    /**
+     * @param walletTypes types of the wallets
+     * @param amounts the total, followed by the amounts of the wallets in the order of their types
+     */
+    BraveRewardsBalance(String[] walletTypes, double[] amounts) {
+        assert amounts.length == walletTypes.length + 1;
+        mTotal = amounts[0];
+        mWalletTypes = walletTypes;
+        mWalletAmounts = Arrays.copyOfRange(amounts, 1, amounts.length);
+    }
+
     private void fromJson(String json_balance) throws JSONException {
         JSONObject jsonroot = new JSONObject(json_balance);
         mTotal = jsonroot.getDouble(JSON_TOTAL);
 
-        mWallets = new HashMap <>();
         JSONObject json_wallets = jsonroot.getJSONObject(JSON_WALLETS);
+        mWalletTypes = new String[json_wallets.length()];
+        mWalletAmounts = new double[json_wallets.length()];
         Iterator<String> keys = json_wallets.keys();
-        while(keys.hasNext()) {
-            String key = keys.next();
-            Double val = json_wallets.getDouble(key);
-            mWallets.put (key, val);
+        for (int i = 0; keys.hasNext(); i++) {
+            mWalletTypes[i] = keys.next();
+            mWalletAmounts[i] = json_wallets.getDouble(mWalletTypes[i]);
         }
     }
 
@@ -49,11 +64,37 @@ public class BraveRewardsBalance {
         return mTotal;
     }
 
+    /**
+     * @return the amount of the wallet, 0 when there is no such wallet
+     */
+    public double getWalletAmount(String walletType) {
+        for (int i = 0; i < mWalletTypes.length; i++) {
+            if (mWalletTypes[i].equals(walletType)) return mWalletAmounts[i];
+        }
+
+        return 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof BraveRewardsBalance)) return false;
+        BraveRewardsBalance balance = (BraveRewardsBalance) other;
+        return mTotal == balance.mTotal && Arrays.equals(mWalletTypes, balance.mWalletTypes)
+                && Arrays.equals(mWalletAmounts, balance.mWalletAmounts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(mWalletTypes) + Arrays.hashCode(mWalletAmounts);
+    }
+
     @VisibleForTesting
     @Override
     public String toString() {
         return "BraveRewardsBalance{" +
                 "mTotal=" + mTotal +
-                ", mWallets=" + mWallets +'}';
+                ", mWalletTypes=" + Arrays.toString(mWalletTypes) +
+                ", mWalletAmounts=" + Arrays.toString(mWalletAmounts) + '}';
     }
 }
@@ -23,6 +23,7 @@ import org.chromium.chrome.browser.tab.Tab;
 import org.chromium.chrome.browser.BraveRewardsHelper;
 import org.chromium.chrome.browser.BraveRewardsNativeWorker;
 import org.chromium.chrome.browser.BraveRewardsObserver;
+import org.chromium.chrome.browser.BraveRewardsObserverRegistry;
 import org.chromium.chrome.browser.BraveRewardsSiteBannerActivity;
 
 import static java.util.Locale.getDefault;
@@ -48,7 +49,7 @@ public class BraveRewardsDonationSentActivity extends Activity implements BraveR
         currentTabId_ = IntentUtils.safeGetIntExtra(
                 getIntent(), BraveRewardsSiteBannerActivity.TAB_ID_EXTRA, -1);
         mBraveRewardsNativeWorker = BraveRewardsNativeWorker.getInstance();
-        mBraveRewardsNativeWorker.AddObserver(this);
+        mBraveRewardsNativeWorker.AddObserver(this, BraveRewardsObserverRegistry.RECONCILE_STAMP);
 
         String publisherFavIconURL =
                 mBraveRewardsNativeWorker.GetPublisherFavIconURL(currentTabId_);
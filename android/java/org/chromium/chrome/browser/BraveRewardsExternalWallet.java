@@ -30,6 +30,19 @@ public class BraveRewardsExternalWallet {
     public static final String WITHDRAW_URL = "withdraw_url";
     public static final String LOGIN_URL = "login_url";
 
+    //indices of the fields passed by
+    //BraveRewardsNativeWorker::OnGetExternalWallet
+    static final int FIELD_ACCOUNT_URL = 0;
+    static final int FIELD_ADD_URL = 1;
+    static final int FIELD_ADDRESS = 2;
+    static final int FIELD_TOKEN = 3;
+    static final int FIELD_TYPE = 4;
+    static final int FIELD_USER_NAME = 5;
+    static final int FIELD_VERIFY_URL = 6;
+    static final int FIELD_WITHDRAW_URL = 7;
+    static final int FIELD_LOGIN_URL = 8;
+    static final int FIELD_COUNT = 9;
+
     //WalletStatus @
     //vendor/bat-native-ledger/include/bat/ledger/public/interfaces/ledger.mojom
     @Retention(RetentionPolicy.SOURCE)
@@ -95,10 +108,30 @@ public class BraveRewardsExternalWallet {
         return mLoginUrl;
     }
 
+    /**
+     * JSON fallback of the typed constructor.
+     */
     public BraveRewardsExternalWallet(String json_external_wallet) throws JSONException {
         fromJson (json_external_wallet);
     }
 
+    /**
+     * @param fields the string fields, at their FIELD_* indices
+     */
+    BraveRewardsExternalWallet(String[] fields, @WalletStatus int status) {
+        assert fields.length == FIELD_COUNT;
+        mAccountUrl = fields[FIELD_ACCOUNT_URL];
+        mAddUrl = fields[FIELD_ADD_URL];
+        mAddress = fields[FIELD_ADDRESS];
+        mStatus = status;
+        mToken = fields[FIELD_TOKEN];
+        mType = fields[FIELD_TYPE];
+        mUserName = fields[FIELD_USER_NAME];
+        mVerifyUrl = fields[FIELD_VERIFY_URL];
+        mWithdrawUrl = fields[FIELD_WITHDRAW_URL];
+        mLoginUrl = fields[FIELD_LOGIN_URL];
+    }
+
     private void fromJson(String json_external_wallet) throws JSONException {
         JSONObject jsonObj = new JSONObject(json_external_wallet);
         mAccountUrl = jsonObj.getString(ACCOUNT_URL);
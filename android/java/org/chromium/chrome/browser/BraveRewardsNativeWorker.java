@@ -6,7 +6,9 @@
 
 package org.chromium.chrome.browser;
 
+import android.net.Uri;
 import android.os.Handler;
+import android.os.SystemClock;
 
 import androidx.annotation.Nullable;
 
@@ -19,12 +21,14 @@ import org.chromium.base.annotations.NativeMethods;
 import org.chromium.chrome.browser.BraveRewardsBalance;
 import org.chromium.chrome.browser.BraveRewardsHelper;
 import org.chromium.chrome.browser.BraveRewardsObserver;
+import org.chromium.chrome.browser.BraveRewardsPublisherInfoCache.PublisherInfo;
 import org.chromium.chrome.browser.BraveRewardsPublisher.PublisherStatus;
 import org.chromium.chrome.browser.tab.Tab;
 import org.chromium.components.embedder_support.util.UrlConstants;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @JNINamespace("chrome::android")
 public class BraveRewardsNativeWorker {
@@ -60,13 +64,28 @@ public class BraveRewardsNativeWorker {
     private String frontTabUrl;
     private static final Handler mHandler = new Handler();
 
-    private List<BraveRewardsObserver> mObservers;
-    private List<PublisherObserver> mFrontTabPublisherObservers;
+    private final BraveRewardsObserverRegistry mObserverRegistry;
+    private final List<PublisherObserver> mFrontTabPublisherObservers;
     private long mNativeBraveRewardsNativeWorker;
 
     private static BraveRewardsNativeWorker instance;
     private static final Object lock = new Object();
-    private boolean grantClaimInProcess;  // flag: wallet is being created
+    // One lock per subsystem, so a slow call does not block unrelated callers
+    private final Object mWalletLock = new Object();
+    private final Object mPublisherLock = new Object();
+    private final Object mNotificationsLock = new Object();
+    private final Object mGrantsLock = new Object();
+    private final Object mContributionsLock = new Object();
+    private final Object mAdsLock = new Object();
+    // flag: wallet is being created
+    private final AtomicBoolean grantClaimInProcess = new AtomicBoolean();
+    private final BraveRewardsPublisherInfoRequests mPublisherInfoRequests =
+            new BraveRewardsPublisherInfoRequests();
+    private final BraveRewardsPublisherInfoCache mPublisherInfoCache =
+            new BraveRewardsPublisherInfoCache();
+    // The native balance only changes right before OnRewardsParameters, so the balance read
+    // from it is kept until then
+    private BraveRewardsBalance mWalletBalance;
 
     public static  BraveRewardsNativeWorker getInstance() {
         synchronized(lock) {
@@ -79,8 +98,8 @@ public class BraveRewardsNativeWorker {
     }
 
     private BraveRewardsNativeWorker() {
-        mObservers = new ArrayList<BraveRewardsObserver>();
-        mFrontTabPublisherObservers = new ArrayList<PublisherObserver>();
+        mObserverRegistry = new BraveRewardsObserverRegistry();
+        mFrontTabPublisherObservers = new CopyOnWriteArrayList<PublisherObserver>();
     }
 
     private void Init() {
@@ -102,27 +121,27 @@ public class BraveRewardsNativeWorker {
     }
 
     public void AddObserver(BraveRewardsObserver observer) {
-        synchronized(lock) {
-            mObservers.add(observer);
-        }
+        AddObserver(observer, BraveRewardsObserverRegistry.ALL_EVENTS);
+    }
+
+    /**
+     * @param eventMask flags of {@link BraveRewardsObserverRegistry}, the observer is only
+     *         notified about these events
+     */
+    public void AddObserver(BraveRewardsObserver observer, int eventMask) {
+        mObserverRegistry.add(observer, eventMask);
     }
 
     public void RemoveObserver(BraveRewardsObserver observer) {
-        synchronized(lock) {
-            mObservers.remove(observer);
-        }
+        mObserverRegistry.remove(observer);
     }
 
     public void AddPublisherObserver(PublisherObserver observer) {
-        synchronized (lock) {
-            mFrontTabPublisherObservers.add(observer);
-        }
+        mFrontTabPublisherObservers.add(observer);
     }
 
     public void RemovePublisherObserver(PublisherObserver observer) {
-        synchronized (lock) {
-            mFrontTabPublisherObservers.remove(observer);
-        }
+        mFrontTabPublisherObservers.remove(observer);
     }
 
     public void OnNotifyFrontTabUrlChanged(int tabId, String url) {
@@ -164,268 +183,316 @@ public class BraveRewardsNativeWorker {
     }
 
     public boolean IsGrantClaimInProcess() {
-        synchronized(lock) {
-          return grantClaimInProcess;
-        }
+        return grantClaimInProcess.get();
     }
 
     public void GetRewardsParameters() {
-        synchronized(lock) {
+        synchronized (mWalletLock) {
             BraveRewardsNativeWorkerJni.get().getRewardsParameters(mNativeBraveRewardsNativeWorker);
         }
     }
 
     @Nullable
     public BraveRewardsBalance GetWalletBalance() {
-        synchronized(lock) {
-            String json = BraveRewardsNativeWorkerJni.get().getWalletBalance(
-                    mNativeBraveRewardsNativeWorker);
-            BraveRewardsBalance balance = null;
-            try{
-                balance = new BraveRewardsBalance (json);
+        synchronized (mWalletLock) {
+            if (mWalletBalance == null) {
+                mWalletBalance = readWalletBalance();
             }
-            catch (JSONException e) {
-                balance = null;
-            }
-            return balance;
+            return mWalletBalance;
+        }
+    }
+
+    @Nullable
+    private BraveRewardsBalance readWalletBalance() {
+        String[] walletTypes = BraveRewardsNativeWorkerJni.get().getWalletBalanceWalletTypes(
+                mNativeBraveRewardsNativeWorker);
+        double[] amounts = BraveRewardsNativeWorkerJni.get().getWalletBalanceAmounts(
+                mNativeBraveRewardsNativeWorker);
+        if (walletTypes != null && amounts != null && amounts.length == walletTypes.length + 1) {
+            return new BraveRewardsBalance(walletTypes, amounts);
+        }
+
+        // Fall back to the JSON payload
+        String json = BraveRewardsNativeWorkerJni.get().getWalletBalance(
+                mNativeBraveRewardsNativeWorker);
+        try {
+            return new BraveRewardsBalance(json);
+        } catch (JSONException e) {
+            return null;
         }
     }
 
     public String getExternalWalletType() {
-        synchronized (lock) {
+        synchronized (mWalletLock) {
             return BraveRewardsNativeWorkerJni.get().getExternalWalletType(
                     mNativeBraveRewardsNativeWorker);
         }
     }
 
     public double GetWalletRate() {
-        synchronized(lock) {
+        synchronized (mWalletLock) {
             return BraveRewardsNativeWorkerJni.get().getWalletRate(mNativeBraveRewardsNativeWorker);
         }
     }
 
     public void GetPublisherInfo(int tabId, String host) {
-        synchronized(lock) {
+        String cacheHost = Uri.parse(host).getHost();
+        if (cacheHost == null) {
+            mPublisherInfoCache.removeTab(tabId);
+        } else if (mPublisherInfoCache.onRequest(
+                           tabId, cacheHost, SystemClock.elapsedRealtime())) {
+            // Served from the cache, replied asynchronously like the native lookup
+            mHandler.post(() -> NotifyPublisherInfo(tabId));
+            return;
+        }
+        // The same request already waits for its OnPublisherInfo
+        if (!mPublisherInfoRequests.onRequest(tabId, host, SystemClock.elapsedRealtime())) {
+            return;
+        }
+        synchronized (mPublisherLock) {
             BraveRewardsNativeWorkerJni.get().getPublisherInfo(
                     mNativeBraveRewardsNativeWorker, tabId, host);
         }
     }
 
     public String GetPublisherURL(int tabId) {
-        synchronized(lock) {
+        PublisherInfo info = getCachedPublisherInfo(tabId);
+        if (info != null) return info.getUrl();
+        synchronized (mPublisherLock) {
             return BraveRewardsNativeWorkerJni.get().getPublisherURL(
                     mNativeBraveRewardsNativeWorker, tabId);
         }
     }
 
     public String GetPublisherFavIconURL(int tabId) {
-        synchronized(lock) {
+        PublisherInfo info = getCachedPublisherInfo(tabId);
+        if (info != null) return info.getFavIconUrl();
+        synchronized (mPublisherLock) {
             return BraveRewardsNativeWorkerJni.get().getPublisherFavIconURL(
                     mNativeBraveRewardsNativeWorker, tabId);
         }
     }
 
     public String GetPublisherName(int tabId) {
-        synchronized(lock) {
+        PublisherInfo info = getCachedPublisherInfo(tabId);
+        if (info != null) return info.getName();
+        synchronized (mPublisherLock) {
             return BraveRewardsNativeWorkerJni.get().getPublisherName(
                     mNativeBraveRewardsNativeWorker, tabId);
         }
     }
 
     public String GetPublisherId(int tabId) {
-        synchronized(lock) {
+        PublisherInfo info = getCachedPublisherInfo(tabId);
+        if (info != null) return info.getId();
+        synchronized (mPublisherLock) {
             return BraveRewardsNativeWorkerJni.get().getPublisherId(
                     mNativeBraveRewardsNativeWorker, tabId);
         }
     }
 
     public int GetPublisherPercent(int tabId) {
-        synchronized(lock) {
+        PublisherInfo info = getCachedPublisherInfo(tabId);
+        if (info != null) return info.getPercent();
+        synchronized (mPublisherLock) {
             return BraveRewardsNativeWorkerJni.get().getPublisherPercent(
                     mNativeBraveRewardsNativeWorker, tabId);
         }
     }
 
     public boolean GetPublisherExcluded(int tabId) {
-        synchronized(lock) {
+        PublisherInfo info = getCachedPublisherInfo(tabId);
+        if (info != null) return info.isExcluded();
+        synchronized (mPublisherLock) {
             return BraveRewardsNativeWorkerJni.get().getPublisherExcluded(
                     mNativeBraveRewardsNativeWorker, tabId);
         }
     }
 
     public @PublisherStatus int GetPublisherStatus(int tabId) {
-        synchronized(lock) {
+        PublisherInfo info = getCachedPublisherInfo(tabId);
+        if (info != null) return info.getStatus();
+        synchronized (mPublisherLock) {
             return BraveRewardsNativeWorkerJni.get().getPublisherStatus(
                     mNativeBraveRewardsNativeWorker, tabId);
         }
     }
 
     public void IncludeInAutoContribution(int tabId, boolean exclude) {
-        synchronized(lock) {
-            BraveRewardsNativeWorkerJni.get().includeInAutoContribution(
-                    mNativeBraveRewardsNativeWorker, tabId, exclude);
+        PublisherInfo info = getCachedPublisherInfo(tabId);
+        synchronized (mPublisherLock) {
+            // Tabs served from the cache are unknown to the native side
+            if (info != null) {
+                BraveRewardsNativeWorkerJni.get().setPublisherExclude(
+                        mNativeBraveRewardsNativeWorker, info.getId(), exclude);
+                mPublisherInfoCache.setExcluded(info.getId(), exclude);
+            } else {
+                BraveRewardsNativeWorkerJni.get().includeInAutoContribution(
+                        mNativeBraveRewardsNativeWorker, tabId, exclude);
+            }
         }
     }
 
     public void RemovePublisherFromMap(int tabId) {
-        synchronized(lock) {
+        mPublisherInfoRequests.onTabDone(tabId);
+        mPublisherInfoCache.removeTab(tabId);
+        synchronized (mPublisherLock) {
             BraveRewardsNativeWorkerJni.get().removePublisherFromMap(
                     mNativeBraveRewardsNativeWorker, tabId);
         }
     }
 
     public void GetCurrentBalanceReport() {
-        synchronized(lock) {
+        synchronized (mWalletLock) {
             BraveRewardsNativeWorkerJni.get().getCurrentBalanceReport(
                     mNativeBraveRewardsNativeWorker);
         }
     }
 
     public void Donate(String publisher_key, int amount, boolean recurring) {
-        synchronized(lock) {
+        synchronized (mContributionsLock) {
             BraveRewardsNativeWorkerJni.get().donate(
                     mNativeBraveRewardsNativeWorker, publisher_key, amount, recurring);
         }
     }
 
     public void GetAllNotifications() {
-        synchronized(lock) {
+        synchronized (mNotificationsLock) {
             BraveRewardsNativeWorkerJni.get().getAllNotifications(mNativeBraveRewardsNativeWorker);
         }
     }
 
     public void DeleteNotification(String notification_id) {
-        synchronized(lock) {
+        synchronized (mNotificationsLock) {
             BraveRewardsNativeWorkerJni.get().deleteNotification(
                     mNativeBraveRewardsNativeWorker, notification_id);
         }
     }
 
     public void GetGrant(String promotionId) {
-        synchronized(lock) {
-            if (grantClaimInProcess) {
-                return;
-            }
-            grantClaimInProcess = true;
+        if (!grantClaimInProcess.compareAndSet(false, true)) {
+            return;
+        }
+        synchronized (mGrantsLock) {
             BraveRewardsNativeWorkerJni.get().getGrant(
                     mNativeBraveRewardsNativeWorker, promotionId);
         }
     }
 
     public String[] GetCurrentGrant(int position) {
-        synchronized(lock) {
+        synchronized (mGrantsLock) {
             return BraveRewardsNativeWorkerJni.get().getCurrentGrant(
                     mNativeBraveRewardsNativeWorker, position);
         }
     }
 
     public void GetPendingContributionsTotal() {
-        synchronized(lock) {
+        synchronized (mContributionsLock) {
             BraveRewardsNativeWorkerJni.get().getPendingContributionsTotal(
                     mNativeBraveRewardsNativeWorker);
         }
     }
 
     public void GetRecurringDonations() {
-        synchronized(lock) {
+        synchronized (mContributionsLock) {
             BraveRewardsNativeWorkerJni.get().getRecurringDonations(
                     mNativeBraveRewardsNativeWorker);
         }
     }
 
     public boolean IsCurrentPublisherInRecurrentDonations(String publisher) {
-        synchronized(lock) {
+        synchronized (mContributionsLock) {
             return BraveRewardsNativeWorkerJni.get().isCurrentPublisherInRecurrentDonations(
                     mNativeBraveRewardsNativeWorker, publisher);
         }
     }
 
     public double GetPublisherRecurrentDonationAmount(String publisher) {
-        synchronized(lock) {
+        synchronized (mContributionsLock) {
             return BraveRewardsNativeWorkerJni.get().getPublisherRecurrentDonationAmount(
                     mNativeBraveRewardsNativeWorker, publisher);
         }
     }
 
     public void GetAutoContributeProperties() {
-        synchronized(lock) {
+        synchronized (mContributionsLock) {
             BraveRewardsNativeWorkerJni.get().getAutoContributeProperties(
                     mNativeBraveRewardsNativeWorker);
         }
     }
 
     public boolean IsAutoContributeEnabled() {
-        synchronized(lock) {
+        synchronized (mContributionsLock) {
             return BraveRewardsNativeWorkerJni.get().isAutoContributeEnabled(
                     mNativeBraveRewardsNativeWorker);
         }
     }
 
     public void GetReconcileStamp() {
-        synchronized(lock) {
+        synchronized (mContributionsLock) {
             BraveRewardsNativeWorkerJni.get().getReconcileStamp(mNativeBraveRewardsNativeWorker);
         }
     }
 
     public void RemoveRecurring(String publisher) {
-        synchronized(lock) {
+        synchronized (mContributionsLock) {
             BraveRewardsNativeWorkerJni.get().removeRecurring(
                     mNativeBraveRewardsNativeWorker, publisher);
         }
     }
 
     public void ResetTheWholeState() {
-        synchronized(lock) {
+        synchronized (mWalletLock) {
             BraveRewardsNativeWorkerJni.get().resetTheWholeState(mNativeBraveRewardsNativeWorker);
         }
     }
 
     public void FetchGrants() {
-        synchronized(lock) {
+        synchronized (mGrantsLock) {
             BraveRewardsNativeWorkerJni.get().fetchGrants(mNativeBraveRewardsNativeWorker);
         }
     }
 
     public int GetAdsPerHour() {
-        synchronized (lock) {
+        synchronized (mAdsLock) {
             return BraveRewardsNativeWorkerJni.get().getAdsPerHour(mNativeBraveRewardsNativeWorker);
         }
     }
 
     public void SetAdsPerHour(int value) {
-        synchronized (lock) {
+        synchronized (mAdsLock) {
             BraveRewardsNativeWorkerJni.get().setAdsPerHour(mNativeBraveRewardsNativeWorker, value);
         }
     }
 
     public boolean isRewardsEnabled() {
-        synchronized (lock) {
+        synchronized (mWalletLock) {
             return BraveRewardsNativeWorkerJni.get().isRewardsEnabled(
                     mNativeBraveRewardsNativeWorker);
         }
     }
 
     public void GetExternalWallet() {
-        synchronized (lock) {
+        synchronized (mWalletLock) {
             BraveRewardsNativeWorkerJni.get().getExternalWallet(mNativeBraveRewardsNativeWorker);
         }
     }
 
     public void DisconnectWallet() {
-        synchronized (lock) {
+        synchronized (mWalletLock) {
             BraveRewardsNativeWorkerJni.get().disconnectWallet(mNativeBraveRewardsNativeWorker);
         }
     }
 
     public void RecoverWallet(String passPhrase) {
-        synchronized (lock) {
+        synchronized (mWalletLock) {
             BraveRewardsNativeWorkerJni.get().recoverWallet(
                     mNativeBraveRewardsNativeWorker, passPhrase);
         }
     }
 
     public void getAdsAccountStatement() {
-        synchronized (lock) {
+        synchronized (mAdsLock) {
             BraveRewardsNativeWorkerJni.get().getAdsAccountStatement(
                     mNativeBraveRewardsNativeWorker);
         }
@@ -433,69 +500,78 @@ public class BraveRewardsNativeWorker {
 
     @CalledByNative
     public void OnRecoverWallet(int errorCode) {
-        for (BraveRewardsObserver observer : mObservers) {
+        for (BraveRewardsObserver observer :
+                mObserverRegistry.get(BraveRewardsObserverRegistry.RECOVER_WALLET)) {
             observer.OnRecoverWallet(errorCode);
         }
     }
 
     public void RefreshPublisher(String publisherKey) {
-        synchronized (lock) {
+        synchronized (mPublisherLock) {
             BraveRewardsNativeWorkerJni.get().refreshPublisher(
                     mNativeBraveRewardsNativeWorker, publisherKey);
         }
     }
 
     public void SetAutoContributeEnabled(boolean isSetAutoContributeEnabled) {
-        synchronized(lock) {
+        synchronized (mContributionsLock) {
             BraveRewardsNativeWorkerJni.get().setAutoContributeEnabled(
                     mNativeBraveRewardsNativeWorker, isSetAutoContributeEnabled);
         }
     }
 
     public void SetAutoContributionAmount(double amount) {
-        synchronized(lock) {
+        synchronized (mContributionsLock) {
             BraveRewardsNativeWorkerJni.get().setAutoContributionAmount(
                     mNativeBraveRewardsNativeWorker, amount);
         }
     }
 
     public void getAutoContributionAmount() {
-        synchronized (lock) {
+        synchronized (mContributionsLock) {
             BraveRewardsNativeWorkerJni.get().getAutoContributionAmount(
                     mNativeBraveRewardsNativeWorker);
         }
     }
 
     public void StartProcess() {
-        synchronized (lock) {
+        synchronized (mWalletLock) {
             BraveRewardsNativeWorkerJni.get().startProcess(mNativeBraveRewardsNativeWorker);
         }
     }
 
     @CalledByNative
     public void OnStartProcess() {
-        for (BraveRewardsObserver observer : mObservers) {
+        for (BraveRewardsObserver observer :
+                mObserverRegistry.get(BraveRewardsObserverRegistry.START_PROCESS)) {
             observer.OnStartProcess();
         }
     }
 
     @CalledByNative
     public void OnRefreshPublisher(int status, String publisherKey) {
-        for (BraveRewardsObserver observer : mObservers) {
+        mPublisherInfoCache.setStatus(publisherKey, status);
+        for (BraveRewardsObserver observer :
+                mObserverRegistry.get(BraveRewardsObserverRegistry.REFRESH_PUBLISHER)) {
             observer.OnRefreshPublisher(status, publisherKey);
         }
     }
 
     @CalledByNative
     public void OnRewardsParameters(int errorCode) {
-        for (BraveRewardsObserver observer : mObservers) {
+        synchronized (mWalletLock) {
+            mWalletBalance = null;
+        }
+        for (BraveRewardsObserver observer :
+                mObserverRegistry.get(BraveRewardsObserverRegistry.REWARDS_PARAMETERS)) {
             observer.OnRewardsParameters(errorCode);
         }
     }
 
     @CalledByNative
     public void OnGetCurrentBalanceReport(double[] report) {
-        for (BraveRewardsObserver observer : mObservers) {
+        for (BraveRewardsObserver observer :
+                mObserverRegistry.get(BraveRewardsObserverRegistry.CURRENT_BALANCE_REPORT)) {
             observer.OnGetCurrentBalanceReport(report);
         }
     }
@@ -506,8 +582,42 @@ public class BraveRewardsNativeWorker {
         mNativeBraveRewardsNativeWorker = nativePtr;
     }
 
+    public int GetPublisherInfoCacheHitCount() {
+        return mPublisherInfoCache.getHitCount();
+    }
+
+    public int GetPublisherInfoCacheMissCount() {
+        return mPublisherInfoCache.getMissCount();
+    }
+
+    @Nullable
+    private PublisherInfo getCachedPublisherInfo(int tabId) {
+        return mPublisherInfoCache.getForTab(tabId);
+    }
+
+    private PublisherInfo readPublisherInfo(int tabId) {
+        synchronized (mPublisherLock) {
+            long nativeWorker = mNativeBraveRewardsNativeWorker;
+            return new PublisherInfo(
+                    BraveRewardsNativeWorkerJni.get().getPublisherURL(nativeWorker, tabId),
+                    BraveRewardsNativeWorkerJni.get().getPublisherFavIconURL(nativeWorker, tabId),
+                    BraveRewardsNativeWorkerJni.get().getPublisherName(nativeWorker, tabId),
+                    BraveRewardsNativeWorkerJni.get().getPublisherId(nativeWorker, tabId),
+                    BraveRewardsNativeWorkerJni.get().getPublisherPercent(nativeWorker, tabId),
+                    BraveRewardsNativeWorkerJni.get().getPublisherExcluded(nativeWorker, tabId),
+                    BraveRewardsNativeWorkerJni.get().getPublisherStatus(nativeWorker, tabId),
+                    SystemClock.elapsedRealtime());
+        }
+    }
+
     @CalledByNative
     public void OnPublisherInfo(int tabId) {
+        mPublisherInfoRequests.onTabDone(tabId);
+        mPublisherInfoCache.put(tabId, readPublisherInfo(tabId));
+        NotifyPublisherInfo(tabId);
+    }
+
+    private void NotifyPublisherInfo(int tabId) {
         @PublisherStatus int pubStatus = GetPublisherStatus(tabId);
         boolean verified = (pubStatus == BraveRewardsPublisher.CONNECTED
                                    || pubStatus == BraveRewardsPublisher.UPHOLD_VERIFIED
@@ -518,7 +628,8 @@ public class BraveRewardsNativeWorker {
         NotifyPublisherObservers(verified);
 
         // Notify BraveRewardsObserver (panel).
-        for (BraveRewardsObserver observer : mObservers) {
+        for (BraveRewardsObserver observer :
+                mObserverRegistry.get(BraveRewardsObserverRegistry.PUBLISHER_INFO)) {
             observer.OnPublisherInfo(tabId);
         }
     }
@@ -526,14 +637,16 @@ public class BraveRewardsNativeWorker {
     @CalledByNative
     public void OnNotificationAdded(String id, int type, long timestamp,
             String[] args) {
-        for (BraveRewardsObserver observer : mObservers) {
+        for (BraveRewardsObserver observer :
+                mObserverRegistry.get(BraveRewardsObserverRegistry.NOTIFICATION_ADDED)) {
             observer.OnNotificationAdded(id, type, timestamp, args);
         }
     }
 
     @CalledByNative
     public void OnNotificationsCount(int count) {
-        for (BraveRewardsObserver observer : mObservers) {
+        for (BraveRewardsObserver observer :
+                mObserverRegistry.get(BraveRewardsObserverRegistry.NOTIFICATIONS_COUNT)) {
             observer.OnNotificationsCount(count);
         }
     }
@@ -541,79 +654,97 @@ public class BraveRewardsNativeWorker {
     @CalledByNative
     public void OnGetLatestNotification(String id, int type, long timestamp,
             String[] args) {
-        for (BraveRewardsObserver observer : mObservers) {
+        for (BraveRewardsObserver observer :
+                mObserverRegistry.get(BraveRewardsObserverRegistry.LATEST_NOTIFICATION)) {
             observer.OnGetLatestNotification(id, type, timestamp, args);
         }
     }
 
     @CalledByNative
     public void OnNotificationDeleted(String id) {
-        for (BraveRewardsObserver observer : mObservers) {
+        for (BraveRewardsObserver observer :
+                mObserverRegistry.get(BraveRewardsObserverRegistry.NOTIFICATION_DELETED)) {
             observer.OnNotificationDeleted(id);
         }
     }
 
     @CalledByNative
     public void OnGetPendingContributionsTotal(double amount) {
-        for (BraveRewardsObserver observer : mObservers) {
+        for (BraveRewardsObserver observer :
+                mObserverRegistry.get(BraveRewardsObserverRegistry.PENDING_CONTRIBUTIONS_TOTAL)) {
             observer.OnGetPendingContributionsTotal(amount);
         }
     }
 
     @CalledByNative
     public void OnGetAutoContributeProperties() {
-        for (BraveRewardsObserver observer : mObservers) {
+        for (BraveRewardsObserver observer :
+                mObserverRegistry.get(BraveRewardsObserverRegistry.AUTO_CONTRIBUTE_PROPERTIES)) {
             observer.OnGetAutoContributeProperties();
         }
     }
 
     @CalledByNative
     public void OnGetAutoContributionAmount(double amount) {
-        for (BraveRewardsObserver observer : mObservers) {
+        for (BraveRewardsObserver observer :
+                mObserverRegistry.get(BraveRewardsObserverRegistry.AUTO_CONTRIBUTION_AMOUNT)) {
             observer.onGetAutoContributionAmount(amount);
         }
     }
 
     @CalledByNative
     public void OnGetReconcileStamp(long timestamp) {
-        for (BraveRewardsObserver observer : mObservers) {
+        for (BraveRewardsObserver observer :
+                mObserverRegistry.get(BraveRewardsObserverRegistry.RECONCILE_STAMP)) {
             observer.OnGetReconcileStamp(timestamp);
         }
     }
 
     @CalledByNative
     public void OnRecurringDonationUpdated() {
-        for (BraveRewardsObserver observer : mObservers) {
+        for (BraveRewardsObserver observer :
+                mObserverRegistry.get(BraveRewardsObserverRegistry.RECURRING_DONATION_UPDATED)) {
             observer.OnRecurringDonationUpdated();
         }
     }
 
     @CalledByNative
     public void OnGrantFinish(int result) {
-        grantClaimInProcess = false;
-        for(BraveRewardsObserver observer : mObservers) {
+        grantClaimInProcess.set(false);
+        for (BraveRewardsObserver observer :
+                mObserverRegistry.get(BraveRewardsObserverRegistry.GRANT_FINISH)) {
             observer.OnGrantFinish(result);
         }
     }
 
     @CalledByNative
     public void OnResetTheWholeState(boolean success) {
-        for (BraveRewardsObserver observer : mObservers) {
+        if (success) {
+            mPublisherInfoCache.clear();
+        }
+        for (BraveRewardsObserver observer :
+                mObserverRegistry.get(BraveRewardsObserverRegistry.RESET_THE_WHOLE_STATE)) {
             observer.OnResetTheWholeState(success);
         }
     }
 
     @CalledByNative
-    public void OnGetExternalWallet(int error_code, String external_wallet) {
-        for (BraveRewardsObserver observer : mObservers) {
-            observer.OnGetExternalWallet(error_code, external_wallet);
+    public void OnGetExternalWallet(int error_code, String[] walletFields, int walletStatus) {
+        // Parsed once and shared by all observers
+        BraveRewardsExternalWallet externalWallet = walletFields != null
+                ? new BraveRewardsExternalWallet(walletFields, walletStatus)
+                : null;
+        for (BraveRewardsObserver observer :
+                mObserverRegistry.get(BraveRewardsObserverRegistry.EXTERNAL_WALLET)) {
+            observer.OnGetExternalWallet(error_code, externalWallet);
         }
     }
 
     @CalledByNative
     public void OnGetAdsAccountStatement(boolean success, double next_payment_date,
             int ads_received_this_month, double earnings_this_month, double earnings_last_month) {
-        for (BraveRewardsObserver observer : mObservers) {
+        for (BraveRewardsObserver observer :
+                mObserverRegistry.get(BraveRewardsObserverRegistry.ADS_ACCOUNT_STATEMENT)) {
             observer.OnGetAdsAccountStatement(success, next_payment_date, ads_received_this_month,
                     earnings_this_month, earnings_last_month);
         }
@@ -621,36 +752,41 @@ public class BraveRewardsNativeWorker {
 
     @CalledByNative
     public void OnDisconnectWallet(int error_code, String external_wallet) {
-        for (BraveRewardsObserver observer : mObservers) {
+        for (BraveRewardsObserver observer :
+                mObserverRegistry.get(BraveRewardsObserverRegistry.DISCONNECT_WALLET)) {
             observer.OnDisconnectWallet(error_code, external_wallet);
         }
     }
 
     @CalledByNative
     public void OnClaimPromotion(int error_code) {
-        grantClaimInProcess = false;
-        for (BraveRewardsObserver observer : mObservers) {
+        grantClaimInProcess.set(false);
+        for (BraveRewardsObserver observer :
+                mObserverRegistry.get(BraveRewardsObserverRegistry.CLAIM_PROMOTION)) {
             observer.OnClaimPromotion(error_code);
         }
     }
 
     @CalledByNative
     public void OnOneTimeTip() {
-        for (BraveRewardsObserver observer : mObservers) {
+        for (BraveRewardsObserver observer :
+                mObserverRegistry.get(BraveRewardsObserverRegistry.ONE_TIME_TIP)) {
             observer.OnOneTimeTip();
         }
     }
 
     @CalledByNative
     public void onUnblindedTokensReady() {
-        for (BraveRewardsObserver observer : mObservers) {
+        for (BraveRewardsObserver observer :
+                mObserverRegistry.get(BraveRewardsObserverRegistry.UNBLINDED_TOKENS_READY)) {
             observer.onUnblindedTokensReady();
         }
     }
 
     @CalledByNative
     public void onReconcileComplete(int resultCode, int rewardsType, double amount) {
-        for (BraveRewardsObserver observer : mObservers) {
+        for (BraveRewardsObserver observer :
+                mObserverRegistry.get(BraveRewardsObserverRegistry.RECONCILE_COMPLETE)) {
             observer.onReconcileComplete(resultCode, rewardsType, amount);
         }
     }
@@ -660,6 +796,8 @@ public class BraveRewardsNativeWorker {
         void init(BraveRewardsNativeWorker caller);
         void destroy(long nativeBraveRewardsNativeWorker);
         String getWalletBalance(long nativeBraveRewardsNativeWorker);
+        String[] getWalletBalanceWalletTypes(long nativeBraveRewardsNativeWorker);
+        double[] getWalletBalanceAmounts(long nativeBraveRewardsNativeWorker);
         String getExternalWalletType(long nativeBraveRewardsNativeWorker);
         double getWalletRate(long nativeBraveRewardsNativeWorker);
         void getPublisherInfo(long nativeBraveRewardsNativeWorker, int tabId, String host);
@@ -673,6 +811,8 @@ public class BraveRewardsNativeWorker {
         void includeInAutoContribution(
                 long nativeBraveRewardsNativeWorker, int tabId, boolean exclude);
         void removePublisherFromMap(long nativeBraveRewardsNativeWorker, int tabId);
+        void setPublisherExclude(
+                long nativeBraveRewardsNativeWorker, String publisherKey, boolean exclude);
         void getCurrentBalanceReport(long nativeBraveRewardsNativeWorker);
         void donate(long nativeBraveRewardsNativeWorker, String publisher_key, int amount,
                 boolean recurring);
@@ -0,0 +1,110 @@
+/* Copyright (c) 2022 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser;
+
+/**
+ * Observers of {@link BraveRewardsNativeWorker} per event type. Observers subscribe to a mask of
+ * event flags and an event only reaches the observers that asked for it. Every event type has
+ * its own array of observers, replaced on add and remove, so dispatching reads one array without
+ * locking or allocating, and observers can add or remove observers while being notified.
+ * Plain Java without Android or JNI dependencies, can be used from any thread.
+ */
+public class BraveRewardsObserverRegistry {
+    public static final int REWARDS_PARAMETERS = 1 << 0;
+    public static final int PUBLISHER_INFO = 1 << 1;
+    public static final int CURRENT_BALANCE_REPORT = 1 << 2;
+    public static final int NOTIFICATION_ADDED = 1 << 3;
+    public static final int NOTIFICATIONS_COUNT = 1 << 4;
+    public static final int LATEST_NOTIFICATION = 1 << 5;
+    public static final int NOTIFICATION_DELETED = 1 << 6;
+    public static final int PENDING_CONTRIBUTIONS_TOTAL = 1 << 7;
+    public static final int AUTO_CONTRIBUTE_PROPERTIES = 1 << 8;
+    public static final int AUTO_CONTRIBUTION_AMOUNT = 1 << 9;
+    public static final int RECONCILE_STAMP = 1 << 10;
+    public static final int RECURRING_DONATION_UPDATED = 1 << 11;
+    public static final int RESET_THE_WHOLE_STATE = 1 << 12;
+    public static final int GRANT_FINISH = 1 << 13;
+    public static final int EXTERNAL_WALLET = 1 << 14;
+    public static final int DISCONNECT_WALLET = 1 << 15;
+    public static final int CLAIM_PROMOTION = 1 << 16;
+    public static final int UNBLINDED_TOKENS_READY = 1 << 17;
+    public static final int RECONCILE_COMPLETE = 1 << 18;
+    public static final int RECOVER_WALLET = 1 << 19;
+    public static final int REFRESH_PUBLISHER = 1 << 20;
+    public static final int ONE_TIME_TIP = 1 << 21;
+    public static final int START_PROCESS = 1 << 22;
+    public static final int ADS_ACCOUNT_STATEMENT = 1 << 23;
+
+    private static final int EVENT_COUNT = 24;
+    public static final int ALL_EVENTS = (1 << EVENT_COUNT) - 1;
+
+    private static final BraveRewardsObserver[] EMPTY = new BraveRewardsObserver[0];
+
+    // Observers per event index, rows are never changed once published
+    private volatile BraveRewardsObserver[][] mObservers;
+
+    public BraveRewardsObserverRegistry() {
+        BraveRewardsObserver[][] observers = new BraveRewardsObserver[EVENT_COUNT][];
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            observers[i] = EMPTY;
+        }
+        mObservers = observers;
+    }
+
+    /**
+     * Subscribes the observer to the events of the mask, in addition to the events it is
+     * already subscribed to.
+     */
+    public synchronized void add(BraveRewardsObserver observer, int eventMask) {
+        BraveRewardsObserver[][] observers = mObservers.clone();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            if ((eventMask & (1 << i)) == 0 || indexOf(observers[i], observer) >= 0) continue;
+            BraveRewardsObserver[] row = new BraveRewardsObserver[observers[i].length + 1];
+            System.arraycopy(observers[i], 0, row, 0, observers[i].length);
+            row[observers[i].length] = observer;
+            observers[i] = row;
+        }
+        mObservers = observers;
+    }
+
+    /**
+     * Unsubscribes the observer from all events.
+     */
+    public synchronized void remove(BraveRewardsObserver observer) {
+        BraveRewardsObserver[][] observers = mObservers.clone();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            int index = indexOf(observers[i], observer);
+            if (index < 0) continue;
+            if (observers[i].length == 1) {
+                observers[i] = EMPTY;
+                continue;
+            }
+            BraveRewardsObserver[] row = new BraveRewardsObserver[observers[i].length - 1];
+            System.arraycopy(observers[i], 0, row, 0, index);
+            System.arraycopy(observers[i], index + 1, row, index, row.length - index);
+            observers[i] = row;
+        }
+        mObservers = observers;
+    }
+
+    /**
+     * @param event a single event flag
+     * @return the observers of the event, must not be modified
+     */
+    public BraveRewardsObserver[] get(int event) {
+        assert Integer.bitCount(event) == 1 && (event & ALL_EVENTS) != 0;
+
+        return mObservers[Integer.numberOfTrailingZeros(event)];
+    }
+
+    private static int indexOf(BraveRewardsObserver[] observers, BraveRewardsObserver observer) {
+        for (int i = 0; i < observers.length; i++) {
+            if (observers[i] == observer) return i;
+        }
+
+        return -1;
+    }
+}
@@ -60,7 +60,6 @@ import androidx.viewpager.widget.ViewPager;
 
 import com.google.android.material.tabs.TabLayout;
 
-import org.json.JSONException;
 
 import org.chromium.base.BraveReflectionUtil;
 import org.chromium.base.ContextUtils;
@@ -100,14 +99,11 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.Locale;
 import java.util.TimeZone;
-import java.util.Timer;
-import java.util.TimerTask;
 
-public class BraveRewardsPanelPopup implements BraveRewardsObserver, BraveRewardsHelper.LargeIconReadyCallback {
+public class BraveRewardsPanelPopup implements BraveRewardsObserver,
+                                               BraveRewardsStateStore.Listener,
+                                               BraveRewardsHelper.LargeIconReadyCallback {
     private static final String TAG = "BraveRewards";
-    private static final int UPDATE_BALANCE_INTERVAL = 60000;  // In milliseconds
-    private static final int PUBLISHER_INFO_FETCH_RETRY = 3 * 1000; // In milliseconds
-    private static final int PUBLISHER_FETCHES_COUNT = 3;
     private static final String YOUTUBE_TYPE = "youtube#";
     private static final String TWITCH_TYPE = "twitch#";
     private static final String COPYRIGHT_SPECIAL = "\u2122";
@@ -157,9 +153,8 @@ public class BraveRewardsPanelPopup implements BraveRewardsObserver, BraveReward
     private TextView tvLearnMore;
     private TextView tvYourWalletTitle;
     private BraveRewardsNativeWorker mBraveRewardsNativeWorker;
-    private Timer balanceUpdater;
-    private Timer mPublisherFetcher;
-    private int publisherFetchesCount;
+    private BraveRewardsStateStore mRewardsStateStore;
+    private int mPublisherInfoTabId;
 
     private int currentTabId;
     private OnCheckedChangeListener autoContributeSwitchListener;
@@ -211,7 +206,7 @@ public class BraveRewardsPanelPopup implements BraveRewardsObserver, BraveReward
     public BraveRewardsPanelPopup(View anchor) {
         currentNotificationId = "";
         publisherExist = false;
-        publisherFetchesCount = 0;
+        mPublisherInfoTabId = -1;
         currentTabId = -1;
         this.anchor = anchor;
         this.window = new PopupWindow(anchor.getContext());
@@ -238,12 +233,11 @@ public class BraveRewardsPanelPopup implements BraveRewardsObserver, BraveReward
         this.window.setOnDismissListener(new PopupWindow.OnDismissListener() {
             @Override
             public void onDismiss() {
-                if (balanceUpdater != null) {
-                    balanceUpdater.cancel();
-                }
-
-                if (mPublisherFetcher != null) {
-                    mPublisherFetcher.cancel();
+                if (mRewardsStateStore != null) {
+                    mRewardsStateStore.removeListener(thisObject);
+                    if (mPublisherInfoTabId != -1) {
+                        mRewardsStateStore.cancelPublisherInfo(mPublisherInfoTabId);
+                    }
                 }
 
                 if (mIconFetcher != null) {
@@ -269,27 +263,9 @@ public class BraveRewardsPanelPopup implements BraveRewardsObserver, BraveReward
         if (mBraveRewardsNativeWorker != null) {
             mBraveRewardsNativeWorker.AddObserver(thisObject);
         }
-        balanceUpdater = new Timer();
         onCreate();
     }
 
-    private void CreateUpdateBalanceTask() {
-        balanceUpdater.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                if (thisObject.mBraveRewardsNativeWorker == null) {
-                    return;
-                }
-                mActivity.runOnUiThread(new Runnable() {
-                    @Override
-                    public void run() {
-                        mBraveRewardsNativeWorker.FetchGrants();
-                    }
-                });
-            }
-        }, 0, UPDATE_BALANCE_INTERVAL);
-    }
-
     private void initViews(ViewGroup root) {
         tvPublisherNotVerifiedSummary = (TextView)root.findViewById(R.id.publisher_not_verified_summary);
         tvYourWalletTitle = (TextView)root.findViewById(R.id.your_wallet_title);
@@ -937,7 +913,9 @@ public class BraveRewardsPanelPopup implements BraveRewardsObserver, BraveReward
         String usdText =
                 String.format(this.root.getResources().getString(R.string.brave_ui_usd), "0.00");
         ((TextView) this.root.findViewById(R.id.br_usd_wallet)).setText(usdText);
-        CreateUpdateBalanceTask();
+        mRewardsStateStore = BraveRewardsStateStore.getInstance();
+        mRewardsStateStore.addListener(this);
+        mRewardsStateStore.onPanelOpened();
         ScrollView sv_new = (ScrollView) this.root.findViewById(R.id.sv_no_website);
         sv_new.setVisibility(View.VISIBLE);
         ShowRewardsSummary();
@@ -947,10 +925,8 @@ public class BraveRewardsPanelPopup implements BraveRewardsObserver, BraveReward
         if (currentActiveTab != null && !currentActiveTab.isIncognito()) {
             String url = currentActiveTab.getUrl().getSpec();
             if (URLUtil.isValidUrl(url)) {
-                mBraveRewardsNativeWorker.GetPublisherInfo(currentActiveTab.getId(), url);
-                mPublisherFetcher = new Timer();
-                mPublisherFetcher.schedule(new PublisherFetchTimer(currentActiveTab.getId(), url),
-                        PUBLISHER_INFO_FETCH_RETRY, PUBLISHER_INFO_FETCH_RETRY);
+                mPublisherInfoTabId = currentActiveTab.getId();
+                mRewardsStateStore.requestPublisherInfo(mPublisherInfoTabId, url);
             } else {
                 btRewardsSummary.setCompoundDrawablesWithIntrinsicBounds(0, 0, 0, 0);
                 btRewardsSummary.setClickable(false);
@@ -958,38 +934,6 @@ public class BraveRewardsPanelPopup implements BraveRewardsObserver, BraveReward
         }
     }
 
-    class PublisherFetchTimer extends TimerTask {
-        private final int tabId;
-        private final String url;
-
-        PublisherFetchTimer(int tabId, String url) {
-            this.tabId = tabId;
-            this.url = url;
-        }
-
-        @Override
-        public void run() {
-            if (thisObject.publisherExist || publisherFetchesCount >= PUBLISHER_FETCHES_COUNT) {
-                if (mPublisherFetcher != null) {
-                    mPublisherFetcher.cancel();
-                    mPublisherFetcher = null;
-                }
-
-                return;
-            }
-            if (thisObject.mBraveRewardsNativeWorker == null) {
-                return;
-            }
-            mActivity.runOnUiThread(new Runnable() {
-                @Override
-                public void run() {
-                    thisObject.mBraveRewardsNativeWorker.GetPublisherInfo(tabId, url);
-                }
-            });
-            publisherFetchesCount++;
-        }
-    }
-
     public class DonationsAdapter extends BaseAdapter implements SpinnerAdapter {
         Context context;
         LayoutInflater inflater;
@@ -1675,26 +1619,6 @@ public class BraveRewardsPanelPopup implements BraveRewardsObserver, BraveReward
         if (errorCode == BraveRewardsNativeWorker.LEDGER_OK) {
             DismissNotification(REWARDS_NOTIFICATION_NO_INTERNET_ID);
             if (mBraveRewardsNativeWorker != null) {
-                BraveRewardsBalance balance_obj = mBraveRewardsNativeWorker.GetWalletBalance();
-                if (balance_obj != null) {
-                    walletBalance = balance_obj.getTotal();
-                }
-
-                if (walletBalance > 0 && braveRewardsWelcomeView != null) {
-                    braveRewardsWelcomeView.setVisibility(View.GONE);
-                }
-
-                DecimalFormat df = new DecimalFormat("#.###");
-                df.setRoundingMode(RoundingMode.FLOOR);
-                df.setMinimumFractionDigits(3);
-                tvBrBatWallet.setText(df.format(walletBalance));
-                ((TextView) this.root.findViewById(R.id.br_bat)).setText(batText);
-                double usdValue = walletBalance * mBraveRewardsNativeWorker.GetWalletRate();
-                String usdText =
-                    String.format(this.root.getResources().getString(R.string.brave_ui_usd),
-                                  String.format(Locale.getDefault(), "%.2f", usdValue));
-                ((TextView)this.root.findViewById(R.id.br_usd_wallet)).setText(usdText);
-
                 Button btnVerifyWallet = (Button) root.findViewById(R.id.btn_verify_wallet);
                 btnVerifyWallet.setBackgroundResource(R.drawable.wallet_verify_button);
                 if (mExternalWallet != null
@@ -1715,6 +1639,24 @@ public class BraveRewardsPanelPopup implements BraveRewardsObserver, BraveReward
         }
     }
 
+    @Override
+    public void onBalanceChanged(BraveRewardsBalance balance, double rate) {
+        walletBalance = balance.getTotal();
+        if (walletBalance > 0 && braveRewardsWelcomeView != null) {
+            braveRewardsWelcomeView.setVisibility(View.GONE);
+        }
+
+        DecimalFormat df = new DecimalFormat("#.###");
+        df.setRoundingMode(RoundingMode.FLOOR);
+        df.setMinimumFractionDigits(3);
+        tvBrBatWallet.setText(df.format(walletBalance));
+        ((TextView) this.root.findViewById(R.id.br_bat)).setText(batText);
+        double usdValue = walletBalance * rate;
+        String usdText = String.format(this.root.getResources().getString(R.string.brave_ui_usd),
+                String.format(Locale.getDefault(), "%.2f", usdValue));
+        ((TextView) this.root.findViewById(R.id.br_usd_wallet)).setText(usdText);
+    }
+
     void UpdateRecurentDonationSpinner(double amount) {
         int RequestedPosition = mTip_amount_spinner_data_adapter.getPosition ((int)amount);
         if (RequestedPosition < 0 || RequestedPosition >= mTip_amount_spinner_data_adapter.getCount() ) {
@@ -1890,16 +1832,11 @@ public class BraveRewardsPanelPopup implements BraveRewardsObserver, BraveReward
     }
 
     @Override
-    public void OnGetExternalWallet(int error_code, String external_wallet) {
+    public void OnGetExternalWallet(int error_code, BraveRewardsExternalWallet external_wallet) {
         int walletStatus = BraveRewardsExternalWallet.NOT_CONNECTED;
-        if(!TextUtils.isEmpty(external_wallet)) {
-            try {
-                mExternalWallet = new BraveRewardsExternalWallet(external_wallet);
-                walletStatus = mExternalWallet.getStatus();
-            } catch (JSONException e) {
-                Log.e (TAG, "Error parsing external wallet status");
-                mExternalWallet = null;
-            }
+        mExternalWallet = external_wallet;
+        if (mExternalWallet != null) {
+            walletStatus = mExternalWallet.getStatus();
         }
         SetVerifyWalletControl(walletStatus);
     }
@@ -1969,18 +1906,8 @@ public class BraveRewardsPanelPopup implements BraveRewardsObserver, BraveReward
             BraveRewardsBalance balance_obj = mBraveRewardsNativeWorker.GetWalletBalance();
             if (balance_obj != null) {
                 double braveFunds =
-                    ((balance_obj.mWallets.containsKey(BraveRewardsBalance.WALLET_ANONYMOUS)
-                      && balance_obj.mWallets.get(BraveRewardsBalance.WALLET_ANONYMOUS)
-                      != null)
-                     ? balance_obj.mWallets.get(
-                         BraveRewardsBalance.WALLET_ANONYMOUS)
-                     : .0)
-                    + ((balance_obj.mWallets.containsKey(BraveRewardsBalance.WALLET_BLINDED)
-                        && balance_obj.mWallets.get(BraveRewardsBalance.WALLET_BLINDED)
-                        != null)
-                       ? balance_obj.mWallets.get(
-                           BraveRewardsBalance.WALLET_BLINDED)
-                       : .0);
+                        balance_obj.getWalletAmount(BraveRewardsBalance.WALLET_ANONYMOUS)
+                        + balance_obj.getWalletAmount(BraveRewardsBalance.WALLET_BLINDED);
                 if (braveFunds <= 0) {
                     verified_description =
                         root.getResources().getString(R.string.brave_ui_panel_connected_text);
@@ -0,0 +1,259 @@
+/* Copyright (c) 2022 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser;
+
+import org.chromium.chrome.browser.BraveRewardsPublisher.PublisherStatus;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Publisher info keyed by host, shared by all tabs showing the host, so switching tabs or opening
+ * the rewards panel again does not repeat the native lookup. Entries expire after
+ * {@link #TTL_MS}, at most {@link #MAX_HOSTS} hosts are kept, the least recently used are
+ * dropped first. Media publishers, such as YouTube channels, are per page and never cached.
+ * Each tab keeps the publisher info it was served until its next request, so it does not depend
+ * on the native side, which only knows the publishers it looked up itself. A reply is dropped
+ * when its publisher URL is not on the host the tab shows by now.
+ * Plain Java without Android or JNI dependencies, can be used from any thread.
+ */
+public class BraveRewardsPublisherInfoCache {
+    public static final long TTL_MS = 5 * 60 * 1000;
+    public static final int MAX_HOSTS = 64;
+    private static final int MAX_TABS = 128;
+    // Media publisher ids are prefixed with their provider, like youtube#channel:
+    private static final String MEDIA_PUBLISHER_SEPARATOR = "#";
+    // Hosts of the media providers, their publisher depends on the page
+    private static final String[] MEDIA_HOSTS = {
+            "youtube.com", "twitch.tv", "twitter.com", "reddit.com", "github.com", "vimeo.com"};
+
+    /**
+     * Publisher info as received with OnPublisherInfo, never changed once created.
+     */
+    public static class PublisherInfo {
+        private final String mUrl;
+        private final String mFavIconUrl;
+        private final String mName;
+        private final String mId;
+        private final int mPercent;
+        private final boolean mExcluded;
+        @PublisherStatus
+        private final int mStatus;
+        private final long mFetchedMs;
+
+        public PublisherInfo(String url, String favIconUrl, String name, String id, int percent,
+                boolean excluded, @PublisherStatus int status, long fetchedMs) {
+            mUrl = url;
+            mFavIconUrl = favIconUrl;
+            mName = name;
+            mId = id;
+            mPercent = percent;
+            mExcluded = excluded;
+            mStatus = status;
+            mFetchedMs = fetchedMs;
+        }
+
+        public String getUrl() {
+            return mUrl;
+        }
+
+        public String getFavIconUrl() {
+            return mFavIconUrl;
+        }
+
+        public String getName() {
+            return mName;
+        }
+
+        public String getId() {
+            return mId;
+        }
+
+        public int getPercent() {
+            return mPercent;
+        }
+
+        public boolean isExcluded() {
+            return mExcluded;
+        }
+
+        public @PublisherStatus int getStatus() {
+            return mStatus;
+        }
+
+        private PublisherInfo withExcluded(boolean excluded) {
+            return new PublisherInfo(
+                    mUrl, mFavIconUrl, mName, mId, mPercent, excluded, mStatus, mFetchedMs);
+        }
+
+        private PublisherInfo withStatus(@PublisherStatus int status) {
+            return new PublisherInfo(
+                    mUrl, mFavIconUrl, mName, mId, mPercent, mExcluded, status, mFetchedMs);
+        }
+    }
+
+    private final Map<String, PublisherInfo> mHosts =
+            new LinkedHashMap<String, PublisherInfo>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PublisherInfo> eldest) {
+                    return size() > MAX_HOSTS;
+                }
+            };
+    /**
+     * Host shown by a tab that requested publisher info, and the info it was served for it.
+     */
+    private static class TabEntry {
+        private final String mHost;
+        private PublisherInfo mInfo;
+
+        private TabEntry(String host) {
+            mHost = host;
+        }
+    }
+
+    private final Map<Integer, TabEntry> mTabs =
+            new LinkedHashMap<Integer, TabEntry>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, TabEntry> eldest) {
+                    return size() > MAX_TABS;
+                }
+            };
+
+    private int mHitCount;
+    private int mMissCount;
+
+    /**
+     * Remembers the host of the tab and looks up its publisher info.
+     *
+     * @return true when fresh publisher info of the host is cached and the tab can use it
+     */
+    public synchronized boolean onRequest(int tabId, String host, long nowMs) {
+        TabEntry tab = new TabEntry(host);
+        mTabs.put(tabId, tab);
+        if (!isMediaHost(host)) tab.mInfo = getFresh(host, nowMs);
+        if (tab.mInfo != null) {
+            mHitCount++;
+
+            return true;
+        }
+        mMissCount++;
+
+        return false;
+    }
+
+    /**
+     * Stores the publisher info received for the tab under the host of the tab, unless the
+     * publisher is not on that host, e.g. the reply of a page the tab navigated away from.
+     */
+    public synchronized void put(int tabId, PublisherInfo info) {
+        TabEntry tab = mTabs.get(tabId);
+        if (tab == null || !isOnHost(info.getUrl(), tab.mHost)) return;
+        tab.mInfo = info;
+        if (isMediaHost(tab.mHost) || info.getId().contains(MEDIA_PUBLISHER_SEPARATOR)) {
+            mHosts.remove(tab.mHost);
+
+            return;
+        }
+        mHosts.put(tab.mHost, info);
+    }
+
+    /**
+     * @return the publisher info the tab was served for its host, null when it did not get any
+     *         yet
+     */
+    public synchronized PublisherInfo getForTab(int tabId) {
+        TabEntry tab = mTabs.get(tabId);
+
+        return tab != null ? tab.mInfo : null;
+    }
+
+    public synchronized void removeTab(int tabId) {
+        mTabs.remove(tabId);
+    }
+
+    /**
+     * Updates the auto contribution exclusion of the publisher in all cached hosts.
+     */
+    public synchronized void setExcluded(String publisherId, boolean excluded) {
+        for (Map.Entry<String, PublisherInfo> entry : mHosts.entrySet()) {
+            if (entry.getValue().getId().equals(publisherId)) {
+                entry.setValue(entry.getValue().withExcluded(excluded));
+            }
+        }
+        for (TabEntry tab : mTabs.values()) {
+            if (tab.mInfo != null && tab.mInfo.getId().equals(publisherId)) {
+                tab.mInfo = tab.mInfo.withExcluded(excluded);
+            }
+        }
+    }
+
+    /**
+     * Updates the verified status of the publisher in all cached hosts.
+     */
+    public synchronized void setStatus(String publisherId, @PublisherStatus int status) {
+        for (Map.Entry<String, PublisherInfo> entry : mHosts.entrySet()) {
+            if (entry.getValue().getId().equals(publisherId)) {
+                entry.setValue(entry.getValue().withStatus(status));
+            }
+        }
+        for (TabEntry tab : mTabs.values()) {
+            if (tab.mInfo != null && tab.mInfo.getId().equals(publisherId)) {
+                tab.mInfo = tab.mInfo.withStatus(status);
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        mHosts.clear();
+        mTabs.clear();
+    }
+
+    public synchronized int getHitCount() {
+        return mHitCount;
+    }
+
+    public synchronized int getMissCount() {
+        return mMissCount;
+    }
+
+    private static boolean isMediaHost(String host) {
+        for (String mediaHost : MEDIA_HOSTS) {
+            if (host.equals(mediaHost) || host.endsWith("." + mediaHost)) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * @return true when the host of the URL is the host or one of its parent domains, like the
+     *         publisher brave.com of www.brave.com
+     */
+    private static boolean isOnHost(String url, String host) {
+        String urlHost;
+        try {
+            urlHost = url != null ? new URI(url).getHost() : null;
+        } catch (URISyntaxException e) {
+            return false;
+        }
+        if (urlHost == null) return false;
+
+        return host.equals(urlHost) || host.endsWith("." + urlHost);
+    }
+
+    private PublisherInfo getFresh(String host, long nowMs) {
+        PublisherInfo info = mHosts.get(host);
+        if (info == null) return null;
+        if (nowMs - info.mFetchedMs >= TTL_MS) {
+            mHosts.remove(host);
+
+            return null;
+        }
+
+        return info;
+    }
+}
@@ -0,0 +1,65 @@
+/* Copyright (c) 2022 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Publisher info requests in flight, so a request for a tab and host that is already waiting for
+ * its OnPublisherInfo reply is not sent again. The native side does not reply when it finds no
+ * publisher, so a request is only considered in flight for {@link #IN_FLIGHT_TIMEOUT_MS}, and
+ * requests that timed out are removed whenever a request is made.
+ * Plain Java without Android or JNI dependencies, can be used from any thread.
+ */
+public class BraveRewardsPublisherInfoRequests {
+    public static final long IN_FLIGHT_TIMEOUT_MS = 5000;
+
+    // Send time of the requests in flight, keyed by tab id and host
+    private final Map<String, Long> mInFlight = new HashMap<>();
+
+    /**
+     * @return true when the request has to be sent, false when the same request is in flight
+     */
+    public synchronized boolean onRequest(int tabId, String host, long nowMs) {
+        Iterator<Long> iterator = mInFlight.values().iterator();
+        while (iterator.hasNext()) {
+            if (nowMs - iterator.next() >= IN_FLIGHT_TIMEOUT_MS) {
+                iterator.remove();
+            }
+        }
+        String key = getKey(tabId, host);
+        if (mInFlight.containsKey(key)) return false;
+        mInFlight.put(key, nowMs);
+
+        return true;
+    }
+
+    /**
+     * Ends the requests of the tab, when its publisher info arrived or the tab is gone.
+     */
+    public synchronized void onTabDone(int tabId) {
+        String prefix = tabId + "|";
+        Iterator<String> iterator = mInFlight.keySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().startsWith(prefix)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * @return number of requests in flight
+     */
+    public synchronized int getInFlightCount() {
+        return mInFlight.size();
+    }
+
+    private static String getKey(int tabId, String host) {
+        return tabId + "|" + host;
+    }
+}
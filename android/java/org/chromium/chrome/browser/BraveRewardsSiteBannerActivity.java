@@ -25,7 +25,6 @@ import android.widget.RelativeLayout;
 import android.widget.TextView;
 import android.widget.ToggleButton;
 
-import org.json.JSONException;
 
 import org.chromium.base.IntentUtils;
 import org.chromium.base.Log;
@@ -354,16 +353,10 @@ public class BraveRewardsSiteBannerActivity extends Activity implements
     }
 
     @Override
-    public void OnGetExternalWallet(int errorCode, String externalWallet) {
+    public void OnGetExternalWallet(int errorCode, BraveRewardsExternalWallet externalWallet) {
         int walletStatus = BraveRewardsExternalWallet.NOT_CONNECTED;
-        if (!TextUtils.isEmpty(externalWallet)) {
-            try {
-                BraveRewardsExternalWallet mExternalWallet =
-                        new BraveRewardsExternalWallet(externalWallet);
-                walletStatus = mExternalWallet.getStatus();
-            } catch (JSONException e) {
-                Log.e("BraveRewards", e.getMessage());
-            }
+        if (externalWallet != null) {
+            walletStatus = externalWallet.getStatus();
         }
         @PublisherStatus
         int pubStatus = mBraveRewardsNativeWorker.GetPublisherStatus(currentTabId_);
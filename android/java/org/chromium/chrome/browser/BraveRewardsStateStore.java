@@ -0,0 +1,198 @@
+/* Copyright (c) 2022 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser;
+
+import android.os.SystemClock;
+
+import org.chromium.base.ObserverList;
+import org.chromium.base.ThreadUtils;
+import org.chromium.base.task.PostTask;
+import org.chromium.content_public.browser.UiThreadTaskTraits;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Latest rewards state for the rewards panels, kept up to date by the events of
+ * {@link BraveRewardsNativeWorker} instead of polling it while a panel is open.
+ * Listeners are only notified when the balance or the rate actually changed, and get the current
+ * state right away when added. Grants are fetched when a panel opens, at most once per
+ * {@link #GRANTS_REFRESH_INTERVAL_MS}, new grants then arrive as notifications. Publisher info
+ * is requested again with exponential backoff until the publisher of the tab is known.
+ * Must be used on the UI thread.
+ */
+public class BraveRewardsStateStore implements BraveRewardsObserver {
+    public static final long GRANTS_REFRESH_INTERVAL_MS = 60000;
+    // Retrying earlier would be coalesced with the request in flight
+    private static final long PUBLISHER_RETRY_INITIAL_DELAY_MS =
+            BraveRewardsPublisherInfoRequests.IN_FLIGHT_TIMEOUT_MS;
+    private static final int PUBLISHER_MAX_RETRIES = 3;
+
+    private static final int OBSERVED_EVENTS = BraveRewardsObserverRegistry.REWARDS_PARAMETERS
+            | BraveRewardsObserverRegistry.PUBLISHER_INFO
+            | BraveRewardsObserverRegistry.GRANT_FINISH
+            | BraveRewardsObserverRegistry.RECOVER_WALLET
+            | BraveRewardsObserverRegistry.RESET_THE_WHOLE_STATE;
+
+    private static BraveRewardsStateStore sInstance;
+
+    /**
+     * Listener of the rewards state, all methods are called on the UI thread.
+     */
+    public interface Listener {
+        /**
+         * @param balance the new balance
+         * @param rate the BAT to USD rate
+         */
+        default void onBalanceChanged(BraveRewardsBalance balance, double rate) {}
+    }
+
+    private static class PublisherRequest {
+        private final String mUrl;
+        private int mRetries;
+
+        private PublisherRequest(String url) {
+            mUrl = url;
+        }
+    }
+
+    private final BraveRewardsNativeWorker mBraveRewardsNativeWorker;
+    private final ObserverList<Listener> mListeners = new ObserverList<>();
+    // Publisher info requests waiting for their OnPublisherInfo, keyed by tab id
+    private final Map<Integer, PublisherRequest> mPublisherRequests = new HashMap<>();
+    private BraveRewardsBalance mBalance;
+    private double mRate;
+    private long mLastGrantsFetchMs;
+    private boolean mGrantsFetched;
+
+    public static BraveRewardsStateStore getInstance() {
+        ThreadUtils.assertOnUiThread();
+        if (sInstance == null) {
+            sInstance = new BraveRewardsStateStore(BraveRewardsNativeWorker.getInstance());
+        }
+
+        return sInstance;
+    }
+
+    private BraveRewardsStateStore(BraveRewardsNativeWorker braveRewardsNativeWorker) {
+        mBraveRewardsNativeWorker = braveRewardsNativeWorker;
+        mBraveRewardsNativeWorker.AddObserver(this, OBSERVED_EVENTS);
+    }
+
+    /**
+     * Adds the listener and notifies it of the balance, when it is known.
+     */
+    public void addListener(Listener listener) {
+        ThreadUtils.assertOnUiThread();
+        mListeners.addObserver(listener);
+        if (mBalance != null) {
+            listener.onBalanceChanged(mBalance, mRate);
+        }
+    }
+
+    public void removeListener(Listener listener) {
+        ThreadUtils.assertOnUiThread();
+        mListeners.removeObserver(listener);
+    }
+
+    /**
+     * @return the latest balance or null when it was not received yet
+     */
+    public BraveRewardsBalance getBalance() {
+        ThreadUtils.assertOnUiThread();
+        return mBalance;
+    }
+
+    public double getRate() {
+        ThreadUtils.assertOnUiThread();
+        return mRate;
+    }
+
+    /**
+     * Fetches the grants, unless they were fetched recently. Called when a rewards panel opens.
+     */
+    public void onPanelOpened() {
+        ThreadUtils.assertOnUiThread();
+        long nowMs = SystemClock.elapsedRealtime();
+        if (mGrantsFetched && nowMs - mLastGrantsFetchMs < GRANTS_REFRESH_INTERVAL_MS) return;
+        mGrantsFetched = true;
+        mLastGrantsFetchMs = nowMs;
+        mBraveRewardsNativeWorker.FetchGrants();
+    }
+
+    /**
+     * Requests the publisher info of the tab, and requests it again with exponential backoff
+     * until it arrives or {@link #cancelPublisherInfo} is called.
+     */
+    public void requestPublisherInfo(int tabId, String url) {
+        ThreadUtils.assertOnUiThread();
+        PublisherRequest request = new PublisherRequest(url);
+        mPublisherRequests.put(tabId, request);
+        mBraveRewardsNativeWorker.GetPublisherInfo(tabId, url);
+        scheduleRetry(tabId, request);
+    }
+
+    public void cancelPublisherInfo(int tabId) {
+        ThreadUtils.assertOnUiThread();
+        mPublisherRequests.remove(tabId);
+    }
+
+    private void scheduleRetry(int tabId, PublisherRequest request) {
+        if (request.mRetries >= PUBLISHER_MAX_RETRIES) {
+            mPublisherRequests.remove(tabId);
+            return;
+        }
+        long delayMs = PUBLISHER_RETRY_INITIAL_DELAY_MS << request.mRetries;
+        PostTask.postDelayedTask(UiThreadTaskTraits.DEFAULT, () -> {
+            // Arrived, cancelled or replaced by a newer request in the meantime
+            if (mPublisherRequests.get(tabId) != request) return;
+            request.mRetries++;
+            mBraveRewardsNativeWorker.GetPublisherInfo(tabId, request.mUrl);
+            scheduleRetry(tabId, request);
+        }, delayMs);
+    }
+
+    @Override
+    public void OnRewardsParameters(int errorCode) {
+        if (errorCode != BraveRewardsNativeWorker.LEDGER_OK) return;
+        BraveRewardsBalance balance = mBraveRewardsNativeWorker.GetWalletBalance();
+        double rate = mBraveRewardsNativeWorker.GetWalletRate();
+        if (balance == null || (balance.equals(mBalance) && rate == mRate)) return;
+        mBalance = balance;
+        mRate = rate;
+        for (Listener listener : mListeners) {
+            listener.onBalanceChanged(balance, rate);
+        }
+    }
+
+    @Override
+    public void OnPublisherInfo(int tabId) {
+        mPublisherRequests.remove(tabId);
+    }
+
+    @Override
+    public void OnGrantFinish(int result) {
+        if (result == BraveRewardsNativeWorker.LEDGER_OK) {
+            mBraveRewardsNativeWorker.GetRewardsParameters();
+        }
+    }
+
+    @Override
+    public void OnRecoverWallet(int errorCode) {
+        if (errorCode == BraveRewardsNativeWorker.LEDGER_OK) {
+            mBraveRewardsNativeWorker.GetRewardsParameters();
+        }
+    }
+
+    @Override
+    public void OnResetTheWholeState(boolean success) {
+        if (!success) return;
+        mBalance = null;
+        mRate = 0;
+        mGrantsFetched = false;
+        mPublisherRequests.clear();
+    }
+}
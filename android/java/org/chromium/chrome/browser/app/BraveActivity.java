@@ -85,6 +85,7 @@ import org.chromium.chrome.browser.DormantUsersEngagementDialogFragment;
 import org.chromium.chrome.browser.InternetConnection;
 import org.chromium.chrome.browser.LaunchIntentDispatcher;
 import org.chromium.chrome.browser.app.domain.WalletModel;
+import org.chromium.chrome.browser.brave_news.BraveNewsFeedSnapshot;
 import org.chromium.chrome.browser.brave_news.models.FeedItemsCard;
 import org.chromium.chrome.browser.brave_stats.BraveStatsUtil;
 import org.chromium.chrome.browser.browsing_data.BrowsingDataBridge;
@@ -108,6 +109,7 @@ import org.chromium.chrome.browser.flags.ChromeSwitches;
 import org.chromium.chrome.browser.fullscreen.BrowserControlsManager;
 import org.chromium.chrome.browser.informers.BraveAndroidSyncDisabledInformer;
 import org.chromium.chrome.browser.notifications.retention.RetentionNotificationUtil;
+import org.chromium.chrome.browser.ntp.NTPScrollStateStore;
 import org.chromium.chrome.browser.ntp_background_images.util.NewTabPageListener;
 import org.chromium.chrome.browser.onboarding.BraveTalkOptInPopupListener;
 import org.chromium.chrome.browser.onboarding.OnboardingPrefManager;
@@ -575,6 +577,12 @@ public abstract class BraveActivity<C extends ChromeActivityComponent> extends C
 
     @Override
     public void initializeState() {
+        if (ChromeFeatureList.isEnabled(BraveFeatureList.BRAVE_NEWS)
+                && BravePrefServiceBridge.getInstance().getNewsOptIn()
+                && BravePrefServiceBridge.getInstance().getShowNews()) {
+            // Starts reading the last feed before the new tab page asks for it
+            BraveNewsFeedSnapshot.preload();
+        }
         super.initializeState();
         if (isNoRestoreState()) {
             CommandLine.getInstance().appendSwitch(ChromeSwitches.NO_RESTORE_STATE);
@@ -662,6 +670,7 @@ public abstract class BraveActivity<C extends ChromeActivityComponent> extends C
     @Override
     public void onPause() {
         super.onPause();
+        NTPScrollStateStore.getInstance().flush();
         Tab tab = getActivityTab();
         if (tab == null)
             return;
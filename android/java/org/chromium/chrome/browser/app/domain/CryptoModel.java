@@ -23,6 +23,7 @@ import org.chromium.brave_wallet.mojom.TransactionInfo;
 import org.chromium.brave_wallet.mojom.TransactionStatus;
 import org.chromium.brave_wallet.mojom.TxService;
 import org.chromium.chrome.browser.crypto_wallet.util.PendingTxHelper;
+import org.chromium.chrome.browser.crypto_wallet.util.TransactionStore;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -117,6 +118,10 @@ public class CryptoModel {
         return mPendingTxHelper.mTransactionInfoLd;
     }
 
+    public LiveData<TransactionStore.Snapshot> getAllTransactionsSnapshot() {
+        return mPendingTxHelper.mTransactionSnapshotLd;
+    }
+
     public PendingTxHelper getPendingTxHelper() {
         return mPendingTxHelper;
     }
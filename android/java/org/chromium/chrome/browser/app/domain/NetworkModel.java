@@ -8,6 +8,7 @@ import androidx.lifecycle.MutableLiveData;
 import org.chromium.brave_wallet.mojom.BraveWalletConstants;
 import org.chromium.brave_wallet.mojom.JsonRpcService;
 import org.chromium.brave_wallet.mojom.JsonRpcServiceObserver;
+import org.chromium.chrome.browser.crypto_wallet.util.TransactionCache;
 import org.chromium.mojo.system.MojoException;
 
 public class NetworkModel implements JsonRpcServiceObserver {
@@ -38,6 +39,8 @@ public class NetworkModel implements JsonRpcServiceObserver {
 
     @Override
     public void chainChangedEvent(String chainId, int coin) {
+        // Transactions are returned for the selected network only
+        TransactionCache.getInstance().invalidateAll();
         _mChainId.postValue(chainId);
     }
 
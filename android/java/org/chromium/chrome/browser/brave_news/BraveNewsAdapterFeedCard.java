@@ -14,6 +14,8 @@ import android.view.ViewGroup;
 import android.widget.LinearLayout;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.AsyncListDiffer;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.bumptech.glide.RequestManager;
@@ -23,31 +25,98 @@ import org.chromium.chrome.R;
 import org.chromium.chrome.browser.brave_news.BraveNewsUtils;
 import org.chromium.chrome.browser.brave_news.models.FeedItemCard;
 import org.chromium.chrome.browser.brave_news.models.FeedItemsCard;
+import org.chromium.chrome.browser.ntp.NTPTaskScope;
+import org.chromium.chrome.browser.util.ConfigurationUtils;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 public class BraveNewsAdapterFeedCard
         extends RecyclerView.Adapter<BraveNewsAdapterFeedCard.ViewHolder> {
+    private static final Object PAYLOAD_UUID_CHANGED = new Object();
+    // Cards are the same when their stable ids match, see BraveNewsFeedBuilder
+    private static final DiffUtil.ItemCallback<FeedItemsCard> DIFF_CALLBACK =
+            new DiffUtil.ItemCallback<FeedItemsCard>() {
+                @Override
+                public boolean areItemsTheSame(
+                        @NonNull FeedItemsCard oldItem, @NonNull FeedItemsCard newItem) {
+                    return oldItem.getStableId() == newItem.getStableId()
+                            && oldItem.getCardType() == newItem.getCardType();
+                }
+
+                @Override
+                public boolean areContentsTheSame(
+                        @NonNull FeedItemsCard oldItem, @NonNull FeedItemsCard newItem) {
+                    return oldItem.getContentHash() == newItem.getContentHash()
+                            && oldItem.getUuid().equals(newItem.getUuid());
+                }
+
+                @Override
+                public Object getChangePayload(
+                        @NonNull FeedItemsCard oldItem, @NonNull FeedItemsCard newItem) {
+                    // Views and visits are reported by uuid, which changes with every feed
+                    return oldItem.getContentHash() == newItem.getContentHash()
+                            ? PAYLOAD_UUID_CHANGED
+                            : null;
+                }
+            };
+    // Number of cards below the bound one whose images are fetched ahead
+    private static final int PREFETCH_DISTANCE = 4;
+
     private LayoutInflater mInflater;
     private Activity mActivity;
     private View mView;
     private RequestManager mGlide;
 
-    public CopyOnWriteArrayList<FeedItemsCard> mNewsItems;
+    private final AsyncListDiffer<FeedItemsCard> mDiffer;
     private FeedItemsCard mNewsItem;
     private ViewHolder mHolder;
     private final String TAG = "BN";
 
     private BraveNewsController mBraveNewsController;
+    private final NTPTaskScope mTaskScope;
+    private final int mDeviceWidth;
+    private final boolean mIsTablet;
 
     public BraveNewsAdapterFeedCard(Activity activity, RequestManager glide,
             CopyOnWriteArrayList<FeedItemsCard> newsItems,
-            BraveNewsController braveNewsController) {
+            BraveNewsController braveNewsController, NTPTaskScope taskScope) {
         this.mInflater = LayoutInflater.from(activity);
         this.mActivity = activity;
-        this.mNewsItems = newsItems;
         this.mBraveNewsController = braveNewsController;
+        mTaskScope = taskScope;
         this.mGlide = glide;
+        mDeviceWidth = ConfigurationUtils.getDisplayMetrics(activity).get("width");
+        mIsTablet = ConfigurationUtils.isTablet(activity);
+        setHasStableIds(true);
+        mDiffer = new AsyncListDiffer<>(this, DIFF_CALLBACK);
+        if (newsItems != null) {
+            mDiffer.submitList(new ArrayList<>(newsItems));
+        }
+    }
+
+    /**
+     * Replaces the cards, the difference with the current cards is computed in the background
+     * and only the changed cards are rebound.
+     * @param commitCallback run once the new cards are shown, may be null
+     */
+    public void submitList(List<FeedItemsCard> newsItems, Runnable commitCallback) {
+        mDiffer.submitList(newsItems, commitCallback);
+    }
+
+    public List<FeedItemsCard> getCurrentList() {
+        return mDiffer.getCurrentList();
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return getItem(position).getStableId();
+    }
+
+    @Override
+    public int getItemViewType(int position) {
+        return getItem(position).getCardType();
     }
 
     @NonNull
@@ -56,19 +125,38 @@ public class BraveNewsAdapterFeedCard
         View view = LayoutInflater.from(parent.getContext())
                             .inflate(R.layout.brave_news_row, parent, false);
 
-        return new ViewHolder(view);
+        // The card tree is built once per view holder, binding only fills it in
+        CardBuilderFeedCard card = new CardBuilderFeedCard(mBraveNewsController, mTaskScope,
+                mGlide, (LinearLayout) view.findViewById(R.id.card_layout), mActivity, viewType);
+
+        return new ViewHolder(view, card);
+    }
+
+    @Override
+    public void onBindViewHolder(
+            @NonNull ViewHolder holder, int position, @NonNull List<Object> payloads) {
+        for (Object payload : payloads) {
+            if (payload != PAYLOAD_UUID_CHANGED) {
+                onBindViewHolder(holder, position);
+                return;
+            }
+        }
+        if (payloads.isEmpty()) {
+            onBindViewHolder(holder, position);
+            return;
+        }
+        // Same content, only the card the views report for is replaced
+        holder.card.setNewsItem(getItem(position));
     }
 
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        LinearLayout.LayoutParams params1;
-        if (mNewsItems != null) {
-            FeedItemsCard newsItem = mNewsItems.get(position);
-            holder.linearLayout.removeAllViews();
+        FeedItemsCard newsItem = getItem(position);
+        if (newsItem != null) {
             try {
                 if (mBraveNewsController != null) {
-                    new CardBuilderFeedCard(mBraveNewsController, mGlide, holder.linearLayout,
-                            mActivity, position, newsItem, newsItem.getCardType());
+                    holder.card.bind(newsItem);
+                    prefetchImages(position);
                 }
 
             } catch (Exception e) {
@@ -77,21 +165,39 @@ public class BraveNewsAdapterFeedCard
         }
     }
 
+    // Binding follows scrolling, so the cards after the bound one are the next to be shown
+    private void prefetchImages(int position) {
+        List<FeedItemsCard> newsItems = mDiffer.getCurrentList();
+        int last = Math.min(position + PREFETCH_DISTANCE, newsItems.size() - 1);
+        for (int i = position + 1; i <= last; i++) {
+            CardBuilderFeedCard.prefetchImages(
+                    mBraveNewsController, newsItems.get(i), mDeviceWidth, mIsTablet);
+        }
+    }
+
+    @Override
+    public void onViewRecycled(@NonNull ViewHolder holder) {
+        holder.card.unbind();
+    }
+
     @Override
     public int getItemCount() {
-        return mNewsItems.size();
+        return mDiffer.getCurrentList().size();
     }
 
     public static class ViewHolder extends RecyclerView.ViewHolder {
         LinearLayout linearLayout;
+        CardBuilderFeedCard card;
 
-        ViewHolder(View itemView) {
+        ViewHolder(View itemView, CardBuilderFeedCard card) {
             super(itemView);
             this.linearLayout = (LinearLayout) itemView.findViewById(R.id.card_layout);
+            this.card = card;
+            card.setViewHolder(this);
         }
     }
 
     public FeedItemsCard getItem(int id) {
-        return mNewsItems.get(id);
+        return mDiffer.getCurrentList().get(id);
     }
 }
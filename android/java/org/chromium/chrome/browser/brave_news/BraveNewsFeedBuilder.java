@@ -0,0 +1,174 @@
+/* Copyright (c) 2022 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.brave_news;
+
+import org.chromium.base.Callback;
+import org.chromium.base.Log;
+import org.chromium.base.task.PostTask;
+import org.chromium.base.task.TaskTraits;
+import org.chromium.brave_news.mojom.CardType;
+import org.chromium.brave_news.mojom.DisplayAd;
+import org.chromium.brave_news.mojom.Feed;
+import org.chromium.brave_news.mojom.FeedItem;
+import org.chromium.brave_news.mojom.FeedItemMetadata;
+import org.chromium.brave_news.mojom.FeedPage;
+import org.chromium.brave_news.mojom.FeedPageItem;
+import org.chromium.chrome.browser.brave_news.models.FeedItemCard;
+import org.chromium.chrome.browser.brave_news.models.FeedItemsCard;
+import org.chromium.content_public.browser.UiThreadTaskTraits;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Turns a Brave News feed into the immutable list of cards shown by
+ * {@link BraveNewsAdapterFeedCard}. The list is built on the shared thread pool. Every card gets
+ * an id derived from its type and the urls of its items, so the same card keeps its id across
+ * feed refreshes and the adapter only updates cards that actually changed. The uuids the views
+ * are reported for are made unique per new tab page with {@link #copyForSession}.
+ */
+public class BraveNewsFeedBuilder {
+    private static final String TAG = "BN";
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * Builds the cards of the feed in the background and replies on the UI thread.
+     */
+    public static void buildCards(Feed feed, Callback<List<FeedItemsCard>> callback) {
+        PostTask.postTask(TaskTraits.USER_VISIBLE, () -> {
+            List<FeedItemsCard> cards;
+            try {
+                cards = buildCards(feed);
+            } catch (Exception e) {
+                Log.e(TAG, "buildCards " + e);
+                cards = Collections.emptyList();
+            }
+            final List<FeedItemsCard> result = cards;
+            PostTask.postTask(UiThreadTaskTraits.DEFAULT, () -> callback.onResult(result));
+        });
+    }
+
+    public static List<FeedItemsCard> buildCards(Feed feed) {
+        List<FeedItemsCard> cards = new ArrayList<>();
+        // Number of cards seen per key, to keep ids unique when a card repeats
+        HashMap<String, Integer> keyCounts = new HashMap<>();
+
+        if (feed.featuredItem != null) {
+            FeedItemCard featuredItemCard = new FeedItemCard();
+            featuredItemCard.setFeedItem(feed.featuredItem);
+            List<FeedItemCard> featuredCardItems = new ArrayList<>(1);
+            featuredCardItems.add(featuredItemCard);
+
+            cards.add(createCard(
+                    feed.hash, CardType.HEADLINE, featuredCardItems, null, keyCounts));
+        }
+
+        // adds empty card to trigger Display ad call for the second card, when the
+        // user starts scrolling
+        cards.add(createCard(feed.hash, CardType.DISPLAY_AD, null, new DisplayAd(), keyCounts));
+
+        for (FeedPage page : feed.pages) {
+            for (FeedPageItem cardData : page.items) {
+                // if for any reason we get an empty object, unless it's a
+                // DISPLAY_AD we skip it
+                if (cardData.cardType != CardType.DISPLAY_AD && cardData.items.length == 0) {
+                    continue;
+                }
+                List<FeedItemCard> cardItems = null;
+                if (cardData.items.length > 0) {
+                    cardItems = new ArrayList<>(cardData.items.length);
+                    for (FeedItem item : cardData.items) {
+                        FeedItemCard feedItemCard = new FeedItemCard();
+                        feedItemCard.setFeedItem(item);
+                        cardItems.add(feedItemCard);
+                    }
+                }
+                cards.add(createCard(feed.hash, cardData.cardType, cardItems, null, keyCounts));
+            }
+        }
+
+        return Collections.unmodifiableList(cards);
+    }
+
+    private static FeedItemsCard createCard(String feedHash, int cardType,
+            List<FeedItemCard> cardItems, DisplayAd displayAd, HashMap<String, Integer> keyCounts) {
+        FeedItemsCard card = new FeedItemsCard();
+        card.setCardType(cardType);
+        card.setFeedItems(cardItems);
+        card.setDisplayAd(displayAd);
+
+        StringBuilder key = new StringBuilder().append(cardType);
+        long contentHash = FNV_OFFSET_BASIS;
+        if (cardItems != null) {
+            for (FeedItemCard itemCard : cardItems) {
+                FeedItemMetadata itemData = BraveNewsUtils.getItemData(itemCard.getFeedItem());
+                if (itemData == null) continue;
+                key.append('|').append(itemData.url != null ? itemData.url.url : "");
+                contentHash = hash(contentHash, itemData.title);
+                contentHash = hash(contentHash, itemData.description);
+                contentHash = hash(contentHash, itemData.relativeTimeDescription);
+            }
+        }
+        Integer count = keyCounts.get(key.toString());
+        keyCounts.put(key.toString(), count == null ? 1 : count + 1);
+        if (count != null) {
+            key.append('#').append(count);
+        }
+
+        String stableKey = key.toString();
+        card.setStableId(hash(FNV_OFFSET_BASIS, stableKey));
+        card.setContentHash(contentHash);
+        // Name based uuids are a lot cheaper than random ones and still change with every feed,
+        // copyForSession makes them unique per new tab page
+        card.setUuid(UUID.nameUUIDFromBytes(
+                                 (feedHash + stableKey).getBytes(StandardCharsets.UTF_8))
+                             .toString());
+
+        return card;
+    }
+
+    /**
+     * @return copies of the cards for one new tab page session, whose uuids are derived from the
+     *         session salt, so views are reported once per new tab page showing the feed and not
+     *         once per feed. Cards built once, e.g. the saved feed, can be shown by many pages.
+     */
+    public static List<FeedItemsCard> copyForSession(
+            List<FeedItemsCard> cards, String sessionSalt) {
+        List<FeedItemsCard> sessionCards = new ArrayList<>(cards.size());
+        for (FeedItemsCard card : cards) {
+            FeedItemsCard sessionCard = new FeedItemsCard();
+            sessionCard.setCardType(card.getCardType());
+            sessionCard.setFeedItems(card.getFeedItems());
+            sessionCard.setDisplayAd(card.getDisplayAd());
+            sessionCard.setImageByte(card.getImageByte());
+            sessionCard.setStableId(card.getStableId());
+            sessionCard.setContentHash(card.getContentHash());
+            sessionCard.setUuid(
+                    UUID.nameUUIDFromBytes((sessionSalt + card.getUuid())
+                                                   .getBytes(StandardCharsets.UTF_8))
+                            .toString());
+            sessionCards.add(sessionCard);
+        }
+
+        return Collections.unmodifiableList(sessionCards);
+    }
+
+    // 64 bit FNV-1a
+    private static long hash(long hash, String value) {
+        if (value == null) return hash;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+
+        return hash;
+    }
+}
@@ -0,0 +1,284 @@
+/* Copyright (c) 2022 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.brave_news;
+
+import android.graphics.Point;
+
+import org.chromium.base.Callback;
+import org.chromium.base.ContextUtils;
+import org.chromium.base.Log;
+import org.chromium.base.ThreadUtils;
+import org.chromium.base.task.PostTask;
+import org.chromium.base.task.TaskTraits;
+import org.chromium.brave_news.mojom.BraveNewsController;
+import org.chromium.brave_news.mojom.Feed;
+import org.chromium.brave_news.mojom.FeedItem;
+import org.chromium.brave_news.mojom.FeedItemMetadata;
+import org.chromium.chrome.browser.brave_news.models.FeedItemCard;
+import org.chromium.chrome.browser.brave_news.models.FeedItemsCard;
+import org.chromium.content_public.browser.UiThreadTaskTraits;
+import org.chromium.url.mojom.Url;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Last Brave News feed kept on disk, so the new tab page can show it right after a cold start
+ * while the current feed is being checked. The file holds a small header, the card types and image
+ * urls of the first cards, from which the thumbnail cache keys are derived, and the mojo
+ * serialization of the feed. It is memory mapped when read, the cards are then rebuilt with
+ * {@link BraveNewsFeedBuilder}. {@link #prefetchThumbnails} warms {@link BraveNewsImageCache}
+ * with the thumbnails of the first cards before they are bound.
+ * All static methods must be called on the UI thread.
+ */
+public class BraveNewsFeedSnapshot {
+    private static final String TAG = "BN";
+    private static final String FILE_NAME = "brave_news_feed_snapshot";
+    private static final int MAGIC = 0x424e4653;
+    private static final int VERSION = 2;
+    private static final long MAX_AGE_MS = TimeUnit.DAYS.toMillis(1);
+    // Cards whose thumbnails are prefetched, about the first screens of the feed
+    private static final int MAX_THUMBNAIL_CARDS = 10;
+
+    private static BraveNewsFeedSnapshot sSnapshot;
+    private static boolean sLoaded;
+    private static boolean sLoading;
+    private static final List<Callback<BraveNewsFeedSnapshot>> sPendingCallbacks =
+            new ArrayList<>();
+
+    /**
+     * Thumbnail of a card, the image cache key is the url at the image size of the card type.
+     */
+    private static class Thumbnail {
+        private final int mCardType;
+        private final String mImageUrl;
+
+        private Thumbnail(int cardType, String imageUrl) {
+            mCardType = cardType;
+            mImageUrl = imageUrl;
+        }
+    }
+
+    private final String mFeedHash;
+    private final List<FeedItemsCard> mCards;
+    private final List<Thumbnail> mThumbnails;
+
+    private BraveNewsFeedSnapshot(
+            String feedHash, List<FeedItemsCard> cards, List<Thumbnail> thumbnails) {
+        mFeedHash = feedHash;
+        mCards = cards;
+        mThumbnails = Collections.unmodifiableList(thumbnails);
+    }
+
+    public String getFeedHash() {
+        return mFeedHash;
+    }
+
+    public List<FeedItemsCard> getCards() {
+        return mCards;
+    }
+
+    /**
+     * Starts fetching and decoding the thumbnails of the first cards at the size they are shown
+     * in, so they are cached when the cards are bound.
+     */
+    public void prefetchThumbnails(
+            BraveNewsController braveNewsController, int deviceWidth, boolean isTablet) {
+        ThreadUtils.assertOnUiThread();
+        BraveNewsImageCache imageCache = BraveNewsImageCache.getInstance();
+        for (Thumbnail thumbnail : mThumbnails) {
+            Point size =
+                    CardBuilderFeedCard.getImageSize(thumbnail.mCardType, deviceWidth, isTablet);
+            if (size == null) continue;
+            Url imageUrl = new Url();
+            imageUrl.url = thumbnail.mImageUrl;
+            imageCache.prefetch(braveNewsController, imageUrl, size.x, size.y);
+        }
+    }
+
+    /**
+     * Starts reading the snapshot in the background, so it is ready when the new tab page asks.
+     */
+    public static void preload() {
+        ThreadUtils.assertOnUiThread();
+        if (sLoaded || sLoading) return;
+        sLoading = true;
+        PostTask.postTask(TaskTraits.USER_BLOCKING_MAY_BLOCK, () -> {
+            BraveNewsFeedSnapshot snapshot = read(getFile());
+            PostTask.postTask(UiThreadTaskTraits.DEFAULT, () -> {
+                sLoading = false;
+                // A feed saved in the meantime is newer than the one on disk
+                if (!sLoaded) {
+                    sSnapshot = snapshot;
+                    sLoaded = true;
+                }
+                List<Callback<BraveNewsFeedSnapshot>> callbacks =
+                        new ArrayList<>(sPendingCallbacks);
+                sPendingCallbacks.clear();
+                for (Callback<BraveNewsFeedSnapshot> callback : callbacks) {
+                    callback.onResult(sSnapshot);
+                }
+            });
+        });
+    }
+
+    /**
+     * Replies with the last saved feed or null when there is none, right away when it has
+     * already been read.
+     */
+    public static void getSnapshot(Callback<BraveNewsFeedSnapshot> callback) {
+        ThreadUtils.assertOnUiThread();
+        if (sLoaded) {
+            callback.onResult(sSnapshot);
+
+            return;
+        }
+        sPendingCallbacks.add(callback);
+        preload();
+    }
+
+    /**
+     * Keeps the feed and the cards built from it as the new snapshot and writes it to disk in
+     * the background.
+     */
+    public static void save(Feed feed, List<FeedItemsCard> cards) {
+        ThreadUtils.assertOnUiThread();
+        List<Thumbnail> thumbnails = getThumbnails(cards);
+        long savedTimeMs = System.currentTimeMillis();
+        sSnapshot = new BraveNewsFeedSnapshot(feed.hash, cards, thumbnails);
+        sLoaded = true;
+        PostTask.postTask(TaskTraits.BEST_EFFORT_MAY_BLOCK,
+                () -> write(getFile(), feed, savedTimeMs, thumbnails));
+    }
+
+    /**
+     * Forgets the snapshot, e.g. when Brave News is turned off.
+     */
+    public static void clear() {
+        ThreadUtils.assertOnUiThread();
+        sSnapshot = null;
+        sLoaded = true;
+        PostTask.postTask(TaskTraits.BEST_EFFORT_MAY_BLOCK, () -> {
+            File file = getFile();
+            if (file.exists() && !file.delete()) {
+                Log.e(TAG, "Could not delete feed snapshot");
+            }
+        });
+    }
+
+    private static File getFile() {
+        return new File(ContextUtils.getApplicationContext().getFilesDir(), FILE_NAME);
+    }
+
+    private static void write(
+            File file, Feed feed, long savedTimeMs, List<Thumbnail> thumbnails) {
+        File tmpFile = new File(file.getPath() + ".tmp");
+        try {
+            ByteBuffer feedBuffer = feed.serialize();
+            byte[] feedBytes = new byte[feedBuffer.remaining()];
+            feedBuffer.get(feedBytes);
+
+            try (DataOutputStream out = new DataOutputStream(new FileOutputStream(tmpFile))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(savedTimeMs);
+                out.writeInt(thumbnails.size());
+                for (Thumbnail thumbnail : thumbnails) {
+                    byte[] urlBytes = thumbnail.mImageUrl.getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(thumbnail.mCardType);
+                    out.writeInt(urlBytes.length);
+                    out.write(urlBytes);
+                }
+                out.writeInt(feedBytes.length);
+                out.write(feedBytes);
+            }
+            if (!tmpFile.renameTo(file)) {
+                Log.e(TAG, "Could not replace feed snapshot");
+                tmpFile.delete();
+            }
+        } catch (IOException | RuntimeException e) {
+            Log.e(TAG, "Could not write feed snapshot " + e);
+            tmpFile.delete();
+        }
+    }
+
+    private static BraveNewsFeedSnapshot read(File file) {
+        if (!file.exists()) return null;
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+                FileChannel channel = randomAccessFile.getChannel()) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                file.delete();
+                return null;
+            }
+            long savedTimeMs = buffer.getLong();
+            if (System.currentTimeMillis() - savedTimeMs > MAX_AGE_MS) return null;
+
+            int thumbnailsCount = buffer.getInt();
+            List<Thumbnail> thumbnails = new ArrayList<>(thumbnailsCount);
+            for (int i = 0; i < thumbnailsCount; i++) {
+                int cardType = buffer.getInt();
+                byte[] urlBytes = new byte[buffer.getInt()];
+                buffer.get(urlBytes);
+                thumbnails.add(
+                        new Thumbnail(cardType, new String(urlBytes, StandardCharsets.UTF_8)));
+            }
+            int feedLength = buffer.getInt();
+            ByteBuffer feedBuffer = buffer.slice();
+            feedBuffer.limit(feedLength);
+            // Mojo messages are little endian
+            feedBuffer.order(ByteOrder.LITTLE_ENDIAN);
+            Feed feed = Feed.deserialize(feedBuffer);
+
+            return new BraveNewsFeedSnapshot(
+                    feed.hash, BraveNewsFeedBuilder.buildCards(feed), thumbnails);
+        } catch (IOException | RuntimeException e) {
+            // A broken snapshot is only a missed shortcut, the feed is fetched anyway
+            Log.e(TAG, "Could not read feed snapshot " + e);
+            file.delete();
+            return null;
+        }
+    }
+
+    private static List<Thumbnail> getThumbnails(List<FeedItemsCard> cards) {
+        List<Thumbnail> thumbnails = new ArrayList<>();
+        for (FeedItemsCard card : cards.subList(0, Math.min(cards.size(), MAX_THUMBNAIL_CARDS))) {
+            List<FeedItemCard> feedItems = card.getFeedItems();
+            if (feedItems == null) continue;
+            // Like CardBuilderFeedCard, only the first items of a card show an image
+            int itemsWithImage =
+                    Math.min(feedItems.size(), CardBuilderFeedCard.MAX_ITEMS_WITH_IMAGE);
+            for (FeedItemCard itemCard : feedItems.subList(0, itemsWithImage)) {
+                String imageUrl = getImageUrl(itemCard.getFeedItem());
+                if (imageUrl != null) {
+                    thumbnails.add(new Thumbnail(card.getCardType(), imageUrl));
+                }
+            }
+        }
+
+        return thumbnails;
+    }
+
+    private static String getImageUrl(FeedItem feedItem) {
+        FeedItemMetadata itemData = BraveNewsUtils.getItemData(feedItem);
+        if (itemData == null) return null;
+        Url url = BraveNewsUtils.getImageUrl(itemData.image);
+
+        return url != null ? url.url : null;
+    }
+}
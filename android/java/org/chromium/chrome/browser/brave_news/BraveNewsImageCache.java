@@ -0,0 +1,241 @@
+/* Copyright (c) 2022 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.brave_news;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.os.SystemClock;
+import android.util.LruCache;
+
+import org.chromium.base.Callback;
+import org.chromium.base.Log;
+import org.chromium.base.ThreadUtils;
+import org.chromium.base.task.PostTask;
+import org.chromium.base.task.TaskTraits;
+import org.chromium.brave_news.mojom.BraveNewsController;
+import org.chromium.chrome.browser.util.ImageUtils;
+import org.chromium.content_public.browser.UiThreadTaskTraits;
+import org.chromium.url.mojom.Url;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Process wide cache of Brave News card images, decoded at the size of the card they are shown
+ * in. The image data comes from BraveNewsController.getImageData, which also removes the padding
+ * of padded images, and is decoded in the background, so binding a card whose images were
+ * prefetched is a memory lookup. The cache is bounded by the bytes held by its bitmaps.
+ * Requests for an image that is already being fetched share the fetch. A fetch fails when the
+ * controller it went through is closed, or after {@link #FETCH_TIMEOUT_MS}, so a reply that
+ * never comes does not keep the image from being fetched again.
+ * Must be used on the UI thread.
+ */
+public class BraveNewsImageCache {
+    private static final String TAG = "BN";
+    private static final int MAX_CACHE_BYTES = 32 * 1024 * 1024;
+    private static final long FETCH_TIMEOUT_MS = 30 * 1000;
+
+    private static BraveNewsImageCache sInstance;
+
+    private final LruCache<String, Bitmap> mBitmaps;
+    private final HashMap<String, PendingFetch> mPending;
+
+    private int mHitCount;
+    private int mMissCount;
+    private int mDecodeCount;
+    private long mTotalDecodeTimeMs;
+
+    private static class PendingFetch {
+        private final BraveNewsController mController;
+        private final List<Callback<Bitmap>> mCallbacks = new ArrayList<>();
+
+        private PendingFetch(BraveNewsController controller) {
+            mController = controller;
+        }
+    }
+
+    public static BraveNewsImageCache getInstance() {
+        ThreadUtils.assertOnUiThread();
+        if (sInstance == null) {
+            sInstance = new BraveNewsImageCache();
+        }
+
+        return sInstance;
+    }
+
+    private BraveNewsImageCache() {
+        int maxBytes = (int) Math.min(Runtime.getRuntime().maxMemory() / 16, MAX_CACHE_BYTES);
+        mBitmaps = new LruCache<String, Bitmap>(maxBytes) {
+            @Override
+            protected int sizeOf(String key, Bitmap bitmap) {
+                return bitmap.getByteCount();
+            }
+        };
+        mPending = new HashMap<>();
+    }
+
+    /**
+     * Replies with the image decoded to at least the requested size, right away when it is
+     * cached. Replies with null when the image could not be fetched or decoded.
+     */
+    public void getImage(BraveNewsController braveNewsController, Url imageUrl, int width,
+            int height, Callback<Bitmap> callback) {
+        ThreadUtils.assertOnUiThread();
+        if (imageUrl == null || imageUrl.url == null) {
+            callback.onResult(null);
+
+            return;
+        }
+        String key = getKey(imageUrl, width, height);
+        Bitmap bitmap = mBitmaps.get(key);
+        if (bitmap != null) {
+            mHitCount++;
+            callback.onResult(bitmap);
+
+            return;
+        }
+        mMissCount++;
+        fetch(braveNewsController, imageUrl, key, width, height, callback);
+    }
+
+    /**
+     * Fetches and decodes the image ahead of the bind that shows it. Does nothing when the image
+     * is cached or already being fetched.
+     */
+    public void prefetch(
+            BraveNewsController braveNewsController, Url imageUrl, int width, int height) {
+        ThreadUtils.assertOnUiThread();
+        if (imageUrl == null || imageUrl.url == null) return;
+        String key = getKey(imageUrl, width, height);
+        if (mBitmaps.get(key) != null || mPending.containsKey(key)) return;
+        fetch(braveNewsController, imageUrl, key, width, height, null);
+    }
+
+    public void clear() {
+        ThreadUtils.assertOnUiThread();
+        mBitmaps.evictAll();
+    }
+
+    public float getHitRate() {
+        int requests = mHitCount + mMissCount;
+
+        return requests == 0 ? 0 : (float) mHitCount / requests;
+    }
+
+    public int getHitCount() {
+        return mHitCount;
+    }
+
+    public int getMissCount() {
+        return mMissCount;
+    }
+
+    public int getDecodeCount() {
+        return mDecodeCount;
+    }
+
+    public long getAverageDecodeTimeMs() {
+        return mDecodeCount == 0 ? 0 : mTotalDecodeTimeMs / mDecodeCount;
+    }
+
+    /**
+     * @return bytes held by the cached bitmaps
+     */
+    public int getBytesHeld() {
+        return mBitmaps.size();
+    }
+
+    public int getMaxBytes() {
+        return mBitmaps.maxSize();
+    }
+
+    /**
+     * Fails the fetches that went through the controller, which will not reply once closed.
+     * Must be called before the controller is closed.
+     */
+    public void onControllerClosed(BraveNewsController braveNewsController) {
+        ThreadUtils.assertOnUiThread();
+        List<String> keys = new ArrayList<>();
+        for (Map.Entry<String, PendingFetch> entry : mPending.entrySet()) {
+            if (entry.getValue().mController == braveNewsController) keys.add(entry.getKey());
+        }
+        for (String key : keys) {
+            onFetchDone(key, mPending.get(key), null, 0);
+        }
+    }
+
+    private void fetch(BraveNewsController braveNewsController, Url imageUrl, String key,
+            int width, int height, Callback<Bitmap> callback) {
+        PendingFetch pendingFetch = mPending.get(key);
+        if (pendingFetch != null) {
+            if (callback != null) pendingFetch.mCallbacks.add(callback);
+
+            return;
+        }
+        PendingFetch newFetch = new PendingFetch(braveNewsController);
+        if (callback != null) newFetch.mCallbacks.add(callback);
+        mPending.put(key, newFetch);
+        PostTask.postDelayedTask(UiThreadTaskTraits.DEFAULT, () -> {
+            if (mPending.get(key) != newFetch) return;
+            Log.w(TAG, "News image fetch timed out " + imageUrl.url);
+            onFetchDone(key, newFetch, null, 0);
+        }, FETCH_TIMEOUT_MS);
+
+        braveNewsController.getImageData(imageUrl, imageData -> {
+            if (imageData == null) {
+                onFetchDone(key, newFetch, null, 0);
+
+                return;
+            }
+            PostTask.postTask(TaskTraits.USER_VISIBLE, () -> {
+                long startMs = SystemClock.elapsedRealtime();
+                Bitmap bitmap = decode(imageData, width, height);
+                long decodeTimeMs = SystemClock.elapsedRealtime() - startMs;
+                PostTask.postTask(UiThreadTaskTraits.DEFAULT,
+                        () -> onFetchDone(key, newFetch, bitmap, decodeTimeMs));
+            });
+        });
+    }
+
+    private void onFetchDone(
+            String key, PendingFetch pendingFetch, Bitmap bitmap, long decodeTimeMs) {
+        if (bitmap != null) {
+            mDecodeCount++;
+            mTotalDecodeTimeMs += decodeTimeMs;
+            mBitmaps.put(key, bitmap);
+        }
+        // The fetch already failed or a newer fetch of the same image replaced it
+        if (mPending.get(key) != pendingFetch) return;
+        mPending.remove(key);
+        for (Callback<Bitmap> callback : pendingFetch.mCallbacks) {
+            callback.onResult(bitmap);
+        }
+    }
+
+    private static Bitmap decode(byte[] imageData, int width, int height) {
+        try {
+            BitmapFactory.Options options = new BitmapFactory.Options();
+            if (width > 0 && height > 0) {
+                options.inJustDecodeBounds = true;
+                BitmapFactory.decodeByteArray(imageData, 0, imageData.length, options);
+                options.inSampleSize = ImageUtils.calculateInSampleSize(options, width, height);
+                options.inJustDecodeBounds = false;
+            }
+
+            return BitmapFactory.decodeByteArray(imageData, 0, imageData.length, options);
+        } catch (OutOfMemoryError | RuntimeException e) {
+            Log.e(TAG, "Could not decode news image " + e);
+
+            return null;
+        }
+    }
+
+    private static String getKey(Url imageUrl, int width, int height) {
+        return imageUrl.url + "@" + width + "x" + height;
+    }
+}
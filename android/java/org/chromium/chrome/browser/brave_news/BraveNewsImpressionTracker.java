@@ -0,0 +1,306 @@
+/* Copyright (c) 2022 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.brave_news;
+
+import android.os.Handler;
+import android.os.SystemClock;
+import android.util.Pair;
+
+import org.chromium.base.Log;
+import org.chromium.base.ThreadUtils;
+import org.chromium.base.task.PostTask;
+import org.chromium.base.task.SequencedTaskRunner;
+import org.chromium.base.task.TaskTraits;
+import org.chromium.brave_news.mojom.BraveNewsController;
+import org.chromium.brave_news.mojom.CardType;
+import org.chromium.brave_news.mojom.DisplayAd;
+import org.chromium.chrome.browser.brave_news.models.FeedItemCard;
+import org.chromium.chrome.browser.brave_news.models.FeedItemsCard;
+import org.chromium.chrome.browser.local_database.DatabaseHelper;
+import org.chromium.chrome.browser.local_database.DisplayAdsTable;
+import org.chromium.content_public.browser.UiThreadTaskTraits;
+import org.chromium.mojo.bindings.ConnectionErrorHandler;
+import org.chromium.mojo.system.MojoException;
+import org.chromium.url.mojom.Url;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Decides which Brave News cards count as viewed and reports them in batches. A promoted article
+ * or display ad opens a visibility window when scrolling stops with the card at least half
+ * visible, and counts as viewed when it stays visible for
+ * {@link BraveNewsUtils#BRAVE_NEWS_VIEWD_CARD_TIME}. Every uuid is reported once per session, at
+ * most {@link #MAX_REPORTED_UUIDS} uuids are remembered. Card uuids are unique per new tab page,
+ * see {@link BraveNewsFeedBuilder#copyForSession}. The view events
+ * and the session card count are sent together, display ads are written to the display ads table
+ * in one transaction on a single background sequence. The tracker keeps its own connection to
+ * the controller, so views still being written are sent after the new tab page went away.
+ * Must be used on the UI thread.
+ */
+public class BraveNewsImpressionTracker implements ConnectionErrorHandler {
+    private static final String TAG = "BN";
+    private static final long FLUSH_DELAY_MS = 1000;
+    private static final int MAX_REPORTED_UUIDS = 1000;
+
+    private static class VisibilityWindow {
+        final FeedItemsCard card;
+        final int position;
+        final int tabId;
+        final String uuid;
+        final String creativeInstanceId;
+        // Only set for display ads
+        final DisplayAd displayAd;
+        final long startMs;
+
+        VisibilityWindow(FeedItemsCard card, int position, int tabId, String uuid,
+                String creativeInstanceId, DisplayAd displayAd, long startMs) {
+            this.card = card;
+            this.position = position;
+            this.tabId = tabId;
+            this.uuid = uuid;
+            this.creativeInstanceId = creativeInstanceId;
+            this.displayAd = displayAd;
+            this.startMs = startMs;
+        }
+    }
+
+    private static BraveNewsImpressionTracker sInstance;
+
+    private final Handler mHandler;
+    private final SequencedTaskRunner mDatabaseTaskRunner;
+    private final DatabaseHelper mDatabaseHelper;
+    private BraveNewsController mBraveNewsController;
+
+    private final HashMap<String, VisibilityWindow> mWindows;
+    private final Set<String> mReportedUuids;
+    private final List<Pair<String, String>> mPendingPromotedItemViews;
+    private final List<DisplayAdsTable> mPendingDisplayAdViews;
+
+    private int mPrevSeenCardPosition = -1;
+    private int mSessionCardViews;
+    private int mReportedSessionCardViews;
+
+    private final Runnable mDwellCheck = this::closeDwelledWindows;
+    private final Runnable mFlush = this::flush;
+    private boolean mFlushScheduled;
+
+    public static BraveNewsImpressionTracker getInstance() {
+        ThreadUtils.assertOnUiThread();
+        if (sInstance == null) {
+            sInstance = new BraveNewsImpressionTracker(DatabaseHelper.getInstance());
+        }
+
+        return sInstance;
+    }
+
+    private BraveNewsImpressionTracker(DatabaseHelper databaseHelper) {
+        mHandler = ThreadUtils.getUiThreadHandler();
+        mDatabaseTaskRunner = PostTask.createSequencedTaskRunner(TaskTraits.BEST_EFFORT_MAY_BLOCK);
+        mDatabaseHelper = databaseHelper;
+        mWindows = new HashMap<>();
+        mReportedUuids = Collections.newSetFromMap(new LinkedHashMap<String, Boolean>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > MAX_REPORTED_UUIDS;
+            }
+        });
+        mPendingPromotedItemViews = new ArrayList<>();
+        mPendingDisplayAdViews = new ArrayList<>();
+    }
+
+    /**
+     * Starts counting the cards seen from the top of the feed, called when a new tab page shows
+     * Brave News.
+     */
+    public void startSession() {
+        ThreadUtils.assertOnUiThread();
+        onScrollStarted();
+        flush();
+        mReportedUuids.clear();
+        mPrevSeenCardPosition = -1;
+        mSessionCardViews = 0;
+        mReportedSessionCardViews = 0;
+    }
+
+    /**
+     * Opens a visibility window for a card shown at least half when scrolling stopped. Cards
+     * other than promoted articles and display ads, and cards already reported, are ignored.
+     */
+    public void onCardVisible(FeedItemsCard card, int position, int tabId) {
+        ThreadUtils.assertOnUiThread();
+        String uuid;
+        String creativeInstanceId;
+        DisplayAd displayAd = null;
+        if (card.getCardType() == CardType.PROMOTED_ARTICLE) {
+            uuid = card.getUuid();
+            creativeInstanceId = BraveNewsUtils.getPromotionIdItem(card);
+        } else if (card.getCardType() == CardType.DISPLAY_AD) {
+            displayAd = BraveNewsUtils.getFromDisplayAdsMap(position);
+            if (displayAd == null) return;
+            uuid = displayAd.uuid;
+            creativeInstanceId = displayAd.creativeInstanceId;
+        } else {
+            return;
+        }
+        if (uuid == null || uuid.isEmpty() || creativeInstanceId == null
+                || creativeInstanceId.isEmpty() || mReportedUuids.contains(uuid)
+                || mWindows.containsKey(uuid)) {
+            return;
+        }
+
+        long nowMs = SystemClock.elapsedRealtime();
+        mWindows.put(uuid,
+                new VisibilityWindow(card, position, tabId, uuid, creativeInstanceId, displayAd,
+                        nowMs));
+        if (mWindows.size() == 1) {
+            mHandler.postDelayed(mDwellCheck, BraveNewsUtils.BRAVE_NEWS_VIEWD_CARD_TIME);
+        }
+    }
+
+    /**
+     * Closes the open windows, cards that were not visible long enough are not reported.
+     */
+    public void onScrollStarted() {
+        ThreadUtils.assertOnUiThread();
+        closeDwelledWindows();
+        mWindows.clear();
+        mHandler.removeCallbacks(mDwellCheck);
+    }
+
+    /**
+     * Counts the cards up to the given position as seen in this session.
+     */
+    public void onCardsSeen(List<FeedItemsCard> cards, int lastCompletelyVisiblePosition) {
+        ThreadUtils.assertOnUiThread();
+        if (lastCompletelyVisiblePosition <= mPrevSeenCardPosition) return;
+        int last = Math.min(lastCompletelyVisiblePosition, cards.size() - 1);
+        for (int i = mPrevSeenCardPosition + 1; i <= last; i++) {
+            FeedItemsCard itemsCard = cards.get(i);
+            if (itemsCard == null) continue;
+            List<FeedItemCard> feedItems = itemsCard.getFeedItems();
+            // Two items are shown as two cards side by side,
+            // and three or more items is shown as one card as a list
+            mSessionCardViews += feedItems != null && feedItems.size() == 2 ? 2 : 1;
+        }
+        mPrevSeenCardPosition = lastCompletelyVisiblePosition;
+        scheduleFlush();
+    }
+
+    /**
+     * Sends everything that is pending right away, e.g. when the new tab page goes away.
+     */
+    public void flush() {
+        ThreadUtils.assertOnUiThread();
+        mHandler.removeCallbacks(mFlush);
+        mFlushScheduled = false;
+        if (mSessionCardViews == mReportedSessionCardViews && mPendingPromotedItemViews.isEmpty()
+                && mPendingDisplayAdViews.isEmpty()) {
+            return;
+        }
+        BraveNewsController braveNewsController = getBraveNewsController();
+
+        if (mSessionCardViews != mReportedSessionCardViews) {
+            braveNewsController.onSessionCardViewsCountChanged((short) mSessionCardViews);
+            mReportedSessionCardViews = mSessionCardViews;
+        }
+        for (Pair<String, String> view : mPendingPromotedItemViews) {
+            braveNewsController.onPromotedItemView(view.first, view.second);
+        }
+        mPendingPromotedItemViews.clear();
+
+        if (mPendingDisplayAdViews.isEmpty()) return;
+        List<DisplayAdsTable> displayAds = new ArrayList<>(mPendingDisplayAdViews);
+        mPendingDisplayAdViews.clear();
+        mDatabaseTaskRunner.postTask(() -> {
+            List<DisplayAdsTable> insertedAds;
+            try {
+                insertedAds = mDatabaseHelper.insertAds(displayAds);
+            } catch (RuntimeException e) {
+                Log.e(TAG, "Could not store display ad views " + e);
+                return;
+            }
+            // Ads already in the table were reported when they were first shown in this tab
+            if (insertedAds.isEmpty()) return;
+            PostTask.postTask(UiThreadTaskTraits.DEFAULT, () -> {
+                BraveNewsController controller = getBraveNewsController();
+                for (DisplayAdsTable ad : insertedAds) {
+                    controller.onDisplayAdView(ad.getUuid(), ad.getCreativeInstanceId());
+                }
+            });
+        });
+    }
+
+    @Override
+    public void onConnectionError(MojoException e) {
+        if (mBraveNewsController != null) {
+            mBraveNewsController.close();
+        }
+        mBraveNewsController = null;
+    }
+
+    private BraveNewsController getBraveNewsController() {
+        if (mBraveNewsController == null) {
+            mBraveNewsController =
+                    BraveNewsControllerFactory.getInstance().getBraveNewsController(this);
+        }
+
+        return mBraveNewsController;
+    }
+
+    private void closeDwelledWindows() {
+        long nowMs = SystemClock.elapsedRealtime();
+        long nextDeadlineMs = Long.MAX_VALUE;
+        Iterator<VisibilityWindow> iterator = mWindows.values().iterator();
+        while (iterator.hasNext()) {
+            VisibilityWindow window = iterator.next();
+            long deadlineMs = window.startMs + BraveNewsUtils.BRAVE_NEWS_VIEWD_CARD_TIME;
+            if (nowMs >= deadlineMs) {
+                iterator.remove();
+                report(window);
+            } else {
+                nextDeadlineMs = Math.min(nextDeadlineMs, deadlineMs);
+            }
+        }
+        mHandler.removeCallbacks(mDwellCheck);
+        if (nextDeadlineMs != Long.MAX_VALUE) {
+            mHandler.postDelayed(mDwellCheck, nextDeadlineMs - nowMs);
+        }
+    }
+
+    private void report(VisibilityWindow window) {
+        mReportedUuids.add(window.uuid);
+        window.card.setViewStatSent(true);
+        if (window.displayAd == null) {
+            mPendingPromotedItemViews.add(new Pair<>(window.uuid, window.creativeInstanceId));
+        } else {
+            mPendingDisplayAdViews.add(toTableRow(window));
+        }
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (mFlushScheduled) return;
+        mFlushScheduled = true;
+        mHandler.postDelayed(mFlush, FLUSH_DELAY_MS);
+    }
+
+    private static DisplayAdsTable toTableRow(VisibilityWindow window) {
+        DisplayAd ad = window.displayAd;
+        Url imageUrl = BraveNewsUtils.getImageUrl(ad.image);
+
+        return new DisplayAdsTable(ad.uuid, ad.creativeInstanceId, window.position, window.tabId,
+                ad.title, ad.description, ad.ctaText,
+                ad.targetUrl != null ? ad.targetUrl.url : null,
+                imageUrl != null ? imageUrl.url : null);
+    }
+}
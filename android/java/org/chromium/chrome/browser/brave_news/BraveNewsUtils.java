@@ -14,10 +14,12 @@ import org.chromium.brave_news.mojom.Deal;
 import org.chromium.brave_news.mojom.DisplayAd;
 import org.chromium.brave_news.mojom.FeedItem;
 import org.chromium.brave_news.mojom.FeedItemMetadata;
+import org.chromium.brave_news.mojom.Image;
 import org.chromium.brave_news.mojom.PromotedArticle;
 import org.chromium.brave_news.mojom.Publisher;
 import org.chromium.chrome.browser.brave_news.models.FeedItemCard;
 import org.chromium.chrome.browser.brave_news.models.FeedItemsCard;
+import org.chromium.url.mojom.Url;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -43,6 +45,35 @@ public class BraveNewsUtils {
         return creativeInstanceId;
     }
 
+    public static FeedItemMetadata getItemData(FeedItem feedItem) {
+        if (feedItem == null) return null;
+        switch (feedItem.which()) {
+            case FeedItem.Tag.Article:
+                Article article = feedItem.getArticle();
+                return article.data;
+            case FeedItem.Tag.PromotedArticle:
+                PromotedArticle promotedArticle = feedItem.getPromotedArticle();
+                return promotedArticle.data;
+            case FeedItem.Tag.Deal:
+                Deal deal = feedItem.getDeal();
+                return deal.data;
+            default:
+                return null;
+        }
+    }
+
+    public static Url getImageUrl(Image image) {
+        if (image == null) return null;
+        switch (image.which()) {
+            case Image.Tag.PaddedImageUrl:
+                return image.getPaddedImageUrl();
+            case Image.Tag.ImageUrl:
+                return image.getImageUrl();
+            default:
+                return null;
+        }
+    }
+
     public static void initCurrentAds() {
         sCurrentDisplayAds = new HashMap<>();
     }
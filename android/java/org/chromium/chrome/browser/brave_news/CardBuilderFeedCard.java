@@ -8,9 +8,9 @@ package org.chromium.chrome.browser.brave_news;
 import android.app.Activity;
 import android.content.res.Resources;
 import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
 import android.graphics.Color;
 import android.graphics.Paint;
+import android.graphics.Point;
 import android.graphics.Typeface;
 import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.ColorDrawable;
@@ -20,8 +20,6 @@ import android.graphics.drawable.LayerDrawable;
 import android.graphics.drawable.ShapeDrawable;
 import android.graphics.drawable.shapes.RoundRectShape;
 import android.os.Bundle;
-import android.os.Handler;
-import android.os.Looper;
 import android.text.TextUtils;
 import android.util.DisplayMetrics;
 import android.view.Gravity;
@@ -46,7 +44,6 @@ import com.bumptech.glide.Glide;
 import com.bumptech.glide.Priority;
 import com.bumptech.glide.RequestManager;
 import com.bumptech.glide.load.DataSource;
-import com.bumptech.glide.load.engine.DiskCacheStrategy;
 import com.bumptech.glide.load.engine.GlideException;
 import com.bumptech.glide.load.resource.bitmap.CenterCrop;
 import com.bumptech.glide.load.resource.bitmap.GranularRoundedCorners;
@@ -58,6 +55,7 @@ import com.bumptech.glide.request.target.Target;
 import com.bumptech.glide.request.transition.Transition;
 
 import org.chromium.base.Log;
+import org.chromium.base.task.TaskTraits;
 import org.chromium.brave_news.mojom.Article;
 import org.chromium.brave_news.mojom.BraveNewsController;
 import org.chromium.brave_news.mojom.CardType;
@@ -76,18 +74,22 @@ import org.chromium.chrome.browser.brave_news.models.FeedItemCard;
 import org.chromium.chrome.browser.brave_news.models.FeedItemsCard;
 import org.chromium.chrome.browser.local_database.DatabaseHelper;
 import org.chromium.chrome.browser.local_database.DisplayAdsTable;
+import org.chromium.chrome.browser.ntp.NTPScrollStateStore;
+import org.chromium.chrome.browser.ntp.NTPTaskScope;
 import org.chromium.chrome.browser.ntp_background_images.util.NTPUtil;
 import org.chromium.chrome.browser.preferences.BravePreferenceKeys;
 import org.chromium.chrome.browser.preferences.SharedPreferencesManager;
 import org.chromium.chrome.browser.util.ConfigurationUtils;
 import org.chromium.chrome.browser.util.TabUtils;
 import org.chromium.ui.base.DeviceFormFactor;
-import org.chromium.url.mojom.Url;
 
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
+/**
+ * Builds the view tree of a Brave News card once for a card type and binds feed items to it.
+ * The tree is created when the view holder is created, binding only sets texts, images and
+ * listeners, so recycled holders no longer rebuild the whole card.
+ */
 public class CardBuilderFeedCard {
     private final int CARD_LAYOUT = 7;
     private final int BUTTON_LAYOUT = 8;
@@ -101,50 +103,78 @@ public class CardBuilderFeedCard {
     private final int CATEGORY = 15;
     private final int DEALS = 16;
 
+    // Views of one feed item inside a card
+    private static class ItemViews {
+        ViewGroup container;
+        ImageView image;
+        String imageType;
+        TextView title;
+        TextView desc;
+        int descType;
+        TextView publisher;
+        int publisherIndex;
+        TextView source;
+    }
+
     private LinearLayout mLinearLayout;
     private Activity mActivity;
     private FeedItemsCard mNewsItem;
     private BraveNewsController mBraveNewsController;
+    private NTPTaskScope mTaskScope;
     private int mType;
-    private int mPosition;
-    private View view;
+    // Holder of the card views, its adapter position is read when it is needed, as moves of a
+    // card do not bind it again
+    private RecyclerView.ViewHolder mViewHolder;
     private int mHorizontalMargin;
     private int mDeviceWidth;
+    private boolean mIsTablet;
     private boolean mIsPromo;
     private String mCreativeInstanceId;
     private String mOffersCategory;
     private RequestManager mGlide;
-    private DisplayAdsTable mPosTabAd;
+    // Bumped on every bind, replies of async requests made for a previous item are dropped
+    private int mBindGeneration;
+
+    private ItemViews[] mItemViews;
+    private TextView mTopText;
+    private LinearLayout mLayoutLeft;
+    private LinearLayout mLayoutRight;
+
+    private ImageView mAdImage;
+    private TextView mAdLogo;
+    private TextView mAdTitle;
+    private TextView mAdDesc;
+    private Button mAdButton;
 
     private final String TAG = "BN";
     private final int MARGIN_VERTICAL = 10;
+    // Cards show images for at most this many of their items
+    static final int MAX_ITEMS_WITH_IMAGE = 3;
     private final String BRAVE_OFFERS_URL = "offers.brave.com";
 
-    public CardBuilderFeedCard(BraveNewsController braveNewsController, RequestManager glide,
-            LinearLayout layout, Activity activity, int position, FeedItemsCard newsItem,
-            int type) {
+    public CardBuilderFeedCard(BraveNewsController braveNewsController, NTPTaskScope taskScope,
+            RequestManager glide, LinearLayout layout, Activity activity, int type) {
         mLinearLayout = layout;
         mActivity = activity;
-        mPosition = position;
         mType = type;
-        mNewsItem = newsItem;
         mBraveNewsController = braveNewsController;
+        mTaskScope = taskScope;
         mDeviceWidth = ConfigurationUtils.getDisplayMetrics(activity).get("width");
         mGlide = glide;
-        mPosTabAd = new DisplayAdsTable();
 
         mIsPromo = false;
         mCreativeInstanceId = "";
         mOffersCategory = "";
 
-        boolean isTablet = ConfigurationUtils.isTablet(activity);
+        mIsTablet = ConfigurationUtils.isTablet(activity);
         boolean isLandscape = ConfigurationUtils.isLandscape(activity);
 
-        mHorizontalMargin = isTablet
+        mHorizontalMargin = mIsTablet
                 ? isLandscape ? (int) (0.20 * mDeviceWidth) : (int) (0.10 * mDeviceWidth)
                 : 40;
+        mItemViews = new ItemViews[0];
         try {
-            createCard(mType, mPosition);
+            createCard(mType);
         } catch (Exception e) {
             Log.e(TAG, "Exception createCard:" + e.getMessage());
         }
@@ -152,23 +182,121 @@ public class CardBuilderFeedCard {
 
     public void initItems() {}
 
+    public int getType() {
+        return mType;
+    }
+
     public void removeCard(LinearLayout layout) {
         layout.removeAllViews();
         layout.setVisibility(View.GONE);
         layout.invalidate();
     }
 
-    private Url getImage(FeedItemMetadata itemMetaData) {
-        switch (itemMetaData.image.which()) {
-            case Image.Tag.PaddedImageUrl:
-                return itemMetaData.image.getPaddedImageUrl();
-            case Image.Tag.ImageUrl:
-                return itemMetaData.image.getImageUrl();
+    public void setViewHolder(RecyclerView.ViewHolder viewHolder) {
+        mViewHolder = viewHolder;
+    }
+
+    /**
+     * Binds the feed item to the views created for this card type.
+     */
+    public void bind(FeedItemsCard newsItem) {
+        mBindGeneration++;
+        mNewsItem = newsItem;
+        mIsPromo = false;
+        mCreativeInstanceId = "";
+        mOffersCategory = "";
+
+        try {
+            switch (mType) {
+                case CardType.DISPLAY_AD:
+                    bindDisplayAdCard();
+                    break;
+                case CardType.DEALS:
+                    setTextFromFeed(mTopText, DEALS, 0);
+                    break;
+                case CardType.PUBLISHER_GROUP:
+                    setTextFromFeed(mTopText, PUBLISHER, 0);
+                    break;
+                case CardType.CATEGORY_GROUP:
+                    setTextFromFeed(mTopText, CATEGORY, 0);
+                    break;
+            }
+            for (int index = 0; index < mItemViews.length; index++) {
+                bindItem(mItemViews[index], index);
+            }
+            if (mType == CardType.HEADLINE_PAIRED) {
+                equalizePairedHeights();
+            }
+        } catch (Exception e) {
+            Log.e(TAG, "cardfeedbuilder crashinvestigation exception:" + e.getMessage());
+        }
+    }
+
+    /**
+     * Replaces the bound item with one of the same content, e.g. the same card of a newer feed
+     * with a different uuid, without binding the views again.
+     */
+    public void setNewsItem(FeedItemsCard newsItem) {
+        mNewsItem = newsItem;
+    }
+
+    /**
+     * Cancels image loads of the bound item, called when the view holder is recycled.
+     */
+    public void unbind() {
+        mBindGeneration++;
+        mNewsItem = null;
+        for (ItemViews itemViews : mItemViews) {
+            if (itemViews.image != null) {
+                mGlide.clear(itemViews.image);
+                itemViews.image.setImageDrawable(null);
+            }
+        }
+        if (mAdImage != null) {
+            mAdImage.setImageDrawable(null);
+        }
+    }
+
+    /**
+     * @return size the images of the card type are shown at, null when the card has no images
+     */
+    static Point getImageSize(int cardType, int deviceWidth, boolean isTablet) {
+        switch (cardType) {
+            case CardType.HEADLINE:
+            case CardType.PROMOTED_ARTICLE:
+            case CardType.DISPLAY_AD:
+                return new Point(deviceWidth, (int) (deviceWidth * (isTablet ? 0.45 : 0.6)));
+            case CardType.HEADLINE_PAIRED:
+                return new Point(deviceWidth / 2, (int) (deviceWidth * (isTablet ? 0.25 : 0.3)));
+            case CardType.DEALS:
+                return new Point(deviceWidth / 3, isTablet ? (int) (deviceWidth * 0.20) : 230);
+            case CardType.CATEGORY_GROUP:
+                return new Point(deviceWidth / 4, (int) (deviceWidth * (isTablet ? 0.13 : 0.2)));
             default:
                 return null;
         }
     }
 
+    /**
+     * Starts fetching and decoding the images of a card that is about to be shown.
+     */
+    static void prefetchImages(BraveNewsController braveNewsController, FeedItemsCard newsItem,
+            int deviceWidth, boolean isTablet) {
+        Point size = getImageSize(newsItem.getCardType(), deviceWidth, isTablet);
+        List<FeedItemCard> feedItemsCard = newsItem.getFeedItems();
+        if (size == null || feedItemsCard == null) return;
+
+        BraveNewsImageCache imageCache = BraveNewsImageCache.getInstance();
+        for (int index = 0; index < Math.min(feedItemsCard.size(), MAX_ITEMS_WITH_IMAGE);
+                index++) {
+            FeedItemMetadata itemData =
+                    BraveNewsUtils.getItemData(feedItemsCard.get(index).getFeedItem());
+            if (itemData == null) continue;
+            imageCache.prefetch(braveNewsController, BraveNewsUtils.getImageUrl(itemData.image),
+                    size.x, size.y);
+        }
+    }
+
     private GradientDrawable roundedBackground() {
         GradientDrawable shape = new GradientDrawable();
         shape.setCornerRadius(15);
@@ -177,7 +305,7 @@ public class CardBuilderFeedCard {
         return shape;
     }
 
-    private void createAdFromTable(DisplayAdsTable adDataTable) {
+    private DisplayAd createAdFromTable(DisplayAdsTable adDataTable) {
         DisplayAd displayAd = new DisplayAd();
         displayAd.uuid = adDataTable.getUuid();
         displayAd.creativeInstanceId = adDataTable.getCreativeInstanceId();
@@ -196,28 +324,23 @@ public class CardBuilderFeedCard {
 
         displayAd.image = adImage;
 
-        createdDisplayAdCard(displayAd);
+        return displayAd;
     }
 
-    private void createdDisplayAdCard(DisplayAd adData) {
+    private void createDisplayAdCard() {
         RecyclerView.LayoutParams linearLayoutParams =
                 (RecyclerView.LayoutParams) mLinearLayout.getLayoutParams();
 
-        TableLayout.LayoutParams tableParamsTopNews = new TableLayout.LayoutParams(
-                TableLayout.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT);
-        TableLayout.LayoutParams tableParamsRow1 = new TableLayout.LayoutParams(
-                TableLayout.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT);
         TableLayout.LayoutParams rowTableParams = new TableLayout.LayoutParams(
                 TableLayout.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT);
 
         FrameLayout adLayoutUp = new FrameLayout(mActivity);
-        ImageView adImage = new ImageView(mActivity);
-        TextView adLogo = new TextView(mActivity);
+        mAdImage = new ImageView(mActivity);
+        mAdLogo = new TextView(mActivity);
 
-        LinearLayout adLayoutDown = new LinearLayout(mActivity);
-        TextView adTitle = new TextView(mActivity);
-        TextView adDesc = new TextView(mActivity);
-        Button adButton = new Button(mActivity);
+        mAdTitle = new TextView(mActivity);
+        mAdDesc = new TextView(mActivity);
+        mAdButton = new Button(mActivity);
         TableLayout tableLayoutTopNews = new TableLayout(mActivity);
 
         TableRow rowTop = new TableRow(mActivity);
@@ -227,11 +350,6 @@ public class CardBuilderFeedCard {
 
         TableRow.LayoutParams adLayoutParams = new TableRow.LayoutParams(
                 TableRow.LayoutParams.MATCH_PARENT, TableRow.LayoutParams.MATCH_PARENT);
-        TableRow.LayoutParams adLayoutDownParams = new TableRow.LayoutParams(
-                TableRow.LayoutParams.MATCH_PARENT, TableRow.LayoutParams.MATCH_PARENT);
-
-        FrameLayout.LayoutParams adImageParams = new FrameLayout.LayoutParams(
-                FrameLayout.LayoutParams.WRAP_CONTENT, FrameLayout.LayoutParams.WRAP_CONTENT);
 
         TableRow.LayoutParams adButtonParams = new TableRow.LayoutParams(
                 TableRow.LayoutParams.MATCH_PARENT, TableRow.LayoutParams.MATCH_PARENT);
@@ -240,142 +358,181 @@ public class CardBuilderFeedCard {
                 LinearLayout.LayoutParams.MATCH_PARENT, LinearLayout.LayoutParams.WRAP_CONTENT));
         mLinearLayout.addView(tableLayoutTopNews);
 
+        // The card stays collapsed until an ad is bound to it
         linearLayoutParams.height = 0;
         linearLayoutParams.setMargins(mHorizontalMargin, 0, mHorizontalMargin, 5 * MARGIN_VERTICAL);
         mLinearLayout.setLayoutParams(linearLayoutParams);
 
         mLinearLayout.setBackground(roundedBackground());
 
-        if (adData != null) {
-            linearLayoutParams.height = RecyclerView.LayoutParams.WRAP_CONTENT;
+        FrameLayout.LayoutParams adLogoParams = new FrameLayout.LayoutParams(
+                FrameLayout.LayoutParams.MATCH_PARENT, FrameLayout.LayoutParams.WRAP_CONTENT);
+        TableRow.LayoutParams adItemsParams;
+
+        rowTableParams.setMargins(50, 0, 50, 0);
+        rowTableParams.width = TableLayout.LayoutParams.MATCH_PARENT;
+        rowTableParams.height = TableLayout.LayoutParams.WRAP_CONTENT;
+        rowTableParams.gravity = Gravity.CENTER_HORIZONTAL;
+        rowTop.setGravity(Gravity.CENTER_HORIZONTAL);
+        rowTop.setLayoutParams(rowTableParams);
+        tableLayoutTopNews.addView(rowTop);
+
+        adLayoutParams.width = TableRow.LayoutParams.MATCH_PARENT;
+        adLayoutParams.height =
+                mIsTablet ? (int) (mDeviceWidth * 0.45) : (int) (mDeviceWidth * 0.6);
+        adLayoutParams.bottomMargin = 2 * MARGIN_VERTICAL;
+        adLayoutUp.setLayoutParams(adLayoutParams);
+        rowTop.addView(adLayoutUp);
+
+        LinearLayout.LayoutParams adImageLinearParams =
+                (LinearLayout.LayoutParams) adLayoutUp.getLayoutParams();
+        adImageLinearParams.weight = 1.0f;
+        mAdImage.setLayoutParams(adImageLinearParams);
+
+        mAdImage.setClipToOutline(true);
+        adLayoutUp.addView(mAdImage);
+        adLayoutUp.addView(mAdLogo);
+
+        adLogoParams.width = FrameLayout.LayoutParams.WRAP_CONTENT;
+        adLogoParams.height = FrameLayout.LayoutParams.WRAP_CONTENT;
+        adLogoParams.topMargin = 30;
+        adLogoParams.rightMargin = 0;
+        adLogoParams.gravity = Gravity.END;
+        mAdLogo.setGravity(Gravity.END);
+        mAdLogo.setCompoundDrawablesWithIntrinsicBounds(R.drawable.ic_rewards, 0, 0, 0);
+        mAdLogo.setText(R.string.brave_news_ad);
+        mAdLogo.setTextColor(mActivity.getResources().getColor(R.color.blurple));
+        GradientDrawable gd = new GradientDrawable();
+        gd.setColor(mActivity.getResources().getColor(R.color.news_text_color));
+        gd.setCornerRadius(15);
+
+        mAdLogo.setBackground(gd);
+        mAdLogo.setPadding(5, 5, 10, 5);
+        mAdLogo.setLayoutParams(adLogoParams);
+
+        rowTableParams.setMargins(50, 0, 50, 0);
+        rowTableParams.width = TableLayout.LayoutParams.MATCH_PARENT;
+        rowTableParams.height = TableLayout.LayoutParams.WRAP_CONTENT;
+        row1.setLayoutParams(rowTableParams);
+        rowTableParams.bottomMargin = 3 * MARGIN_VERTICAL;
+        row2.setLayoutParams(rowTableParams);
+        tableLayoutTopNews.addView(row1);
+        tableLayoutTopNews.addView(row2);
+
+        row1.addView(mAdTitle);
+        row2.addView(mAdDesc);
+        row2.addView(mAdButton);
+
+        adItemsParams = new TableRow.LayoutParams(
+                TableRow.LayoutParams.MATCH_PARENT, TableRow.LayoutParams.WRAP_CONTENT, 1.0f);
+        mAdTitle.setTextSize(17);
+        adItemsParams.bottomMargin = 2 * MARGIN_VERTICAL;
+        mAdTitle.setTypeface(null, Typeface.BOLD);
+        mAdTitle.setMaxLines(3);
+        mAdTitle.setTextColor(mActivity.getResources().getColor(R.color.news_text_color));
+        mAdTitle.setEllipsize(TextUtils.TruncateAt.END);
+        mAdTitle.setLayoutParams(adItemsParams);
+
+        adItemsParams = new TableRow.LayoutParams(
+                TableRow.LayoutParams.WRAP_CONTENT, TableRow.LayoutParams.MATCH_PARENT);
+        adItemsParams.gravity = Gravity.CENTER_VERTICAL;
+        mAdDesc.setGravity(Gravity.CENTER_VERTICAL);
+        adItemsParams.weight = 1;
+        adItemsParams.width = 0;
+        mAdDesc.setLayoutParams(adItemsParams);
+
+        mAdDesc.setTextColor(mActivity.getResources().getColor(R.color.news_time_color));
+        mAdDesc.setTextSize(12);
+
+        adButtonParams.width = TableRow.LayoutParams.WRAP_CONTENT;
+        adButtonParams.height = 80; // TableRow.LayoutParams.WRAP_CONTENT;
+        mAdButton.setPadding(30, 0, 30, 0);
+        mAdButton.setTextSize(13);
+        mAdButton.setAllCaps(false);
+        GradientDrawable adButtonBG = new GradientDrawable();
+        adButtonBG.setColor(mActivity.getResources().getColor(android.R.color.transparent));
+        adButtonBG.setCornerRadius(55);
+        adButtonBG.setStroke(1, mActivity.getResources().getColor(R.color.news_text_color));
+        mAdButton.setBackground(adButtonBG);
+        mAdButton.setTextColor(mActivity.getResources().getColor(R.color.news_text_color));
+        mAdButton.setLayoutParams(adButtonParams);
+    }
+
+    /**
+     * @return the current adapter position of the card, RecyclerView.NO_POSITION when it is not
+     *         in the list anymore
+     */
+    private int getPosition() {
+        return mViewHolder != null ? mViewHolder.getBindingAdapterPosition()
+                                   : RecyclerView.NO_POSITION;
+    }
+
+    private void bindDisplayAdCard() {
+        RecyclerView.LayoutParams linearLayoutParams =
+                (RecyclerView.LayoutParams) mLinearLayout.getLayoutParams();
+        if (linearLayoutParams.height != 0) {
+            linearLayoutParams.height = 0;
             mLinearLayout.setLayoutParams(linearLayoutParams);
-            FrameLayout.LayoutParams adLogoParams = new FrameLayout.LayoutParams(
-                    FrameLayout.LayoutParams.MATCH_PARENT, FrameLayout.LayoutParams.WRAP_CONTENT);
-            TableRow.LayoutParams adItemsParams = new TableRow.LayoutParams(
-                    TableRow.LayoutParams.MATCH_PARENT, TableRow.LayoutParams.WRAP_CONTENT);
-
-            rowTableParams.setMargins(50, 0, 50, 0);
-            rowTableParams.width = TableLayout.LayoutParams.MATCH_PARENT;
-            rowTableParams.height = TableLayout.LayoutParams.WRAP_CONTENT;
-            rowTableParams.gravity = Gravity.CENTER_HORIZONTAL;
-            rowTop.setGravity(Gravity.CENTER_HORIZONTAL);
-            rowTop.setLayoutParams(rowTableParams);
-            tableLayoutTopNews.addView(rowTop);
-
-            adLayoutParams.width = TableRow.LayoutParams.MATCH_PARENT;
-            adLayoutParams.height = ConfigurationUtils.isTablet(mActivity)
-                    ? (int) (mDeviceWidth * 0.45)
-                    : (int) (mDeviceWidth * 0.6);
-            adLayoutParams.bottomMargin = 2 * MARGIN_VERTICAL;
-            adLayoutUp.setLayoutParams(adLayoutParams);
-            rowTop.addView(adLayoutUp);
-
-            adImageParams.width = FrameLayout.LayoutParams.MATCH_PARENT;
-            adImageParams.height = FrameLayout.LayoutParams.MATCH_PARENT;
-
-            LinearLayout.LayoutParams adImageLinearParams =
-                    (LinearLayout.LayoutParams) adLayoutUp.getLayoutParams();
-            adImageLinearParams.weight = 1.0f;
-            adImage.setLayoutParams(adImageLinearParams);
-
-            setDisplayAdImage(adImage, adData.image, 1);
-            adLayoutUp.addView(adImage);
-            adLayoutUp.addView(adLogo);
-
-            adLogoParams.width = FrameLayout.LayoutParams.WRAP_CONTENT;
-            adLogoParams.height = FrameLayout.LayoutParams.WRAP_CONTENT;
-            adLogoParams.topMargin = 30;
-            adLogoParams.rightMargin = 0;
-            adLogoParams.gravity = Gravity.END;
-            adLogo.setGravity(Gravity.END);
-            adLogo.setCompoundDrawablesWithIntrinsicBounds(R.drawable.ic_rewards, 0, 0, 0);
-            adLogo.setText(R.string.brave_news_ad);
-            adLogo.setTextColor(mActivity.getResources().getColor(R.color.blurple));
-            GradientDrawable gd = new GradientDrawable();
-            gd.setColor(mActivity.getResources().getColor(R.color.news_text_color));
-            gd.setCornerRadius(15);
-
-            adLogo.setBackground(gd);
-            adLogo.setPadding(5, 5, 10, 5);
-            adLogo.setLayoutParams(adLogoParams);
-            adLogo.setOnClickListener(new View.OnClickListener() {
-                @Override
-                public void onClick(View v) {
-                    openUrlInSameTabAndSavePosition(BraveActivity.BRAVE_REWARDS_SETTINGS_URL);
-                }
-            });
-
-            rowTableParams.setMargins(50, 0, 50, 0);
-            rowTableParams.width = TableLayout.LayoutParams.MATCH_PARENT;
-            rowTableParams.height = TableLayout.LayoutParams.WRAP_CONTENT;
-            row1.setLayoutParams(rowTableParams);
-            rowTableParams.bottomMargin = 3 * MARGIN_VERTICAL;
-            row2.setLayoutParams(rowTableParams);
-            tableLayoutTopNews.addView(row1);
-            tableLayoutTopNews.addView(row2);
-
-            row1.addView(adTitle);
-            row2.addView(adDesc);
-            row2.addView(adButton);
-
-            adItemsParams = new TableRow.LayoutParams(
-                    TableRow.LayoutParams.MATCH_PARENT, TableRow.LayoutParams.WRAP_CONTENT, 1.0f);
-            adTitle.setTextSize(17);
-            adItemsParams.bottomMargin = 2 * MARGIN_VERTICAL;
-            adTitle.setTypeface(null, Typeface.BOLD);
-            adTitle.setMaxLines(3);
-            adTitle.setTextColor(mActivity.getResources().getColor(R.color.news_text_color));
-            adTitle.setEllipsize(TextUtils.TruncateAt.END);
-            adTitle.setLayoutParams(adItemsParams);
-            adTitle.setText(adData.title);
-
-            adItemsParams = new TableRow.LayoutParams(
-                    TableRow.LayoutParams.WRAP_CONTENT, TableRow.LayoutParams.MATCH_PARENT);
-            adItemsParams.gravity = Gravity.CENTER_VERTICAL;
-            adDesc.setGravity(Gravity.CENTER_VERTICAL);
-            adItemsParams.weight = 1;
-            adItemsParams.width = 0;
-            adDesc.setLayoutParams(adItemsParams);
-
-            adDesc.setTextColor(mActivity.getResources().getColor(R.color.news_time_color));
-            adDesc.setTextSize(12);
-            adDesc.setText(adData.description);
-
-            adButtonParams.width = TableRow.LayoutParams.WRAP_CONTENT;
-            adButtonParams.height = 80; // TableRow.LayoutParams.WRAP_CONTENT;
-            adButton.setPadding(30, 0, 30, 0);
-            adButton.setTextSize(13);
-            adButton.setAllCaps(false);
-            GradientDrawable adButtonBG = new GradientDrawable();
-            adButtonBG.setColor(mActivity.getResources().getColor(android.R.color.transparent));
-            adButtonBG.setCornerRadius(55);
-            adButtonBG.setStroke(1, mActivity.getResources().getColor(R.color.news_text_color));
-            adButton.setBackground(adButtonBG);
-            adButton.setText(adData.ctaText);
-            adButton.setTextColor(mActivity.getResources().getColor(R.color.news_text_color));
-            adButton.setLayoutParams(adButtonParams);
-
-            View.OnClickListener listener = v -> {
-                openUrlAndSaveEvent(adData);
-            };
-
-            adButton.setOnClickListener(listener);
-            adImage.setOnClickListener(listener);
-            adTitle.setOnClickListener(listener);
-            adDesc.setOnClickListener(listener);
         }
+
+        BraveActivity activity = BraveActivity.getBraveActivity();
+        if (activity == null || activity.getActivityTab() == null) return;
+        int tabId = activity.getActivityTab().getId();
+        int position = getPosition();
+        if (position == RecyclerView.NO_POSITION) return;
+        final int generation = mBindGeneration;
+        mTaskScope.postTask(TaskTraits.USER_VISIBLE_MAY_BLOCK,
+                () -> DatabaseHelper.getInstance().getDisplayAd(position, tabId), posTabAd -> {
+                    if (generation != mBindGeneration) return;
+                    if (posTabAd != null) {
+                        setDisplayAd(createAdFromTable(posTabAd));
+                    } else {
+                        mBraveNewsController.getDisplayAd(adData -> {
+                            BraveNewsUtils.putToDisplayAdsMap(position, adData);
+                            if (generation != mBindGeneration) return;
+                            setDisplayAd(adData);
+                        });
+                    }
+                });
+    }
+
+    private void setDisplayAd(DisplayAd adData) {
+        if (adData == null) return;
+
+        RecyclerView.LayoutParams linearLayoutParams =
+                (RecyclerView.LayoutParams) mLinearLayout.getLayoutParams();
+        linearLayoutParams.height = RecyclerView.LayoutParams.WRAP_CONTENT;
+        mLinearLayout.setLayoutParams(linearLayoutParams);
+
+        setDisplayAdImage(mAdImage, adData.image, 1);
+        mAdTitle.setText(adData.title);
+        mAdDesc.setText(adData.description);
+        mAdButton.setText(adData.ctaText);
+
+        mAdLogo.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                openUrlInSameTabAndSavePosition(BraveActivity.BRAVE_REWARDS_SETTINGS_URL);
+            }
+        });
+
+        View.OnClickListener listener = v -> {
+            openUrlAndSaveEvent(adData);
+        };
+
+        mAdButton.setOnClickListener(listener);
+        mAdImage.setOnClickListener(listener);
+        mAdTitle.setOnClickListener(listener);
+        mAdDesc.setOnClickListener(listener);
     }
 
-    public LinearLayout createCard(int type, int position) {
+    private void createCard(int type) {
         TableLayout tableLayoutTopNews = new TableLayout(mActivity);
 
         TableLayout.LayoutParams tableParamsTopNews = new TableLayout.LayoutParams(
                 TableLayout.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT);
-        TableLayout.LayoutParams tableParamsRow1 = new TableLayout.LayoutParams(
-                TableLayout.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT);
         TableLayout.LayoutParams rowTableParams = new TableLayout.LayoutParams(
                 TableLayout.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT);
-        int displayHeight = mActivity.getResources().getDisplayMetrics().heightPixels;
         TableRow rowTop = new TableRow(mActivity);
         TextView topText = new TextView(mActivity);
 
@@ -389,315 +546,282 @@ public class CardBuilderFeedCard {
         RecyclerView.LayoutParams linearLayoutParams =
                 (RecyclerView.LayoutParams) mLinearLayout.getLayoutParams();
         mLinearLayout.setPadding(0, 0, 0, 0);
-        try {
-            switch (type) {
-                case CardType.HEADLINE:
-                case CardType.PROMOTED_ARTICLE:
-                    addElementsToSingleLayout(mLinearLayout, 0, type);
-                    mLinearLayout.setBackground(
-                            makeRound(CARD_LAYOUT, R.color.card_background, 30));
-                    break;
-                case CardType.DISPLAY_AD:
-                    try {
-                        ExecutorService executor = Executors.newSingleThreadExecutor();
-                        Handler handler = new Handler(Looper.getMainLooper());
-                        executor.execute(() -> {
-                            int tabId = BraveActivity.getBraveActivity().getActivityTab().getId();
-                            DatabaseHelper dbHelper = DatabaseHelper.getInstance();
-                            DisplayAdsTable posTabAd = dbHelper.getDisplayAd(position, tabId);
-                            handler.post(() -> {
-                                if (posTabAd != null) {
-                                    createAdFromTable(posTabAd);
-                                } else {
-                                    mBraveNewsController.getDisplayAd(adData -> {
-                                        BraveNewsUtils.putToDisplayAdsMap(position, adData);
-                                        createdDisplayAdCard(adData);
-                                    });
-                                }
-                            });
-                        });
-                    } catch (Exception e) {
-                        Log.e(TAG, "displayad Exception" + e.getMessage());
+        mTopText = topText;
+        switch (type) {
+            case CardType.HEADLINE:
+            case CardType.PROMOTED_ARTICLE:
+                mItemViews = new ItemViews[] {createItemViews(mLinearLayout, 0, type)};
+                mLinearLayout.setBackground(makeRound(CARD_LAYOUT, R.color.card_background, 30));
+                break;
+            case CardType.DISPLAY_AD:
+                createDisplayAdCard();
+                break;
+            case CardType.DEALS:
+                View lineSeparator = new View(mActivity);
+                LinearLayout moreOffersLayout = new LinearLayout(mActivity);
+                TextView moreOffersText = new TextView(mActivity);
+                ImageView moreOffersArrow = new ImageView(mActivity);
+
+                LinearLayout.LayoutParams lineSeparatorParams =
+                        new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT, 2);
+                LinearLayout.LayoutParams moreOffersLayoutParams =
+                        new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT, 120);
+                LinearLayout.LayoutParams moreOffersTextParams = new LinearLayout.LayoutParams(
+                        0, LinearLayout.LayoutParams.WRAP_CONTENT, 1f);
+                LinearLayout.LayoutParams moreOffersArrowParams =
+                        new LinearLayout.LayoutParams(LinearLayout.LayoutParams.WRAP_CONTENT,
+                                LinearLayout.LayoutParams.WRAP_CONTENT);
+
+                mLinearLayout.setOrientation(LinearLayout.VERTICAL);
+
+                linearLayoutParams.height = RecyclerView.LayoutParams.WRAP_CONTENT;
+                linearLayoutParams.setMargins(
+                        mHorizontalMargin, 0, mHorizontalMargin, 5 * MARGIN_VERTICAL);
+                mLinearLayout.setLayoutParams(linearLayoutParams);
+
+                tableLayoutTopNews.setLayoutParams(
+                        new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
+                                LinearLayout.LayoutParams.WRAP_CONTENT));
+
+                tableParamsTopNews.setMargins(50, 5 * MARGIN_VERTICAL, 50, 5 * MARGIN_VERTICAL);
+                tableParamsTopNews.weight = 1;
+                tableParamsTopNews.height = TableLayout.LayoutParams.WRAP_CONTENT;
+
+                row1.setPadding(50, 0, 20, 0);
+
+                mLinearLayout.addView(tableLayoutTopNews);
+                tableLayoutTopNews.addView(rowTop);
+                rowTop.addView(topText);
+
+                // adds the More Offers bottom layout
+                lineSeparator.setBackgroundColor(
+                        mActivity.getResources().getColor(R.color.news_time_color));
+                lineSeparator.setLayoutParams(lineSeparatorParams);
+                moreOffersLayout.setOrientation(LinearLayout.HORIZONTAL);
+                moreOffersLayoutParams.setMargins(50, 0, 50, 0);
+                moreOffersLayout.setPadding(50, 0, 50, 0);
+                moreOffersLayout.setLayoutParams(moreOffersLayoutParams);
+
+                moreOffersTextParams.gravity = Gravity.CENTER_VERTICAL;
+                moreOffersText.setText(
+                        mActivity.getResources().getString(R.string.brave_news_more_offers_title));
+                moreOffersText.setTextSize(mIsTablet ? 17 : 13);
+                moreOffersText.setTypeface(null, Typeface.BOLD);
+                moreOffersText.setTextColor(
+                        mActivity.getResources().getColor(R.color.news_text_color));
+                moreOffersText.setLayoutParams(moreOffersTextParams);
+
+                moreOffersArrow.setImageResource(R.drawable.ic_chevron_right);
+                moreOffersArrow.setColorFilter(
+                        ContextCompat.getColor(mActivity, R.color.news_text_color));
+                moreOffersArrowParams.gravity = Gravity.CENTER_VERTICAL;
+                moreOffersArrow.setLayoutParams(moreOffersArrowParams);
+
+                moreOffersLayout.addView(moreOffersText);
+                moreOffersLayout.addView(moreOffersArrow);
+                moreOffersLayout.setOnClickListener(new View.OnClickListener() {
+                    @Override
+                    public void onClick(View v) {
+                        openUrlInSameTabAndSavePosition(BRAVE_OFFERS_URL);
                     }
+                });
 
-                    break;
-                case CardType.DEALS:
-                    View lineSeparator = new View(mActivity);
-                    LinearLayout moreOffersLayout = new LinearLayout(mActivity);
-                    TextView moreOffersText = new TextView(mActivity);
-                    ImageView moreOffersArrow = new ImageView(mActivity);
-
-                    LinearLayout.LayoutParams lineSeparatorParams = new LinearLayout.LayoutParams(
-                            LinearLayout.LayoutParams.MATCH_PARENT, 2);
-                    LinearLayout.LayoutParams moreOffersLayoutParams =
-                            new LinearLayout.LayoutParams(
-                                    LinearLayout.LayoutParams.MATCH_PARENT, 120);
-                    LinearLayout.LayoutParams moreOffersTextParams = new LinearLayout.LayoutParams(
-                            0, LinearLayout.LayoutParams.WRAP_CONTENT, 1f);
-                    LinearLayout.LayoutParams moreOffersArrowParams =
-                            new LinearLayout.LayoutParams(LinearLayout.LayoutParams.WRAP_CONTENT,
-                                    LinearLayout.LayoutParams.WRAP_CONTENT);
-
-                    mLinearLayout.setOrientation(LinearLayout.VERTICAL);
-
-                    linearLayoutParams.height = RecyclerView.LayoutParams.WRAP_CONTENT;
-                    linearLayoutParams.setMargins(
-                            mHorizontalMargin, 0, mHorizontalMargin, 5 * MARGIN_VERTICAL);
-                    mLinearLayout.setLayoutParams(linearLayoutParams);
-
-                    tableLayoutTopNews.setLayoutParams(
-                            new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
-                                    LinearLayout.LayoutParams.WRAP_CONTENT));
-
-                    tableParamsTopNews.setMargins(50, 5 * MARGIN_VERTICAL, 50, 5 * MARGIN_VERTICAL);
-                    tableParamsTopNews.weight = 1;
-                    tableParamsTopNews.height = TableLayout.LayoutParams.WRAP_CONTENT;
-
-                    row1.setPadding(50, 0, 20, 0);
-
-                    mLinearLayout.addView(tableLayoutTopNews);
-                    tableLayoutTopNews.addView(rowTop);
-                    rowTop.addView(topText);
-
-                    // adds the More Offers bottom layout
-                    lineSeparator.setBackgroundColor(
-                            mActivity.getResources().getColor(R.color.news_time_color));
-                    lineSeparator.setLayoutParams(lineSeparatorParams);
-                    moreOffersLayout.setOrientation(LinearLayout.HORIZONTAL);
-                    moreOffersLayoutParams.setMargins(50, 0, 50, 0);
-                    moreOffersLayout.setPadding(50, 0, 50, 0);
-                    moreOffersLayout.setLayoutParams(moreOffersLayoutParams);
-
-                    moreOffersTextParams.gravity = Gravity.CENTER_VERTICAL;
-                    moreOffersText.setText(mActivity.getResources().getString(
-                            R.string.brave_news_more_offers_title));
-                    moreOffersText.setTextSize(ConfigurationUtils.isTablet(mActivity) ? 17 : 13);
-                    moreOffersText.setTypeface(null, Typeface.BOLD);
-                    moreOffersText.setTextColor(
-                            mActivity.getResources().getColor(R.color.news_text_color));
-                    moreOffersText.setLayoutParams(moreOffersTextParams);
-
-                    moreOffersArrow.setImageResource(R.drawable.ic_chevron_right);
-                    moreOffersArrow.setColorFilter(
-                            ContextCompat.getColor(mActivity, R.color.news_text_color));
-                    moreOffersArrowParams.gravity = Gravity.CENTER_VERTICAL;
-                    moreOffersArrow.setLayoutParams(moreOffersArrowParams);
-
-                    moreOffersLayout.addView(moreOffersText);
-                    moreOffersLayout.addView(moreOffersArrow);
-                    moreOffersLayout.setOnClickListener(new View.OnClickListener() {
-                        @Override
-                        public void onClick(View v) {
-                            openUrlInSameTabAndSavePosition(BRAVE_OFFERS_URL);
-                        }
-                    });
-
-                    // adds the items to the view layout
-                    tableLayoutTopNews.addView(row1);
-                    tableLayoutTopNews.addView(lineSeparator);
-                    tableLayoutTopNews.addView(moreOffersLayout);
-
-                    row1.addView(layout1);
-                    row1.addView(layout2);
-                    row1.addView(layout3);
-
-                    rowTop.setLayoutParams(tableParamsTopNews);
-                    setTextFromFeed(topText, DEALS, 0);
-                    topText.setTextSize(17);
-                    topText.setTextColor(
-                            mActivity.getResources().getColor(R.color.news_text_color));
-                    topText.setTypeface(null, Typeface.BOLD);
-
-                    layout1.setOrientation(LinearLayout.VERTICAL);
-                    layout2.setOrientation(LinearLayout.VERTICAL);
-                    layout3.setOrientation(LinearLayout.VERTICAL);
-
-                    // adds each of the 3 cards
-                    addElementsToSingleLayout(layout1, 0, type);
-                    addElementsToSingleLayout(layout2, 1, type);
-                    addElementsToSingleLayout(layout3, 2, type);
-
-                    mLinearLayout.setBackground(
-                            makeRound(CARD_LAYOUT, R.color.card_background, 30));
-                    break;
-                case CardType.PUBLISHER_GROUP: // THREE_ROWS_HEADLINES:
-                    mLinearLayout.setOrientation(LinearLayout.VERTICAL);
-                    tableLayoutTopNews.setLayoutParams(
-                            new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
-                                    LinearLayout.LayoutParams.MATCH_PARENT));
-                    tableParamsTopNews.setMargins(30, 40, 30, 40);
-                    linearLayoutParams.height = RecyclerView.LayoutParams.WRAP_CONTENT;
-                    linearLayoutParams.setMargins(
-                            mHorizontalMargin, 0, mHorizontalMargin, 5 * MARGIN_VERTICAL);
-                    mLinearLayout.setLayoutParams(linearLayoutParams);
-
-                    mLinearLayout.addView(tableLayoutTopNews);
-                    tableLayoutTopNews.addView(rowTop);
-                    rowTop.addView(topText);
-
-                    tableLayoutTopNews.addView(row1);
-                    tableLayoutTopNews.addView(row2);
-                    tableLayoutTopNews.addView(row3);
-                    rowTop.setPadding(0, 0, 30, 0);
-
-                    rowTop.setLayoutParams(tableParamsTopNews);
-
-                    setTextFromFeed(topText, PUBLISHER, 0);
-                    topText.setTextSize(20);
-                    topText.setTextColor(
-                            mActivity.getResources().getColor(R.color.news_text_color));
-                    topText.setTypeface(null, Typeface.BOLD);
-
-                    addElementsToSingleLayout(row1, 0, type);
-
-                    row2.setPadding(5, 5, 5, 5);
-                    addElementsToSingleLayout(row2, 1, type);
-
-                    TableRow.LayoutParams row3Params = new TableRow.LayoutParams(
-                            TableRow.LayoutParams.MATCH_PARENT, TableRow.LayoutParams.MATCH_PARENT);
-                    row3Params.bottomMargin = 5 * MARGIN_VERTICAL;
-                    row3.setPadding(5, 5, 5, 5);
-                    addElementsToSingleLayout(row3, 2, type);
-
-                    mLinearLayout.setPadding(30, 10, 40, 10);
-                    mLinearLayout.setBackground(
-                            makeRound(CARD_LAYOUT, R.color.card_background, 30));
-                    break;
-                case CardType.CATEGORY_GROUP: // TOP_NEWS:
-                    /*3 rows
+                // adds the items to the view layout
+                tableLayoutTopNews.addView(row1);
+                tableLayoutTopNews.addView(lineSeparator);
+                tableLayoutTopNews.addView(moreOffersLayout);
 
-                                   TOP NEWS
+                row1.addView(layout1);
+                row1.addView(layout2);
+                row1.addView(layout3);
 
-                                   Title           ---------
-                                   Description     |       |
-                                                   |       |
-                                                   ---------
+                rowTop.setLayoutParams(tableParamsTopNews);
+                topText.setTextSize(17);
+                topText.setTextColor(mActivity.getResources().getColor(R.color.news_text_color));
+                topText.setTypeface(null, Typeface.BOLD);
 
-                                   Title           ---------
-                                   Description     |       |
-                                                   |       |
-                                                   --------
+                layout1.setOrientation(LinearLayout.VERTICAL);
+                layout2.setOrientation(LinearLayout.VERTICAL);
+                layout3.setOrientation(LinearLayout.VERTICAL);
 
+                // adds each of the 3 cards
+                mItemViews = new ItemViews[] {createItemViews(layout1, 0, type),
+                        createItemViews(layout2, 1, type), createItemViews(layout3, 2, type)};
 
-                                   Title           ---------
-                                   Description     |       |
-                                                   |       |
-                                                   --------
+                mLinearLayout.setBackground(makeRound(CARD_LAYOUT, R.color.card_background, 30));
+                break;
+            case CardType.PUBLISHER_GROUP: // THREE_ROWS_HEADLINES:
+                mLinearLayout.setOrientation(LinearLayout.VERTICAL);
+                tableLayoutTopNews.setLayoutParams(
+                        new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
+                                LinearLayout.LayoutParams.MATCH_PARENT));
+                tableParamsTopNews.setMargins(30, 40, 30, 40);
+                linearLayoutParams.height = RecyclerView.LayoutParams.WRAP_CONTENT;
+                linearLayoutParams.setMargins(
+                        mHorizontalMargin, 0, mHorizontalMargin, 5 * MARGIN_VERTICAL);
+                mLinearLayout.setLayoutParams(linearLayoutParams);
+
+                mLinearLayout.addView(tableLayoutTopNews);
+                tableLayoutTopNews.addView(rowTop);
+                rowTop.addView(topText);
+
+                tableLayoutTopNews.addView(row1);
+                tableLayoutTopNews.addView(row2);
+                tableLayoutTopNews.addView(row3);
+                rowTop.setPadding(0, 0, 30, 0);
+
+                rowTop.setLayoutParams(tableParamsTopNews);
+
+                topText.setTextSize(20);
+                topText.setTextColor(mActivity.getResources().getColor(R.color.news_text_color));
+                topText.setTypeface(null, Typeface.BOLD);
+
+                row2.setPadding(5, 5, 5, 5);
+                row3.setPadding(5, 5, 5, 5);
+                mItemViews = new ItemViews[] {createItemViews(row1, 0, type),
+                        createItemViews(row2, 1, type), createItemViews(row3, 2, type)};
+
+                mLinearLayout.setPadding(30, 10, 40, 10);
+                mLinearLayout.setBackground(makeRound(CARD_LAYOUT, R.color.card_background, 30));
+                break;
+            case CardType.CATEGORY_GROUP: // TOP_NEWS:
+                /*3 rows
 
+                               TOP NEWS
 
-                                    */
+                               Title           ---------
+                               Description     |       |
+                                               |       |
+                                               ---------
 
-                    mLinearLayout.setOrientation(LinearLayout.VERTICAL);
-                    linearLayoutParams.height = RecyclerView.LayoutParams.WRAP_CONTENT;
+                               Title           ---------
+                               Description     |       |
+                                               |       |
+                                               --------
 
-                    linearLayoutParams.setMargins(
-                            mHorizontalMargin, 0, mHorizontalMargin, 5 * MARGIN_VERTICAL);
-                    int height = mActivity.getResources().getDisplayMetrics().heightPixels;
-                    mLinearLayout.setLayoutParams(linearLayoutParams);
 
-                    mLinearLayout.addView(tableLayoutTopNews);
-                    tableLayoutTopNews.addView(rowTop);
-                    rowTop.addView(topText);
+                               Title           ---------
+                               Description     |       |
+                                               |       |
+                                               --------
 
-                    tableLayoutTopNews.addView(row1);
-                    tableLayoutTopNews.addView(row2);
-                    tableLayoutTopNews.addView(row3);
 
-                    mLinearLayout.setPadding(30, 30, 30, 10);
-                    tableParamsTopNews.setMargins(30, 2 * MARGIN_VERTICAL, 30, 4 * MARGIN_VERTICAL);
-                    tableParamsTopNews.weight = 3;
-                    rowTop.setLayoutParams(tableParamsTopNews);
+                                */
 
-                    setTextFromFeed(topText, CATEGORY, 0);
-                    topText.setTextSize(26);
-                    topText.setTextColor(
-                            mActivity.getResources().getColor(R.color.news_text_color));
-                    topText.setTypeface(null, Typeface.BOLD);
+                mLinearLayout.setOrientation(LinearLayout.VERTICAL);
+                linearLayoutParams.height = RecyclerView.LayoutParams.WRAP_CONTENT;
 
-                    rowTableParams.bottomMargin = 2 * MARGIN_VERTICAL;
-                    row1.setLayoutParams(rowTableParams);
-                    row2.setLayoutParams(rowTableParams);
-                    rowTableParams.bottomMargin = 4 * MARGIN_VERTICAL;
-                    row3.setLayoutParams(rowTableParams);
+                linearLayoutParams.setMargins(
+                        mHorizontalMargin, 0, mHorizontalMargin, 5 * MARGIN_VERTICAL);
+                mLinearLayout.setLayoutParams(linearLayoutParams);
 
-                    addElementsToSingleLayout(row1, 0, type);
-                    addElementsToSingleLayout(row2, 1, type);
-                    addElementsToSingleLayout(row3, 2, type);
-                    mLinearLayout.setBackground(
-                            makeRound(CARD_LAYOUT, R.color.card_background, 30));
-                    break;
-                case CardType.HEADLINE_PAIRED: // HEADLINEPAIR:
-                    /*headlinepair
-
-                                 Image      Image
-                               ---------    ---------
-                               |       |    |       |
-                               |       |    |       |
-                               ---------    ---------
-                                 Title        Title
-                              Description    Description
-
-                            */
-                    mLinearLayout.setOrientation(LinearLayout.HORIZONTAL);
-                    mLinearLayout.setBackgroundColor(Color.TRANSPARENT);
-                    linearLayoutParams.height = RecyclerView.LayoutParams.WRAP_CONTENT;
-                    linearLayoutParams.setMargins(
-                            mHorizontalMargin, 0, mHorizontalMargin, 5 * MARGIN_VERTICAL);
-                    mLinearLayout.setLayoutParams(linearLayoutParams);
-
-                    LinearLayout.LayoutParams cellParams =
-                            new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
-                                    LinearLayout.LayoutParams.WRAP_CONTENT, 1f);
-                    cellParams.setMargins(0, 0, 20, 0);
-
-                    cellParams.height = LinearLayout.LayoutParams.MATCH_PARENT;
-                    LinearLayout layoutLeft = new LinearLayout(mActivity);
-                    LinearLayout layoutRight = new LinearLayout(mActivity);
-                    mLinearLayout.addView(layoutLeft);
-                    layoutLeft.setLayoutParams(cellParams);
-                    layoutLeft.setOrientation(LinearLayout.VERTICAL);
-
-                    addElementsToSingleLayout(layoutLeft, 0, type);
-
-                    mLinearLayout.addView(layoutRight);
-
-                    cellParams =
-                            new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
-                                    LinearLayout.LayoutParams.WRAP_CONTENT, 1f);
-                    cellParams.setMargins(20, 0, 0, 0);
-
-                    cellParams.height = LinearLayout.LayoutParams.MATCH_PARENT;
-                    layoutRight.setLayoutParams(cellParams);
-                    layoutRight.setOrientation(LinearLayout.VERTICAL);
-
-                    addElementsToSingleLayout(layoutRight, 1, type);
-
-                    layoutLeft.measure(View.MeasureSpec.UNSPECIFIED, View.MeasureSpec.UNSPECIFIED);
-                    layoutRight.measure(View.MeasureSpec.UNSPECIFIED, View.MeasureSpec.UNSPECIFIED);
-
-                    int maxHeight = Math.max(
-                            layoutLeft.getMeasuredHeight(), layoutRight.getMeasuredHeight());
-
-                    if (maxHeight > layoutLeft.getMeasuredHeight()) {
-                        cellParams.height = maxHeight;
-                        layoutLeft.setLayoutParams(cellParams);
-                    } else if (maxHeight > layoutRight.getMeasuredHeight()) {
-                        cellParams.height = maxHeight;
-                        layoutRight.setLayoutParams(cellParams);
-                    }
-                    break;
-            }
-        } catch (Exception e) {
-            Log.e(TAG, "cardfeedbuilder crashinvestigation exception:" + e.getMessage());
+                mLinearLayout.addView(tableLayoutTopNews);
+                tableLayoutTopNews.addView(rowTop);
+                rowTop.addView(topText);
+
+                tableLayoutTopNews.addView(row1);
+                tableLayoutTopNews.addView(row2);
+                tableLayoutTopNews.addView(row3);
+
+                mLinearLayout.setPadding(30, 30, 30, 10);
+                tableParamsTopNews.setMargins(30, 2 * MARGIN_VERTICAL, 30, 4 * MARGIN_VERTICAL);
+                tableParamsTopNews.weight = 3;
+                rowTop.setLayoutParams(tableParamsTopNews);
+
+                topText.setTextSize(26);
+                topText.setTextColor(mActivity.getResources().getColor(R.color.news_text_color));
+                topText.setTypeface(null, Typeface.BOLD);
+
+                rowTableParams.bottomMargin = 2 * MARGIN_VERTICAL;
+                row1.setLayoutParams(rowTableParams);
+                row2.setLayoutParams(rowTableParams);
+                rowTableParams.bottomMargin = 4 * MARGIN_VERTICAL;
+                row3.setLayoutParams(rowTableParams);
+
+                mItemViews = new ItemViews[] {createItemViews(row1, 0, type),
+                        createItemViews(row2, 1, type), createItemViews(row3, 2, type)};
+                mLinearLayout.setBackground(makeRound(CARD_LAYOUT, R.color.card_background, 30));
+                break;
+            case CardType.HEADLINE_PAIRED: // HEADLINEPAIR:
+                /*headlinepair
+
+                             Image      Image
+                           ---------    ---------
+                           |       |    |       |
+                           |       |    |       |
+                           ---------    ---------
+                             Title        Title
+                          Description    Description
+
+                        */
+                mLinearLayout.setOrientation(LinearLayout.HORIZONTAL);
+                mLinearLayout.setBackgroundColor(Color.TRANSPARENT);
+                linearLayoutParams.height = RecyclerView.LayoutParams.WRAP_CONTENT;
+                linearLayoutParams.setMargins(
+                        mHorizontalMargin, 0, mHorizontalMargin, 5 * MARGIN_VERTICAL);
+                mLinearLayout.setLayoutParams(linearLayoutParams);
+
+                LinearLayout.LayoutParams cellParams =
+                        new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
+                                LinearLayout.LayoutParams.WRAP_CONTENT, 1f);
+                cellParams.setMargins(0, 0, 20, 0);
+
+                cellParams.height = LinearLayout.LayoutParams.MATCH_PARENT;
+                mLayoutLeft = new LinearLayout(mActivity);
+                mLayoutRight = new LinearLayout(mActivity);
+                mLinearLayout.addView(mLayoutLeft);
+                mLayoutLeft.setLayoutParams(cellParams);
+                mLayoutLeft.setOrientation(LinearLayout.VERTICAL);
+
+                mLinearLayout.addView(mLayoutRight);
+
+                cellParams = new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
+                        LinearLayout.LayoutParams.WRAP_CONTENT, 1f);
+                cellParams.setMargins(20, 0, 0, 0);
+
+                cellParams.height = LinearLayout.LayoutParams.MATCH_PARENT;
+                mLayoutRight.setLayoutParams(cellParams);
+                mLayoutRight.setOrientation(LinearLayout.VERTICAL);
+
+                mItemViews = new ItemViews[] {createItemViews(mLayoutLeft, 0, type),
+                        createItemViews(mLayoutRight, 1, type)};
+                break;
         }
+    }
 
-        return mLinearLayout;
+    // Gives both cells of a paired headline the height of the taller one
+    private void equalizePairedHeights() {
+        LinearLayout.LayoutParams leftParams =
+                (LinearLayout.LayoutParams) mLayoutLeft.getLayoutParams();
+        LinearLayout.LayoutParams rightParams =
+                (LinearLayout.LayoutParams) mLayoutRight.getLayoutParams();
+        leftParams.height = LinearLayout.LayoutParams.MATCH_PARENT;
+        rightParams.height = LinearLayout.LayoutParams.MATCH_PARENT;
+
+        mLayoutLeft.measure(View.MeasureSpec.UNSPECIFIED, View.MeasureSpec.UNSPECIFIED);
+        mLayoutRight.measure(View.MeasureSpec.UNSPECIFIED, View.MeasureSpec.UNSPECIFIED);
+
+        int maxHeight =
+                Math.max(mLayoutLeft.getMeasuredHeight(), mLayoutRight.getMeasuredHeight());
+
+        if (maxHeight > mLayoutLeft.getMeasuredHeight()) {
+            leftParams.height = maxHeight;
+        } else if (maxHeight > mLayoutRight.getMeasuredHeight()) {
+            rightParams.height = maxHeight;
+        }
+        mLayoutLeft.setLayoutParams(leftParams);
+        mLayoutRight.setLayoutParams(rightParams);
     }
 
     private void openUrlInSameTabAndSavePosition(String myUrl) {
-        SharedPreferencesManager.getInstance().writeInt(
-                Integer.toString(BraveActivity.getBraveActivity().getActivityTab().getId()),
-                mPosition);
+        // Shows the opened card at the top when the user comes back to the new tab page
+        int position = getPosition();
+        if (position != RecyclerView.NO_POSITION) {
+            int tabId = BraveActivity.getBraveActivity().getActivityTab().getId();
+            NTPScrollStateStore scrollStateStore = NTPScrollStateStore.getInstance();
+            scrollStateStore.setRecyclerViewItemPosition(tabId, position);
+            scrollStateStore.setRecyclerViewOffset(tabId, 0);
+        }
         TabUtils.openUrlInSameTab(myUrl);
     }
 
@@ -706,29 +830,22 @@ public class CardBuilderFeedCard {
         openUrlInSameTabAndSavePosition(adData.targetUrl.url);
     }
 
-    private void addElementsToSingleLayout(ViewGroup view, int index, int itemType) {
+    private ItemViews createItemViews(ViewGroup view, int index, int itemType) {
+        ItemViews itemViews = new ItemViews();
         ImageView image = new ImageView(mActivity);
-        ImageView logo = new ImageView(mActivity);
         TextView title = new TextView(mActivity);
         TextView publisher = new TextView(mActivity);
         TextView source = new TextView(mActivity);
         TextView desc = new TextView(mActivity);
 
-        LinearLayout.LayoutParams linearLayoutParams = new LinearLayout.LayoutParams(
-                LinearLayout.LayoutParams.MATCH_PARENT, LinearLayout.LayoutParams.MATCH_PARENT);
-
         LinearLayout.LayoutParams publisherParams = new LinearLayout.LayoutParams(
                 LinearLayout.LayoutParams.MATCH_PARENT, LinearLayout.LayoutParams.WRAP_CONTENT, 1f);
         LinearLayout.LayoutParams imageParams = new LinearLayout.LayoutParams(
                 LinearLayout.LayoutParams.MATCH_PARENT, LinearLayout.LayoutParams.MATCH_PARENT, 1f);
         LinearLayout.LayoutParams titleParams = new LinearLayout.LayoutParams(
                 LinearLayout.LayoutParams.MATCH_PARENT, LinearLayout.LayoutParams.MATCH_PARENT, 1f);
-        LinearLayout.LayoutParams sourceParams = new LinearLayout.LayoutParams(
-                LinearLayout.LayoutParams.MATCH_PARENT, LinearLayout.LayoutParams.MATCH_PARENT, 1f);
         LinearLayout.LayoutParams descParams = new LinearLayout.LayoutParams(
                 LinearLayout.LayoutParams.MATCH_PARENT, LinearLayout.LayoutParams.MATCH_PARENT, 1f);
-        LinearLayout.LayoutParams logoParams = new LinearLayout.LayoutParams(
-                LinearLayout.LayoutParams.MATCH_PARENT, LinearLayout.LayoutParams.MATCH_PARENT, 1f);
 
         TableLayout.LayoutParams tableParamsTopNews = new TableLayout.LayoutParams(
                 TableLayout.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT);
@@ -750,455 +867,466 @@ public class CardBuilderFeedCard {
         publisher.setLetterSpacing(0.03f);
         title.setLetterSpacing(0.02f);
 
-        try {
-            LinearLayout layout = (LinearLayout) view;
-            switch (itemType) {
-                case CardType.DEALS:
-                    LinearLayout layoutDeals = (LinearLayout) view;
-                    layoutDeals.setOrientation(LinearLayout.VERTICAL);
-                    linearLayoutRowParams1.width = 0;
-                    linearLayoutRowParams1.weight = 1;
-
-                    linearLayoutRowParams1.setMargins(0, 0, 30, 0);
-                    layoutDeals.setLayoutParams(linearLayoutRowParams1);
+        itemViews.container = view;
+        itemViews.title = title;
+        itemViews.desc = desc;
+        itemViews.descType = TIME;
+        LinearLayout layout = (LinearLayout) view;
+        switch (itemType) {
+            case CardType.DEALS:
+                LinearLayout layoutDeals = (LinearLayout) view;
+                layoutDeals.setOrientation(LinearLayout.VERTICAL);
+                linearLayoutRowParams1.width = 0;
+                linearLayoutRowParams1.weight = 1;
 
-                    setImage(image, "paired", index);
-                    imageParams.height = ConfigurationUtils.isTablet(mActivity)
-                            ? (int) (mDeviceWidth * 0.20)
-                            : 230;
+                linearLayoutRowParams1.setMargins(0, 0, 30, 0);
+                layoutDeals.setLayoutParams(linearLayoutRowParams1);
 
-                    image.setScaleType(ImageView.ScaleType.CENTER_CROP);
-                    image.setLayoutParams(imageParams);
-                    layoutDeals.addView(image);
+                itemViews.image = image;
+                itemViews.imageType = "paired";
+                imageParams.height = mIsTablet ? (int) (mDeviceWidth * 0.20) : 230;
 
-                    titleParams.height = LinearLayout.LayoutParams.WRAP_CONTENT;
+                image.setScaleType(ImageView.ScaleType.CENTER_CROP);
+                image.setLayoutParams(imageParams);
+                layoutDeals.addView(image);
 
-                    title.setTextSize(ConfigurationUtils.isTablet(mActivity) ? 18 : 14);
-                    title.setTypeface(null, Typeface.BOLD);
-                    title.setPadding(0, 10, 0, 0);
-                    title.setLayoutParams(titleParams);
-                    title.setMaxLines(2);
-                    title.setEllipsize(TextUtils.TruncateAt.END);
-                    layoutDeals.addView(title);
+                titleParams.height = LinearLayout.LayoutParams.WRAP_CONTENT;
 
-                    descParams.height = LinearLayout.LayoutParams.WRAP_CONTENT;
+                title.setTextSize(mIsTablet ? 18 : 14);
+                title.setTypeface(null, Typeface.BOLD);
+                title.setPadding(0, 10, 0, 0);
+                title.setLayoutParams(titleParams);
+                title.setMaxLines(2);
+                title.setEllipsize(TextUtils.TruncateAt.END);
+                layoutDeals.addView(title);
 
-                    setTextFromFeed(desc, DESC, index);
-                    desc.setTextSize(ConfigurationUtils.isTablet(mActivity) ? 16 : 12);
-                    desc.setMaxLines(3);
-                    desc.setEllipsize(TextUtils.TruncateAt.END);
+                descParams.height = LinearLayout.LayoutParams.WRAP_CONTENT;
 
-                    desc.setLayoutParams(descParams);
+                itemViews.descType = DESC;
+                desc.setTextSize(mIsTablet ? 16 : 12);
+                desc.setMaxLines(3);
+                desc.setEllipsize(TextUtils.TruncateAt.END);
 
-                    descParams.bottomMargin = MARGIN_VERTICAL;
-                    desc.setPadding(0, 0, 30, 30);
-                    layoutDeals.addView(desc);
+                desc.setLayoutParams(descParams);
 
-                    break;
-                case CardType.HEADLINE:
-                    layout.setOrientation(LinearLayout.VERTICAL);
-
-                    RecyclerView.LayoutParams marginLayoutParams =
-                            (RecyclerView.LayoutParams) layout.getLayoutParams();
-                    marginLayoutParams.setMargins(
-                            mHorizontalMargin, 0, mHorizontalMargin, 5 * MARGIN_VERTICAL);
-                    layout.setPadding(0, 0, 0, 0);
-                    marginLayoutParams.height = RecyclerView.LayoutParams.WRAP_CONTENT;
-                    titleParams =
-                            new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
-                                    LinearLayout.LayoutParams.WRAP_CONTENT);
-                    layout.setBackground(makeRound(CARD_LAYOUT, R.color.card_background, 30));
-                    layout.setLayoutParams(marginLayoutParams);
-
-                    layout.addView(image);
-                    layout.addView(title);
-                    layout.addView(desc);
-                    layout.addView(publisher);
-
-                    imageParams.bottomMargin = 2 * MARGIN_VERTICAL;
-                    imageParams.width = LinearLayout.LayoutParams.MATCH_PARENT;
-                    imageParams.height = ConfigurationUtils.isTablet(mActivity)
-                            ? (int) (mDeviceWidth * 0.45)
-                            : (int) (mDeviceWidth * 0.6);
-                    image.setScaleType(ImageView.ScaleType.CENTER_CROP);
-                    setImage(image, "image", index);
-                    image.setLayoutParams(imageParams);
-
-                    titleParams.height = LinearLayout.LayoutParams.WRAP_CONTENT;
-                    title.setTextSize(ConfigurationUtils.isTablet(mActivity) ? 21 : 17);
-                    title.setTypeface(null, Typeface.BOLD);
-                    title.setMaxLines(5);
-                    title.setEllipsize(TextUtils.TruncateAt.END);
-                    title.setPadding(50, 0, 50, 0);
-                    titleParams.topMargin = 2 * MARGIN_VERTICAL;
-                    titleParams.bottomMargin = 1 * MARGIN_VERTICAL;
-                    title.setLayoutParams(titleParams);
-
-                    descParams.height = LinearLayout.LayoutParams.WRAP_CONTENT;
-
-                    setTextFromFeed(desc, TIME, index);
-                    desc.setTextSize(ConfigurationUtils.isTablet(mActivity) ? 15 : 11);
-                    desc.setLayoutParams(descParams);
-                    desc.setPadding(50, 0, 50, 30);
-
-                    setTextFromFeed(publisher, PUBLISHER, 0);
-
-                    publisher.setTextColor(
-                            mActivity.getResources().getColor(R.color.news_text_color));
-                    publisher.setTextSize(ConfigurationUtils.isTablet(mActivity) ? 16 : 12);
-                    publisherParams.height = LinearLayout.LayoutParams.WRAP_CONTENT;
-
-                    publisherParams.bottomMargin = 10;
-                    publisher.setPadding(50, 0, 50, 0);
-
-                    publisherParams.bottomMargin = 4 * MARGIN_VERTICAL;
-                    ;
-                    publisher.setLayoutParams(publisherParams);
+                descParams.bottomMargin = MARGIN_VERTICAL;
+                desc.setPadding(0, 0, 30, 30);
+                layoutDeals.addView(desc);
 
-                    break;
-                case CardType.PROMOTED_ARTICLE:
-                    layout.setOrientation(LinearLayout.VERTICAL);
-                    RecyclerView.LayoutParams recylcePromotedLayoutParams =
-                            (RecyclerView.LayoutParams) layout.getLayoutParams();
-
-                    recylcePromotedLayoutParams.setMargins(
-                            mHorizontalMargin, 0, mHorizontalMargin, 5 * MARGIN_VERTICAL);
-                    layout.setLayoutParams(recylcePromotedLayoutParams);
-
-                    TextView promoted = new TextView(mActivity);
-                    LinearLayout promotedLogoLayout = new LinearLayout(mActivity);
-
-                    imageParams =
-                            new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
-                                    LinearLayout.LayoutParams.WRAP_CONTENT);
-                    titleParams =
-                            new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
-                                    LinearLayout.LayoutParams.WRAP_CONTENT);
-                    descParams =
-                            new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
-                                    LinearLayout.LayoutParams.WRAP_CONTENT);
-                    publisherParams =
-                            new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
-                                    LinearLayout.LayoutParams.WRAP_CONTENT);
-
-                    layout.addView(image);
-                    layout.addView(title);
-                    layout.addView(desc);
-                    layout.addView(promotedLogoLayout);
-
-                    imageParams.height = (int) (mDeviceWidth * 0.6);
-
-                    imageParams.bottomMargin = 2 * MARGIN_VERTICAL;
-                    image.setLayoutParams(imageParams);
-
-                    setImage(image, "image", index);
-                    image.setScaleType(ImageView.ScaleType.CENTER_CROP);
-
-                    titleParams.height = LinearLayout.LayoutParams.WRAP_CONTENT;
-
-                    titleParams.rightMargin = 20;
-                    titleParams.bottomMargin = 2 * MARGIN_VERTICAL;
-                    title.setTextSize(17);
-                    title.setTypeface(null, Typeface.BOLD);
-                    title.setMaxLines(5);
-                    titleParams.bottomMargin = MARGIN_VERTICAL;
-                    title.setEllipsize(TextUtils.TruncateAt.END);
-                    title.setPadding(50, 30, 50, 0);
-                    title.setLayoutParams(titleParams);
-
-                    descParams.weight = LinearLayout.LayoutParams.WRAP_CONTENT;
-
-                    setTextFromFeed(desc, TIME, index);
-                    desc.setTextSize(11);
-                    desc.setLayoutParams(descParams);
-                    desc.setPadding(50, 0, 50, 30);
-
-                    LinearLayout.LayoutParams promotedParams =
-                            new LinearLayout.LayoutParams(LinearLayout.LayoutParams.WRAP_CONTENT,
-                                    LinearLayout.LayoutParams.MATCH_PARENT);
-                    publisherParams = new LinearLayout.LayoutParams(
-                            0, LinearLayout.LayoutParams.MATCH_PARENT, 1f);
-                    LinearLayout.LayoutParams promotedLayoutParams =
-                            new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
-                                    LinearLayout.LayoutParams.WRAP_CONTENT);
-                    promotedLayoutParams.height = LinearLayout.LayoutParams.WRAP_CONTENT;
-                    promotedLogoLayout.setPadding(50, 0, 50, 0);
-
-                    promotedParams.width = 0;
-                    promotedParams.weight = 1;
-
-                    promotedLogoLayout.setOrientation(LinearLayout.HORIZONTAL);
-                    promoted.setPadding(20, 0, 0, 0);
-                    promoted.setGravity(Gravity.CENTER);
-                    promotedParams.gravity = Gravity.CENTER_VERTICAL | Gravity.END;
-                    promotedLayoutParams.gravity = Gravity.CENTER;
-                    publisher.setGravity(Gravity.CENTER_VERTICAL);
-                    publisherParams.gravity = Gravity.CENTER_VERTICAL;
-
-                    promoted.setCompoundDrawablesWithIntrinsicBounds(
-                            R.drawable.ic_promoted, 0, 0, 0);
-                    StringBuilder promotedTitle = new StringBuilder(" "
-                            + mActivity.getResources().getString(
-                                    R.string.brave_news_promoted_title));
-                    promoted.setText(
-                            mActivity.getResources().getString(R.string.brave_news_promoted_title));
-
-                    promoted.setTextColor(
-                            mActivity.getResources().getColor(R.color.news_text_color));
-                    promoted.setTextSize(12);
-                    promoted.setLayoutParams(promotedParams);
-                    promotedLayoutParams.bottomMargin = 4 * MARGIN_VERTICAL;
-
-                    promoted.setBackground(
-                            makeRound(BUTTON_LAYOUT, R.color.news_promoted_background_color, 15));
-                    promotedLogoLayout.setLayoutParams(promotedLayoutParams);
-
-                    setTextFromFeed(publisher, PUBLISHER, 0);
-                    publisher.setTextColor(
-                            mActivity.getResources().getColor(R.color.news_text_color));
-                    publisher.setTextSize(12);
-                    publisherParams.width = 0;
-                    publisherParams.weight = 2;
-
-                    publisher.setLayoutParams(publisherParams);
-                    promotedLogoLayout.addView(publisher);
-                    promotedLogoLayout.addView(promoted);
+                break;
+            case CardType.HEADLINE:
+                layout.setOrientation(LinearLayout.VERTICAL);
+
+                RecyclerView.LayoutParams marginLayoutParams =
+                        (RecyclerView.LayoutParams) layout.getLayoutParams();
+                marginLayoutParams.setMargins(
+                        mHorizontalMargin, 0, mHorizontalMargin, 5 * MARGIN_VERTICAL);
+                layout.setPadding(0, 0, 0, 0);
+                marginLayoutParams.height = RecyclerView.LayoutParams.WRAP_CONTENT;
+                titleParams = new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
+                        LinearLayout.LayoutParams.WRAP_CONTENT);
+                layout.setBackground(makeRound(CARD_LAYOUT, R.color.card_background, 30));
+                layout.setLayoutParams(marginLayoutParams);
+
+                layout.addView(image);
+                layout.addView(title);
+                layout.addView(desc);
+                layout.addView(publisher);
+
+                imageParams.bottomMargin = 2 * MARGIN_VERTICAL;
+                imageParams.width = LinearLayout.LayoutParams.MATCH_PARENT;
+                imageParams.height =
+                        mIsTablet ? (int) (mDeviceWidth * 0.45) : (int) (mDeviceWidth * 0.6);
+                image.setScaleType(ImageView.ScaleType.CENTER_CROP);
+                itemViews.image = image;
+                itemViews.imageType = "image";
+                image.setLayoutParams(imageParams);
+
+                titleParams.height = LinearLayout.LayoutParams.WRAP_CONTENT;
+                title.setTextSize(mIsTablet ? 21 : 17);
+                title.setTypeface(null, Typeface.BOLD);
+                title.setMaxLines(5);
+                title.setEllipsize(TextUtils.TruncateAt.END);
+                title.setPadding(50, 0, 50, 0);
+                titleParams.topMargin = 2 * MARGIN_VERTICAL;
+                titleParams.bottomMargin = 1 * MARGIN_VERTICAL;
+                title.setLayoutParams(titleParams);
+
+                descParams.height = LinearLayout.LayoutParams.WRAP_CONTENT;
+
+                desc.setTextSize(mIsTablet ? 15 : 11);
+                desc.setLayoutParams(descParams);
+                desc.setPadding(50, 0, 50, 30);
+
+                itemViews.publisher = publisher;
+                itemViews.publisherIndex = 0;
+
+                publisher.setTextColor(mActivity.getResources().getColor(R.color.news_text_color));
+                publisher.setTextSize(mIsTablet ? 16 : 12);
+                publisherParams.height = LinearLayout.LayoutParams.WRAP_CONTENT;
+
+                publisher.setPadding(50, 0, 50, 0);
+
+                publisherParams.bottomMargin = 4 * MARGIN_VERTICAL;
+                publisher.setLayoutParams(publisherParams);
 
-                    break;
-                case CardType.HEADLINE_PAIRED:
-
-                    layout.setOrientation(LinearLayout.VERTICAL);
-
-                    imageParams =
-                            new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
-                                    LinearLayout.LayoutParams.WRAP_CONTENT);
-                    titleParams =
-                            new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
-                                    LinearLayout.LayoutParams.WRAP_CONTENT);
-                    descParams =
-                            new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
-                                    LinearLayout.LayoutParams.WRAP_CONTENT);
-                    publisherParams =
-                            new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
-                                    LinearLayout.LayoutParams.WRAP_CONTENT);
-
-                    int height = ConfigurationUtils.isTablet(mActivity)
-                            ? (int) (mDeviceWidth * 0.25)
-                            : (int) (mDeviceWidth * 0.3);
-
-                    imageParams.height = height;
-                    image.setLayoutParams(imageParams);
-                    setImage(image, "image", index);
-
-                    image.setScaleType(ImageView.ScaleType.CENTER_CROP);
-                    imageParams.bottomMargin = 2 * MARGIN_VERTICAL;
-                    layout.addView(image);
-
-                    title.setLayoutParams(titleParams);
-                    title.setTextSize(ConfigurationUtils.isTablet(mActivity) ? 17 : 13);
-                    title.setTypeface(null, Typeface.BOLD);
-                    title.setMaxLines(5);
-                    titleParams.bottomMargin = MARGIN_VERTICAL;
-                    title.setEllipsize(TextUtils.TruncateAt.END);
-                    title.setPadding(50, 0, 50, 0);
-                    layout.addView(title);
-
-                    descParams.weight = 1;
-                    descParams.height = 0;
-                    desc.setTextSize(ConfigurationUtils.isTablet(mActivity) ? 15 : 11);
-                    setTextFromFeed(desc, TIME, index);
-                    desc.setLayoutParams(descParams);
-                    desc.setPadding(50, 0, 50, 0);
-                    descParams.bottomMargin = MARGIN_VERTICAL;
-                    layout.addView(desc);
-
-                    setTextFromFeed(publisher, PUBLISHER, index);
-                    publisher.setTextColor(
-                            mActivity.getResources().getColor(R.color.news_text_color));
-                    publisher.setTextSize(ConfigurationUtils.isTablet(mActivity) ? 16 : 12);
-
-                    publisherParams.gravity = Gravity.BOTTOM;
-                    publisher.setGravity(Gravity.BOTTOM);
-                    publisherParams.setMargins(0, 0, 0, 4 * MARGIN_VERTICAL);
-                    publisher.setPadding(50, 0, 50, 0);
-                    publisher.setLayoutParams(publisherParams);
-                    layout.addView(publisher);
-
-                    layout.setBackground(makeRound(CARD_LAYOUT, R.color.card_background, 30));
+                break;
+            case CardType.PROMOTED_ARTICLE:
+                layout.setOrientation(LinearLayout.VERTICAL);
+                RecyclerView.LayoutParams recylcePromotedLayoutParams =
+                        (RecyclerView.LayoutParams) layout.getLayoutParams();
+
+                recylcePromotedLayoutParams.setMargins(
+                        mHorizontalMargin, 0, mHorizontalMargin, 5 * MARGIN_VERTICAL);
+                layout.setLayoutParams(recylcePromotedLayoutParams);
+
+                TextView promoted = new TextView(mActivity);
+                LinearLayout promotedLogoLayout = new LinearLayout(mActivity);
+
+                imageParams = new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
+                        LinearLayout.LayoutParams.WRAP_CONTENT);
+                titleParams = new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
+                        LinearLayout.LayoutParams.WRAP_CONTENT);
+                descParams = new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
+                        LinearLayout.LayoutParams.WRAP_CONTENT);
+
+                layout.addView(image);
+                layout.addView(title);
+                layout.addView(desc);
+                layout.addView(promotedLogoLayout);
+
+                imageParams.height = (int) (mDeviceWidth * 0.6);
+
+                imageParams.bottomMargin = 2 * MARGIN_VERTICAL;
+                image.setLayoutParams(imageParams);
+
+                itemViews.image = image;
+                itemViews.imageType = "image";
+                image.setScaleType(ImageView.ScaleType.CENTER_CROP);
+
+                titleParams.height = LinearLayout.LayoutParams.WRAP_CONTENT;
+
+                titleParams.rightMargin = 20;
+                title.setTextSize(17);
+                title.setTypeface(null, Typeface.BOLD);
+                title.setMaxLines(5);
+                titleParams.bottomMargin = MARGIN_VERTICAL;
+                title.setEllipsize(TextUtils.TruncateAt.END);
+                title.setPadding(50, 30, 50, 0);
+                title.setLayoutParams(titleParams);
+
+                descParams.weight = LinearLayout.LayoutParams.WRAP_CONTENT;
+
+                desc.setTextSize(11);
+                desc.setLayoutParams(descParams);
+                desc.setPadding(50, 0, 50, 30);
+
+                LinearLayout.LayoutParams promotedParams =
+                        new LinearLayout.LayoutParams(LinearLayout.LayoutParams.WRAP_CONTENT,
+                                LinearLayout.LayoutParams.MATCH_PARENT);
+                publisherParams = new LinearLayout.LayoutParams(
+                        0, LinearLayout.LayoutParams.MATCH_PARENT, 1f);
+                LinearLayout.LayoutParams promotedLayoutParams =
+                        new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
+                                LinearLayout.LayoutParams.WRAP_CONTENT);
+                promotedLayoutParams.height = LinearLayout.LayoutParams.WRAP_CONTENT;
+                promotedLogoLayout.setPadding(50, 0, 50, 0);
+
+                promotedParams.width = 0;
+                promotedParams.weight = 1;
+
+                promotedLogoLayout.setOrientation(LinearLayout.HORIZONTAL);
+                promoted.setPadding(20, 0, 0, 0);
+                promoted.setGravity(Gravity.CENTER);
+                promotedParams.gravity = Gravity.CENTER_VERTICAL | Gravity.END;
+                promotedLayoutParams.gravity = Gravity.CENTER;
+                publisher.setGravity(Gravity.CENTER_VERTICAL);
+                publisherParams.gravity = Gravity.CENTER_VERTICAL;
+
+                promoted.setCompoundDrawablesWithIntrinsicBounds(R.drawable.ic_promoted, 0, 0, 0);
+                promoted.setText(
+                        mActivity.getResources().getString(R.string.brave_news_promoted_title));
+
+                promoted.setTextColor(mActivity.getResources().getColor(R.color.news_text_color));
+                promoted.setTextSize(12);
+                promoted.setLayoutParams(promotedParams);
+                promotedLayoutParams.bottomMargin = 4 * MARGIN_VERTICAL;
+
+                promoted.setBackground(
+                        makeRound(BUTTON_LAYOUT, R.color.news_promoted_background_color, 15));
+                promotedLogoLayout.setLayoutParams(promotedLayoutParams);
+
+                itemViews.publisher = publisher;
+                itemViews.publisherIndex = 0;
+                publisher.setTextColor(mActivity.getResources().getColor(R.color.news_text_color));
+                publisher.setTextSize(12);
+                publisherParams.width = 0;
+                publisherParams.weight = 2;
+
+                publisher.setLayoutParams(publisherParams);
+                promotedLogoLayout.addView(publisher);
+                promotedLogoLayout.addView(promoted);
 
-                    break;
+                break;
+            case CardType.HEADLINE_PAIRED:
+
+                layout.setOrientation(LinearLayout.VERTICAL);
+
+                imageParams = new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
+                        LinearLayout.LayoutParams.WRAP_CONTENT);
+                titleParams = new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
+                        LinearLayout.LayoutParams.WRAP_CONTENT);
+                descParams = new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
+                        LinearLayout.LayoutParams.WRAP_CONTENT);
+                publisherParams =
+                        new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
+                                LinearLayout.LayoutParams.WRAP_CONTENT);
+
+                int height = mIsTablet ? (int) (mDeviceWidth * 0.25) : (int) (mDeviceWidth * 0.3);
+
+                imageParams.height = height;
+                image.setLayoutParams(imageParams);
+                itemViews.image = image;
+                itemViews.imageType = "image";
+
+                image.setScaleType(ImageView.ScaleType.CENTER_CROP);
+                imageParams.bottomMargin = 2 * MARGIN_VERTICAL;
+                layout.addView(image);
+
+                title.setLayoutParams(titleParams);
+                title.setTextSize(mIsTablet ? 17 : 13);
+                title.setTypeface(null, Typeface.BOLD);
+                title.setMaxLines(5);
+                titleParams.bottomMargin = MARGIN_VERTICAL;
+                title.setEllipsize(TextUtils.TruncateAt.END);
+                title.setPadding(50, 0, 50, 0);
+                layout.addView(title);
+
+                descParams.weight = 1;
+                descParams.height = 0;
+                desc.setTextSize(mIsTablet ? 15 : 11);
+                desc.setLayoutParams(descParams);
+                desc.setPadding(50, 0, 50, 0);
+                descParams.bottomMargin = MARGIN_VERTICAL;
+                layout.addView(desc);
+
+                itemViews.publisher = publisher;
+                itemViews.publisherIndex = index;
+                publisher.setTextColor(mActivity.getResources().getColor(R.color.news_text_color));
+                publisher.setTextSize(mIsTablet ? 16 : 12);
+
+                publisherParams.gravity = Gravity.BOTTOM;
+                publisher.setGravity(Gravity.BOTTOM);
+                publisherParams.setMargins(0, 0, 0, 4 * MARGIN_VERTICAL);
+                publisher.setPadding(50, 0, 50, 0);
+                publisher.setLayoutParams(publisherParams);
+                layout.addView(publisher);
+
+                layout.setBackground(makeRound(CARD_LAYOUT, R.color.card_background, 30));
 
-                case CardType.PUBLISHER_GROUP: // 3 numbered rows no photos
+                break;
 
-                    TableLayout.LayoutParams layoutRowParams =
-                            new TableLayout.LayoutParams(TableLayout.LayoutParams.MATCH_PARENT,
-                                    ViewGroup.LayoutParams.MATCH_PARENT);
-                    TableRow layoutRow = (TableRow) view;
-                    TextView no = new TextView(mActivity);
+            case CardType.PUBLISHER_GROUP: // 3 numbered rows no photos
 
-                    layoutRow.removeAllViews();
-                    layoutSingleCard.removeAllViews();
+                TableLayout.LayoutParams layoutRowParams =
+                        new TableLayout.LayoutParams(TableLayout.LayoutParams.MATCH_PARENT,
+                                ViewGroup.LayoutParams.MATCH_PARENT);
+                TableRow layoutRow = (TableRow) view;
+                TextView no = new TextView(mActivity);
 
-                    layoutRowParams.setMargins(0, 20, 0, 20);
-                    layoutRowParams.weight = 1;
-                    layoutRowParams.height = 0;
-                    layoutRow.setPadding(30, 0, 30, 0);
-                    layoutRow.setLayoutParams(layoutRowParams);
+                layoutRowParams.setMargins(0, 20, 0, 20);
+                layoutRowParams.weight = 1;
+                layoutRowParams.height = 0;
+                layoutRow.setPadding(30, 0, 30, 0);
+                layoutRow.setLayoutParams(layoutRowParams);
 
-                    TableRow.LayoutParams noParams = new TableRow.LayoutParams(
-                            TableRow.LayoutParams.WRAP_CONTENT, TableRow.LayoutParams.WRAP_CONTENT);
-                    TableRow.LayoutParams layoutSingleCardParams = new TableRow.LayoutParams(
-                            TableRow.LayoutParams.WRAP_CONTENT, TableRow.LayoutParams.WRAP_CONTENT);
+                TableRow.LayoutParams noParams = new TableRow.LayoutParams(
+                        TableRow.LayoutParams.WRAP_CONTENT, TableRow.LayoutParams.WRAP_CONTENT);
+                TableRow.LayoutParams layoutSingleCardParams = new TableRow.LayoutParams(
+                        TableRow.LayoutParams.WRAP_CONTENT, TableRow.LayoutParams.WRAP_CONTENT);
 
-                    no.setText(String.valueOf(index + 1));
-                    no.setTextColor(mActivity.getResources().getColor(R.color.news_text_color));
-                    noParams.width = 0;
-                    noParams.weight = 1;
-                    noParams.gravity = Gravity.CENTER_VERTICAL;
-                    no.setLayoutParams(noParams);
+                no.setText(String.valueOf(index + 1));
+                no.setTextColor(mActivity.getResources().getColor(R.color.news_text_color));
+                noParams.width = 0;
+                noParams.weight = 1;
+                noParams.gravity = Gravity.CENTER_VERTICAL;
+                no.setLayoutParams(noParams);
 
-                    layoutRow.addView(no);
+                layoutRow.addView(no);
 
-                    layoutSingleCard.setOrientation(LinearLayout.VERTICAL);
-                    layoutSingleCardParams.width = 0;
-                    layoutSingleCardParams.weight = 8;
+                layoutSingleCard.setOrientation(LinearLayout.VERTICAL);
+                layoutSingleCardParams.width = 0;
+                layoutSingleCardParams.weight = 8;
 
-                    layoutSingleCard.setLayoutParams(layoutSingleCardParams);
+                layoutSingleCard.setLayoutParams(layoutSingleCardParams);
 
-                    titleRowParams.height = LinearLayout.LayoutParams.WRAP_CONTENT;
+                titleRowParams.height = LinearLayout.LayoutParams.WRAP_CONTENT;
 
-                    title.setTextSize(ConfigurationUtils.isTablet(mActivity) ? 17 : 15);
-                    titleRowParams.bottomMargin = MARGIN_VERTICAL;
-                    title.setTypeface(null, Typeface.BOLD);
-                    title.setLayoutParams(titleRowParams);
-                    title.setMaxLines(5);
-                    title.setEllipsize(TextUtils.TruncateAt.END);
-                    layoutSingleCard.addView(title);
+                title.setTextSize(mIsTablet ? 17 : 15);
+                titleRowParams.bottomMargin = MARGIN_VERTICAL;
+                title.setTypeface(null, Typeface.BOLD);
+                title.setLayoutParams(titleRowParams);
+                title.setMaxLines(5);
+                title.setEllipsize(TextUtils.TruncateAt.END);
+                layoutSingleCard.addView(title);
 
-                    descRowParams.height = LinearLayout.LayoutParams.WRAP_CONTENT;
+                descRowParams.height = LinearLayout.LayoutParams.WRAP_CONTENT;
 
-                    setTextFromFeed(desc, TIME, index);
-                    descRowParams.bottomMargin = 20;
-                    desc.setTextSize(ConfigurationUtils.isTablet(mActivity) ? 14 : 12);
-                    desc.setLayoutParams(descRowParams);
-                    layoutSingleCard.addView(desc);
+                descRowParams.bottomMargin = 20;
+                desc.setTextSize(mIsTablet ? 14 : 12);
+                desc.setLayoutParams(descRowParams);
+                layoutSingleCard.addView(desc);
 
-                    layoutRow.addView(layoutSingleCard);
-                    break;
-                case CardType.CATEGORY_GROUP: // TOP_NEWS
-                    TableRow layoutRowPhotos = (TableRow) view;
-
-                    tableParamsTopNews.setMargins(0, 0, 0, 3 * MARGIN_VERTICAL);
-                    tableParamsTopNews.weight = 1;
-                    tableParamsTopNews.height = 0;
-                    layoutRowPhotos.setPadding(30, 0, 30, 0);
-                    layoutRowPhotos.setLayoutParams(tableParamsTopNews);
-
-                    layoutSingleCard.setOrientation(LinearLayout.VERTICAL);
-                    linearLayoutRowParams.width = 0;
-                    linearLayoutRowParams.weight =
-                            ConfigurationUtils.isTablet(mActivity) ? 3.5f : 3f;
-                    linearLayoutRowParams.gravity = Gravity.CENTER_VERTICAL;
-                    linearLayoutRowParams.height = LinearLayout.LayoutParams.WRAP_CONTENT;
-                    layoutSingleCard.setGravity(Gravity.CENTER_VERTICAL);
-                    layoutSingleCard.setLayoutParams(linearLayoutRowParams);
-
-                    source.setLines(1);
-                    sourceRowParams.gravity = Gravity.BOTTOM;
-                    source.setPadding(0, 0, 0, 0);
-                    sourceRowParams.height = TableRow.LayoutParams.WRAP_CONTENT;
-                    sourceRowParams.setMargins(0, 0, 0, MARGIN_VERTICAL);
-                    source.setLayoutParams(sourceRowParams);
-                    source.setTextSize(ConfigurationUtils.isTablet(mActivity) ? 16 : 12);
-                    source.setTypeface(null, Typeface.BOLD);
-                    setTextFromFeed(source, PUBLISHER, index);
-                    source.setTextColor(mActivity.getResources().getColor(R.color.news_time_color));
-                    layoutSingleCard.addView(source);
-
-                    titleRowParams.height = LinearLayout.LayoutParams.WRAP_CONTENT;
-
-                    titleRowParams.rightMargin = ConfigurationUtils.isTablet(mActivity) ? 8 : 13;
-                    title.setTextSize(ConfigurationUtils.isTablet(mActivity) ? 17 : 13);
-                    title.setTypeface(null, Typeface.BOLD);
-                    titleRowParams.bottomMargin = MARGIN_VERTICAL;
-                    title.setLayoutParams(titleRowParams);
-                    title.setMaxLines(4);
-                    title.setEllipsize(TextUtils.TruncateAt.END);
-
-                    layoutSingleCard.addView(title);
-
-                    descRowParams.height = LinearLayout.LayoutParams.WRAP_CONTENT;
-
-                    desc.setPadding(0, 0, 0, 0);
-                    desc.setTextSize(ConfigurationUtils.isTablet(mActivity) ? 15 : 11);
-                    descRowParams.bottomMargin = MARGIN_VERTICAL;
-                    setTextFromFeed(desc, TIME, index);
-                    desc.setLayoutParams(descRowParams);
-                    layoutSingleCard.addView(desc);
-
-                    layoutRowPhotos.addView(layoutSingleCard);
-
-                    imageRowParams.width = 0;
-                    imageRowParams.height = ConfigurationUtils.isTablet(mActivity)
-                            ? (int) (mDeviceWidth * 0.13)
-                            : (int) (mDeviceWidth * 0.2);
-                    imageRowParams.weight = 1;
-                    imageRowParams.setMargins(0, 20, 0, 0);
-                    setImage(image, "paired", index);
-                    image.setScaleType(ImageView.ScaleType.CENTER_CROP);
-
-                    imageRowParams.gravity = Gravity.CENTER_VERTICAL;
-                    image.setLayoutParams(imageRowParams);
-                    layoutRowPhotos.addView(image);
+                layoutRow.addView(layoutSingleCard);
+                break;
+            case CardType.CATEGORY_GROUP: // TOP_NEWS
+                TableRow layoutRowPhotos = (TableRow) view;
+
+                tableParamsTopNews.setMargins(0, 0, 0, 3 * MARGIN_VERTICAL);
+                tableParamsTopNews.weight = 1;
+                tableParamsTopNews.height = 0;
+                layoutRowPhotos.setPadding(30, 0, 30, 0);
+                layoutRowPhotos.setLayoutParams(tableParamsTopNews);
+
+                layoutSingleCard.setOrientation(LinearLayout.VERTICAL);
+                linearLayoutRowParams.width = 0;
+                linearLayoutRowParams.weight = mIsTablet ? 3.5f : 3f;
+                linearLayoutRowParams.gravity = Gravity.CENTER_VERTICAL;
+                linearLayoutRowParams.height = LinearLayout.LayoutParams.WRAP_CONTENT;
+                layoutSingleCard.setGravity(Gravity.CENTER_VERTICAL);
+                layoutSingleCard.setLayoutParams(linearLayoutRowParams);
+
+                source.setLines(1);
+                sourceRowParams.gravity = Gravity.BOTTOM;
+                source.setPadding(0, 0, 0, 0);
+                sourceRowParams.height = TableRow.LayoutParams.WRAP_CONTENT;
+                sourceRowParams.setMargins(0, 0, 0, MARGIN_VERTICAL);
+                source.setLayoutParams(sourceRowParams);
+                source.setTextSize(mIsTablet ? 16 : 12);
+                source.setTypeface(null, Typeface.BOLD);
+                itemViews.source = source;
+                source.setTextColor(mActivity.getResources().getColor(R.color.news_time_color));
+                layoutSingleCard.addView(source);
+
+                titleRowParams.height = LinearLayout.LayoutParams.WRAP_CONTENT;
+
+                titleRowParams.rightMargin = mIsTablet ? 8 : 13;
+                title.setTextSize(mIsTablet ? 17 : 13);
+                title.setTypeface(null, Typeface.BOLD);
+                titleRowParams.bottomMargin = MARGIN_VERTICAL;
+                title.setLayoutParams(titleRowParams);
+                title.setMaxLines(4);
+                title.setEllipsize(TextUtils.TruncateAt.END);
+
+                layoutSingleCard.addView(title);
+
+                descRowParams.height = LinearLayout.LayoutParams.WRAP_CONTENT;
+
+                desc.setPadding(0, 0, 0, 0);
+                desc.setTextSize(mIsTablet ? 15 : 11);
+                descRowParams.bottomMargin = MARGIN_VERTICAL;
+                desc.setLayoutParams(descRowParams);
+                layoutSingleCard.addView(desc);
+
+                layoutRowPhotos.addView(layoutSingleCard);
+
+                imageRowParams.width = 0;
+                imageRowParams.height =
+                        mIsTablet ? (int) (mDeviceWidth * 0.13) : (int) (mDeviceWidth * 0.2);
+                imageRowParams.weight = 1;
+                imageRowParams.setMargins(0, 20, 0, 0);
+                itemViews.image = image;
+                itemViews.imageType = "paired";
+                image.setScaleType(ImageView.ScaleType.CENTER_CROP);
+
+                imageRowParams.gravity = Gravity.CENTER_VERTICAL;
+                image.setLayoutParams(imageRowParams);
+                layoutRowPhotos.addView(image);
 
-                    break;
-                default:
+                break;
+            default:
+                itemViews.descType = DESC;
+                itemViews.image = image;
+                itemViews.imageType = "image";
+                layout.addView(image);
+                layout.addView(title);
+                layout.addView(desc);
+                break;
+        }
 
-                    setTextFromFeed(title, TITLE, index);
-                    setTextFromFeed(desc, DESC, index);
-                    layout.addView(image);
-                    layout.addView(title);
-                    layout.addView(desc);
-                    break;
-            }
+        title.setTextColor(mActivity.getResources().getColor(R.color.news_text_color));
+        desc.setTextColor(mActivity.getResources().getColor(R.color.news_time_color));
 
-            title.setTextColor(mActivity.getResources().getColor(R.color.news_text_color));
-            desc.setTextColor(mActivity.getResources().getColor(R.color.news_time_color));
+        return itemViews;
+    }
 
-            setTextFromFeed(title, TITLE, index);
+    private void bindItem(ItemViews itemViews, int index) {
+        final FeedItemMetadata itemData = getItemData(index);
+        if (itemData == null) {
+            clearItem(itemViews);
+            return;
+        }
+        itemViews.container.setVisibility(View.VISIBLE);
 
-            final FeedItemMetadata itemData = getItemData(index);
+        if (itemViews.image != null) {
+            setImage(itemViews.image, itemViews.imageType, itemData);
+        }
+        if (itemViews.source != null) {
+            setTextFromFeed(itemViews.source, PUBLISHER, index);
+        }
+        setTextFromFeed(itemViews.desc, itemViews.descType, index);
+        if (itemViews.publisher != null) {
+            setTextFromFeed(itemViews.publisher, PUBLISHER, itemViews.publisherIndex);
+        }
+        setText(itemData, itemViews.title, TITLE);
 
-            view.setOnClickListener(new View.OnClickListener() {
-                @Override
-                public void onClick(View v) {
-                    // @TODO alex refactor this with listener in BraveNewTabPageLayout
-                    openUrlInSameTabAndSavePosition(itemData.url.url);
-                }
-            });
+        View.OnClickListener openListener = new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                // @TODO alex refactor this with listener in BraveNewTabPageLayout
+                openUrlInSameTabAndSavePosition(itemData.url.url);
+            }
+        };
+        itemViews.container.setOnClickListener(openListener);
+        itemViews.title.setOnClickListener(openListener);
 
-            title.setOnClickListener(new View.OnClickListener() {
-                @Override
-                public void onClick(View v) {
-                    // @TODO alex refactor this with listener in BraveNewTabPageLayout
-                    openUrlInSameTabAndSavePosition(itemData.url.url);
-                }
-            });
-
-            title.setOnLongClickListener(new View.OnLongClickListener() {
-                @Override
-                public boolean onLongClick(View v) {
-                    showBottomSheetDialog(
-                            itemData.url.url, itemData.publisherId, itemData.publisherName);
-                    return true;
-                }
-            });
+        itemViews.title.setOnLongClickListener(new View.OnLongClickListener() {
+            @Override
+            public boolean onLongClick(View v) {
+                showBottomSheetDialog(
+                        itemData.url.url, itemData.publisherId, itemData.publisherName);
+                return true;
+            }
+        });
+    }
 
-        } catch (Exception e) {
-            Log.e(TAG, "Exception addElementsToSingleLayout: " + e.getMessage());
+    /**
+     * Clears what a previous item left in the views of a recycled card, for items the card has
+     * no data for.
+     */
+    private void clearItem(ItemViews itemViews) {
+        if (itemViews.image != null) {
+            mGlide.clear(itemViews.image);
+            itemViews.image.setImageDrawable(null);
+        }
+        for (TextView textView : new TextView[] {
+                     itemViews.title, itemViews.desc, itemViews.publisher, itemViews.source}) {
+            clearText(textView);
+        }
+        itemViews.title.setOnLongClickListener(null);
+        itemViews.container.setOnClickListener(null);
+        // The card itself stays visible, only item rows are collapsed
+        if (itemViews.container != mLinearLayout) {
+            itemViews.container.setVisibility(View.GONE);
         }
     }
 
+    private void clearText(TextView textView) {
+        if (textView == null) return;
+        textView.setText("");
+        textView.setOnClickListener(null);
+    }
+
     private void showBottomSheetDialog(String urlString, String publisherId, String publisherName) {
         BraveNewsBottomSheetDialogFragment bottomSheetDialog =
                 BraveNewsBottomSheetDialogFragment.newInstance();
@@ -1219,6 +1347,8 @@ public class CardBuilderFeedCard {
             if (itemData != null) {
                 setText(itemData, textView, type);
                 setListeners(textView, itemData.url.url, mCreativeInstanceId, mIsPromo);
+            } else {
+                clearText(textView);
             }
 
         } catch (Exception e) {
@@ -1323,67 +1453,40 @@ public class CardBuilderFeedCard {
     }
 
     private void setDisplayAdImage(ImageView imageView, Image adDataImage, int index) {
-        Url imageUrlTemp = null;
-
-        switch (adDataImage.which()) {
-            case Image.Tag.PaddedImageUrl:
-                imageUrlTemp = adDataImage.getPaddedImageUrl();
-                break;
-            case Image.Tag.ImageUrl:
-                imageUrlTemp = adDataImage.getImageUrl();
-                break;
-        }
-
-        final Url adImageUrl = imageUrlTemp;
-
-        mBraveNewsController.getImageData(adImageUrl, imageData -> {
-            if (imageData != null) {
-                Bitmap decodedByte = BitmapFactory.decodeByteArray(imageData, 0, imageData.length);
-                Glide.with(mActivity)
-                        .asBitmap()
-                        .load(decodedByte)
-                        .fitCenter()
-                        .priority(Priority.IMMEDIATE)
-                        .diskCacheStrategy(DiskCacheStrategy.ALL)
-                        .into(new CustomTarget<Bitmap>() {
-                            @Override
-                            public void onResourceReady(@NonNull Bitmap resource,
-                                    @Nullable Transition<? super Bitmap> transition) {
-                                imageView.setImageBitmap(resource);
-                            }
-                            @Override
-                            public void onLoadCleared(@Nullable Drawable placeholder) {}
-                        });
-                imageView.setClipToOutline(true);
-            }
-        });
+        Point size = getImageSize(CardType.DISPLAY_AD, mDeviceWidth, mIsTablet);
+        final int generation = mBindGeneration;
+
+        BraveNewsImageCache.getInstance().getImage(mBraveNewsController,
+                BraveNewsUtils.getImageUrl(adDataImage), size.x, size.y, bitmap -> {
+                    if (bitmap == null || generation != mBindGeneration) return;
+                    Glide.with(mActivity)
+                            .asBitmap()
+                            .load(bitmap)
+                            .fitCenter()
+                            .priority(Priority.IMMEDIATE)
+                            .into(new CustomTarget<Bitmap>() {
+                                @Override
+                                public void onResourceReady(@NonNull Bitmap resource,
+                                        @Nullable Transition<? super Bitmap> transition) {
+                                    if (generation != mBindGeneration) return;
+                                    imageView.setImageBitmap(resource);
+                                }
+                                @Override
+                                public void onLoadCleared(@Nullable Drawable placeholder) {}
+                            });
+                });
     }
 
-    private void setImage(ImageView imageView, String type, int index) {
-        List<FeedItemCard> feedItemsCard = mNewsItem.getFeedItems();
-        if (feedItemsCard != null) {
-            FeedItemCard feedItemCard = feedItemsCard.get(index);
-            FeedItem item = feedItemCard.getFeedItem();
-
-            FeedItemMetadata itemMetaData = new FeedItemMetadata();
-            switch (item.which()) {
-                case FeedItem.Tag.Article:
-                    Article article = item.getArticle();
-                    itemMetaData = article.data;
-                    break;
-                case FeedItem.Tag.PromotedArticle:
-                    PromotedArticle promotedArticle = item.getPromotedArticle();
-                    itemMetaData = promotedArticle.data;
-                    break;
-                case FeedItem.Tag.Deal:
-                    Deal deal = item.getDeal();
-                    itemMetaData = deal.data;
-                    break;
-            }
+    private void setImage(ImageView imageView, String type, FeedItemMetadata itemMetaData) {
+        mGlide.clear(imageView);
+        imageView.setImageDrawable(null);
 
-            Url itemImageUrl = getImage(itemMetaData);
-            mBraveNewsController.getImageData(itemImageUrl, imageData -> {
-                if (imageData != null) {
+        Point size = getImageSize(mType, mDeviceWidth, mIsTablet);
+        final int generation = mBindGeneration;
+        // Prefetched images are already decoded, the callback then runs right away
+        BraveNewsImageCache.getInstance().getImage(mBraveNewsController,
+                BraveNewsUtils.getImageUrl(itemMetaData.image), size.x, size.y, bitmap -> {
+                    if (bitmap == null || generation != mBindGeneration) return;
                     GranularRoundedCorners radius = new GranularRoundedCorners(15, 15, 15, 15);
                     if (!type.equals("paired")) {
                         radius = new GranularRoundedCorners(30, 30, 0, 0);
@@ -1392,10 +1495,8 @@ public class CardBuilderFeedCard {
                     requestOptions =
                             requestOptions.centerInside().transform(new CenterCrop(), radius);
 
-                    mGlide.load(imageData).centerCrop().apply(requestOptions).into(imageView);
-                }
-            });
-        }
+                    mGlide.load(bitmap).centerCrop().apply(requestOptions).into(imageView);
+                });
     }
 
     // used for logging the Glide implementation
@@ -15,6 +15,8 @@ public class FeedItemsCard {
     private int cardType;
     private byte[] imageByte;
     private String uuid;
+    private long stableId;
+    private long contentHash;
     private boolean viewStatSent;
     private DisplayAd displayAd;
 
@@ -54,6 +56,22 @@ public class FeedItemsCard {
         this.uuid = uuid;
     }
 
+    public long getStableId() {
+        return stableId;
+    }
+
+    public void setStableId(long stableId) {
+        this.stableId = stableId;
+    }
+
+    public long getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(long contentHash) {
+        this.contentHash = contentHash;
+    }
+
     public boolean isViewStatSent() {
         return viewStatSent;
     }
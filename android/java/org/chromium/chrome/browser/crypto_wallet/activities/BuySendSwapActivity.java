@@ -89,6 +89,7 @@ import org.chromium.chrome.browser.crypto_wallet.fragments.ApproveTxBottomSheetD
 import org.chromium.chrome.browser.crypto_wallet.fragments.EditVisibleAssetsBottomSheetDialogFragment;
 import org.chromium.chrome.browser.crypto_wallet.observers.ApprovedTxObserver;
 import org.chromium.chrome.browser.crypto_wallet.observers.KeyringServiceObserver;
+import org.chromium.chrome.browser.crypto_wallet.util.SwapQuoteEngine;
 import org.chromium.chrome.browser.crypto_wallet.util.TokenUtils;
 import org.chromium.chrome.browser.crypto_wallet.util.Utils;
 import org.chromium.chrome.browser.crypto_wallet.util.Validations;
@@ -162,6 +163,7 @@ public class BuySendSwapActivity extends BraveWalletBaseActivity
     private BlockchainToken mCurrentBlockchainToken;
     private BlockchainToken mCurrentSwapToBlockchainToken;
     private SwapService mSwapService;
+    private SwapQuoteEngine mSwapQuoteEngine;
     private ExecutorService mExecutor;
     private Handler mHandler;
     private String mCurrentChainId;
@@ -187,6 +189,9 @@ public class BuySendSwapActivity extends BraveWalletBaseActivity
             mCameraSourcePreview.release();
         }
         mSwapService.close();
+        if (mSwapQuoteEngine != null) {
+            mSwapQuoteEngine.destroy();
+        }
         super.onDestroy();
     }
 
@@ -302,6 +307,9 @@ public class BuySendSwapActivity extends BraveWalletBaseActivity
                     // Shall be fine regardless of activity type
                     mFromValueText.setText("");
                     mFromValueText.setHint("0");
+                    if (mSwapQuoteEngine != null) {
+                        mSwapQuoteEngine.clearCache();
+                    }
                     resetSwapFromToAssets();
 
                     mJsonRpcService.setNetwork(chainId, CoinType.ETH, (success) -> {
@@ -322,6 +330,11 @@ public class BuySendSwapActivity extends BraveWalletBaseActivity
     public void onNothingSelected(AdapterView<?> arg0) {}
 
     private void getSendSwapQuota(boolean calculatePerSellAsset, boolean sendTx) {
+        getSendSwapQuota(calculatePerSellAsset, sendTx, false);
+    }
+
+    private void getSendSwapQuota(
+            boolean calculatePerSellAsset, boolean sendTx, boolean debounce) {
         String from =
                 mCustomAccountAdapter.getTitleAtPosition(mAccountSpinner.getSelectedItemPosition());
         Pair<Integer, String> toInfo =
@@ -335,11 +348,18 @@ public class BuySendSwapActivity extends BraveWalletBaseActivity
 
         assert mSwapService != null;
         if (!sendTx) {
-            mSwapService.getPriceQuote(swapParams, (success, response, error_response) -> {
+            SwapQuoteEngine.QuoteCallback callback = (success, response, error_response) -> {
                 workWithSwapQuota(
                         success, response, error_response, calculatePerSellAsset, sendTx, from);
-            });
+            };
+            if (debounce) {
+                mSwapQuoteEngine.requestPriceQuote(swapParams, callback);
+            } else {
+                mSwapQuoteEngine.requestPriceQuoteNow(swapParams, callback);
+            }
         } else {
+            // Quotes still in flight must not overwrite the values we are sending
+            mSwapQuoteEngine.cancel();
             mSwapService.getTransactionPayload(swapParams, (success, response, error_response) -> {
                 workWithSwapQuota(
                         success, response, error_response, calculatePerSellAsset, sendTx, from);
@@ -399,7 +419,7 @@ public class BuySendSwapActivity extends BraveWalletBaseActivity
 
     private void sendSwapTransaction(TxData data, String from) {
         assert mEthTxManagerProxy != null;
-        mEthTxManagerProxy.getGasEstimation1559(estimation -> {
+        mSwapQuoteEngine.getGasEstimation1559(mEthTxManagerProxy, estimation -> {
             String maxPriorityFeePerGas = "";
             String maxFeePerGas = "";
             if (estimation.fastMaxPriorityFeePerGas.equals(estimation.avgMaxPriorityFeePerGas)) {
@@ -1155,7 +1175,7 @@ public class BuySendSwapActivity extends BraveWalletBaseActivity
         @Override
         public void onTextChanged(CharSequence s, int start, int before, int count) {
             if (mFrom ? mFromValueText.hasFocus() : mToValueText.hasFocus()) {
-                getSendSwapQuota(mFrom, false);
+                getSendSwapQuota(mFrom, false, true);
             }
         }
 
@@ -1446,6 +1466,9 @@ public class BuySendSwapActivity extends BraveWalletBaseActivity
         mSwapService.close();
 
         mSwapService = null;
+        if (mSwapQuoteEngine != null) {
+            mSwapQuoteEngine.reset();
+        }
         InitSwapService();
     }
 
@@ -1455,6 +1478,10 @@ public class BuySendSwapActivity extends BraveWalletBaseActivity
         }
 
         mSwapService = SwapServiceFactory.getInstance().getSwapService(this);
+        if (mSwapQuoteEngine == null) {
+            mSwapQuoteEngine = new SwapQuoteEngine(new Handler(Looper.getMainLooper()));
+        }
+        mSwapQuoteEngine.setSwapService(mSwapService);
     }
 
     @Override
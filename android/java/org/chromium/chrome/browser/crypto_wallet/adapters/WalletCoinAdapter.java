@@ -23,13 +23,17 @@ import android.widget.TextView;
 import androidx.annotation.NonNull;
 import androidx.recyclerview.widget.RecyclerView;
 
+import org.chromium.brave_wallet.mojom.BlockchainToken;
 import org.chromium.brave_wallet.mojom.TransactionInfo;
 import org.chromium.chrome.R;
 import org.chromium.chrome.browser.crypto_wallet.listeners.OnWalletListItemClick;
+import org.chromium.chrome.browser.crypto_wallet.model.TokenKey;
 import org.chromium.chrome.browser.crypto_wallet.model.WalletListItemModel;
 import org.chromium.chrome.browser.crypto_wallet.util.Utils;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.ExecutorService;
@@ -50,7 +54,10 @@ public class WalletCoinAdapter extends RecyclerView.Adapter<WalletCoinAdapter.Vi
     private Context context;
     private List<WalletListItemModel> walletListItemModelList = new ArrayList<>();
     private List<WalletListItemModel> walletListItemModelListCopy = new ArrayList<>();
-    private List<Integer> mCheckedPositions = new ArrayList<>();
+    // Position of every token item in walletListItemModelListCopy, so that checkbox and click
+    // handlers can find an item in O(1) instead of comparing titles
+    private HashMap<TokenKey, Integer> mCopyPositions = new HashMap<>();
+    private LinkedHashSet<Integer> mCheckedPositions = new LinkedHashSet<>();
     private OnWalletListItemClick onWalletListItemClick;
     private int walletListItemType;
     private AdapterType mType;
@@ -120,13 +127,9 @@ public class WalletCoinAdapter extends RecyclerView.Adapter<WalletCoinAdapter.Vi
                 if (mType == AdapterType.BUY_ASSETS_LIST || mType == AdapterType.SEND_ASSETS_LIST
                         || mType == AdapterType.SWAP_TO_ASSETS_LIST
                         || mType == AdapterType.SWAP_FROM_ASSETS_LIST) {
-                    for (int i = 0; i < walletListItemModelListCopy.size(); i++) {
-                        WalletListItemModel item = walletListItemModelListCopy.get(i);
-                        if (item.getTitle().equals(holder.titleText.getText())
-                                || item.getSubTitle().equals(holder.subTitleText.getText())) {
-                            mCheckedPositions.add((Integer) i);
-                            break;
-                        }
+                    Integer copyPosition = getCopyPosition(walletListItemModel);
+                    if (copyPosition != null) {
+                        mCheckedPositions.add(copyPosition);
                     }
                 }
                 if (mType != AdapterType.EDIT_VISIBLE_ASSETS_LIST) {
@@ -152,19 +155,12 @@ public class WalletCoinAdapter extends RecyclerView.Adapter<WalletCoinAdapter.Vi
                             @Override
                             public void onCheckedChanged(
                                     CompoundButton buttonView, boolean isChecked) {
-                                for (int i = 0; i < walletListItemModelListCopy.size(); i++) {
-                                    WalletListItemModel item = walletListItemModelListCopy.get(i);
-                                    if (item.getTitle().equals(holder.titleText.getText())
-                                            || item.getSubTitle().equals(
-                                                    holder.subTitleText.getText())) {
-                                        if (isChecked) {
-                                            if (!mCheckedPositions.contains((Integer) i)) {
-                                                mCheckedPositions.add((Integer) i);
-                                            }
-                                        } else {
-                                            mCheckedPositions.remove((Integer) i);
-                                        }
-                                        break;
+                                Integer copyPosition = getCopyPosition(walletListItemModel);
+                                if (copyPosition != null) {
+                                    if (isChecked) {
+                                        mCheckedPositions.add(copyPosition);
+                                    } else {
+                                        mCheckedPositions.remove(copyPosition);
                                     }
                                 }
                                 onWalletListItemClick.onAssetCheckedChanged(
@@ -227,6 +223,7 @@ public class WalletCoinAdapter extends RecyclerView.Adapter<WalletCoinAdapter.Vi
             walletListItemModelListCopy.addAll(walletListItemModelList);
             mCheckedPositions.clear();
         }
+        rebuildCopyPositions();
         for (int i = 0; i < walletListItemModelListCopy.size(); i++) {
             if (walletListItemModelListCopy.get(i).getIsUserSelected()) {
                 mCheckedPositions.add((Integer) i);
@@ -234,6 +231,30 @@ public class WalletCoinAdapter extends RecyclerView.Adapter<WalletCoinAdapter.Vi
         }
     }
 
+    private void rebuildCopyPositions() {
+        mCopyPositions.clear();
+        for (int i = 0; i < walletListItemModelListCopy.size(); i++) {
+            putCopyPosition(walletListItemModelListCopy.get(i), i);
+        }
+    }
+
+    private void putCopyPosition(WalletListItemModel item, int position) {
+        BlockchainToken token = item.getBlockchainToken();
+        if (token == null) return;
+        TokenKey key = TokenKey.of(token);
+        // Keep the first occurrence, the same item the title scan used to find
+        if (!mCopyPositions.containsKey(key)) {
+            mCopyPositions.put(key, position);
+        }
+    }
+
+    private Integer getCopyPosition(WalletListItemModel item) {
+        BlockchainToken token = item.getBlockchainToken();
+        if (token == null) return null;
+
+        return mCopyPositions.get(TokenKey.of(token));
+    }
+
     public List<WalletListItemModel> getCheckedAssets() {
         List<WalletListItemModel> checkedAssets = new ArrayList<>();
         for (Integer position : mCheckedPositions) {
@@ -346,7 +367,21 @@ public class WalletCoinAdapter extends RecyclerView.Adapter<WalletCoinAdapter.Vi
     @SuppressLint("NotifyDataSetChanged")
     public void removeItem(WalletListItemModel item) {
         walletListItemModelList.remove(item);
-        walletListItemModelListCopy.remove(item);
+        int removedPosition = walletListItemModelListCopy.indexOf(item);
+        if (removedPosition != -1) {
+            walletListItemModelListCopy.remove(removedPosition);
+            // Positions after the removed item move one slot up
+            LinkedHashSet<Integer> checkedPositions = new LinkedHashSet<>();
+            for (Integer position : mCheckedPositions) {
+                if (position < removedPosition) {
+                    checkedPositions.add(position);
+                } else if (position > removedPosition) {
+                    checkedPositions.add(position - 1);
+                }
+            }
+            mCheckedPositions = checkedPositions;
+            rebuildCopyPositions();
+        }
         notifyDataSetChanged();
     }
 
@@ -354,6 +389,7 @@ public class WalletCoinAdapter extends RecyclerView.Adapter<WalletCoinAdapter.Vi
     public void addItem(WalletListItemModel item) {
         walletListItemModelList.add(item);
         walletListItemModelListCopy.add(item);
+        putCopyPosition(item, walletListItemModelListCopy.size() - 1);
         notifyDataSetChanged();
     }
 }
@@ -0,0 +1,72 @@
+/* Copyright (c) 2022 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.crypto_wallet.model;
+
+import androidx.annotation.NonNull;
+
+import org.chromium.brave_wallet.mojom.BlockchainToken;
+
+import java.util.Locale;
+
+/**
+ * Canonical identity of a token, made of its chain id, contract address and token id.
+ * Contract addresses are compared case-insensitively, so the key can be used in hash based
+ * collections instead of scanning token arrays.
+ */
+public final class TokenKey {
+    private final String mChainId;
+    private final String mContractAddress;
+    private final String mTokenId;
+    private final int mHashCode;
+
+    public TokenKey(String chainId, String contractAddress, String tokenId) {
+        mChainId = chainId == null ? "" : chainId;
+        mContractAddress =
+                contractAddress == null ? "" : contractAddress.toLowerCase(Locale.ROOT);
+        mTokenId = tokenId == null ? "" : tokenId;
+
+        int hashCode = mChainId.hashCode();
+        hashCode = 31 * hashCode + mContractAddress.hashCode();
+        hashCode = 31 * hashCode + mTokenId.hashCode();
+        mHashCode = hashCode;
+    }
+
+    public static TokenKey of(@NonNull BlockchainToken token) {
+        return new TokenKey(token.chainId, token.contractAddress, token.tokenId);
+    }
+
+    public String getChainId() {
+        return mChainId;
+    }
+
+    public String getContractAddress() {
+        return mContractAddress;
+    }
+
+    public String getTokenId() {
+        return mTokenId;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof TokenKey)) return false;
+        TokenKey key = (TokenKey) other;
+
+        return mHashCode == key.mHashCode && mChainId.equals(key.mChainId)
+                && mContractAddress.equals(key.mContractAddress) && mTokenId.equals(key.mTokenId);
+    }
+
+    @Override
+    public int hashCode() {
+        return mHashCode;
+    }
+
+    @Override
+    public String toString() {
+        return mChainId + "/" + mContractAddress + "/" + mTokenId;
+    }
+}
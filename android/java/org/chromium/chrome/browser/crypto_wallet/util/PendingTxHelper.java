@@ -8,13 +8,16 @@ package org.chromium.chrome.browser.crypto_wallet.util;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 
+import org.chromium.base.task.PostTask;
+import org.chromium.base.task.TaskTraits;
 import org.chromium.brave_wallet.mojom.AccountInfo;
-import org.chromium.brave_wallet.mojom.CoinType;
 import org.chromium.brave_wallet.mojom.TransactionInfo;
 import org.chromium.brave_wallet.mojom.TransactionStatus;
 import org.chromium.brave_wallet.mojom.TransactionType;
+import org.chromium.brave_wallet.mojom.TxData1559;
 import org.chromium.brave_wallet.mojom.TxService;
 import org.chromium.chrome.browser.crypto_wallet.observers.TxServiceObserver;
+import org.chromium.content_public.browser.UiThreadTaskTraits;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -30,14 +33,20 @@ public class PendingTxHelper implements TxServiceObserver {
     private HashMap<String, TransactionInfo[]> mTxInfos;
     private boolean mReturnAll;
     private String mFilterByContractAddress;
-    private String mRopstenContractAddress;
-    private final List<TransactionInfo> mTransactionInfos;
+    // Lower case copies of the contract addresses to filter by
+    private String mFilterByContractAddressLower;
+    private String mRopstenContractAddressLower;
+    private final TransactionStore mTransactionStore;
+    private TransactionStore.Snapshot mPublishedSnapshot;
     private final List<TransactionCacheRecord> mCacheTransactionInfos;
     private boolean isFetchingTx;
     private final MutableLiveData<TransactionInfo> _mSelectedPendingRequest;
     private final MutableLiveData<Boolean> _mHasNoPendingTxAfterProcessing;
     private final MutableLiveData<List<TransactionInfo>> _mTransactionInfos;
+    private final MutableLiveData<TransactionStore.Snapshot> _mTransactionSnapshot;
     public LiveData<List<TransactionInfo>> mTransactionInfoLd;
+    // Same data as mTransactionInfoLd along with what changed, for DiffUtil based lists
+    public LiveData<TransactionStore.Snapshot> mTransactionSnapshotLd;
     public LiveData<TransactionInfo> mSelectedPendingRequest;
     public LiveData<Boolean> mHasNoPendingTxAfterProcessing;
 
@@ -50,14 +59,22 @@ public class PendingTxHelper implements TxServiceObserver {
         mReturnAll = returnAll;
         mTxInfos = new HashMap<String, TransactionInfo[]>();
         if (mFilterByContractAddress != null && !mFilterByContractAddress.isEmpty()) {
-            mRopstenContractAddress = Utils.getRopstenContractAddress(mFilterByContractAddress);
+            mFilterByContractAddressLower = mFilterByContractAddress.toLowerCase(Locale.ROOT);
+            String ropstenContractAddress =
+                    Utils.getRopstenContractAddress(mFilterByContractAddress);
+            if (ropstenContractAddress != null && !ropstenContractAddress.isEmpty()) {
+                mRopstenContractAddressLower = ropstenContractAddress.toLowerCase(Locale.ROOT);
+            }
         }
-        mTransactionInfos = new ArrayList<>();
+        mTransactionStore = new TransactionStore();
         mCacheTransactionInfos = new ArrayList<>();
         _mSelectedPendingRequest = new MutableLiveData<>();
         _mHasNoPendingTxAfterProcessing = new MutableLiveData<>();
         _mTransactionInfos = new MutableLiveData<>(Collections.emptyList());
+        mPublishedSnapshot = mTransactionStore.snapshot();
+        _mTransactionSnapshot = new MutableLiveData<>(mPublishedSnapshot);
         mTransactionInfoLd = _mTransactionInfos;
+        mTransactionSnapshotLd = _mTransactionSnapshot;
         mSelectedPendingRequest = _mSelectedPendingRequest;
         mHasNoPendingTxAfterProcessing = _mHasNoPendingTxAfterProcessing;
     }
@@ -76,7 +93,6 @@ public class PendingTxHelper implements TxServiceObserver {
 
     public void fetchTransactions(Runnable runWhenDone) {
         isFetchingTx = true;
-        _mTransactionInfos.postValue(Collections.emptyList());
         _mSelectedPendingRequest.postValue(null);
         AsyncUtils.MultiResponseHandler allTxMultiResponse =
                 new AsyncUtils.MultiResponseHandler(mAccountInfos.length);
@@ -87,59 +103,70 @@ public class PendingTxHelper implements TxServiceObserver {
                     new AsyncUtils.GetAllTransactionInfoResponseContext(
                             allTxMultiResponse.singleResponseComplete, accountInfo.name);
             allTxContexts.add(allTxContext);
-            mTxService.getAllTransactionInfo(CoinType.ETH, accountInfo.address, allTxContext);
+            TransactionCache.getInstance().getAllTransactionInfo(
+                    mTxService, accountInfo.address, allTxContext);
         }
         allTxMultiResponse.setWhenAllCompletedAction(() -> {
-            for (AsyncUtils.GetAllTransactionInfoResponseContext allTxContext : allTxContexts) {
-                ArrayList<TransactionInfo> newValue = new ArrayList<TransactionInfo>();
-                for (TransactionInfo txInfo : allTxContext.txInfos) {
-                    if (mReturnAll || txInfo.txStatus == TransactionStatus.UNAPPROVED) {
-                        if (mFilterByContractAddress == null) {
-                            // Don't filter by contract
-                            newValue.add(txInfo);
-                        } else if (!mFilterByContractAddress.isEmpty()) {
-                            if (mFilterByContractAddress.toLowerCase(Locale.getDefault())
-                                            .equals(txInfo.txDataUnion.getEthTxData1559()
-                                                            .baseData.to.toLowerCase(
-                                                                    Locale.getDefault()))) {
-                                newValue.add(txInfo);
-                            }
-                            if (mRopstenContractAddress != null
-                                    && !mRopstenContractAddress.isEmpty()
-                                    && mRopstenContractAddress.toLowerCase(Locale.getDefault())
-                                               .equals(txInfo.txDataUnion.getEthTxData1559()
-                                                               .baseData.to.toLowerCase(
-                                                                       Locale.getDefault()))) {
-                                newValue.add(txInfo);
-                            }
-
-                        } else if (txInfo.txType != TransactionType.ERC20_APPROVE
-                                && txInfo.txType != TransactionType.ERC20_TRANSFER
-                                && txInfo.txType != TransactionType.ERC721_TRANSFER_FROM
-                                && txInfo.txType != TransactionType.ERC721_SAFE_TRANSFER_FROM) {
-                            // Filter by ETH only
-                            newValue.add(txInfo);
+            // Filtering is done once per account away from the UI thread, results are merged
+            // back on the UI thread where TxService events are handled
+            PostTask.postTask(TaskTraits.USER_VISIBLE, () -> {
+                ArrayList<TransactionInfo[]> filteredTxInfos = new ArrayList<>();
+                for (AsyncUtils.GetAllTransactionInfoResponseContext allTxContext :
+                        allTxContexts) {
+                    filteredTxInfos.add(filterTransactions(allTxContext.txInfos));
+                }
+                PostTask.postTask(UiThreadTaskTraits.DEFAULT, () -> {
+                    for (int i = 0; i < allTxContexts.size(); i++) {
+                        String name = allTxContexts.get(i).name;
+                        TransactionInfo[] newArray = filteredTxInfos.get(i);
+                        TransactionInfo[] value = mTxInfos.get(name);
+                        if (value == null) {
+                            mTxInfos.put(name, newArray);
+                        } else {
+                            TransactionInfo[] both =
+                                    Arrays.copyOf(value, value.length + newArray.length);
+                            System.arraycopy(newArray, 0, both, value.length, newArray.length);
+                            mTxInfos.put(name, both);
                         }
                     }
-                }
-                Collections.sort(newValue, sortByDateComparator);
-                TransactionInfo[] newArray = new TransactionInfo[newValue.size()];
-                newArray = newValue.toArray(newArray);
-                TransactionInfo[] value = mTxInfos.get(allTxContext.name);
-                if (value == null) {
-                    mTxInfos.put(allTxContext.name, newArray);
-                } else {
-                    TransactionInfo[] both = Arrays.copyOf(value, value.length + newArray.length);
-                    System.arraycopy(newArray, 0, both, value.length, newArray.length);
-                    mTxInfos.put(allTxContext.name, both);
-                }
+                    isFetchingTx = false;
+                    updateTransactionList();
+                    if (runWhenDone != null) {
+                        runWhenDone.run();
+                    }
+                });
+            });
+        });
+    }
+
+    private TransactionInfo[] filterTransactions(TransactionInfo[] txInfos) {
+        ArrayList<TransactionInfo> newValue = new ArrayList<TransactionInfo>();
+        for (TransactionInfo txInfo : txInfos) {
+            if (!mReturnAll && txInfo.txStatus != TransactionStatus.UNAPPROVED) {
+                continue;
             }
-            isFetchingTx = false;
-            updateTransactionList();
-            if (runWhenDone != null) {
-                runWhenDone.run();
+            if (mFilterByContractAddress == null) {
+                // Don't filter by contract
+                newValue.add(txInfo);
+            } else if (!mFilterByContractAddress.isEmpty()) {
+                TxData1559 txData = txInfo.txDataUnion.getEthTxData1559();
+                String to = txData.baseData.to.toLowerCase(Locale.ROOT);
+                if (to.equals(mFilterByContractAddressLower)
+                        || (mRopstenContractAddressLower != null
+                                && to.equals(mRopstenContractAddressLower))) {
+                    newValue.add(txInfo);
+                }
+            } else if (txInfo.txType != TransactionType.ERC20_APPROVE
+                    && txInfo.txType != TransactionType.ERC20_TRANSFER
+                    && txInfo.txType != TransactionType.ERC721_TRANSFER_FROM
+                    && txInfo.txType != TransactionType.ERC721_SAFE_TRANSFER_FROM) {
+                // Filter by ETH only
+                newValue.add(txInfo);
             }
-        });
+        }
+        Collections.sort(newValue, sortByDateComparator);
+
+        return newValue.toArray(new TransactionInfo[newValue.size()]);
     }
 
     public void setAccountInfos(AccountInfo[] accountInfos) {
@@ -163,7 +190,7 @@ public class PendingTxHelper implements TxServiceObserver {
     }
 
     public List<TransactionInfo> getPendingTransactions() {
-        return mTransactionInfos;
+        return mTransactionStore.toList();
     }
 
     public void setTxService(TxService txService) {
@@ -171,13 +198,13 @@ public class PendingTxHelper implements TxServiceObserver {
     }
 
     private void updateTransactionList() {
-        mTransactionInfos.clear();
+        List<TransactionInfo> fetched = new ArrayList<>();
         for (TransactionInfo[] transactionInfoArr : mTxInfos.values()) {
-            Collections.addAll(mTransactionInfos, transactionInfoArr);
+            Collections.addAll(fetched, transactionInfoArr);
         }
+        mTransactionStore.replaceAll(fetched);
         processCachedTx();
-        Collections.sort(mTransactionInfos, sortByDateComparator);
-        _mTransactionInfos.postValue(mTransactionInfos);
+        publishTransactions();
         postTxUpdates();
     }
 
@@ -186,10 +213,20 @@ public class PendingTxHelper implements TxServiceObserver {
             mCacheTransactionInfos.add(new TransactionCacheRecord(txActionType, txInfo));
         } else {
             updateTransactionList(txInfo, txActionType);
-            _mTransactionInfos.postValue(mTransactionInfos);
+            publishTransactions();
         }
     }
 
+    // Called on the UI thread, where fetches complete and TxService events arrive, so every
+    // snapshot and its changes are delivered, unlike with postValue
+    private void publishTransactions() {
+        TransactionStore.Snapshot snapshot = mTransactionStore.snapshot();
+        if (snapshot == mPublishedSnapshot) return;
+        mPublishedSnapshot = snapshot;
+        _mTransactionSnapshot.setValue(snapshot);
+        _mTransactionInfos.setValue(snapshot.getTransactionInfos());
+    }
+
     private void processCachedTx() {
         if (!mCacheTransactionInfos.isEmpty()) {
             for (TransactionCacheRecord info : mCacheTransactionInfos) {
@@ -201,37 +238,25 @@ public class PendingTxHelper implements TxServiceObserver {
 
     private void updateTransactionList(TransactionInfo txInfo, TxActionType txActionType) {
         if (txActionType == TxActionType.NEW_UNAPPROVED_TRANSACTION) {
-            if (mTransactionInfos.size() == 0) {
+            if (mTransactionStore.isEmpty()) {
                 _mSelectedPendingRequest.postValue(txInfo);
             }
-            mTransactionInfos.add(txInfo);
+            mTransactionStore.put(txInfo);
         } else {
             if (txActionType == TxActionType.UNAPPROVED_TRANSACTION_UPDATED) {
-                for (int i = 0; i < mTransactionInfos.size(); i++) {
-                    TransactionInfo info = mTransactionInfos.get(i);
-                    if (info.id.equals(txInfo.id)) {
-                        mTransactionInfos.set(i, txInfo);
-                        break;
-                    }
+                if (mTransactionStore.contains(txInfo.id)) {
+                    mTransactionStore.put(txInfo);
                 }
                 if (getSelectedPendingRequest() != null
                         && getSelectedPendingRequest().id.equals(txInfo.id)) {
                     _mSelectedPendingRequest.postValue(txInfo);
                 }
             } else if (txActionType == TxActionType.TRANSACTION_STATUS_CHANGED) {
-                List<TransactionInfo> newTransactionInfos = new ArrayList<>();
-                for (int i = 0; i < mTransactionInfos.size(); i++) {
-                    TransactionInfo info = mTransactionInfos.get(i);
-                    if (!info.id.equals(txInfo.id)) {
-                        newTransactionInfos.add(info);
-                    }
-                }
                 if (txInfo.txStatus == TransactionStatus.UNAPPROVED) {
-                    newTransactionInfos.add(txInfo);
+                    mTransactionStore.put(txInfo);
+                } else {
+                    mTransactionStore.remove(txInfo.id);
                 }
-                mTransactionInfos.clear();
-                mTransactionInfos.addAll(newTransactionInfos);
-                Collections.sort(mTransactionInfos, sortByDateComparator);
                 if ((_mSelectedPendingRequest.getValue() != null
                                     && _mSelectedPendingRequest.getValue().id.equals(txInfo.id)
                             || _mSelectedPendingRequest.getValue() == null)) {
@@ -246,7 +271,7 @@ public class PendingTxHelper implements TxServiceObserver {
     }
 
     private void postTxUpdates() {
-        if (mTransactionInfos.size() > 0) {
+        if (!mTransactionStore.isEmpty()) {
             _mSelectedPendingRequest.postValue(getFirstUnapprovedTx());
         } else {
             _mSelectedPendingRequest.postValue(null);
@@ -259,7 +284,7 @@ public class PendingTxHelper implements TxServiceObserver {
      * returnAll set to true
      */
     private TransactionInfo getFirstUnapprovedTx() {
-        for (TransactionInfo transactionInfo : mTransactionInfos) {
+        for (TransactionInfo transactionInfo : mTransactionStore.getSortedTransactions()) {
             if (transactionInfo.txStatus == TransactionStatus.UNAPPROVED) {
                 return transactionInfo;
             }
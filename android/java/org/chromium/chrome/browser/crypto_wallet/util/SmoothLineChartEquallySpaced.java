@@ -13,7 +13,6 @@ import android.graphics.LinearGradient;
 import android.graphics.Paint;
 import android.graphics.Paint.Style;
 import android.graphics.Path;
-import android.graphics.PointF;
 import android.graphics.Shader;
 import android.text.TextPaint;
 import android.util.AttributeSet;
@@ -26,11 +25,9 @@ import org.chromium.chrome.R;
 import java.text.DateFormat;
 import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
-import java.util.List;
 import java.util.Locale;
-import java.util.TimeZone;
 
 public class SmoothLineChartEquallySpaced extends View {
     private static final int CIRCLE_SIZE = 8;
@@ -41,18 +38,32 @@ public class SmoothLineChartEquallySpaced extends View {
     private static final int CANVAS_TEXT_PADDING_Y = 10;
 
     private final Paint mPaint;
+    private final Paint mLinePaint;
+    private final TextPaint mTextPaint;
     private final Path mPath;
     private final float mCircleSize;
     private final float mStrokeSize;
     private final float mBorder;
+    private final DateFormat mDateFormat;
+    private final DecimalFormat mDecimalFormat;
 
+    // Data as it was set
+    private float[] mRawValues;
+    private long[] mRawTimesMs;
+    // Data downsampled to the view width, it is what gets drawn
     private float[] mValues;
-    private String[] mDates;
+    private long[] mTimesMs;
+    private float[] mPointsX;
+    private float[] mPointsY;
+    private int mFormattedDateIndex = -1;
+    private String mFormattedDate;
+    private int mPriceIndex = -1;
     private float mMinY;
     private float mMaxY;
     private float mCurrentLineX;
     private boolean mNoDrawText;
     private int[] colors;
+    private LinearGradient mGradient;
     private TextView mPrice;
 
     public SmoothLineChartEquallySpaced(Context context) {
@@ -77,6 +88,17 @@ public class SmoothLineChartEquallySpaced extends View {
         mPaint.setAntiAlias(true);
         mPaint.setStrokeWidth(mStrokeSize);
 
+        mLinePaint = new Paint();
+        mLinePaint.setColor(context.getResources().getColor(R.color.wallet_text_color));
+        mLinePaint.setStrokeWidth(2f);
+
+        mTextPaint = new TextPaint(TextPaint.ANTI_ALIAS_FLAG);
+        mTextPaint.setColor(context.getResources().getColor(R.color.wallet_text_color));
+        mTextPaint.setTextSize(35);
+
+        mDateFormat = new SimpleDateFormat("yyyy-MM-dd hh:mm a", Locale.getDefault());
+        mDecimalFormat = new DecimalFormat("#,##0.00");
+
         mPath = new Path();
     }
 
@@ -87,50 +109,33 @@ public class SmoothLineChartEquallySpaced extends View {
     }
 
     public void setData(AssetTimePrice[] data) {
-        mValues = new float[data.length];
-        mDates = new String[data.length];
+        float[] values = new float[data.length];
+        long[] timesMs = new long[data.length];
         for (int index = 0; index < data.length; index++) {
-            mValues[index] = Float.parseFloat(data[index].price);
-            Date date = new Date(data[index].date.microseconds / 1000);
-            DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd hh:mm a", Locale.getDefault());
-            mDates[index] = dateFormat.format(date);
+            values[index] = Float.parseFloat(data[index].price);
+            timesMs[index] = data[index].date.microseconds / 1000;
         }
-
-        if (mValues != null && mValues.length > 0) {
-            mMinY = mValues[0];
-            mMaxY = mValues[0];
-            for (float y : mValues) {
-                if (y > mMaxY) mMaxY = y;
-                if (y < mMinY) mMinY = y;
-            }
-        }
-
-        invalidate();
+        setData(values, timesMs);
     }
 
     public void setData(float[] values) {
-        mValues = values;
-        mDates = new String[values.length];
-
-        if (values != null && values.length > 0) {
-            mMinY = values[0];
-            mMaxY = values[0];
-            for (float y : values) {
-                if (y > mMaxY) mMaxY = y;
-                if (y < mMinY) mMinY = y;
-            }
-        }
-        for (int index = 0; index < mValues.length; index++) {
-            Date date = new Date();
-            DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd hh:mm a", Locale.getDefault());
-            mDates[index] = dateFormat.format(date);
-        }
+        long[] timesMs = new long[values.length];
+        Arrays.fill(timesMs, System.currentTimeMillis());
+        setData(values, timesMs);
+    }
 
+    private void setData(float[] values, long[] timesMs) {
+        mRawValues = values;
+        mRawTimesMs = timesMs;
+        updateChart();
         invalidate();
     }
 
     public void drawLine(float x, TextView price) {
         mNoDrawText = false;
+        if (mPrice != price) {
+            mPriceIndex = -1;
+        }
         mPrice = price;
         mCurrentLineX = x;
         invalidate();
@@ -142,63 +147,170 @@ public class SmoothLineChartEquallySpaced extends View {
 
     public void setColors(int[] colors) {
         this.colors = colors;
+        updateShader();
     }
 
     @Override
-    @SuppressLint("SetTextI18n")
-    public void draw(Canvas canvas) {
-        super.draw(canvas);
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        updateChart();
+    }
 
-        if (mValues == null || mValues.length == 0) return;
+    /**
+     * Largest-Triangle-Three-Buckets downsampling. Picks the indices of at most threshold points
+     * that keep the visual shape of the line. The first and the last points are always kept.
+     */
+    public static int[] downsampleLttb(float[] values, int threshold) {
+        int size = values.length;
+        if (threshold >= size || threshold < 3) {
+            int[] all = new int[size];
+            for (int i = 0; i < size; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
 
-        int size = mValues.length;
+        int[] sampled = new int[threshold];
+        int sampledIndex = 0;
+        // Bucket size, first and last points are not part of any bucket
+        double every = (double) (size - 2) / (threshold - 2);
+        int a = 0;
+        sampled[sampledIndex++] = a;
+        for (int i = 0; i < threshold - 2; i++) {
+            // Average point of the next bucket
+            int avgRangeStart = (int) Math.floor((i + 1) * every) + 1;
+            int avgRangeEnd = Math.min((int) Math.floor((i + 2) * every) + 1, size);
+            double avgX = 0;
+            double avgY = 0;
+            for (int j = avgRangeStart; j < avgRangeEnd; j++) {
+                avgX += j;
+                avgY += values[j];
+            }
+            int avgRangeLength = avgRangeEnd - avgRangeStart;
+            avgX /= avgRangeLength;
+            avgY /= avgRangeLength;
+
+            // Point of the current bucket making the largest triangle with the previously
+            // selected point and the next bucket average
+            int rangeStart = (int) Math.floor(i * every) + 1;
+            int rangeEnd = (int) Math.floor((i + 1) * every) + 1;
+            double maxArea = -1;
+            int next = rangeStart;
+            for (int j = rangeStart; j < rangeEnd; j++) {
+                double area = Math.abs((a - avgX) * (values[j] - values[a])
+                        - (a - j) * (avgY - values[a]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    next = j;
+                }
+            }
+            sampled[sampledIndex++] = next;
+            a = next;
+        }
+        sampled[sampledIndex] = size - 1;
 
-        final float height = getMeasuredHeight() - 2 * mBorder;
-        final float width = getMeasuredWidth() - 2 * mBorder;
+        return sampled;
+    }
 
-        final float dX = mValues.length > 1 ? mValues.length - 1 : (2);
-        final float dY = (mMaxY - mMinY) > 0 ? (mMaxY - mMinY) : (2);
+    private void updateChart() {
+        mFormattedDateIndex = -1;
+        mPriceIndex = -1;
+        if (mRawValues == null || mRawValues.length == 0) {
+            mValues = null;
+            return;
+        }
 
-        mPath.reset();
+        // One point per pixel is as much as can be seen
+        int threshold = getWidth() > 0 ? getWidth() : mRawValues.length;
+        int[] indices = downsampleLttb(mRawValues, threshold);
+        int size = indices.length;
+        mValues = new float[size];
+        mTimesMs = new long[size];
+        for (int i = 0; i < size; i++) {
+            mValues[i] = mRawValues[indices[i]];
+            mTimesMs[i] = mRawTimesMs[indices[i]];
+        }
+        mMinY = mValues[0];
+        mMaxY = mValues[0];
+        for (float y : mValues) {
+            if (y > mMaxY) mMaxY = y;
+            if (y < mMinY) mMinY = y;
+        }
+
+        final float height = getHeight() - 2 * mBorder;
+        final float width = getWidth() - 2 * mBorder;
+
+        final float dX = size > 1 ? size - 1 : (2);
+        final float dY = (mMaxY - mMinY) > 0 ? (mMaxY - mMinY) : (2);
 
         // calculate point coordinates
-        List<PointF> points = new ArrayList<>(size);
+        mPointsX = new float[size];
+        mPointsY = new float[size];
         for (int i = 0; i < size; i++) {
-            float x = mBorder + i * width / dX;
-            float y = mBorder + height - (mValues[i] - mMinY) * height / dY;
-            points.add(new PointF(x, y));
+            mPointsX[i] = mBorder + i * width / dX;
+            mPointsY[i] = mBorder + height - (mValues[i] - mMinY) * height / dY;
         }
 
         // calculate smooth path
+        mPath.reset();
         float lX = 0;
         float lY = 0;
-        mPath.moveTo(points.get(0).x, points.get(0).y);
+        mPath.moveTo(mPointsX[0], mPointsY[0]);
         for (int i = 1; i < size; i++) {
-            PointF p = points.get(i); // current point
-
-            // first control point
-            PointF p0 = points.get(i - 1); // previous point
-            float x1 = p0.x + lX;
-            float y1 = p0.y + lY;
+            // first control point, from the previous point
+            float x1 = mPointsX[i - 1] + lX;
+            float y1 = mPointsY[i - 1] + lY;
 
             // second control point
-            PointF p1 = points.get(i + 1 < size ? i + 1 : i); // next point
-            lX = (p1.x - p0.x) / 2 * SMOOTHNESS; // (lX,lY) is the slope of the reference line
-            lY = (p1.y - p0.y) / 2 * SMOOTHNESS;
-            float x2 = p.x - lX;
-            float y2 = p.y - lY;
+            int next = i + 1 < size ? i + 1 : i; // next point
+            // (lX,lY) is the slope of the reference line
+            lX = (mPointsX[next] - mPointsX[i - 1]) / 2 * SMOOTHNESS;
+            lY = (mPointsY[next] - mPointsY[i - 1]) / 2 * SMOOTHNESS;
+            float x2 = mPointsX[i] - lX;
+            float y2 = mPointsY[i] - lY;
 
             // add line
-            mPath.cubicTo(x1, y1, x2, y2, p.x, p.y);
+            mPath.cubicTo(x1, y1, x2, y2, mPointsX[i], mPointsY[i]);
+        }
+
+        updateShader();
+    }
+
+    private void updateShader() {
+        mGradient = null;
+        if (colors == null || colors.length <= 1) return;
+        final float height = getHeight() - 2 * mBorder;
+        final float width = getWidth() - 2 * mBorder;
+        if (width <= 0 || height <= 0) return;
+        mGradient = new LinearGradient(0, 0, width, height,
+                colors, // substitute the correct colors for these
+                new float[] {0, 0.60f, 0.90f}, Shader.TileMode.CLAMP);
+    }
+
+    private String getFormattedDate(int index) {
+        if (index != mFormattedDateIndex) {
+            mFormattedDate = mDateFormat.format(new Date(mTimesMs[index]));
+            mFormattedDateIndex = index;
         }
 
+        return mFormattedDate;
+    }
+
+    @Override
+    @SuppressLint("SetTextI18n")
+    public void draw(Canvas canvas) {
+        super.draw(canvas);
+
+        if (mValues == null || mValues.length == 0) return;
+
+        int last = mValues.length - 1;
+        final float width = getWidth() - 2 * mBorder;
+
         // draw path
-        if (colors.length > 1) {
-            LinearGradient linearGradient = new LinearGradient(0, 0, width, height,
-                    colors, // substitute the correct colors for these
-                    new float[] {0, 0.60f, 0.90f}, Shader.TileMode.CLAMP);
-            mPaint.setShader(linearGradient);
+        if (mGradient != null) {
+            mPaint.setShader(mGradient);
         } else {
+            mPaint.setShader(null);
             mPaint.setColor(colors[0]);
         }
         mPaint.setStyle(Style.STROKE);
@@ -206,41 +318,34 @@ public class SmoothLineChartEquallySpaced extends View {
 
         // draw circles
         mPaint.setStyle(Style.FILL_AND_STROKE);
-        canvas.drawCircle(points.get(points.size() - 1).x, points.get(points.size() - 1).y,
-                mCircleSize / 2, mPaint);
+        canvas.drawCircle(mPointsX[last], mPointsY[last], mCircleSize / 2, mPaint);
         mPaint.setStyle(Style.FILL);
+        mPaint.setShader(null);
         mPaint.setColor(Color.WHITE);
-        canvas.drawCircle(points.get(points.size() - 1).x, points.get(points.size() - 1).y,
-                (mCircleSize - mStrokeSize) / 2, mPaint);
+        canvas.drawCircle(mPointsX[last], mPointsY[last], (mCircleSize - mStrokeSize) / 2, mPaint);
 
         // Draw vertical lines
         if (mCurrentLineX != -1) {
-            Paint paint = new Paint();
-            paint.setColor(getResources().getColor(R.color.wallet_text_color));
-
-            paint.setStrokeWidth(2f);
             canvas.drawLine(mCurrentLineX, CANVAS_TEXT_START_Y + CANVAS_TEXT_PADDING_Y,
-                    mCurrentLineX, getHeight() - mBorder - mStrokeSize / 2, paint);
+                    mCurrentLineX, getHeight() - mBorder - mStrokeSize / 2, mLinePaint);
             float possibleValue =
                     mValues.length > 1 ? (mCurrentLineX / (width / mValues.length)) : 0;
             if (possibleValue < 0) {
                 possibleValue = 0;
-            } else if (possibleValue >= mDates.length) {
-                possibleValue = mDates.length - 1;
+            } else if (possibleValue >= mValues.length) {
+                possibleValue = mValues.length - 1;
             }
-            TextPaint paintText = new TextPaint(TextPaint.ANTI_ALIAS_FLAG);
-            paintText.setColor(getResources().getColor(R.color.wallet_text_color));
-            paintText.setTextSize(35);
+            int index = (int) possibleValue;
             float textX = mCurrentLineX - 150;
             if (textX < 0) {
                 textX = mCurrentLineX;
             }
-            if (!mNoDrawText)
-                canvas.drawText(String.valueOf(mDates[(int) possibleValue]), textX,
-                        CANVAS_TEXT_START_Y, paintText);
-            if (mPrice != null) {
-                DecimalFormat decimalFormat = new DecimalFormat("#,##0.00");
-                mPrice.setText("$" + decimalFormat.format(mValues[(int) possibleValue]));
+            if (!mNoDrawText) {
+                canvas.drawText(getFormattedDate(index), textX, CANVAS_TEXT_START_Y, mTextPaint);
+            }
+            if (mPrice != null && index != mPriceIndex) {
+                mPriceIndex = index;
+                mPrice.setText("$" + mDecimalFormat.format(mValues[index]));
             }
         }
     }
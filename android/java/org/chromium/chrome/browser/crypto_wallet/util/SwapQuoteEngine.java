@@ -0,0 +1,239 @@
+/* Copyright (c) 2022 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.crypto_wallet.util;
+
+import android.os.Handler;
+import android.os.SystemClock;
+
+import org.chromium.brave_wallet.mojom.EthTxManagerProxy;
+import org.chromium.brave_wallet.mojom.GasEstimation1559;
+import org.chromium.brave_wallet.mojom.SwapParams;
+import org.chromium.brave_wallet.mojom.SwapResponse;
+import org.chromium.brave_wallet.mojom.SwapService;
+import org.chromium.mojo.bindings.Callbacks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Debounces, caches and orders swap price quotes. Every request bumps a generation number and a
+ * reply is only delivered when it belongs to the latest generation, so slow replies for older
+ * amounts can no longer overwrite a newer quote. Gas estimations are coalesced the same way:
+ * callers that ask while an estimation is in flight share its reply.
+ * All methods must be called on the thread of the handler passed in.
+ */
+public class SwapQuoteEngine {
+    public static final long DEFAULT_DEBOUNCE_MS = 300;
+    public static final long DEFAULT_CACHE_TTL_MS = 10000;
+    private static final long GAS_ESTIMATION_TTL_MS = 5000;
+    private static final int MAX_CACHED_QUOTES = 16;
+
+    public interface QuoteCallback {
+        void onQuote(boolean success, SwapResponse response, String errorResponse);
+    }
+
+    private static class CachedQuote {
+        final SwapResponse response;
+        final long timeMs;
+
+        CachedQuote(SwapResponse response, long timeMs) {
+            this.response = response;
+            this.timeMs = timeMs;
+        }
+    }
+
+    private final Handler mHandler;
+    private final long mDebounceMs;
+    private final long mCacheTtlMs;
+    private final LinkedHashMap<String, CachedQuote> mQuotes;
+    private SwapService mSwapService;
+    private Runnable mPendingQuote;
+    private long mGeneration;
+
+    private final List<Callbacks.Callback1<GasEstimation1559>> mGasEstimationCallbacks;
+    private GasEstimation1559 mGasEstimation;
+    private long mGasEstimationTimeMs;
+
+    private int mQuoteRequests;
+    private int mCacheHits;
+    private int mDiscardedResponses;
+    private long mTotalLatencyMs;
+    private long mMaxLatencyMs;
+    private int mCompletedQuotes;
+
+    public SwapQuoteEngine(Handler handler) {
+        this(handler, DEFAULT_DEBOUNCE_MS, DEFAULT_CACHE_TTL_MS);
+    }
+
+    public SwapQuoteEngine(Handler handler, long debounceMs, long cacheTtlMs) {
+        assert handler != null;
+        mHandler = handler;
+        mDebounceMs = debounceMs;
+        mCacheTtlMs = cacheTtlMs;
+        mQuotes = new LinkedHashMap<String, CachedQuote>(MAX_CACHED_QUOTES, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedQuote> eldest) {
+                return size() > MAX_CACHED_QUOTES;
+            }
+        };
+        mGasEstimationCallbacks = new ArrayList<>();
+    }
+
+    public void setSwapService(SwapService swapService) {
+        mSwapService = swapService;
+    }
+
+    /**
+     * Requests a price quote after the debounce delay, or answers it from the cache. A newer
+     * request made before the delay expires replaces this one.
+     */
+    public void requestPriceQuote(SwapParams swapParams, QuoteCallback callback) {
+        requestPriceQuote(swapParams, callback, true);
+    }
+
+    /**
+     * Requests a price quote right away, bypassing the cache, still discarding replies of older
+     * requests. Used for explicit refreshes, which must get a fresh quote.
+     */
+    public void requestPriceQuoteNow(SwapParams swapParams, QuoteCallback callback) {
+        requestPriceQuote(swapParams, callback, false);
+    }
+
+    private void requestPriceQuote(
+            SwapParams swapParams, QuoteCallback callback, boolean debounce) {
+        final long generation = cancel();
+        String key = getQuoteKey(swapParams);
+        CachedQuote cachedQuote = debounce ? mQuotes.get(key) : null;
+        if (cachedQuote != null) {
+            if (SystemClock.elapsedRealtime() - cachedQuote.timeMs <= mCacheTtlMs) {
+                mCacheHits++;
+                callback.onQuote(true, cachedQuote.response, null);
+
+                return;
+            }
+            mQuotes.remove(key);
+        }
+
+        mPendingQuote = () -> {
+            mPendingQuote = null;
+            if (mSwapService == null) return;
+            mQuoteRequests++;
+            final long startMs = SystemClock.elapsedRealtime();
+            mSwapService.getPriceQuote(swapParams, (success, response, errorResponse) -> {
+                long latencyMs = SystemClock.elapsedRealtime() - startMs;
+                mTotalLatencyMs += latencyMs;
+                mMaxLatencyMs = Math.max(mMaxLatencyMs, latencyMs);
+                mCompletedQuotes++;
+                if (success) {
+                    mQuotes.put(key, new CachedQuote(response, SystemClock.elapsedRealtime()));
+                }
+                if (generation != mGeneration) {
+                    mDiscardedResponses++;
+
+                    return;
+                }
+                callback.onQuote(success, response, errorResponse);
+            });
+        };
+        if (debounce && mDebounceMs > 0) {
+            mHandler.postDelayed(mPendingQuote, mDebounceMs);
+        } else {
+            mPendingQuote.run();
+        }
+    }
+
+    /**
+     * Drops a debounced request that has not been sent yet and makes replies of all requests
+     * sent so far stale.
+     * @return the new generation number
+     */
+    public long cancel() {
+        if (mPendingQuote != null) {
+            mHandler.removeCallbacks(mPendingQuote);
+            mPendingQuote = null;
+        }
+
+        return ++mGeneration;
+    }
+
+    /**
+     * Forgets cached quotes, e.g. when the network changes.
+     */
+    public void clearCache() {
+        mQuotes.clear();
+        mGasEstimation = null;
+    }
+
+    /**
+     * Returns a recent gas estimation or joins the estimation that is already in flight, so
+     * repeated requests result in a single call to the tx manager.
+     */
+    public void getGasEstimation1559(
+            EthTxManagerProxy ethTxManagerProxy, Callbacks.Callback1<GasEstimation1559> callback) {
+        if (mGasEstimation != null
+                && SystemClock.elapsedRealtime() - mGasEstimationTimeMs <= GAS_ESTIMATION_TTL_MS) {
+            callback.call(mGasEstimation);
+
+            return;
+        }
+        mGasEstimationCallbacks.add(callback);
+        if (mGasEstimationCallbacks.size() > 1) return;
+
+        ethTxManagerProxy.getGasEstimation1559(estimation -> {
+            mGasEstimation = estimation;
+            mGasEstimationTimeMs = SystemClock.elapsedRealtime();
+            List<Callbacks.Callback1<GasEstimation1559>> callbacks =
+                    new ArrayList<>(mGasEstimationCallbacks);
+            mGasEstimationCallbacks.clear();
+            for (Callbacks.Callback1<GasEstimation1559> pendingCallback : callbacks) {
+                pendingCallback.call(estimation);
+            }
+        });
+    }
+
+    /**
+     * Cancels everything in flight and forgets cached results. Used when the mojo services are
+     * reconnected, as replies from the old connections never arrive.
+     */
+    public void reset() {
+        cancel();
+        clearCache();
+        mGasEstimationCallbacks.clear();
+    }
+
+    public void destroy() {
+        reset();
+        mSwapService = null;
+    }
+
+    public int getQuoteRequestsCount() {
+        return mQuoteRequests;
+    }
+
+    public int getCacheHitsCount() {
+        return mCacheHits;
+    }
+
+    public int getDiscardedResponsesCount() {
+        return mDiscardedResponses;
+    }
+
+    public long getAverageLatencyMs() {
+        return mCompletedQuotes == 0 ? 0 : mTotalLatencyMs / mCompletedQuotes;
+    }
+
+    public long getMaxLatencyMs() {
+        return mMaxLatencyMs;
+    }
+
+    private static String getQuoteKey(SwapParams swapParams) {
+        return swapParams.takerAddress + "|" + swapParams.sellToken + "|" + swapParams.buyToken
+                + "|" + swapParams.sellAmount + "|" + swapParams.buyAmount + "|"
+                + swapParams.slippagePercentage;
+    }
+}
@@ -17,7 +17,9 @@ import java.lang.UnsupportedOperationException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 
 public class TokenUtils {
     // For  convenience, ERC20 also means ETH
@@ -96,18 +98,13 @@ public class TokenUtils {
 
     private static BlockchainToken[] concatenateTwoArrays(
             BlockchainToken[] arrayFirst, BlockchainToken[] arraySecond) {
-        List<BlockchainToken> both = new ArrayList<>();
+        List<BlockchainToken> both = new ArrayList<>(arrayFirst.length + arraySecond.length);
 
         Collections.addAll(both, arrayFirst);
+        HashSet<String> firstContractAddresses = contractAddressesOf(arrayFirst);
         for (BlockchainToken tokenSecond : arraySecond) {
-            boolean add = true;
-            for (BlockchainToken tokenFirst : arrayFirst) {
-                if (tokenFirst.contractAddress.equals(tokenSecond.contractAddress)) {
-                    add = false;
-                    break;
-                }
-            }
-            if (add) {
+            if (!firstContractAddresses.contains(
+                        normalizeContractAddress(tokenSecond.contractAddress))) {
                 both.add(tokenSecond);
             }
         }
@@ -115,6 +112,19 @@ public class TokenUtils {
         return both.toArray(new BlockchainToken[both.size()]);
     }
 
+    private static HashSet<String> contractAddressesOf(BlockchainToken[] tokens) {
+        HashSet<String> contractAddresses = new HashSet<>(tokens.length * 2);
+        for (BlockchainToken token : tokens) {
+            contractAddresses.add(normalizeContractAddress(token.contractAddress));
+        }
+
+        return contractAddresses;
+    }
+
+    private static String normalizeContractAddress(String contractAddress) {
+        return contractAddress == null ? "" : contractAddress.toLowerCase(Locale.ROOT);
+    }
+
     public static boolean isSameToken(BlockchainToken token1, BlockchainToken token2) {
         if (token1.chainId.equals(token2.chainId) && token1.symbol.equals(token2.symbol)
                 && token1.name.equals(token2.name)
@@ -0,0 +1,140 @@
+/* Copyright (c) 2022 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.crypto_wallet.util;
+
+import org.chromium.base.ThreadUtils;
+import org.chromium.brave_wallet.mojom.CoinType;
+import org.chromium.brave_wallet.mojom.TransactionInfo;
+import org.chromium.brave_wallet.mojom.TxService;
+import org.chromium.chrome.browser.crypto_wallet.observers.TxServiceObserver;
+import org.chromium.mojo.system.MojoException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Process wide cache of TxService.getAllTransactionInfo results per account. Entries are
+ * dropped when TxService reports a change for the account, so opening wallet screens again
+ * does not go back to the service. Concurrent requests for the same account share one call.
+ * Must be used on the UI thread.
+ */
+public class TransactionCache implements TxServiceObserver {
+    private static TransactionCache sInstance;
+
+    private final HashMap<String, TransactionInfo[]> mTxInfos;
+    private final HashMap<String, List<TxService.GetAllTransactionInfo_Response>> mPending;
+    private final HashMap<String, TxService> mPendingServices;
+    // Bumped on every invalidation, so that replies that raced with a change are not stored
+    private final HashMap<String, Integer> mGenerations;
+    private boolean mIsObserving;
+
+    public static TransactionCache getInstance() {
+        ThreadUtils.assertOnUiThread();
+        if (sInstance == null) {
+            sInstance = new TransactionCache();
+        }
+
+        return sInstance;
+    }
+
+    private TransactionCache() {
+        mTxInfos = new HashMap<>();
+        mPending = new HashMap<>();
+        mPendingServices = new HashMap<>();
+        mGenerations = new HashMap<>();
+    }
+
+    public void getAllTransactionInfo(TxService txService, String address,
+            TxService.GetAllTransactionInfo_Response callback) {
+        ThreadUtils.assertOnUiThread();
+        assert txService != null;
+        if (!mIsObserving) {
+            // Nothing cached can be trusted without the observer
+            mTxInfos.clear();
+            txService.addObserver(this);
+            mIsObserving = true;
+        }
+        String key = normalizeAddress(address);
+        TransactionInfo[] txInfos = mTxInfos.get(key);
+        if (txInfos != null) {
+            callback.call(txInfos);
+
+            return;
+        }
+        List<TxService.GetAllTransactionInfo_Response> pending = mPending.get(key);
+        if (pending == null) {
+            pending = new ArrayList<>();
+            mPending.put(key, pending);
+        }
+        pending.add(callback);
+        // Only join a call made through the same connection. The one used for the call in
+        // flight may have been closed by a finished activity, in which case the reply never
+        // comes, so a new call also answers the callers that were waiting for the old one.
+        if (mPendingServices.get(key) == txService) return;
+        mPendingServices.put(key, txService);
+        final int generation = getGeneration(key);
+        txService.getAllTransactionInfo(CoinType.ETH, address, result -> {
+            if (generation == getGeneration(key)) {
+                mTxInfos.put(key, result);
+            }
+            mPendingServices.remove(key);
+            List<TxService.GetAllTransactionInfo_Response> callbacks = mPending.remove(key);
+            if (callbacks == null) return;
+            for (TxService.GetAllTransactionInfo_Response pendingCallback : callbacks) {
+                pendingCallback.call(result);
+            }
+        });
+    }
+
+    public void invalidate(String address) {
+        String key = normalizeAddress(address);
+        mTxInfos.remove(key);
+        mGenerations.put(key, getGeneration(key) + 1);
+    }
+
+    public void invalidateAll() {
+        for (String key : mTxInfos.keySet()) {
+            mGenerations.put(key, getGeneration(key) + 1);
+        }
+        for (String key : mPending.keySet()) {
+            mGenerations.put(key, getGeneration(key) + 1);
+        }
+        mTxInfos.clear();
+    }
+
+    @Override
+    public void onNewUnapprovedTx(TransactionInfo txInfo) {
+        invalidate(txInfo.fromAddress);
+    }
+
+    @Override
+    public void onUnapprovedTxUpdated(TransactionInfo txInfo) {
+        invalidate(txInfo.fromAddress);
+    }
+
+    @Override
+    public void onTransactionStatusChanged(TransactionInfo txInfo) {
+        invalidate(txInfo.fromAddress);
+    }
+
+    @Override
+    public void onConnectionError(MojoException e) {
+        mIsObserving = false;
+        invalidateAll();
+    }
+
+    private int getGeneration(String key) {
+        Integer generation = mGenerations.get(key);
+
+        return generation == null ? 0 : generation;
+    }
+
+    private static String normalizeAddress(String address) {
+        return address == null ? "" : address.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,238 @@
+/* Copyright (c) 2022 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.crypto_wallet.util;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+
+import org.chromium.brave_wallet.mojom.TransactionInfo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Keeps transactions indexed by id and ordered by creation time (newest first). Single
+ * transaction events are applied in O(log n). {@link #snapshot()} returns an immutable view of
+ * the current state together with the ids that were added, updated or removed since the
+ * previous snapshot.
+ * Not thread safe, meant to be used from the thread that receives TxService events.
+ */
+public class TransactionStore {
+    /**
+     * DiffUtil callback for lists published by the store. The store keeps the stored object of a
+     * transaction that did not change and updated transactions come as new mojo objects, so an
+     * identity check is enough to detect content changes.
+     */
+    public static final DiffUtil.ItemCallback<TransactionInfo> DIFF_CALLBACK =
+            new DiffUtil.ItemCallback<TransactionInfo>() {
+                @Override
+                public boolean areItemsTheSame(
+                        @NonNull TransactionInfo oldItem, @NonNull TransactionInfo newItem) {
+                    return oldItem.id.equals(newItem.id);
+                }
+
+                @Override
+                public boolean areContentsTheSame(
+                        @NonNull TransactionInfo oldItem, @NonNull TransactionInfo newItem) {
+                    return oldItem == newItem;
+                }
+            };
+
+    private static final Comparator<TransactionInfo> SORT_BY_DATE_COMPARATOR = (lhs, rhs) -> {
+        int result = Long.compare(rhs.createdTime.microseconds, lhs.createdTime.microseconds);
+        return result != 0 ? result : lhs.id.compareTo(rhs.id);
+    };
+
+    /**
+     * Immutable state of the store at the moment {@link #snapshot()} was called.
+     */
+    public static class Snapshot {
+        private final List<TransactionInfo> mTransactionInfos;
+        private final Set<String> mAddedIds;
+        private final Set<String> mUpdatedIds;
+        private final Set<String> mRemovedIds;
+
+        private Snapshot(List<TransactionInfo> transactionInfos, Set<String> addedIds,
+                Set<String> updatedIds, Set<String> removedIds) {
+            mTransactionInfos = Collections.unmodifiableList(transactionInfos);
+            mAddedIds = Collections.unmodifiableSet(addedIds);
+            mUpdatedIds = Collections.unmodifiableSet(updatedIds);
+            mRemovedIds = Collections.unmodifiableSet(removedIds);
+        }
+
+        public List<TransactionInfo> getTransactionInfos() {
+            return mTransactionInfos;
+        }
+
+        public Set<String> getAddedIds() {
+            return mAddedIds;
+        }
+
+        public Set<String> getUpdatedIds() {
+            return mUpdatedIds;
+        }
+
+        public Set<String> getRemovedIds() {
+            return mRemovedIds;
+        }
+
+        public boolean hasChanges() {
+            return !mAddedIds.isEmpty() || !mUpdatedIds.isEmpty() || !mRemovedIds.isEmpty();
+        }
+    }
+
+    private final LinkedHashMap<String, TransactionInfo> mById;
+    private final TreeSet<TransactionInfo> mByDate;
+    // State as of the last snapshot, only touched for dirty ids
+    private final HashMap<String, TransactionInfo> mPublishedById;
+    private final HashSet<String> mDirtyIds;
+    private Snapshot mLastSnapshot;
+
+    public TransactionStore() {
+        mById = new LinkedHashMap<>();
+        mByDate = new TreeSet<>(SORT_BY_DATE_COMPARATOR);
+        mPublishedById = new HashMap<>();
+        mDirtyIds = new HashSet<>();
+        mLastSnapshot = new Snapshot(Collections.emptyList(), Collections.emptySet(),
+                Collections.emptySet(), Collections.emptySet());
+    }
+
+    /**
+     * Adds the transaction or replaces the one with the same id.
+     */
+    public void put(TransactionInfo txInfo) {
+        TransactionInfo previous = mById.put(txInfo.id, txInfo);
+        if (previous != null) {
+            mByDate.remove(previous);
+        }
+        mByDate.add(txInfo);
+        mDirtyIds.add(txInfo.id);
+    }
+
+    public void putAll(Collection<TransactionInfo> txInfos) {
+        for (TransactionInfo txInfo : txInfos) {
+            put(txInfo);
+        }
+    }
+
+    /**
+     * Replaces all transactions with the fetched ones. Fetched transactions come back as new
+     * objects, the stored object is kept when the transaction did not change, so only the
+     * transactions that changed are replaced.
+     */
+    public void replaceAll(Collection<TransactionInfo> txInfos) {
+        HashSet<String> ids = new HashSet<>();
+        for (TransactionInfo txInfo : txInfos) {
+            ids.add(txInfo.id);
+            TransactionInfo previous = mById.get(txInfo.id);
+            if (previous == null || !isSameState(previous, txInfo)) {
+                put(txInfo);
+            }
+        }
+        for (String id : new ArrayList<>(mById.keySet())) {
+            if (!ids.contains(id)) {
+                remove(id);
+            }
+        }
+    }
+
+    public TransactionInfo remove(String id) {
+        TransactionInfo previous = mById.remove(id);
+        if (previous != null) {
+            mByDate.remove(previous);
+            mDirtyIds.add(id);
+        }
+
+        return previous;
+    }
+
+    public void clear() {
+        mDirtyIds.addAll(mById.keySet());
+        mById.clear();
+        mByDate.clear();
+    }
+
+    public TransactionInfo get(String id) {
+        return mById.get(id);
+    }
+
+    public boolean contains(String id) {
+        return mById.containsKey(id);
+    }
+
+    public int size() {
+        return mById.size();
+    }
+
+    public boolean isEmpty() {
+        return mById.isEmpty();
+    }
+
+    /**
+     * @return transactions ordered by creation time, newest first
+     */
+    public Iterable<TransactionInfo> getSortedTransactions() {
+        return Collections.unmodifiableSet(mByDate);
+    }
+
+    /**
+     * @return a copy of the transactions ordered by creation time, newest first
+     */
+    public List<TransactionInfo> toList() {
+        return new ArrayList<>(mByDate);
+    }
+
+    /**
+     * Returns the current state and the changes since the previous call. When nothing changed
+     * the previous snapshot is returned.
+     */
+    public Snapshot snapshot() {
+        if (mDirtyIds.isEmpty()) return mLastSnapshot;
+
+        HashSet<String> addedIds = new HashSet<>();
+        HashSet<String> updatedIds = new HashSet<>();
+        HashSet<String> removedIds = new HashSet<>();
+        for (String id : mDirtyIds) {
+            TransactionInfo published = mPublishedById.get(id);
+            TransactionInfo current = mById.get(id);
+            if (current == null) {
+                if (published != null) {
+                    removedIds.add(id);
+                    mPublishedById.remove(id);
+                }
+            } else if (published == null) {
+                addedIds.add(id);
+                mPublishedById.put(id, current);
+            } else if (published != current) {
+                updatedIds.add(id);
+                mPublishedById.put(id, current);
+            }
+        }
+        mDirtyIds.clear();
+        if (addedIds.isEmpty() && updatedIds.isEmpty() && removedIds.isEmpty()) {
+            return mLastSnapshot;
+        }
+        mLastSnapshot =
+                new Snapshot(new ArrayList<>(mByDate), addedIds, updatedIds, removedIds);
+
+        return mLastSnapshot;
+    }
+
+    private static boolean isSameState(TransactionInfo lhs, TransactionInfo rhs) {
+        return lhs.txStatus == rhs.txStatus && lhs.txHash.equals(rhs.txHash)
+                && lhs.createdTime.microseconds == rhs.createdTime.microseconds
+                && lhs.submittedTime.microseconds == rhs.submittedTime.microseconds
+                && lhs.confirmedTime.microseconds == rhs.confirmedTime.microseconds;
+    }
+}
@@ -1278,6 +1278,14 @@ public class Utils {
                     tokens = fixupTokensRegistry(tokens, chainId);
                     HashMap<String, String> assets = new HashMap<String, String>();
                     HashMap<String, Integer> assetsDecimals = new HashMap<String, Integer>();
+                    // First token wins for a contract address, as with the former linear scan
+                    HashMap<String, BlockchainToken> tokensByContractAddress = new HashMap<>();
+                    for (BlockchainToken token : tokens) {
+                        String contractAddress = token.contractAddress.toLowerCase(Locale.ROOT);
+                        if (!tokensByContractAddress.containsKey(contractAddress)) {
+                            tokensByContractAddress.put(contractAddress, token);
+                        }
+                    }
                     for (String accountName : pendingTxInfos.keySet()) {
                         TransactionInfo[] txInfos = pendingTxInfos.get(accountName);
                         for (TransactionInfo txInfo : txInfos) {
@@ -1285,21 +1293,18 @@ public class Utils {
                                     || txInfo.txType == TransactionType.ERC20_APPROVE
                                     || txInfo.txType == TransactionType.ERC721_TRANSFER_FROM
                                     || txInfo.txType == TransactionType.ERC721_SAFE_TRANSFER_FROM) {
-                                for (BlockchainToken token : tokens) {
+                                BlockchainToken token = tokensByContractAddress.get(
+                                        txInfo.txDataUnion.getEthTxData1559()
+                                                .baseData.to.toLowerCase(Locale.ROOT));
+                                if (token != null) {
                                     String symbol = token.symbol;
                                     int decimals = token.decimals;
                                     if (txInfo.txType == TransactionType.ERC20_APPROVE) {
                                         symbol = chainSymbol;
                                         decimals = chainDecimals;
                                     }
-                                    if (token.contractAddress.toLowerCase(Locale.getDefault())
-                                                    .equals(txInfo.txDataUnion.getEthTxData1559()
-                                                                    .baseData.to.toLowerCase(
-                                                                            Locale.getDefault()))) {
-                                        assets.put(txInfo.id, symbol);
-                                        assetsDecimals.put(symbol, decimals);
-                                        break;
-                                    }
+                                    assets.put(txInfo.id, symbol);
+                                    assetsDecimals.put(symbol, decimals);
                                 }
                             } else {
                                 assets.put(txInfo.id, chainSymbol);
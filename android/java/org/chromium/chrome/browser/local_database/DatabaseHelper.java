@@ -97,6 +97,50 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         }
     }
 
+    /**
+     * Inserts the ads whose uuid is not in the table yet, in a single transaction.
+     * @return the ads that were inserted
+     */
+    public List<DisplayAdsTable> insertAds(List<DisplayAdsTable> ads) {
+        List<DisplayAdsTable> insertedAds = new ArrayList<>();
+        SQLiteDatabase db = this.getWritableDatabase();
+        db.beginTransaction();
+        try {
+            for (DisplayAdsTable ad : ads) {
+                if (isDisplayAdAlreadyAdded(db, ad.getUuid())) continue;
+
+                ContentValues values = new ContentValues();
+                values.put(DisplayAdsTable.COLUMN_UUID, ad.getUuid());
+                values.put(DisplayAdsTable.COLUMN_CREATIVE_INSTANCE_ID, ad.getCreativeInstanceId());
+                values.put(DisplayAdsTable.COLUMN_POSITION, ad.getPosition());
+                values.put(DisplayAdsTable.COLUMN_TAB_ID, ad.getTabId());
+                values.put(DisplayAdsTable.COLUMN_AD_TITLE, ad.getAdTitle());
+                values.put(DisplayAdsTable.COLUMN_AD_DESCRIPTION, ad.getAdDescription());
+                values.put(DisplayAdsTable.COLUMN_AD_CTA_TEXT, ad.getAdCtaText());
+                values.put(DisplayAdsTable.COLUMN_AD_CTA_LINK, ad.getAdCtaLink());
+                values.put(DisplayAdsTable.COLUMN_AD_IMAGE, ad.getAdImage());
+                if (db.insert(DisplayAdsTable.TABLE_NAME, null, values) != -1) {
+                    insertedAds.add(ad);
+                }
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+
+        return insertedAds;
+    }
+
+    private boolean isDisplayAdAlreadyAdded(SQLiteDatabase db, String uuid) {
+        String query = "Select 1 from " + DisplayAdsTable.TABLE_NAME + " where "
+                + DisplayAdsTable.COLUMN_UUID + " =? limit 1";
+        Cursor cursor = db.rawQuery(query, new String[] {uuid});
+        boolean added = cursor.getCount() > 0;
+        cursor.close();
+
+        return added;
+    }
+
     public boolean isDisplayAdAlreadyAdded(String uuid) {
         String sql = "Select * from " + DisplayAdsTable.TABLE_NAME + " where "
                 + DisplayAdsTable.COLUMN_UUID + " = '" + uuid + "'";
@@ -23,6 +23,7 @@ import android.graphics.drawable.BitmapDrawable;
 import android.net.Uri;
 import android.os.Build;
 import android.os.Handler;
+import android.os.SystemClock;
 import android.text.Html;
 import android.text.Spannable;
 import android.text.SpannableStringBuilder;
@@ -65,17 +66,9 @@ import org.json.JSONException;
 
 import org.chromium.base.ContextUtils;
 import org.chromium.base.Log;
-import org.chromium.base.ThreadUtils;
 import org.chromium.base.supplier.Supplier;
-import org.chromium.base.task.AsyncTask;
-import org.chromium.brave_news.mojom.Article;
+import org.chromium.base.task.TaskTraits;
 import org.chromium.brave_news.mojom.BraveNewsController;
-import org.chromium.brave_news.mojom.CardType;
-import org.chromium.brave_news.mojom.DisplayAd;
-import org.chromium.brave_news.mojom.FeedItem;
-import org.chromium.brave_news.mojom.FeedItemMetadata;
-import org.chromium.brave_news.mojom.FeedPage;
-import org.chromium.brave_news.mojom.FeedPageItem;
 import org.chromium.chrome.R;
 import org.chromium.chrome.browser.BraveAdsNativeHelper;
 import org.chromium.chrome.browser.BraveFeatureList;
@@ -85,9 +78,12 @@ import org.chromium.chrome.browser.QRCodeShareDialogFragment;
 import org.chromium.chrome.browser.app.BraveActivity;
 import org.chromium.chrome.browser.brave_news.BraveNewsAdapterFeedCard;
 import org.chromium.chrome.browser.brave_news.BraveNewsControllerFactory;
+import org.chromium.chrome.browser.brave_news.BraveNewsFeedBuilder;
+import org.chromium.chrome.browser.brave_news.BraveNewsFeedSnapshot;
+import org.chromium.chrome.browser.brave_news.BraveNewsImageCache;
+import org.chromium.chrome.browser.brave_news.BraveNewsImpressionTracker;
 import org.chromium.chrome.browser.brave_news.BraveNewsUtils;
 import org.chromium.chrome.browser.brave_news.LinearLayoutManagerWrapper;
-import org.chromium.chrome.browser.brave_news.models.FeedItemCard;
 import org.chromium.chrome.browser.brave_news.models.FeedItemsCard;
 import org.chromium.chrome.browser.brave_stats.BraveStatsUtil;
 import org.chromium.chrome.browser.compositor.CompositorViewHolder;
@@ -109,8 +105,10 @@ import org.chromium.chrome.browser.ntp_background_images.model.TopSite;
 import org.chromium.chrome.browser.ntp_background_images.model.Wallpaper;
 import org.chromium.chrome.browser.ntp_background_images.util.FetchWallpaperWorkerTask;
 import org.chromium.chrome.browser.ntp_background_images.util.NTPUtil;
+import org.chromium.chrome.browser.ntp_background_images.util.NTPWallpaperScheduler;
 import org.chromium.chrome.browser.ntp_background_images.util.NewTabPageListener;
 import org.chromium.chrome.browser.ntp_background_images.util.SponsoredImageUtil;
+import org.chromium.chrome.browser.ntp_background_images.util.TopSiteIconCache;
 import org.chromium.chrome.browser.offlinepages.DownloadUiActionFlags;
 import org.chromium.chrome.browser.offlinepages.OfflinePageBridge;
 import org.chromium.chrome.browser.offlinepages.RequestCoordinatorBridge;
@@ -141,16 +139,11 @@ import org.chromium.mojo.system.MojoException;
 import org.chromium.ui.base.WindowAndroid;
 import org.chromium.ui.widget.Toast;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Timer;
-import java.util.TimerTask;
 import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 public class BraveNewTabPageLayout extends NewTabPageLayout implements ConnectionErrorHandler {
     private static final String TAG = "BraveNewTabPageView";
@@ -161,10 +154,7 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
     private static final int MINIMUM_VISIBLE_HEIGHT_THRESHOLD = 50;
     private static final int NEWS_SCROLL_TO_TOP_NEW = -1;
     private static final int NEWS_SCROLL_TO_TOP_RELOAD = -2;
-    private static final String BRAVE_NESTED_SCROLLVIEW_POSITION = "nestedscrollview_position_";
-    private static final String BRAVE_RECYCLERVIEW_POSITION = "recyclerview_visible_position_";
-    private static final String BRAVE_RECYCLERVIEW_OFFSET_POSITION =
-            "recyclerview_offset_position_";
+    private static final long FEED_UPDATE_CHECK_INTERVAL_MS = 60000;
 
     // To delete in bytecode, parent variable will be used instead.
     private ViewGroup mMvTilesContainerLayout;
@@ -182,6 +172,9 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
     private BitmapDrawable imageDrawable;
 
     private FetchWallpaperWorkerTask mWorkerTask;
+    private final NTPTaskScope mTaskScope = new NTPTaskScope();
+    // Top sites whose update did not reply yet, posted again when a detached page reattaches
+    private List<TopSite> mPendingTopSites;
     private boolean isFromBottomSheet;
     private NTPBackgroundImagesBridge mNTPBackgroundImagesBridge;
     private ViewGroup mainLayout;
@@ -218,25 +211,18 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
 
     private ViewGroup mCompositorView;
 
-    private long mStartCardViewTime;
-    private long mEndCardViewTime;
-    private String mCreativeInstanceId;
-    private String mUuid;
-    //@TODO alex make an enum
-    private String mCardType;
-    private int mItemPosition;
-    private FeedItemsCard mVisibleCard;
     private boolean mIsNewsOn;
     private boolean mIsShowOptin;
     private boolean mIsShowNewsOn;
-    private int mPrevVisibleNewsCardPosition = -1;
-    private int mNewsSessionCardViews;
 
     private boolean mIsFeedLoaded;
     private CopyOnWriteArrayList<FeedItemsCard> mExistingNewsFeedObject;
     private int mPrevScrollPosition;
     private static int mFirstVisibleCard;
+    private static long sLastFeedUpdateCheckMs;
     private String mFeedHash;
+    // Makes the card uuids unique to this page showing the feed, renewed with every news session
+    private String mNewsSessionSalt = UUID.randomUUID().toString();
     private SharedPreferencesManager.Observer mPreferenceObserver;
     private int mTouchX;
     private int mTouchY;
@@ -290,9 +276,8 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
                     //  remove settings bar
                     BraveActivity.getBraveActivity().removeSettingsBar();
                     if (tab != null) {
-                        SharedPreferencesManager.getInstance().writeInt(
-                                BRAVE_RECYCLERVIEW_OFFSET_POSITION + tab.getId(),
-                                mPrevScrollPosition);
+                        NTPScrollStateStore.getInstance().setRecyclerViewOffset(
+                                tab.getId(), mPrevScrollPosition);
                     }
                 }
             }
@@ -381,6 +366,9 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
         }
         checkAndShowNTPImage(false);
         mNTPBackgroundImagesBridge.addObserver(mNTPBackgroundImageServiceObserver);
+        if (mPendingTopSites != null) {
+            newTabPageListener.updateTopSites(mPendingTopSites);
+        }
 
         if (OnboardingPrefManager.getInstance().isFromNotification() ) {
             ((BraveActivity)mActivity).showOnboardingV2(false);
@@ -474,10 +462,8 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
 
     @Override
     protected void onDetachedFromWindow() {
-        if (mWorkerTask != null && mWorkerTask.getStatus() == AsyncTask.Status.RUNNING) {
-            mWorkerTask.cancel(true);
-            mWorkerTask = null;
-        }
+        mTaskScope.cancel();
+        mWorkerTask = null;
 
         if (!isFromBottomSheet) {
             setBackgroundResource(0);
@@ -507,7 +493,13 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
                 mNewContentButton.setVisibility(View.INVISIBLE);
             }
 
+            BraveNewsImpressionTracker impressionTracker =
+                    BraveNewsImpressionTracker.getInstance();
+            impressionTracker.onScrollStarted();
+            impressionTracker.flush();
+
             if (mBraveNewsController != null) {
+                BraveNewsImageCache.getInstance().onControllerClosed(mBraveNewsController);
                 mBraveNewsController.close();
                 mBraveNewsController = null;
             }
@@ -541,19 +533,12 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
 
             if (BraveActivity.getBraveActivity() != null
                     && BraveActivity.getBraveActivity().getActivityTab() != null) {
-                Tab tab = BraveActivity.getBraveActivity().getActivityTab();
-                int prevRecyclerViewPosition = (tab != null)
-                        ? SharedPreferencesManager.getInstance().readInt(
-                                BRAVE_RECYCLERVIEW_OFFSET_POSITION + tab.getId(), 0)
-                        : 0;
-                int prevScrollPosition = (tab != null)
-                        ? SharedPreferencesManager.getInstance().readInt(
-                                BRAVE_NESTED_SCROLLVIEW_POSITION + tab.getId(), 0)
-                        : 0;
-                int prevRecyclerViewItemPosition = (tab != null)
-                        ? SharedPreferencesManager.getInstance().readInt(
-                                BRAVE_RECYCLERVIEW_POSITION + tab.getId(), 0)
-                        : 0;
+                int tabId = BraveActivity.getBraveActivity().getActivityTab().getId();
+                NTPScrollStateStore scrollStateStore = NTPScrollStateStore.getInstance();
+                int prevRecyclerViewPosition = scrollStateStore.getRecyclerViewOffset(tabId);
+                int prevScrollPosition = scrollStateStore.getScrollPosition(tabId);
+                int prevRecyclerViewItemPosition =
+                        scrollStateStore.getRecyclerViewItemPosition(tabId);
                 keepPosition(
                         prevScrollPosition, prevRecyclerViewPosition, prevRecyclerViewItemPosition);
             }
@@ -605,103 +590,82 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
         }
     }
 
-    private void getFeed() {
-        ExecutorService executors = Executors.newFixedThreadPool(1);
-
+    // Shows the last saved feed right away and only fetches the feed when it is outdated
+    private void loadFeed() {
         InitBraveNewsController();
 
-        Runnable runnable = new Runnable() {
-            @Override
-            public void run() {
-                mBraveNewsController.getFeed((feed) -> {
-                    if (feed == null) {
-                        processFeed();
-                        mContainer.setVisibility(View.VISIBLE);
-                        mRecyclerView.setVisibility(View.VISIBLE);
-                        return;
-                    }
-                    try {
-                        mFeedHash = feed.hash;
-                        mNewsItemsFeedCard.clear();
-                        BraveNewsUtils.initCurrentAds();
-                        mAdapterFeedCard.notifyItemRangeRemoved(0, mNewsItemsFeedCard.size());
-                        SharedPreferencesManager.getInstance().writeString(
-                                BravePreferenceKeys.BRAVE_NEWS_FEED_HASH, feed.hash);
-                        if (feed.featuredItem != null) {
-                            // process Featured item
-                            FeedItem featuredItem = feed.featuredItem;
-                            FeedItemsCard featuredItemsCard = new FeedItemsCard();
-
-                            FeedItemMetadata featuredItemMetaData = new FeedItemMetadata();
-                            Article featuredArticle = featuredItem.getArticle();
-                            FeedItemMetadata featuredArticleData = featuredArticle.data;
-
-                            FeedItemCard featuredItemCard = new FeedItemCard();
-                            List<FeedItemCard> featuredCardItems = new ArrayList<>();
-
-                            featuredItemsCard.setCardType(CardType.HEADLINE);
-                            featuredItemsCard.setUuid(UUID.randomUUID().toString());
-
-                            featuredItemCard.setFeedItem(featuredItem);
-                            featuredCardItems.add(featuredItemCard);
-
-                            featuredItemsCard.setFeedItems(featuredCardItems);
-                            mNewsItemsFeedCard.add(featuredItemsCard);
+        BraveNewsController braveNewsController = mBraveNewsController;
+        BraveNewsFeedSnapshot.getSnapshot(snapshot -> {
+            // The snapshot may be read after the new tab page is detached and its controller closed
+            if (mBraveNewsController == null || mBraveNewsController != braveNewsController) {
+                return;
+            }
+            if (snapshot == null || mAdapterFeedCard == null
+                    || !mAdapterFeedCard.getCurrentList().isEmpty()) {
+                getFeed();
+                return;
+            }
+            mFeedHash = snapshot.getFeedHash();
+            BraveNewsUtils.initCurrentAds();
+            snapshot.prefetchThumbnails(mBraveNewsController,
+                    ConfigurationUtils.getDisplayMetrics(mActivity).get("width"),
+                    ConfigurationUtils.isTablet(mActivity));
+            showFeedCards(snapshot.getCards());
+            mBraveNewsController.isFeedUpdateAvailable(
+                    snapshot.getFeedHash(), isFeedUpdateAvailable -> {
+                        if (isFeedUpdateAvailable) {
+                            getFeed();
+                        } else {
+                            SharedPreferencesManager.getInstance().writeString(
+                                    BravePreferenceKeys.BRAVE_NEWS_FEED_HASH,
+                                    snapshot.getFeedHash());
                         }
+                    });
+        });
+    }
 
-                        // adds empty card to trigger Display ad call for the second card, when the
-                        // user starts scrolling
-                        FeedItemsCard displayAdCard = new FeedItemsCard();
-                        DisplayAd displayAd = new DisplayAd();
-                        displayAdCard.setCardType(CardType.DISPLAY_AD);
-                        displayAdCard.setDisplayAd(displayAd);
-                        displayAdCard.setUuid(UUID.randomUUID().toString());
-                        mNewsItemsFeedCard.add(displayAdCard);
-
-                        // start page loop
-                        int noPages = 0;
-                        int itemIndex = 0;
-                        int totalPages = feed.pages.length;
-                        for (FeedPage page : feed.pages) {
-                            for (FeedPageItem cardData : page.items) {
-                                // if for any reason we get an empty object, unless it's a
-                                // DISPLAY_AD we skip it
-                                if (cardData.cardType != CardType.DISPLAY_AD) {
-                                    if (cardData.items.length == 0) {
-                                        continue;
-                                    }
-                                }
-                                FeedItemsCard feedItemsCard = new FeedItemsCard();
-
-                                feedItemsCard.setCardType(cardData.cardType);
-                                feedItemsCard.setUuid(UUID.randomUUID().toString());
-                                List<FeedItemCard> cardItems = new ArrayList<>();
-                                for (FeedItem item : cardData.items) {
-                                    FeedItemMetadata itemMetaData = new FeedItemMetadata();
-                                    FeedItemCard feedItemCard = new FeedItemCard();
-                                    feedItemCard.setFeedItem(item);
-
-                                    cardItems.add(feedItemCard);
+    private void getFeed() {
+        InitBraveNewsController();
 
-                                    feedItemsCard.setFeedItems(cardItems);
-                                }
-                                mNewsItemsFeedCard.add(feedItemsCard);
-                            }
-                        } // end page loop
-                        processFeed();
+        mBraveNewsController.getFeed((feed) -> {
+            if (feed == null) {
+                processFeed();
+                mContainer.setVisibility(View.VISIBLE);
+                mRecyclerView.setVisibility(View.VISIBLE);
+                return;
+            }
+            mFeedHash = feed.hash;
+            // The feed was just fetched, no need to ask for a newer one right away
+            sLastFeedUpdateCheckMs = SystemClock.elapsedRealtime();
+            BraveNewsUtils.initCurrentAds();
+            SharedPreferencesManager.getInstance().writeString(
+                    BravePreferenceKeys.BRAVE_NEWS_FEED_HASH, feed.hash);
+            BraveNewsFeedBuilder.buildCards(feed, cards -> {
+                BraveNewsFeedSnapshot.save(feed, cards);
+                showFeedCards(cards);
+            });
+        });
+    }
 
-                        mContainer.setVisibility(View.VISIBLE);
-                        mRecyclerView.setVisibility(View.VISIBLE);
+    private void showFeedCards(List<FeedItemsCard> feedCards) {
+        if (mAdapterFeedCard == null) return;
+        List<FeedItemsCard> cards =
+                BraveNewsFeedBuilder.copyForSession(feedCards, mNewsSessionSalt);
+        mAdapterFeedCard.submitList(cards, () -> {
+            try {
+                mNewsItemsFeedCard.clear();
+                mNewsItemsFeedCard.addAll(cards);
+                processFeed();
+
+                mContainer.setVisibility(View.VISIBLE);
+                mRecyclerView.setVisibility(View.VISIBLE);
 
-                        BraveActivity.getBraveActivity().setNewsItemsFeedCards(mNewsItemsFeedCard);
-                        BraveActivity.getBraveActivity().setLoadedFeed(true);
-                    } catch (Exception e) {
-                        e.printStackTrace();
-                    }
-                });
+                BraveActivity.getBraveActivity().setNewsItemsFeedCards(mNewsItemsFeedCard);
+                BraveActivity.getBraveActivity().setLoadedFeed(true);
+            } catch (Exception e) {
+                e.printStackTrace();
             }
-        };
-        executors.submit(runnable);
+        });
     }
 
     private void refreshFeed() {
@@ -715,10 +679,11 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
                 mNewContentButton.setVisibility(View.INVISIBLE);
             }
             mImageCreditLayout.setAlpha(1.0f);
+            BraveNewsFeedSnapshot.clear();
             return;
         } else {
-            mAdapterFeedCard = new BraveNewsAdapterFeedCard(
-                    mActivity, Glide.with(mActivity), mNewsItemsFeedCard, mBraveNewsController);
+            mAdapterFeedCard = new BraveNewsAdapterFeedCard(mActivity, Glide.with(mActivity),
+                    mNewsItemsFeedCard, mBraveNewsController, mTaskScope);
             mRecyclerView.setAdapter(mAdapterFeedCard);
 
             mImageCreditLayout.setVisibility(View.VISIBLE);
@@ -779,14 +744,8 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
         SharedPreferencesManager.getInstance().writeBoolean(
                 BravePreferenceKeys.BRAVE_NEWS_CHANGE_SOURCE, false);
         // init Brave news parameters
-        mStartCardViewTime = 0;
-        mEndCardViewTime = 0;
-        mCreativeInstanceId = "";
-        mUuid = "";
-        //@TODO alex make an enum
-        mCardType = "";
-        mItemPosition = 0;
-        mVisibleCard = null;
+        BraveNewsImpressionTracker.getInstance().startSession();
+        mNewsSessionSalt = UUID.randomUUID().toString();
 
         ViewGroup.LayoutParams recyclerviewParams = mRecyclerView.getLayoutParams();
         recyclerviewParams.height = (ConfigurationUtils.isTablet(mActivity)
@@ -807,8 +766,8 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
 
         mRecyclerView.setVisibility(View.GONE);
 
-        mAdapterFeedCard = new BraveNewsAdapterFeedCard(
-                mActivity, Glide.with(mActivity), mNewsItemsFeedCard, mBraveNewsController);
+        mAdapterFeedCard = new BraveNewsAdapterFeedCard(mActivity, Glide.with(mActivity),
+                mNewsItemsFeedCard, mBraveNewsController, mTaskScope);
         mRecyclerView.setAdapter(mAdapterFeedCard);
 
         // Used to prevent a recyclerView layout bug
@@ -847,17 +806,13 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
             CopyOnWriteArrayList<FeedItemsCard> existingNewsFeedObject =
                     BraveActivity.getBraveActivity().getNewsItemsFeedCards();
             Tab tab = BraveActivity.getBraveActivity().getActivityTab();
-            int prevRecyclerViewPosition = (tab != null)
-                    ? SharedPreferencesManager.getInstance().readInt(
-                            BRAVE_RECYCLERVIEW_OFFSET_POSITION + tab.getId(), 0)
-                    : 0;
-            int prevScrollPosition = (tab != null) ? SharedPreferencesManager.getInstance().readInt(
-                                             BRAVE_NESTED_SCROLLVIEW_POSITION + tab.getId(), 0)
-                                                   : 0;
-            int prevRecyclerViewItemPosition = (tab != null)
-                    ? SharedPreferencesManager.getInstance().readInt(
-                            BRAVE_RECYCLERVIEW_POSITION + tab.getId(), 0)
-                    : 0;
+            NTPScrollStateStore scrollStateStore = NTPScrollStateStore.getInstance();
+            int prevRecyclerViewPosition =
+                    (tab != null) ? scrollStateStore.getRecyclerViewOffset(tab.getId()) : 0;
+            int prevScrollPosition =
+                    (tab != null) ? scrollStateStore.getScrollPosition(tab.getId()) : 0;
+            int prevRecyclerViewItemPosition =
+                    (tab != null) ? scrollStateStore.getRecyclerViewItemPosition(tab.getId()) : 0;
 
             if (prevScrollPosition == 0 && prevRecyclerViewPosition == 0
                     && prevRecyclerViewItemPosition == 0) {
@@ -866,11 +821,9 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
             }
 
             if (!isFeedLoaded || isFromNewTab) {
-                getFeed();
+                loadFeed();
                 if (tab != null) {
-                    SharedPreferencesManager.getInstance().writeInt(
-                            BRAVE_RECYCLERVIEW_OFFSET_POSITION + tab.getId(),
-                            NEWS_SCROLL_TO_TOP_NEW);
+                    scrollStateStore.setRecyclerViewOffset(tab.getId(), NEWS_SCROLL_TO_TOP_NEW);
                 }
 
                 // Brave News interaction started
@@ -903,11 +856,8 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
                     try {
                         if (BraveActivity.getBraveActivity() != null
                                 && BraveActivity.getBraveActivity().getActivityTab() != null) {
-                            SharedPreferencesManager.getInstance().writeInt(
-                                    BRAVE_NESTED_SCROLLVIEW_POSITION
-                                            + BraveActivity.getBraveActivity()
-                                                      .getActivityTab()
-                                                      .getId(),
+                            NTPScrollStateStore.getInstance().setScrollPosition(
+                                    BraveActivity.getBraveActivity().getActivityTab().getId(),
                                     scrollY);
                         }
 
@@ -1006,14 +956,9 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
                                                                     && BraveActivity.getBraveActivity()
                                                                                     .getActivityTab()
                                                                             != null) {
-                                                                SharedPreferencesManager
-                                                                        .getInstance()
-                                                                        .writeInt(
-                                                                                BRAVE_RECYCLERVIEW_OFFSET_POSITION
-                                                                                        + BraveActivity
-                                                                                                  .getBraveActivity()
-                                                                                                  .getActivityTab()
-                                                                                                  .getId(),
+                                                                NTPScrollStateStore.getInstance()
+                                                                        .setRecyclerViewOffset(
+                                                                                getActivityTabId(),
                                                                                 0);
                                                             }
                                                             correctPosition(false);
@@ -1089,19 +1034,12 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
                                                     && BraveActivity.getBraveActivity()
                                                                     .getActivityTab()
                                                             != null) {
-                                                SharedPreferencesManager.getInstance().writeInt(
-                                                        BRAVE_RECYCLERVIEW_OFFSET_POSITION
-                                                                + BraveActivity.getBraveActivity()
-                                                                          .getActivityTab()
-                                                                          .getId(),
-                                                        -1);
-
-                                                SharedPreferencesManager.getInstance().writeInt(
-                                                        BRAVE_RECYCLERVIEW_POSITION
-                                                                + BraveActivity.getBraveActivity()
-                                                                          .getActivityTab()
-                                                                          .getId(),
-                                                        -1);
+                                                int tabId = getActivityTabId();
+                                                NTPScrollStateStore scrollStateStore =
+                                                        NTPScrollStateStore.getInstance();
+                                                scrollStateStore.setRecyclerViewOffset(tabId, -1);
+                                                scrollStateStore.setRecyclerViewItemPosition(
+                                                        tabId, -1);
                                             }
                                         }, 100);
 
@@ -1133,45 +1071,14 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
                     super.onScrollStateChanged(recyclerView, newState);
 
                     if (newState == RecyclerView.SCROLL_STATE_DRAGGING) {
-                        mEndCardViewTime = System.currentTimeMillis();
-                        long timeDiff = mEndCardViewTime - mStartCardViewTime;
-                        // if viewed for more than 100 ms send the event
-                        if (timeDiff > BraveNewsUtils.BRAVE_NEWS_VIEWD_CARD_TIME) {
-                            if (mVisibleCard != null) {
-                                // send viewed cards events
-                                if (mCardType.equals("promo") && !mCardType.equals("displayad")) {
-                                    if (!mUuid.equals("") && !mCreativeInstanceId.equals("")) {
-                                        mVisibleCard.setViewStatSent(true);
-                                        mBraveNewsController.onPromotedItemView(
-                                                mUuid, mCreativeInstanceId);
-                                    }
-                                }
-                            }
-                        }
-
-                        int lastVisibleItemPosition =
-                                linearLayoutManager.findLastCompletelyVisibleItemPosition();
-                        if (lastVisibleItemPosition > -1
-                                && lastVisibleItemPosition > mPrevVisibleNewsCardPosition) {
-                            for (int i = mPrevVisibleNewsCardPosition + 1;
-                                    i <= lastVisibleItemPosition; i++) {
-                                FeedItemsCard itemsCard = mNewsItemsFeedCard.get(i);
-                                if (itemsCard != null) {
-                                    List<FeedItemCard> feedItems = itemsCard.getFeedItems();
-                                    // Two items are shown as two cards side by side,
-                                    // and three or more items is shown as one card as a list
-                                    mNewsSessionCardViews +=
-                                            feedItems != null && feedItems.size() == 2 ? 2 : 1;
-                                }
-                            }
-                            mBraveNewsController.onSessionCardViewsCountChanged(
-                                    (short) mNewsSessionCardViews);
-                            mPrevVisibleNewsCardPosition = lastVisibleItemPosition;
-                        }
+                        BraveNewsImpressionTracker impressionTracker =
+                                BraveNewsImpressionTracker.getInstance();
+                        impressionTracker.onScrollStarted();
+                        impressionTracker.onCardsSeen(mNewsItemsFeedCard,
+                                linearLayoutManager.findLastCompletelyVisibleItemPosition());
                     }
 
                     if (newState == RecyclerView.SCROLL_STATE_IDLE) {
-                        mStartCardViewTime = System.currentTimeMillis();
                         int firstVisibleItemPosition =
                                 linearLayoutManager.findFirstVisibleItemPosition();
                         int lastVisibleItemPosition =
@@ -1187,41 +1094,23 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
                                         mRecyclerView.getChildAdapterPosition(firstChild);
                                 int verticalOffset = firstChild.getTop();
 
-                                SharedPreferencesManager.getInstance().writeInt(
-                                        BRAVE_RECYCLERVIEW_OFFSET_POSITION
-                                                + BraveActivity.getBraveActivity()
-                                                          .getActivityTab()
-                                                          .getId(),
-                                        verticalOffset);
-
-                                SharedPreferencesManager.getInstance().writeInt(
-                                        BRAVE_RECYCLERVIEW_POSITION
-                                                + BraveActivity.getBraveActivity()
-                                                          .getActivityTab()
-                                                          .getId(),
-                                        firstVisiblePosition);
+                                int tabId = getActivityTabId();
+                                NTPScrollStateStore scrollStateStore =
+                                        NTPScrollStateStore.getInstance();
+                                scrollStateStore.setRecyclerViewOffset(tabId, verticalOffset);
+                                scrollStateStore.setRecyclerViewItemPosition(
+                                        tabId, firstVisiblePosition);
                             }
                         }
-                        mFeedHash = SharedPreferencesManager.getInstance().readString(
-                                BravePreferenceKeys.BRAVE_NEWS_FEED_HASH, "");
-                        //@TODO alex optimize feed availability check
-                        mBraveNewsController.isFeedUpdateAvailable(
-                                mFeedHash, isNewsFeedAvailable -> {
-                                    if (mNewContentButton != null) {
-                                        if (isNewsFeedAvailable) {
-                                            mNewContentButton.setVisibility(View.VISIBLE);
-                                        } else {
-                                            mNewContentButton.setVisibility(View.INVISIBLE);
-                                        }
-                                    }
-                                });
+                        checkFeedUpdateAvailable();
 
                         Rect rvRect = new Rect();
                         mRecyclerView.getGlobalVisibleRect(rvRect);
 
-                        int visiblePercentage = 0;
+                        int tabId = getActivityTabId();
                         for (int viewPosition = firstVisibleItemPosition;
                                 viewPosition <= lastVisibleItemPosition; viewPosition++) {
+                            int visiblePercentage = 0;
                             Rect rowRect = new Rect();
                             if (linearLayoutManager.findViewByPosition(viewPosition) != null) {
                                 linearLayoutManager.findViewByPosition(viewPosition)
@@ -1249,69 +1138,10 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
                                 }
                             }
 
-                            final int visiblePercentageFinal = visiblePercentage;
-
-                            if (viewPosition >= 0) {
-                                if (visiblePercentageFinal >= MINIMUM_VISIBLE_HEIGHT_THRESHOLD) {
-                                    mVisibleCard = mNewsItemsFeedCard.get(viewPosition);
-                                    // get params for view PROMOTED_ARTICLE
-                                    if (mVisibleCard.getCardType() == CardType.PROMOTED_ARTICLE) {
-                                        mItemPosition = viewPosition;
-                                        mCreativeInstanceId =
-                                                BraveNewsUtils.getPromotionIdItem(mVisibleCard);
-                                        mUuid = mVisibleCard.getUuid();
-                                        mCardType = "promo";
-                                    }
-                                    // get params for view DISPLAY_AD
-                                    if (mVisibleCard.getCardType() == CardType.DISPLAY_AD) {
-                                        mItemPosition = viewPosition;
-                                        DisplayAd currentDisplayAd =
-                                                BraveNewsUtils.getFromDisplayAdsMap(viewPosition);
-                                        if (currentDisplayAd != null) {
-                                            mCreativeInstanceId = currentDisplayAd != null
-                                                    ? currentDisplayAd.creativeInstanceId
-                                                    : "";
-                                            mUuid = currentDisplayAd != null ? currentDisplayAd.uuid
-                                                                             : "";
-                                            mCardType = "displayad";
-
-                                            // if viewed for more than 100 ms and is more than 50%
-                                            // visible send the event
-                                            Timer timer = new Timer();
-                                            timer.schedule(new TimerTask() {
-                                                @Override
-                                                public void run() {
-                                                    new Thread() {
-                                                        @Override
-                                                        public void run() {
-                                                            if (!mDatabaseHelper
-                                                                            .isDisplayAdAlreadyAdded(
-                                                                                    mUuid)
-                                                                    && visiblePercentageFinal
-                                                                            > MINIMUM_VISIBLE_HEIGHT_THRESHOLD) {
-                                                                mVisibleCard.setViewStatSent(true);
-                                                                mBraveNewsController.onDisplayAdView(
-                                                                        mUuid, mCreativeInstanceId);
-                                                                DisplayAd currentDisplayAd =
-                                                                        BraveNewsUtils
-                                                                                .getFromDisplayAdsMap(
-                                                                                        mItemPosition);
-
-                                                                mDatabaseHelper.insertAd(
-                                                                        currentDisplayAd,
-                                                                        mItemPosition,
-                                                                        BraveActivity
-                                                                                .getBraveActivity()
-                                                                                .getActivityTab()
-                                                                                .getId());
-                                                            }
-                                                        }
-                                                    }.start();
-                                                }
-                                            }, BraveNewsUtils.BRAVE_NEWS_VIEWD_CARD_TIME);
-                                        }
-                                    }
-                                }
+                            if (viewPosition >= 0 && viewPosition < mNewsItemsFeedCard.size()
+                                    && visiblePercentage >= MINIMUM_VISIBLE_HEIGHT_THRESHOLD) {
+                                BraveNewsImpressionTracker.getInstance().onCardVisible(
+                                        mNewsItemsFeedCard.get(viewPosition), viewPosition, tabId);
                             }
                         }
                     }
@@ -1391,10 +1221,6 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
             mOptinLayout.setVisibility(View.GONE);
         }
 
-        if (mNewsItemsFeedCard != null && mNewsItemsFeedCard.size() > 0) {
-            mAdapterFeedCard.notifyItemRangeInserted(0, mNewsItemsFeedCard.size());
-        }
-
         isScrolled = true;
 
         if (BraveActivity.getBraveActivity() != null) {
@@ -1512,17 +1338,30 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
         int mDeviceHeight = displayMetrics.heightPixels;
         int mDeviceWidth = displayMetrics.widthPixels;
 
-        ViewTreeObserver observer = mBgImageView.getViewTreeObserver();
-        observer.addOnGlobalLayoutListener(new ViewTreeObserver.OnGlobalLayoutListener() {
-            @Override
-            public void onGlobalLayout() {
-                mWorkerTask = new FetchWallpaperWorkerTask(
-                        ntpImage, mDeviceWidth, mDeviceHeight, wallpaperRetrievedCallback);
-                mWorkerTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        if (mWorkerTask != null) {
+            mWorkerTask.cancel();
+            mWorkerTask = null;
+        }
 
-                mBgImageView.getViewTreeObserver().removeOnGlobalLayoutListener(this);
+        // The wallpaper is usually decoded since the page view was registered
+        NTPWallpaperScheduler wallpaperScheduler = NTPWallpaperScheduler.getInstance();
+        NTPWallpaperScheduler.ReadyWallpaper readyWallpaper =
+                wallpaperScheduler.take(ntpImage, mDeviceWidth, mDeviceHeight);
+        if (readyWallpaper != null) {
+            wallpaperRetrievedCallback.bgWallpaperRetrieved(readyWallpaper.getWallpaper());
+            if (ntpImage instanceof Wallpaper && readyWallpaper.getLogo() != null) {
+                wallpaperRetrievedCallback.logoRetrieved(
+                        (Wallpaper) ntpImage, readyWallpaper.getLogo());
             }
-        });
+            // Ready for a rotation of the device
+            wallpaperScheduler.prefetch(ntpImage);
+
+            return;
+        }
+
+        mWorkerTask = new FetchWallpaperWorkerTask(
+                ntpImage, mDeviceWidth, mDeviceHeight, wallpaperRetrievedCallback);
+        mWorkerTask.execute(mTaskScope);
     }
 
     private void checkForNonDisruptiveBanner(NTPImage ntpImage) {
@@ -1583,22 +1422,18 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
 
         @Override
         public void updateTopSites(List<TopSite> topSites) {
-            new AsyncTask<List<TopSiteTable>>() {
-                @Override
-                protected List<TopSiteTable> doInBackground() {
-                    for (TopSite topSite : topSites) {
-                        mDatabaseHelper.insertTopSite(topSite);
-                    }
-                    return mDatabaseHelper.getAllTopSites();
-                }
-
-                @Override
-                protected void onPostExecute(List<TopSiteTable> topSites) {
-                    assert ThreadUtils.runningOnUiThread();
-                    if (isCancelled()) return;
-                    loadTopSites(topSites);
+            // Inserting is skipped for top sites that are already there, so the update can be
+            // posted again when it was cancelled
+            mPendingTopSites = topSites;
+            mTaskScope.postTask(TaskTraits.USER_VISIBLE_MAY_BLOCK, () -> {
+                for (TopSite topSite : topSites) {
+                    mDatabaseHelper.insertTopSite(topSite);
                 }
-            }.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+                return mDatabaseHelper.getAllTopSites();
+            }, topSiteTables -> {
+                if (mPendingTopSites == topSites) mPendingTopSites = null;
+                loadTopSites(topSiteTables);
+            });
         }
 
     };
@@ -1641,12 +1476,10 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
                                                                   .getUrl()
                                                                   .getSpec())) {
                                     mPrevScrollPosition =
-                                            SharedPreferencesManager.getInstance().readInt(
-                                                    BRAVE_NESTED_SCROLLVIEW_POSITION
-                                                            + BraveActivity.getBraveActivity()
-                                                                      .getActivityTab()
-                                                                      .getId(),
-                                                    0);
+                                            NTPScrollStateStore.getInstance().getScrollPosition(
+                                                    BraveActivity.getBraveActivity()
+                                                            .getActivityTab()
+                                                            .getId());
                                     if (mSettingsBar == null
                                             && compositorView.getChildAt(2).getId()
                                                     == R.id.news_settings_bar) {
@@ -1713,10 +1546,14 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
                     getResources().getColor(R.color.brave_state_time_count_color));
 
             ImageView iconIv = view.findViewById(R.id.tile_view_icon);
-            if (NTPUtil.imageCache.get(topSite.getDestinationUrl()) == null) {
-                NTPUtil.imageCache.put(topSite.getDestinationUrl(), new java.lang.ref.SoftReference(NTPUtil.getTopSiteBitmap(topSite.getImagePath())));
-            }
-            iconIv.setImageBitmap(NTPUtil.imageCache.get(topSite.getDestinationUrl()).get());
+            // The white background is the placeholder until the icon is decoded
+            String iconPath = topSite.getImagePath();
+            iconIv.setTag(iconPath);
+            TopSiteIconCache.getInstance().getIcon(iconPath, icon -> {
+                if (icon != null && iconPath.equals(iconIv.getTag())) {
+                    iconIv.setImageBitmap(icon);
+                }
+            });
             iconIv.setBackgroundColor(mActivity.getResources().getColor(android.R.color.white));
             iconIv.setClickable(false);
 
@@ -1766,7 +1603,7 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
                     menu.add(R.string.remove).setOnMenuItemClickListener(new MenuItem.OnMenuItemClickListener() {
                         @Override
                         public boolean onMenuItemClick(MenuItem item) {
-                            NTPUtil.imageCache.remove(topSite.getDestinationUrl());
+                            TopSiteIconCache.getInstance().remove(topSite.getImagePath());
                             mDatabaseHelper.deleteTopSite(topSite.getDestinationUrl());
                             NTPUtil.addToRemovedTopSite(topSite.getDestinationUrl());
                             superReferralSitesLayout.removeView(view);
@@ -1789,6 +1626,35 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
         return mTab;
     }
 
+    // Asks whether a newer feed is available, at most once per FEED_UPDATE_CHECK_INTERVAL_MS
+    private void checkFeedUpdateAvailable() {
+        long nowMs = SystemClock.elapsedRealtime();
+        if (mBraveNewsController == null
+                || (sLastFeedUpdateCheckMs != 0
+                        && nowMs - sLastFeedUpdateCheckMs < FEED_UPDATE_CHECK_INTERVAL_MS)) {
+            return;
+        }
+        sLastFeedUpdateCheckMs = nowMs;
+        mFeedHash = SharedPreferencesManager.getInstance().readString(
+                BravePreferenceKeys.BRAVE_NEWS_FEED_HASH, "");
+        mBraveNewsController.isFeedUpdateAvailable(mFeedHash, isNewsFeedAvailable -> {
+            if (mNewContentButton != null) {
+                if (isNewsFeedAvailable) {
+                    mNewContentButton.setVisibility(View.VISIBLE);
+                } else {
+                    mNewContentButton.setVisibility(View.INVISIBLE);
+                }
+            }
+        });
+    }
+
+    private int getActivityTabId() {
+        BraveActivity activity = BraveActivity.getBraveActivity();
+        if (activity == null || activity.getActivityTab() == null) return Tab.INVALID_TAB_ID;
+
+        return activity.getActivityTab().getId();
+    }
+
     private TabImpl getTabImpl() {
         return (TabImpl) getTab();
     }
@@ -1796,6 +1662,7 @@ public class BraveNewTabPageLayout extends NewTabPageLayout implements Connectio
     @Override
     public void onConnectionError(MojoException e) {
         if (mBraveNewsController != null) {
+            BraveNewsImageCache.getInstance().onControllerClosed(mBraveNewsController);
             mBraveNewsController.close();
         }
         mBraveNewsController = null;
@@ -0,0 +1,186 @@
+/* Copyright (c) 2022 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.ntp;
+
+import android.content.SharedPreferences;
+import android.os.Handler;
+import android.util.SparseArray;
+
+import org.chromium.base.ContextUtils;
+import org.chromium.base.ThreadUtils;
+import org.chromium.base.task.PostTask;
+import org.chromium.base.task.TaskTraits;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Scroll state of the new tab page per tab. Scrolling updates the in-memory state only, the
+ * changes are written to the shared preferences in one batch at most every
+ * {@link #FLUSH_INTERVAL_MS} and when {@link #flush()} is called, e.g. when the activity is
+ * paused. The keys of a tab are removed when the tab is closed.
+ * Must be used on the UI thread.
+ */
+public class NTPScrollStateStore {
+    private static final String NESTED_SCROLLVIEW_POSITION = "nestedscrollview_position_";
+    private static final String RECYCLERVIEW_POSITION = "recyclerview_visible_position_";
+    private static final String RECYCLERVIEW_OFFSET_POSITION = "recyclerview_offset_position_";
+    private static final long FLUSH_INTERVAL_MS = 2000;
+
+    private static NTPScrollStateStore sInstance;
+
+    private static class ScrollState {
+        int scrollPosition;
+        int recyclerViewOffset;
+        int recyclerViewItemPosition;
+    }
+
+    private final Handler mHandler;
+    private final SparseArray<ScrollState> mStates;
+    private final HashSet<Integer> mDirtyTabIds;
+    private final HashSet<Integer> mRemovedTabIds;
+    private final Runnable mFlush = this::flush;
+    private boolean mFlushScheduled;
+
+    public static NTPScrollStateStore getInstance() {
+        ThreadUtils.assertOnUiThread();
+        if (sInstance == null) {
+            sInstance = new NTPScrollStateStore();
+        }
+
+        return sInstance;
+    }
+
+    private NTPScrollStateStore() {
+        mHandler = ThreadUtils.getUiThreadHandler();
+        mStates = new SparseArray<>();
+        mDirtyTabIds = new HashSet<>();
+        mRemovedTabIds = new HashSet<>();
+    }
+
+    /**
+     * @return scroll position of the new tab page scroll view
+     */
+    public int getScrollPosition(int tabId) {
+        return getState(tabId).scrollPosition;
+    }
+
+    public void setScrollPosition(int tabId, int scrollPosition) {
+        ScrollState state = getState(tabId);
+        if (state.scrollPosition == scrollPosition) return;
+        state.scrollPosition = scrollPosition;
+        markDirty(tabId);
+    }
+
+    /**
+     * @return offset of the first visible Brave News card
+     */
+    public int getRecyclerViewOffset(int tabId) {
+        return getState(tabId).recyclerViewOffset;
+    }
+
+    public void setRecyclerViewOffset(int tabId, int recyclerViewOffset) {
+        ScrollState state = getState(tabId);
+        if (state.recyclerViewOffset == recyclerViewOffset) return;
+        state.recyclerViewOffset = recyclerViewOffset;
+        markDirty(tabId);
+    }
+
+    /**
+     * @return adapter position of the first visible Brave News card
+     */
+    public int getRecyclerViewItemPosition(int tabId) {
+        return getState(tabId).recyclerViewItemPosition;
+    }
+
+    public void setRecyclerViewItemPosition(int tabId, int recyclerViewItemPosition) {
+        ScrollState state = getState(tabId);
+        if (state.recyclerViewItemPosition == recyclerViewItemPosition) return;
+        state.recyclerViewItemPosition = recyclerViewItemPosition;
+        markDirty(tabId);
+    }
+
+    /**
+     * Forgets the state of a closed tab and removes its keys from the shared preferences.
+     */
+    public void removeTab(int tabId) {
+        ThreadUtils.assertOnUiThread();
+        mStates.remove(tabId);
+        mDirtyTabIds.remove(tabId);
+        mRemovedTabIds.add(tabId);
+        scheduleFlush();
+    }
+
+    /**
+     * Writes the pending changes in the background right away.
+     */
+    public void flush() {
+        ThreadUtils.assertOnUiThread();
+        mHandler.removeCallbacks(mFlush);
+        mFlushScheduled = false;
+        if (mDirtyTabIds.isEmpty() && mRemovedTabIds.isEmpty()) return;
+
+        List<int[]> changedStates = new ArrayList<>(mDirtyTabIds.size());
+        for (int tabId : mDirtyTabIds) {
+            ScrollState state = mStates.get(tabId);
+            if (state == null) continue;
+            changedStates.add(new int[] {tabId, state.scrollPosition, state.recyclerViewOffset,
+                    state.recyclerViewItemPosition});
+        }
+        List<Integer> removedTabIds = new ArrayList<>(mRemovedTabIds);
+        mDirtyTabIds.clear();
+        mRemovedTabIds.clear();
+
+        PostTask.postTask(TaskTraits.BEST_EFFORT_MAY_BLOCK, () -> {
+            SharedPreferences.Editor editor = ContextUtils.getAppSharedPreferences().edit();
+            for (int[] state : changedStates) {
+                editor.putInt(NESTED_SCROLLVIEW_POSITION + state[0], state[1]);
+                editor.putInt(RECYCLERVIEW_OFFSET_POSITION + state[0], state[2]);
+                editor.putInt(RECYCLERVIEW_POSITION + state[0], state[3]);
+            }
+            for (int tabId : removedTabIds) {
+                editor.remove(NESTED_SCROLLVIEW_POSITION + tabId);
+                editor.remove(RECYCLERVIEW_OFFSET_POSITION + tabId);
+                editor.remove(RECYCLERVIEW_POSITION + tabId);
+            }
+            editor.apply();
+        });
+    }
+
+    private ScrollState getState(int tabId) {
+        ThreadUtils.assertOnUiThread();
+        ScrollState state = mStates.get(tabId);
+        if (state == null) {
+            state = new ScrollState();
+            // Read once per tab, the in-memory state is newer from then on. Keys of a removed
+            // tab may still be there until the next flush.
+            if (!mRemovedTabIds.contains(tabId)) {
+                SharedPreferences preferences = ContextUtils.getAppSharedPreferences();
+                state.scrollPosition = preferences.getInt(NESTED_SCROLLVIEW_POSITION + tabId, 0);
+                state.recyclerViewOffset =
+                        preferences.getInt(RECYCLERVIEW_OFFSET_POSITION + tabId, 0);
+                state.recyclerViewItemPosition =
+                        preferences.getInt(RECYCLERVIEW_POSITION + tabId, 0);
+            }
+            mStates.put(tabId, state);
+        }
+
+        return state;
+    }
+
+    private void markDirty(int tabId) {
+        mDirtyTabIds.add(tabId);
+        mRemovedTabIds.remove(tabId);
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (mFlushScheduled) return;
+        mFlushScheduled = true;
+        mHandler.postDelayed(mFlush, FLUSH_INTERVAL_MS);
+    }
+}
@@ -0,0 +1,159 @@
+/* Copyright (c) 2022 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.ntp;
+
+import android.os.SystemClock;
+
+import org.chromium.base.Callback;
+import org.chromium.base.Log;
+import org.chromium.base.ThreadUtils;
+import org.chromium.base.task.PostTask;
+import org.chromium.base.task.TaskTraits;
+import org.chromium.content_public.browser.UiThreadTaskTraits;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background work of one new tab page. Tasks run on the shared thread pool with the priority
+ * of their traits, instead of threads and executors of their own, and their replies are posted
+ * back to the UI thread. Cancelling the scope when the page is detached drops the tasks posted
+ * so far that did not start yet and the replies of the ones that are running, tasks posted
+ * after an attach again run as usual.
+ * Queue depth and latency are counted over all scopes, as they share the thread pool.
+ */
+public class NTPTaskScope {
+    private static final String TAG = "NTP";
+
+    private static final AtomicInteger sQueueDepth = new AtomicInteger();
+    private static final AtomicInteger sMaxQueueDepth = new AtomicInteger();
+    private static final AtomicInteger sStartedCount = new AtomicInteger();
+    private static final AtomicInteger sCancelledCount = new AtomicInteger();
+    private static final AtomicLong sTotalQueueLatencyMs = new AtomicLong();
+    private static final AtomicLong sTotalRunTimeMs = new AtomicLong();
+
+    /**
+     * A posted task, can be cancelled on its own when its result is no longer needed.
+     */
+    public class Task {
+        private final int mGeneration;
+        private volatile boolean mCancelled;
+
+        private Task(int generation) {
+            mGeneration = generation;
+        }
+
+        public void cancel() {
+            mCancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return mCancelled || mGeneration != mScopeGeneration;
+        }
+    }
+
+    // Incremented by cancel(), tasks of an older generation are cancelled
+    private volatile int mScopeGeneration;
+
+    /**
+     * Runs the task in the background and posts its result to the UI thread, unless the task or
+     * the scope was cancelled in the meantime. Nothing is replied when the task throws.
+     */
+    public <T> Task postTask(TaskTraits taskTraits, Callable<T> backgroundTask, Callback<T> reply) {
+        Task task = new Task(mScopeGeneration);
+        long postTimeMs = SystemClock.elapsedRealtime();
+        onTaskQueued();
+        PostTask.postTask(taskTraits, () -> {
+            sQueueDepth.decrementAndGet();
+            if (task.isCancelled()) {
+                sCancelledCount.incrementAndGet();
+                return;
+            }
+            long startTimeMs = SystemClock.elapsedRealtime();
+            sStartedCount.incrementAndGet();
+            sTotalQueueLatencyMs.addAndGet(startTimeMs - postTimeMs);
+
+            T result;
+            try {
+                result = backgroundTask.call();
+            } catch (Exception e) {
+                Log.e(TAG, "Background task failed " + e);
+                return;
+            } finally {
+                sTotalRunTimeMs.addAndGet(SystemClock.elapsedRealtime() - startTimeMs);
+            }
+            if (reply == null) return;
+            PostTask.postTask(UiThreadTaskTraits.DEFAULT, () -> {
+                if (task.isCancelled()) return;
+                reply.onResult(result);
+            });
+        });
+
+        return task;
+    }
+
+    /**
+     * Runs the task in the background unless the scope is cancelled before it starts.
+     */
+    public Task postTask(TaskTraits taskTraits, Runnable backgroundTask) {
+        return postTask(taskTraits, () -> {
+            backgroundTask.run();
+            return null;
+        }, null);
+    }
+
+    /**
+     * Cancels all tasks posted so far, called when the new tab page is detached.
+     */
+    public void cancel() {
+        ThreadUtils.assertOnUiThread();
+        mScopeGeneration++;
+    }
+
+    /**
+     * @return tasks of all scopes that are posted and did not start yet
+     */
+    public static int getQueueDepth() {
+        return sQueueDepth.get();
+    }
+
+    public static int getMaxQueueDepth() {
+        return sMaxQueueDepth.get();
+    }
+
+    public static int getStartedCount() {
+        return sStartedCount.get();
+    }
+
+    public static int getCancelledCount() {
+        return sCancelledCount.get();
+    }
+
+    /**
+     * @return average time from posting a task to its start
+     */
+    public static long getAverageQueueLatencyMs() {
+        int startedCount = sStartedCount.get();
+
+        return startedCount == 0 ? 0 : sTotalQueueLatencyMs.get() / startedCount;
+    }
+
+    public static long getAverageRunTimeMs() {
+        int startedCount = sStartedCount.get();
+
+        return startedCount == 0 ? 0 : sTotalRunTimeMs.get() / startedCount;
+    }
+
+    private static void onTaskQueued() {
+        int queueDepth = sQueueDepth.incrementAndGet();
+        int maxQueueDepth;
+        do {
+            maxQueueDepth = sMaxQueueDepth.get();
+        } while (queueDepth > maxQueueDepth
+                && !sMaxQueueDepth.compareAndSet(maxQueueDepth, queueDepth));
+    }
+}
@@ -19,6 +19,7 @@ import org.chromium.chrome.browser.ntp_background_images.model.NTPImage;
 import org.chromium.chrome.browser.ntp_background_images.model.TopSite;
 import org.chromium.chrome.browser.ntp_background_images.model.Wallpaper;
 import org.chromium.chrome.browser.ntp_background_images.util.NewTabPageListener;
+import org.chromium.chrome.browser.ntp_background_images.util.TopSiteIconCache;
 import org.chromium.chrome.browser.preferences.BravePrefServiceBridge;
 import org.chromium.chrome.browser.profiles.Profile;
 
@@ -138,6 +139,11 @@ public class NTPBackgroundImagesBridge {
 
     @CalledByNative
     public static void topSitesLoaded() {
+        List<String> iconPaths = new ArrayList<>(mTopSites.size());
+        for (TopSite topSite : mTopSites) {
+            iconPaths.add(topSite.getImagePath());
+        }
+        TopSiteIconCache.getInstance().prewarm(iconPaths);
         mNewTabPageListener.updateTopSites(mTopSites);
     }
 
@@ -11,7 +11,11 @@ import android.content.Context;
 import android.content.SharedPreferences;
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
+import android.graphics.BitmapRegionDecoder;
+import android.graphics.Canvas;
+import android.graphics.Paint;
 import android.graphics.Point;
+import android.graphics.Rect;
 import android.net.Uri;
 import android.os.Build;
 import android.os.Bundle;
@@ -61,9 +65,7 @@ import org.chromium.ui.base.DeviceFormFactor;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.ref.SoftReference;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -71,9 +73,6 @@ public class NTPUtil {
     private static final int BOTTOM_TOOLBAR_HEIGHT = 56;
     private static final String REMOVED_SITES = "removed_sites";
 
-    public static HashMap<String, SoftReference<Bitmap>> imageCache =
-        new HashMap<String, SoftReference<Bitmap>>();
-
     public static void turnOnAds() {
         BraveAdsNativeHelper.nativeSetAdsEnabled(Profile.getLastUsedRegularProfile());
         BraveRewardsNativeWorker.getInstance().SetAutoContributeEnabled(true);
@@ -358,154 +357,161 @@ public class NTPUtil {
         rewardsBottomSheetDialogFragment.setCancelable(false);
     }
 
+    /**
+     * Returns the wallpaper cropped around its focal point to the layout size with the gradient
+     * applied. Only the part of the image that is shown is decoded, at the smallest sample size
+     * that still covers the layout, and the result is cached by {@link NTPWallpaperCache}.
+     * Must be called on a background thread.
+     */
     public static Bitmap getWallpaperBitmap(NTPImage ntpImage, int layoutWidth, int layoutHeight) {
-        Context mContext = ContextUtils.getApplicationContext();
+        return getWallpaperBitmap(ntpImage, layoutWidth, layoutHeight,
+                ConfigurationUtils.isLandscape(ContextUtils.getApplicationContext()));
+    }
 
-        BitmapFactory.Options options = new BitmapFactory.Options();
-        options.inScaled = false;
-        options.inSampleSize = ImageUtils.calculateInSampleSize(options, layoutWidth, layoutHeight);
-        options.inJustDecodeBounds = false;
+    /**
+     * Same as {@link #getWallpaperBitmap(NTPImage, int, int)} for the given orientation, so a
+     * wallpaper can be prepared for the orientation the device is not in.
+     */
+    public static Bitmap getWallpaperBitmap(
+            NTPImage ntpImage, int layoutWidth, int layoutHeight, boolean isLandscape) {
+        if (layoutWidth <= 0 || layoutHeight <= 0) return null;
 
-        Bitmap imageBitmap = null;
+        String imagePath;
+        int imageDrawable = 0;
         float centerPointX;
         float centerPointY;
-
         if (ntpImage instanceof Wallpaper) {
-            Wallpaper mWallpaper = (Wallpaper) ntpImage;
-            imageBitmap = getBitmapFromImagePath(mWallpaper.getImagePath(), options);
-            if (imageBitmap == null) return null;
-
-            centerPointX = mWallpaper.getFocalPointX() == 0 ? (imageBitmap.getWidth() / 2)
-                                                            : mWallpaper.getFocalPointX();
-            centerPointY = mWallpaper.getFocalPointY() == 0 ? (imageBitmap.getHeight() / 2)
-                                                            : mWallpaper.getFocalPointY();
+            Wallpaper wallpaper = (Wallpaper) ntpImage;
+            imagePath = wallpaper.getImagePath();
+            centerPointX = wallpaper.getFocalPointX();
+            centerPointY = wallpaper.getFocalPointY();
         } else {
-            BackgroundImage mBackgroundImage = (BackgroundImage) ntpImage;
-            String imagePath = mBackgroundImage.getImagePath();
-
+            BackgroundImage backgroundImage = (BackgroundImage) ntpImage;
+            imagePath = backgroundImage.getImagePath();
             // Bundled Background Images
             if (imagePath == null) {
-                imageBitmap = BitmapFactory.decodeResource(
-                        mContext.getResources(), mBackgroundImage.getImageDrawable(), options);
-
-                centerPointX = mBackgroundImage.getCenterPointX();
-                centerPointY = mBackgroundImage.getCenterPointY();
-            } else {
-                imageBitmap = getBitmapFromImagePath(imagePath, options);
-                if (imageBitmap == null) return null;
-
-                centerPointX = mBackgroundImage.getCenterPointX() == 0
-                        ? (imageBitmap.getWidth() / 2)
-                        : mBackgroundImage.getCenterPointX();
-                centerPointY = mBackgroundImage.getCenterPointY() == 0
-                        ? (imageBitmap.getHeight() / 2)
-                        : mBackgroundImage.getCenterPointY();
+                imageDrawable = backgroundImage.getImageDrawable();
             }
+            centerPointX = backgroundImage.getCenterPointX();
+            centerPointY = backgroundImage.getCenterPointY();
         }
-        return getCalculatedBitmap(
-                imageBitmap, centerPointX, centerPointY, layoutWidth, layoutHeight);
-    }
 
-    private static Bitmap getBitmapFromImagePath(String imagePath, BitmapFactory.Options options) {
-        Context mContext = ContextUtils.getApplicationContext();
-        Bitmap imageBitmap = null;
-        InputStream inputStream = null;
-        try {
-            Uri imageFileUri = Uri.parse("file://" + imagePath);
-            inputStream = mContext.getContentResolver().openInputStream(imageFileUri);
-            imageBitmap = BitmapFactory.decodeStream(inputStream, null, options);
-            inputStream.close();
-        } catch (IOException exc) {
-            Log.e("NTP", exc.getMessage());
-        } catch (IllegalArgumentException exc) {
-            Log.e("NTP", exc.getMessage());
-        } finally {
-            try {
-                if (inputStream != null) {
-                    inputStream.close();
-                }
-            } catch (IOException exception) {
-                Log.e("NTP", exception.getMessage());
-                return null;
-            }
-        }
-        return imageBitmap;
-    }
+        String cacheKey = NTPWallpaperCache.getKey(imagePath, imageDrawable, centerPointX,
+                centerPointY, layoutWidth, layoutHeight, isLandscape);
+        Bitmap wallpaperBitmap = NTPWallpaperCache.get(cacheKey);
+        if (wallpaperBitmap != null) return wallpaperBitmap;
 
-    public static Bitmap getCalculatedBitmap(Bitmap imageBitmap, float centerPointX, float centerPointY, int layoutWidth, int layoutHeight) {
-        float imageWidth = imageBitmap.getWidth();
-        float imageHeight = imageBitmap.getHeight();
+        wallpaperBitmap = decodeWallpaper(
+                imagePath, imageDrawable, centerPointX, centerPointY, layoutWidth, layoutHeight);
+        if (wallpaperBitmap != null) {
+            NTPWallpaperCache.put(cacheKey, wallpaperBitmap);
+        }
 
-        float centerRatioX = centerPointX / imageWidth;
+        return wallpaperBitmap;
+    }
 
-        float imageWHRatio = imageWidth / imageHeight;
-        float imageHWRatio = imageHeight / imageWidth;
+    private static Bitmap decodeWallpaper(String imagePath, int imageDrawable, float centerPointX,
+            float centerPointY, int layoutWidth, int layoutHeight) {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inScaled = false;
+        options.inJustDecodeBounds = true;
+        decodeImage(imagePath, imageDrawable, options);
+        int imageWidth = options.outWidth;
+        int imageHeight = options.outHeight;
+        if (imageWidth <= 0 || imageHeight <= 0) return null;
+
+        // Downloaded images without a focal point are centered
+        if (imagePath != null && centerPointX == 0) {
+            centerPointX = imageWidth / 2;
+        }
+        Rect cropRect = getCropRect(imageWidth, imageHeight, centerPointX, centerPointY,
+                layoutWidth, layoutHeight);
 
-        int newImageWidth = (int) (layoutHeight * imageWHRatio);
-        int newImageHeight = layoutHeight;
+        options.inJustDecodeBounds = false;
+        options.outWidth = cropRect.width();
+        options.outHeight = cropRect.height();
+        options.inSampleSize = ImageUtils.calculateInSampleSize(options, layoutWidth, layoutHeight);
 
-        if (newImageWidth < layoutWidth) {
-            // Image is now too small so we need to adjust width and height based on
-            // This covers landscape and strange tablet sizes.
-            newImageWidth = layoutWidth;
-            newImageHeight = (int) (newImageWidth * imageHWRatio);
+        Rect srcRect = null;
+        Bitmap imageBitmap = decodeImageRegion(imagePath, imageDrawable, cropRect, options);
+        if (imageBitmap == null) {
+            // Formats the region decoder does not support are decoded whole
+            imageBitmap = decodeImage(imagePath, imageDrawable, options);
+            if (imageBitmap == null) return null;
+            int sampleSize = options.inSampleSize;
+            srcRect = new Rect(cropRect.left / sampleSize, cropRect.top / sampleSize,
+                    Math.min(imageBitmap.getWidth(), cropRect.right / sampleSize),
+                    Math.min(imageBitmap.getHeight(), cropRect.bottom / sampleSize));
         }
 
-        int newCenterX = (int) (newImageWidth * centerRatioX);
-        int startX = (int) (newCenterX - (layoutWidth / 2));
-        if (newCenterX < layoutWidth / 2) {
-            // Need to crop starting at 0 to newImageWidth - left aligned image
-            startX = 0;
-        } else if (newImageWidth - newCenterX < layoutWidth / 2) {
-            // Need to crop right side of image - right aligned
-            startX = newImageWidth - layoutWidth;
+        try {
+            Bitmap wallpaperBitmap =
+                    Bitmap.createBitmap(layoutWidth, layoutHeight, Bitmap.Config.ARGB_8888);
+            Canvas canvas = new Canvas(wallpaperBitmap);
+            canvas.drawBitmap(imageBitmap, srcRect, new Rect(0, 0, layoutWidth, layoutHeight),
+                    new Paint(Paint.FILTER_BITMAP_FLAG));
+            ImageUtils.drawGradient(canvas, layoutWidth, layoutHeight);
+
+            return wallpaperBitmap;
+        } catch (OutOfMemoryError | RuntimeException exc) {
+            Log.e("NTP", "decodeWallpaper " + exc);
+            return null;
+        } finally {
+            imageBitmap.recycle();
         }
+    }
 
-        int startY = (newImageHeight - layoutHeight) / 2;
-        if (centerPointY > 0) {
-            float centerRatioY = centerPointY / imageHeight;
-            newImageWidth = layoutWidth;
-            newImageHeight = (int) (layoutWidth * imageHWRatio);
-
-            if (newImageHeight < layoutHeight) {
-                newImageHeight = layoutHeight;
-                newImageWidth = (int) (newImageHeight * imageWHRatio);
-            }
+    // Part of the image that is shown when it is scaled to cover the layout, moved as close to
+    // the focal point as the image allows
+    private static Rect getCropRect(int imageWidth, int imageHeight, float centerPointX,
+            float centerPointY, int layoutWidth, int layoutHeight) {
+        float scale =
+                Math.max((float) layoutWidth / imageWidth, (float) layoutHeight / imageHeight);
+        float cropWidth = Math.min(imageWidth, layoutWidth / scale);
+        float cropHeight = Math.min(imageHeight, layoutHeight / scale);
+
+        float left = centerPointX - cropWidth / 2;
+        float top = centerPointY > 0 ? centerPointY - cropHeight / 2
+                                     : (imageHeight - cropHeight) / 2;
+        left = Math.max(0, Math.min(left, imageWidth - cropWidth));
+        top = Math.max(0, Math.min(top, imageHeight - cropHeight));
+
+        return new Rect(Math.round(left), Math.round(top),
+                Math.min(imageWidth, Math.round(left + cropWidth)),
+                Math.min(imageHeight, Math.round(top + cropHeight)));
+    }
 
-            int newCenterY = (int) (newImageHeight * centerRatioY);
-            startY = (int) (newCenterY - (layoutHeight / 2));
-            if (newCenterY < layoutHeight / 2) {
-                // Need to crop starting at 0 to newImageWidth - left aligned image
-                startY = 0;
-            } else if (newImageHeight - newCenterY < layoutHeight / 2) {
-                // Need to crop right side of image - right aligned
-                startY = newImageHeight - layoutHeight;
-            }
+    private static InputStream openImage(String imagePath, int imageDrawable)
+            throws IOException {
+        Context context = ContextUtils.getApplicationContext();
+        if (imagePath == null) {
+            return context.getResources().openRawResource(imageDrawable);
         }
 
-        Bitmap newBitmap = null;
-        Bitmap bitmapWithGradient = null;
-        try {
-            imageBitmap =
-                    Bitmap.createScaledBitmap(imageBitmap, newImageWidth, newImageHeight, true);
-
-            newBitmap = Bitmap.createBitmap(imageBitmap,
-                    (startX + layoutWidth) <= imageBitmap.getWidth() ? startX : 0,
-                    (startY + (int) layoutHeight) <= imageBitmap.getHeight() ? startY : 0,
-                    layoutWidth, (int) layoutHeight);
-            bitmapWithGradient = ImageUtils.addGradient(newBitmap);
+        return context.getContentResolver().openInputStream(Uri.parse("file://" + imagePath));
+    }
 
-            if (imageBitmap != null && !imageBitmap.isRecycled()) imageBitmap.recycle();
-            if (newBitmap != null && !newBitmap.isRecycled()) newBitmap.recycle();
+    private static Bitmap decodeImage(
+            String imagePath, int imageDrawable, BitmapFactory.Options options) {
+        try (InputStream inputStream = openImage(imagePath, imageDrawable)) {
+            return BitmapFactory.decodeStream(inputStream, null, options);
+        } catch (IOException | RuntimeException exc) {
+            Log.e("NTP", "decodeImage " + exc);
+            return null;
+        }
+    }
 
-            return bitmapWithGradient;
-        } catch (Exception exc) {
-            exc.printStackTrace();
-            Log.e("NTP", exc.getMessage());
+    private static Bitmap decodeImageRegion(String imagePath, int imageDrawable, Rect region,
+            BitmapFactory.Options options) {
+        try (InputStream inputStream = openImage(imagePath, imageDrawable)) {
+            BitmapRegionDecoder decoder = BitmapRegionDecoder.newInstance(inputStream, false);
+            try {
+                return decoder.decodeRegion(region, options);
+            } finally {
+                decoder.recycle();
+            }
+        } catch (IOException | RuntimeException exc) {
             return null;
-        } finally {
-            if (imageBitmap != null && !imageBitmap.isRecycled()) imageBitmap.recycle();
-            if (newBitmap != null && !newBitmap.isRecycled()) newBitmap.recycle();
         }
     }
 
@@ -536,6 +542,22 @@ public class NTPUtil {
         return topSiteIcon;
     }
 
+    /**
+     * @return the logo of a sponsored wallpaper or null. Must be called on a background thread.
+     */
+    public static Bitmap getLogoBitmap(Wallpaper wallpaper) {
+        if (wallpaper.getLogoPath() == null) return null;
+        Context context = ContextUtils.getApplicationContext();
+        Uri logoFileUri = Uri.parse("file://" + wallpaper.getLogoPath());
+        try (InputStream inputStream =
+                        context.getContentResolver().openInputStream(logoFileUri)) {
+            return BitmapFactory.decodeStream(inputStream);
+        } catch (IOException | IllegalArgumentException exc) {
+            Log.e("NTP", "getLogoBitmap " + exc.getMessage());
+            return null;
+        }
+    }
+
     private static Set<String> getRemovedTopSiteUrls() {
         SharedPreferences mSharedPreferences = ContextUtils.getAppSharedPreferences();
         return mSharedPreferences.getStringSet(REMOVED_SITES, new HashSet<String>());
@@ -0,0 +1,136 @@
+/* Copyright (c) 2022 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.ntp_background_images.util;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.util.LruCache;
+
+import org.chromium.base.ContextUtils;
+import org.chromium.base.Log;
+import org.chromium.base.task.PostTask;
+import org.chromium.base.task.TaskTraits;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Cache of new tab page wallpapers as they are shown: cropped around the focal point, scaled to
+ * the layout and with the gradient applied. Entries are kept in memory and as JPEG files in the
+ * cache directory, keyed by image, focal point, layout size and orientation, so opening a new
+ * tab with a wallpaper shown before is a single lookup or decode.
+ * Can be used from any thread.
+ */
+public class NTPWallpaperCache {
+    private static final String TAG = "NTP";
+    private static final String DIRECTORY_NAME = "ntp_wallpapers";
+    private static final int MAX_CACHE_BYTES = 32 * 1024 * 1024;
+    private static final int MAX_DISK_ENTRIES = 4;
+    private static final int JPEG_QUALITY = 90;
+
+    private static final LruCache<String, Bitmap> sBitmaps =
+            new LruCache<String, Bitmap>(
+                    (int) Math.min(Runtime.getRuntime().maxMemory() / 8, MAX_CACHE_BYTES)) {
+                @Override
+                protected int sizeOf(String key, Bitmap bitmap) {
+                    return bitmap.getByteCount();
+                }
+            };
+
+    /**
+     * @param imagePath path of the downloaded image, null for bundled images
+     * @param imageDrawable resource id of a bundled image
+     */
+    public static String getKey(String imagePath, int imageDrawable, float centerPointX,
+            float centerPointY, int layoutWidth, int layoutHeight, boolean isLandscape) {
+        StringBuilder key = new StringBuilder();
+        if (imagePath != null) {
+            // An image replaced at the same path gets a new key
+            File file = new File(imagePath);
+            key.append(imagePath).append('|').append(file.lastModified()).append('|').append(
+                    file.length());
+        } else {
+            key.append("res:").append(imageDrawable);
+        }
+        key.append('|').append(centerPointX).append(',').append(centerPointY);
+        key.append('|').append(layoutWidth).append('x').append(layoutHeight);
+        key.append(isLandscape ? "|landscape" : "|portrait");
+
+        return key.toString();
+    }
+
+    /**
+     * @return the cached wallpaper or null, reads the disk on a memory miss
+     */
+    public static Bitmap get(String key) {
+        Bitmap bitmap = sBitmaps.get(key);
+        if (bitmap != null && !bitmap.isRecycled()) return bitmap;
+
+        File file = getFile(key);
+        if (!file.exists()) return null;
+        bitmap = BitmapFactory.decodeFile(file.getPath());
+        if (bitmap == null) {
+            file.delete();
+            return null;
+        }
+        // Used files are the last ones to be trimmed
+        file.setLastModified(System.currentTimeMillis());
+        sBitmaps.put(key, bitmap);
+
+        return bitmap;
+    }
+
+    /**
+     * Keeps the wallpaper in memory and writes it to disk in the background.
+     */
+    public static void put(String key, Bitmap bitmap) {
+        sBitmaps.put(key, bitmap);
+        File file = getFile(key);
+        if (file.exists()) return;
+        PostTask.postTask(TaskTraits.BEST_EFFORT_MAY_BLOCK, () -> write(file, bitmap));
+    }
+
+    private static void write(File file, Bitmap bitmap) {
+        if (bitmap.isRecycled()) return;
+        File directory = file.getParentFile();
+        if (!directory.exists() && !directory.mkdirs()) return;
+
+        File tmpFile = new File(file.getPath() + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(tmpFile)) {
+            bitmap.compress(Bitmap.CompressFormat.JPEG, JPEG_QUALITY, out);
+        } catch (IOException | RuntimeException e) {
+            Log.e(TAG, "Could not write wallpaper " + e);
+            tmpFile.delete();
+            return;
+        }
+        if (!tmpFile.renameTo(file)) {
+            tmpFile.delete();
+            return;
+        }
+        trim(directory);
+    }
+
+    private static void trim(File directory) {
+        File[] files = directory.listFiles();
+        if (files == null || files.length <= MAX_DISK_ENTRIES) return;
+        Arrays.sort(files, (lhs, rhs) -> Long.compare(rhs.lastModified(), lhs.lastModified()));
+        for (int i = MAX_DISK_ENTRIES; i < files.length; i++) {
+            files[i].delete();
+        }
+    }
+
+    private static File getFile(String key) {
+        File directory =
+                new File(ContextUtils.getApplicationContext().getCacheDir(), DIRECTORY_NAME);
+
+        return new File(directory,
+                UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString() + ".jpg");
+    }
+}
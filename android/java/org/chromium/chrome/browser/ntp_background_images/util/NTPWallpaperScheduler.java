@@ -0,0 +1,237 @@
+/* Copyright (c) 2022 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.ntp_background_images.util;
+
+import android.graphics.Bitmap;
+import android.os.Looper;
+import android.util.DisplayMetrics;
+
+import org.chromium.base.ContextUtils;
+import org.chromium.base.ThreadUtils;
+import org.chromium.base.task.PostTask;
+import org.chromium.base.task.TaskTraits;
+import org.chromium.chrome.browser.ntp_background_images.NTPBackgroundImagesBridge;
+import org.chromium.chrome.browser.ntp_background_images.model.BackgroundImage;
+import org.chromium.chrome.browser.ntp_background_images.model.NTPImage;
+import org.chromium.chrome.browser.ntp_background_images.model.Wallpaper;
+import org.chromium.chrome.browser.preferences.BravePref;
+import org.chromium.chrome.browser.profiles.Profile;
+import org.chromium.chrome.browser.util.ConfigurationUtils;
+import org.chromium.components.user_prefs.UserPrefs;
+import org.chromium.content_public.browser.UiThreadTaskTraits;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Prepares the wallpaper of the next new tab page before the page is shown. The rotation moves
+ * on when a page view is registered, the image shown next is known from then on and is decoded
+ * right away for the current orientation and during idle time for the other one. Up to
+ * {@link #MAX_READY_PER_ORIENTATION} decoded wallpapers are kept per orientation and handed over
+ * by {@link #take}, the new tab page decodes the wallpaper itself only when none is ready.
+ * Must be used on the UI thread.
+ */
+public class NTPWallpaperScheduler {
+    private static final int MAX_READY_PER_ORIENTATION = 2;
+
+    private static NTPWallpaperScheduler sInstance;
+
+    /**
+     * A decoded wallpaper with its sponsored logo, if any.
+     */
+    public static class ReadyWallpaper {
+        private final String mImageKey;
+        private final int mWidth;
+        private final int mHeight;
+        private final Bitmap mWallpaper;
+        private final Bitmap mLogo;
+
+        private ReadyWallpaper(
+                String imageKey, int width, int height, Bitmap wallpaper, Bitmap logo) {
+            mImageKey = imageKey;
+            mWidth = width;
+            mHeight = height;
+            mWallpaper = wallpaper;
+            mLogo = logo;
+        }
+
+        public Bitmap getWallpaper() {
+            return mWallpaper;
+        }
+
+        /**
+         * @return the logo of a sponsored wallpaper, null for background images
+         */
+        public Bitmap getLogo() {
+            return mLogo;
+        }
+
+        private boolean isLandscape() {
+            return mWidth > mHeight;
+        }
+
+        private boolean matches(String imageKey, int width, int height) {
+            return mImageKey.equals(imageKey) && mWidth == width && mHeight == height;
+        }
+    }
+
+    private final List<ReadyWallpaper> mReady;
+    private final HashSet<String> mPending;
+    // Last layout size seen per orientation, {width, height}
+    private int[] mPortraitSize;
+    private int[] mLandscapeSize;
+
+    public static NTPWallpaperScheduler getInstance() {
+        ThreadUtils.assertOnUiThread();
+        if (sInstance == null) {
+            sInstance = new NTPWallpaperScheduler();
+        }
+
+        return sInstance;
+    }
+
+    private NTPWallpaperScheduler() {
+        mReady = new ArrayList<>();
+        mPending = new HashSet<>();
+    }
+
+    /**
+     * Starts preparing the wallpaper of the new tab page that is about to open, called after
+     * the page view was registered.
+     */
+    public void onPageViewRegistered(NTPBackgroundImagesBridge bridge) {
+        ThreadUtils.assertOnUiThread();
+        if (!NTPUtil.shouldEnableNTPFeature()) return;
+        if (!UserPrefs.get(Profile.getLastUsedRegularProfile())
+                        .getBoolean(BravePref.NEW_TAB_PAGE_SHOW_BACKGROUND_IMAGE)
+                && !NTPUtil.isReferralEnabled()) {
+            return;
+        }
+        NTPImage ntpImage = bridge.getCurrentWallpaper();
+        if (ntpImage == null) {
+            ntpImage = SponsoredImageUtil.peekBackgroundImage();
+        }
+        prefetch(ntpImage);
+    }
+
+    /**
+     * Decodes the wallpaper for the current orientation right away and for the other one when
+     * the UI thread is idle. Does nothing for wallpapers that are ready or being decoded.
+     */
+    public void prefetch(NTPImage ntpImage) {
+        ThreadUtils.assertOnUiThread();
+        String imageKey = getImageKey(ntpImage);
+        if (imageKey == null) return;
+
+        int[] size = getLayoutSize(isLandscape());
+        decode(ntpImage, imageKey, size[0], size[1], true);
+        int[] otherSize = getLayoutSize(!isLandscape());
+        Looper.myQueue().addIdleHandler(() -> {
+            decode(ntpImage, imageKey, otherSize[0], otherSize[1], false);
+            return false;
+        });
+    }
+
+    /**
+     * @return the wallpaper decoded for the given layout size or null when it is not ready. The
+     *         wallpaper stays ready for other new tab pages showing the same image.
+     */
+    public ReadyWallpaper take(NTPImage ntpImage, int layoutWidth, int layoutHeight) {
+        ThreadUtils.assertOnUiThread();
+        String imageKey = getImageKey(ntpImage);
+        if (imageKey == null || layoutWidth <= 0 || layoutHeight <= 0) return null;
+        if (layoutWidth > layoutHeight) {
+            mLandscapeSize = new int[] {layoutWidth, layoutHeight};
+        } else {
+            mPortraitSize = new int[] {layoutWidth, layoutHeight};
+        }
+
+        for (ReadyWallpaper ready : mReady) {
+            if (ready.matches(imageKey, layoutWidth, layoutHeight)
+                    && !ready.mWallpaper.isRecycled()) {
+                return ready;
+            }
+        }
+
+        return null;
+    }
+
+    private void decode(
+            NTPImage ntpImage, String imageKey, int width, int height, boolean isUrgent) {
+        String requestKey = imageKey + "@" + width + "x" + height;
+        if (mPending.contains(requestKey)) return;
+        for (ReadyWallpaper ready : mReady) {
+            if (ready.matches(imageKey, width, height)) return;
+        }
+        mPending.add(requestKey);
+
+        boolean isLandscape = width > height;
+        TaskTraits taskTraits =
+                isUrgent ? TaskTraits.USER_BLOCKING_MAY_BLOCK : TaskTraits.BEST_EFFORT_MAY_BLOCK;
+        PostTask.postTask(taskTraits, () -> {
+            Bitmap wallpaper = NTPUtil.getWallpaperBitmap(ntpImage, width, height, isLandscape);
+            Bitmap logo = ntpImage instanceof Wallpaper
+                    ? NTPUtil.getLogoBitmap((Wallpaper) ntpImage)
+                    : null;
+            PostTask.postTask(UiThreadTaskTraits.DEFAULT, () -> {
+                mPending.remove(requestKey);
+                if (wallpaper == null) return;
+                addReady(new ReadyWallpaper(imageKey, width, height, wallpaper, logo));
+            });
+        });
+    }
+
+    private void addReady(ReadyWallpaper newReady) {
+        mReady.add(0, newReady);
+        int sameOrientationCount = 0;
+        Iterator<ReadyWallpaper> iterator = mReady.iterator();
+        while (iterator.hasNext()) {
+            ReadyWallpaper ready = iterator.next();
+            if (ready.isLandscape() != newReady.isLandscape()) continue;
+            sameOrientationCount++;
+            if (sameOrientationCount > MAX_READY_PER_ORIENTATION) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private int[] getLayoutSize(boolean isLandscape) {
+        int[] size = isLandscape ? mLandscapeSize : mPortraitSize;
+        if (size != null) return size;
+
+        DisplayMetrics displayMetrics =
+                ContextUtils.getApplicationContext().getResources().getDisplayMetrics();
+        int shortSide = Math.min(displayMetrics.widthPixels, displayMetrics.heightPixels);
+        int longSide = Math.max(displayMetrics.widthPixels, displayMetrics.heightPixels);
+
+        return isLandscape ? new int[] {longSide, shortSide} : new int[] {shortSide, longSide};
+    }
+
+    private static boolean isLandscape() {
+        return ConfigurationUtils.isLandscape(ContextUtils.getApplicationContext());
+    }
+
+    private static String getImageKey(NTPImage ntpImage) {
+        if (ntpImage instanceof Wallpaper) {
+            Wallpaper wallpaper = (Wallpaper) ntpImage;
+            if (wallpaper.getImagePath() == null) return null;
+
+            return wallpaper.getImagePath() + "|" + wallpaper.getFocalPointX() + ","
+                    + wallpaper.getFocalPointY() + "|" + wallpaper.getLogoPath();
+        } else if (ntpImage instanceof BackgroundImage) {
+            BackgroundImage backgroundImage = (BackgroundImage) ntpImage;
+            String imagePath = backgroundImage.getImagePath();
+
+            return (imagePath != null ? imagePath : "res:" + backgroundImage.getImageDrawable())
+                    + "|" + backgroundImage.getCenterPointX() + ","
+                    + backgroundImage.getCenterPointY();
+        }
+
+        return null;
+    }
+}
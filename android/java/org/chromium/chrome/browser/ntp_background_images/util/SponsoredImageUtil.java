@@ -51,6 +51,14 @@ public class SponsoredImageUtil {
     	return rand.nextInt(count);
     }
 
+    /**
+     * @return the image the next {@link #getBackgroundImage()} call returns
+     */
+    public static BackgroundImage peekBackgroundImage() {
+        int index = backgroundImageIndex >= backgroundImages.size() ? 0 : backgroundImageIndex;
+        return backgroundImages.get(index);
+    }
+
     public static BackgroundImage getBackgroundImage() {
     	if (backgroundImageIndex >= backgroundImages.size()) {
     		backgroundImageIndex = 0;
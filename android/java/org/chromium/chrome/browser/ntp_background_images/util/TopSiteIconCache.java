@@ -0,0 +1,125 @@
+/* Copyright (c) 2022 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.ntp_background_images.util;
+
+import android.graphics.Bitmap;
+import android.util.LruCache;
+
+import org.chromium.base.Callback;
+import org.chromium.base.ThreadUtils;
+import org.chromium.base.task.PostTask;
+import org.chromium.base.task.TaskTraits;
+import org.chromium.content_public.browser.UiThreadTaskTraits;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Icons of the super referral top sites, keyed by icon path. Icons are decoded in the background
+ * and kept in memory, bounded by the bytes held by their bitmaps. The icons are prewarmed when
+ * the top sites are loaded, so the tiles usually find them cached. Requests for an icon that is
+ * already being decoded share the decode.
+ * Must be used on the UI thread.
+ */
+public class TopSiteIconCache {
+    private static final int MAX_CACHE_BYTES = 4 * 1024 * 1024;
+
+    private static TopSiteIconCache sInstance;
+
+    private final LruCache<String, Bitmap> mIcons;
+    private final HashMap<String, List<Callback<Bitmap>>> mPending;
+
+    public static TopSiteIconCache getInstance() {
+        ThreadUtils.assertOnUiThread();
+        if (sInstance == null) {
+            sInstance = new TopSiteIconCache();
+        }
+
+        return sInstance;
+    }
+
+    private TopSiteIconCache() {
+        int maxBytes = (int) Math.min(Runtime.getRuntime().maxMemory() / 32, MAX_CACHE_BYTES);
+        mIcons = new LruCache<String, Bitmap>(maxBytes) {
+            @Override
+            protected int sizeOf(String iconPath, Bitmap icon) {
+                return icon.getByteCount();
+            }
+        };
+        mPending = new HashMap<>();
+    }
+
+    /**
+     * @return the cached icon or null, never decodes
+     */
+    public Bitmap get(String iconPath) {
+        ThreadUtils.assertOnUiThread();
+        if (iconPath == null) return null;
+
+        return mIcons.get(iconPath);
+    }
+
+    /**
+     * Replies with the icon, right away when it is cached. Replies with null when the icon could
+     * not be decoded.
+     */
+    public void getIcon(String iconPath, Callback<Bitmap> callback) {
+        ThreadUtils.assertOnUiThread();
+        Bitmap icon = get(iconPath);
+        if (icon != null || iconPath == null) {
+            callback.onResult(icon);
+
+            return;
+        }
+        decode(iconPath, callback);
+    }
+
+    /**
+     * Decodes the icons that are not cached yet in the background.
+     */
+    public void prewarm(List<String> iconPaths) {
+        ThreadUtils.assertOnUiThread();
+        for (String iconPath : iconPaths) {
+            if (iconPath == null || mIcons.get(iconPath) != null) continue;
+            decode(iconPath, null);
+        }
+    }
+
+    public void remove(String iconPath) {
+        ThreadUtils.assertOnUiThread();
+        if (iconPath == null) return;
+        mIcons.remove(iconPath);
+    }
+
+    private void decode(String iconPath, Callback<Bitmap> callback) {
+        List<Callback<Bitmap>> callbacks = mPending.get(iconPath);
+        if (callbacks != null) {
+            if (callback != null) callbacks.add(callback);
+
+            return;
+        }
+        callbacks = new ArrayList<>();
+        if (callback != null) callbacks.add(callback);
+        mPending.put(iconPath, callbacks);
+
+        PostTask.postTask(TaskTraits.USER_VISIBLE, () -> {
+            Bitmap icon = NTPUtil.getTopSiteBitmap(iconPath);
+            PostTask.postTask(UiThreadTaskTraits.DEFAULT, () -> onIconDecoded(iconPath, icon));
+        });
+    }
+
+    private void onIconDecoded(String iconPath, Bitmap icon) {
+        if (icon != null) {
+            mIcons.put(iconPath, icon);
+        }
+        List<Callback<Bitmap>> callbacks = mPending.remove(iconPath);
+        if (callbacks == null) return;
+        for (Callback<Bitmap> callback : callbacks) {
+            callback.onResult(icon);
+        }
+    }
+}
@@ -29,7 +29,6 @@ import android.text.Html;
 import android.text.SpannableString;
 import android.text.Spanned;
 import android.text.TextPaint;
-import android.text.TextUtils;
 import android.text.method.LinkMovementMethod;
 import android.text.style.ClickableSpan;
 import android.text.style.ForegroundColorSpan;
@@ -62,7 +61,6 @@ import androidx.viewpager.widget.ViewPager;
 
 import com.google.android.material.tabs.TabLayout;
 
-import org.json.JSONException;
 
 import org.chromium.base.BraveReflectionUtil;
 import org.chromium.base.ContextUtils;
@@ -80,6 +78,7 @@ import org.chromium.chrome.browser.BraveRewardsObserver;
 import org.chromium.chrome.browser.BraveRewardsOnboardingPagerAdapter;
 import org.chromium.chrome.browser.BraveRewardsPublisher;
 import org.chromium.chrome.browser.BraveRewardsSiteBannerActivity;
+import org.chromium.chrome.browser.BraveRewardsStateStore;
 import org.chromium.chrome.browser.BraveRewardsUserWalletActivity;
 import org.chromium.chrome.browser.BraveRewardsVerifyWalletActivity;
 import org.chromium.chrome.browser.BraveWalletProvider;
@@ -106,15 +105,10 @@ import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Locale;
-import java.util.Timer;
-import java.util.TimerTask;
 
-public class BraveRewardsPanel
-        implements BraveRewardsObserver, BraveRewardsHelper.LargeIconReadyCallback {
+public class BraveRewardsPanel implements BraveRewardsObserver, BraveRewardsStateStore.Listener,
+                                          BraveRewardsHelper.LargeIconReadyCallback {
     private static final String TAG = "BraveRewards";
-    private static final int UPDATE_BALANCE_INTERVAL = 60000; // In milliseconds
-    private static final int PUBLISHER_INFO_FETCH_RETRY = 3 * 1000; // In milliseconds
-    private static final int PUBLISHER_FETCHES_COUNT = 3;
 
     private static final String YOUTUBE_TYPE = "youtube#";
     private static final String TWITCH_TYPE = "twitch#";
@@ -165,11 +159,8 @@ public class BraveRewardsPanel
     private TextView mBtnAddFunds;
     private SwitchCompat mSwitchAutoContribute;
 
-    private Timer mBalanceUpdater;
-
-    private Timer mPublisherFetcher;
-    private int mPublisherFetchesCount;
-    private boolean mPublisherExist;
+    private BraveRewardsStateStore mRewardsStateStore;
+    private int mPublisherInfoTabId;
 
     private String mCurrentNotificationId;
 
@@ -197,9 +188,8 @@ public class BraveRewardsPanel
 
     public BraveRewardsPanel(View anchorView) {
         mCurrentNotificationId = "";
-        mPublisherExist = false;
-        mPublisherFetchesCount = 0;
         mCurrentTabId = -1;
+        mPublisherInfoTabId = -1;
         mAnchorView = anchorView;
         mPopupWindow = new PopupWindow(anchorView.getContext());
         mPopupWindow.setHeight(ViewGroup.LayoutParams.WRAP_CONTENT);
@@ -224,12 +214,11 @@ public class BraveRewardsPanel
         mPopupWindow.setOnDismissListener(new PopupWindow.OnDismissListener() {
             @Override
             public void onDismiss() {
-                if (mBalanceUpdater != null) {
-                    mBalanceUpdater.cancel();
-                }
-
-                if (mPublisherFetcher != null) {
-                    mPublisherFetcher.cancel();
+                if (mRewardsStateStore != null) {
+                    mRewardsStateStore.removeListener(BraveRewardsPanel.this);
+                    if (mPublisherInfoTabId != -1) {
+                        mRewardsStateStore.cancelPublisherInfo(mPublisherInfoTabId);
+                    }
                 }
 
                 if (mIconFetcher != null) {
@@ -255,9 +244,10 @@ public class BraveRewardsPanel
         if (mBraveRewardsNativeWorker != null) {
             mBraveRewardsNativeWorker.AddObserver(this);
         }
-        mBalanceUpdater = new Timer();
-        createUpdateBalanceTask();
         setUpViews();
+        mRewardsStateStore = BraveRewardsStateStore.getInstance();
+        mRewardsStateStore.addListener(this);
+        mRewardsStateStore.onPanelOpened();
     }
 
     private void setUpViews() {
@@ -1091,28 +1081,7 @@ public class BraveRewardsPanel
     public void OnRewardsParameters(int errorCode) {
         mWalletBalanceLayout.setAlpha(1.0f);
         mWalletBalanceProgress.setVisibility(View.GONE);
-        if (errorCode == BraveRewardsNativeWorker.LEDGER_OK) {
-            if (mBraveRewardsNativeWorker != null) {
-                BraveRewardsBalance walletBalanceObject =
-                        mBraveRewardsNativeWorker.GetWalletBalance();
-                double walletBalance = 0;
-                if (walletBalanceObject != null) {
-                    walletBalance = walletBalanceObject.getTotal();
-                }
-
-                DecimalFormat df = new DecimalFormat("#.###");
-                df.setRoundingMode(RoundingMode.FLOOR);
-                df.setMinimumFractionDigits(3);
-                TextView batBalanceText = mPopupView.findViewById(R.id.bat_balance_text);
-                batBalanceText.setText(df.format(walletBalance));
-                double usdValue = walletBalance * mBraveRewardsNativeWorker.GetWalletRate();
-                String usdText =
-                        String.format(mPopupView.getResources().getString(R.string.brave_ui_usd),
-                                String.format(Locale.getDefault(), "%.2f", usdValue));
-                TextView usdBalanceText = mPopupView.findViewById(R.id.usd_balance_text);
-                usdBalanceText.setText(usdText);
-            }
-        } else if (errorCode == BraveRewardsNativeWorker.LEDGER_ERROR) { // No Internet connection
+        if (errorCode == BraveRewardsNativeWorker.LEDGER_ERROR) { // No Internet connection
             String args[] = {};
             Log.e(TAG, "Failed to fetch rewards parameters from server");
             showNotification(
@@ -1120,6 +1089,21 @@ public class BraveRewardsPanel
         }
     }
 
+    @Override
+    public void onBalanceChanged(BraveRewardsBalance balance, double rate) {
+        double walletBalance = balance.getTotal();
+        DecimalFormat df = new DecimalFormat("#.###");
+        df.setRoundingMode(RoundingMode.FLOOR);
+        df.setMinimumFractionDigits(3);
+        TextView batBalanceText = mPopupView.findViewById(R.id.bat_balance_text);
+        batBalanceText.setText(df.format(walletBalance));
+        double usdValue = walletBalance * rate;
+        String usdText = String.format(mPopupView.getResources().getString(R.string.brave_ui_usd),
+                String.format(Locale.getDefault(), "%.2f", usdValue));
+        TextView usdBalanceText = mPopupView.findViewById(R.id.usd_balance_text);
+        usdBalanceText.setText(usdText);
+    }
+
     @Override
     public void OnGetLatestNotification(String id, int type, long timestamp, String[] args) {
         if (type == BraveRewardsNativeWorker.REWARDS_NOTIFICATION_BACKUP_WALLET) {
@@ -1141,18 +1125,14 @@ public class BraveRewardsPanel
     }
 
     @Override
-    public void OnGetExternalWallet(int errorCode, String externalWallet) {
+    public void OnGetExternalWallet(int errorCode, BraveRewardsExternalWallet externalWallet) {
         int walletStatus = BraveRewardsExternalWallet.NOT_CONNECTED;
-        if (!TextUtils.isEmpty(externalWallet)) {
-            try {
-                mExternalWallet = new BraveRewardsExternalWallet(externalWallet);
-                walletStatus = mExternalWallet.getStatus();
-                mWalletBalanceLayout.setAlpha(0.4f);
-                mWalletBalanceProgress.setVisibility(View.VISIBLE);
-                mBraveRewardsNativeWorker.GetRewardsParameters();
-            } catch (JSONException e) {
-                mExternalWallet = null;
-            }
+        mExternalWallet = externalWallet;
+        if (mExternalWallet != null) {
+            walletStatus = mExternalWallet.getStatus();
+            mWalletBalanceLayout.setAlpha(0.4f);
+            mWalletBalanceProgress.setVisibility(View.VISIBLE);
+            mBraveRewardsNativeWorker.GetRewardsParameters();
         }
         setVerifyWalletButton(walletStatus);
         showRewardsFromAdsSummary(walletStatus);
@@ -1304,10 +1284,8 @@ public class BraveRewardsPanel
         if (currentActiveTab != null && !currentActiveTab.isIncognito()) {
             String url = currentActiveTab.getUrl().getSpec();
             if (URLUtil.isValidUrl(url)) {
-                mBraveRewardsNativeWorker.GetPublisherInfo(currentActiveTab.getId(), url);
-                mPublisherFetcher = new Timer();
-                mPublisherFetcher.schedule(new PublisherFetchTimer(currentActiveTab.getId(), url),
-                        PUBLISHER_INFO_FETCH_RETRY, PUBLISHER_INFO_FETCH_RETRY);
+                mPublisherInfoTabId = currentActiveTab.getId();
+                BraveRewardsStateStore.getInstance().requestPublisherInfo(mPublisherInfoTabId, url);
                 showTipSection();
                 mBtnTip.setEnabled(true);
             } else {
@@ -1322,7 +1300,6 @@ public class BraveRewardsPanel
 
     @Override
     public void OnPublisherInfo(int tabId) {
-        mPublisherExist = true;
         mCurrentTabId = tabId;
 
         String publisherFavIconURL =
@@ -1473,38 +1450,6 @@ public class BraveRewardsPanel
         }
     };
 
-    class PublisherFetchTimer extends TimerTask {
-        private final int tabId;
-        private final String url;
-
-        PublisherFetchTimer(int tabId, String url) {
-            this.tabId = tabId;
-            this.url = url;
-        }
-
-        @Override
-        public void run() {
-            if (mPublisherExist || mPublisherFetchesCount >= PUBLISHER_FETCHES_COUNT) {
-                if (mPublisherFetcher != null) {
-                    mPublisherFetcher.cancel();
-                    mPublisherFetcher = null;
-                }
-
-                return;
-            }
-            if (mBraveRewardsNativeWorker == null) {
-                return;
-            }
-            mActivity.runOnUiThread(new Runnable() {
-                @Override
-                public void run() {
-                    mBraveRewardsNativeWorker.GetPublisherInfo(tabId, url);
-                }
-            });
-            mPublisherFetchesCount++;
-        }
-    }
-
     public void dismiss() {
         mPopupWindow.dismiss();
     }
@@ -1513,23 +1458,6 @@ public class BraveRewardsPanel
         return mPopupWindow.isShowing();
     }
 
-    private void createUpdateBalanceTask() {
-        mBalanceUpdater.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                if (mBraveRewardsNativeWorker == null) {
-                    return;
-                }
-                mActivity.runOnUiThread(new Runnable() {
-                    @Override
-                    public void run() {
-                        mBraveRewardsNativeWorker.FetchGrants();
-                    }
-                });
-            }
-        }, 0, UPDATE_BALANCE_INTERVAL);
-    }
-
     @Override
     public void onLargeIconReady(Bitmap icon) {
         setFavIcon(icon);
@@ -15,7 +15,6 @@ import android.net.Uri;
 import android.os.Bundle;
 import android.os.Handler;
 import android.os.Looper;
-import android.util.Pair;
 
 import androidx.appcompat.app.AlertDialog;
 import androidx.preference.Preference;
@@ -36,6 +35,7 @@ import org.chromium.chrome.browser.vpn.models.BraveVpnServerRegion;
 import org.chromium.chrome.browser.vpn.models.BraveVpnWireguardProfileCredentials;
 import org.chromium.chrome.browser.vpn.utils.BraveVpnApiResponseUtils;
 import org.chromium.chrome.browser.vpn.utils.BraveVpnPrefUtils;
+import org.chromium.chrome.browser.vpn.utils.BraveVpnRegionCatalog;
 import org.chromium.chrome.browser.vpn.utils.BraveVpnProfileUtils;
 import org.chromium.chrome.browser.vpn.utils.BraveVpnUtils;
 import org.chromium.chrome.browser.vpn.utils.InAppPurchaseWrapper;
@@ -211,7 +211,7 @@ public class BraveVpnPreferences extends BravePreferenceFragment implements Brav
 
     private void updateSummaries() {
         List<BraveVpnServerRegion> vpnServerRegions =
-                BraveVpnUtils.getServerLocations(BraveVpnPrefUtils.getServerRegions());
+                BraveVpnRegionCatalog.getServerRegions(BraveVpnPrefUtils.getServerRegions());
         String serverLocation = "";
         for (BraveVpnServerRegion vpnServerRegion : vpnServerRegions) {
             if (BraveVpnPrefUtils.getServerRegion().equals(
@@ -390,10 +390,8 @@ public class BraveVpnPreferences extends BravePreferenceFragment implements Brav
         KeyPair keyPair = new KeyPair();
         mBraveVpnPrefModel.setClientPrivateKey(keyPair.getPrivateKey().toBase64());
         mBraveVpnPrefModel.setClientPublicKey(keyPair.getPublicKey().toBase64());
-        Pair<String, String> host = BraveVpnApiResponseUtils.handleOnGetHostnamesForRegion(
+        BraveVpnApiResponseUtils.handleOnGetHostnamesForRegion(
                 getActivity(), mBraveVpnPrefModel, jsonHostNames, isSuccess);
-        mBraveVpnPrefModel.setHostname(host.first);
-        mBraveVpnPrefModel.setHostnameDisplay(host.second);
     }
 
     @Override
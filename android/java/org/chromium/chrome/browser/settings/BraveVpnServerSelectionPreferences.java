@@ -8,9 +8,12 @@ package org.chromium.chrome.browser.settings;
 import android.content.Context;
 import android.graphics.Rect;
 import android.os.Bundle;
+import android.text.Editable;
+import android.text.TextWatcher;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
+import android.widget.EditText;
 import android.widget.LinearLayout;
 import android.widget.ProgressBar;
 import android.widget.TextView;
@@ -20,18 +23,27 @@ import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
 import org.chromium.base.Log;
+import org.chromium.base.task.PostTask;
+import org.chromium.base.task.TaskTraits;
 import org.chromium.chrome.R;
 import org.chromium.chrome.browser.settings.BravePreferenceFragment;
 import org.chromium.chrome.browser.vpn.BraveVpnObserver;
 import org.chromium.chrome.browser.vpn.adapters.BraveVpnServerSelectionAdapter;
+import org.chromium.chrome.browser.vpn.models.BraveVpnHostname;
 import org.chromium.chrome.browser.vpn.models.BraveVpnServerRegion;
+import org.chromium.chrome.browser.vpn.models.BraveVpnServerSelectionItem;
+import org.chromium.chrome.browser.vpn.utils.BraveVpnHostnameSelector;
 import org.chromium.chrome.browser.vpn.utils.BraveVpnPrefUtils;
+import org.chromium.chrome.browser.vpn.utils.BraveVpnRegionCatalog;
 import org.chromium.chrome.browser.vpn.utils.BraveVpnUtils;
+import org.chromium.content_public.browser.UiThreadTaskTraits;
 import org.chromium.ui.widget.Toast;
 
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class BraveVpnServerSelectionPreferences
         extends BravePreferenceFragment implements BraveVpnObserver {
@@ -93,7 +105,7 @@ public class BraveVpnServerSelectionPreferences
                     }
                 });
         List<BraveVpnServerRegion> braveVpnServerRegions =
-                BraveVpnUtils.getServerLocations(BraveVpnPrefUtils.getServerRegions());
+                BraveVpnRegionCatalog.getServerRegions(BraveVpnPrefUtils.getServerRegions());
         Collections.sort(braveVpnServerRegions, new Comparator<BraveVpnServerRegion>() {
             @Override
             public int compare(BraveVpnServerRegion braveVpnServerRegion1,
@@ -103,14 +115,60 @@ public class BraveVpnServerSelectionPreferences
             }
         });
         mBraveVpnServerSelectionAdapter = new BraveVpnServerSelectionAdapter();
-        mBraveVpnServerSelectionAdapter.setVpnServerRegions(braveVpnServerRegions);
+        mBraveVpnServerSelectionAdapter.setServerSelectionItems(BraveVpnServerSelectionItem.create(
+                braveVpnServerRegions, BraveVpnPrefUtils.getServerRegion()));
+        mBraveVpnServerSelectionAdapter.setShowLatency(true);
         mBraveVpnServerSelectionAdapter.setOnServerRegionSelection(onServerRegionSelection);
         serverRegionList.setAdapter(mBraveVpnServerSelectionAdapter);
         serverRegionList.setLayoutManager(linearLayoutManager);
+        loadLatencies(braveVpnServerRegions);
+
+        EditText searchText = (EditText) getView().findViewById(R.id.server_search_text);
+        searchText.addTextChangedListener(new TextWatcher() {
+            @Override
+            public void beforeTextChanged(CharSequence s, int start, int count, int after) {}
+
+            @Override
+            public void onTextChanged(CharSequence s, int start, int before, int count) {}
+
+            @Override
+            public void afterTextChanged(Editable s) {
+                mBraveVpnServerSelectionAdapter.setQuery(s.toString());
+            }
+        });
 
         super.onActivityCreated(savedInstanceState);
     }
 
+    /**
+     * Fills in the latency of the regions whose hosts were probed recently, no host is probed
+     * for the list.
+     */
+    private void loadLatencies(List<BraveVpnServerRegion> braveVpnServerRegions) {
+        PostTask.postTask(TaskTraits.BEST_EFFORT, () -> {
+            Map<String, Long> latencies = new HashMap<>();
+            for (BraveVpnServerRegion braveVpnServerRegion : braveVpnServerRegions) {
+                long regionLatencyMs = -1;
+                for (BraveVpnHostname hostname :
+                        BraveVpnRegionCatalog.getCachedHostnames(braveVpnServerRegion.getName())) {
+                    long latencyMs =
+                            BraveVpnHostnameSelector.getRememberedLatencyMs(hostname.getHostname());
+                    if (latencyMs >= 0 && (regionLatencyMs < 0 || latencyMs < regionLatencyMs)) {
+                        regionLatencyMs = latencyMs;
+                    }
+                }
+                if (regionLatencyMs >= 0) {
+                    latencies.put(braveVpnServerRegion.getName(), regionLatencyMs);
+                }
+            }
+            PostTask.postTask(UiThreadTaskTraits.DEFAULT, () -> {
+                if (mBraveVpnServerSelectionAdapter != null) {
+                    mBraveVpnServerSelectionAdapter.setLatencies(latencies);
+                }
+            });
+        });
+    }
+
     OnServerRegionSelection onServerRegionSelection = new OnServerRegionSelection() {
         @Override
         public void onServerRegionClick(BraveVpnServerRegion braveVpnServerRegion) {
@@ -23,6 +23,7 @@ import androidx.preference.Preference;
 import org.chromium.brave_wallet.mojom.TxService;
 import org.chromium.chrome.R;
 import org.chromium.chrome.browser.crypto_wallet.TxServiceFactory;
+import org.chromium.chrome.browser.crypto_wallet.util.TransactionCache;
 import org.chromium.mojo.bindings.ConnectionErrorHandler;
 import org.chromium.mojo.system.MojoException;
 import org.chromium.ui.KeyboardVisibilityDelegate;
@@ -75,6 +76,7 @@ public class BraveWalletResetTxHistoryAndNoncePreference
         DialogInterface.OnClickListener onClickListener = (dialog, button) -> {
             if (button == AlertDialog.BUTTON_POSITIVE) {
                 mTxService.reset();
+                TransactionCache.getInstance().invalidateAll();
             } else {
                 dialog.dismiss();
             }
@@ -17,6 +17,7 @@ import org.chromium.chrome.browser.app.ChromeActivity;
 import org.chromium.chrome.browser.compositor.CompositorViewHolder;
 import org.chromium.chrome.browser.init.StartupTabPreloader;
 import org.chromium.chrome.browser.ntp_background_images.NTPBackgroundImagesBridge;
+import org.chromium.chrome.browser.ntp_background_images.util.NTPWallpaperScheduler;
 import org.chromium.chrome.browser.ntp_background_images.util.SponsoredImageUtil;
 import org.chromium.chrome.browser.preferences.BravePref;
 import org.chromium.chrome.browser.profiles.Profile;
@@ -74,7 +75,9 @@ public class BraveTabCreator extends ChromeTabCreator {
     }
 
     private void registerPageView() {
-        NTPBackgroundImagesBridge.getInstance(Profile.getLastUsedRegularProfile())
-                .registerPageView();
+        NTPBackgroundImagesBridge bridge =
+                NTPBackgroundImagesBridge.getInstance(Profile.getLastUsedRegularProfile());
+        bridge.registerPageView();
+        NTPWallpaperScheduler.getInstance().onPageViewRegistered(bridge);
     }
 }
@@ -63,6 +63,7 @@ import org.chromium.chrome.browser.BraveRelaunchUtils;
 import org.chromium.chrome.browser.BraveRewardsHelper;
 import org.chromium.chrome.browser.BraveRewardsNativeWorker;
 import org.chromium.chrome.browser.BraveRewardsObserver;
+import org.chromium.chrome.browser.BraveRewardsObserverRegistry;
 import org.chromium.chrome.browser.BraveRewardsPanelPopup;
 import org.chromium.chrome.browser.app.BraveActivity;
 import org.chromium.chrome.browser.brave_stats.BraveStatsUtil;
@@ -79,6 +80,7 @@ import org.chromium.chrome.browser.local_database.BraveStatsTable;
 import org.chromium.chrome.browser.local_database.DatabaseHelper;
 import org.chromium.chrome.browser.local_database.SavedBandwidthTable;
 import org.chromium.chrome.browser.notifications.retention.RetentionNotificationUtil;
+import org.chromium.chrome.browser.ntp.NTPScrollStateStore;
 import org.chromium.chrome.browser.ntp.NewTabPage;
 import org.chromium.chrome.browser.omnibox.LocationBarCoordinator;
 import org.chromium.chrome.browser.onboarding.BraveTalkOptInPopup;
@@ -342,7 +344,9 @@ public abstract class BraveToolbarLayoutImpl extends ToolbarLayout
         }
         mBraveRewardsNativeWorker = BraveRewardsNativeWorker.getInstance();
         if (mBraveRewardsNativeWorker != null) {
-            mBraveRewardsNativeWorker.AddObserver(this);
+            mBraveRewardsNativeWorker.AddObserver(this,
+                    BraveRewardsObserverRegistry.NOTIFICATION_ADDED
+                            | BraveRewardsObserverRegistry.NOTIFICATIONS_COUNT);
             mBraveRewardsNativeWorker.AddPublisherObserver(this);
             mBraveRewardsNativeWorker.TriggerOnNotifyFrontTabUrlChanged();
             mBraveRewardsNativeWorker.GetAllNotifications();
@@ -419,6 +423,11 @@ public abstract class BraveToolbarLayoutImpl extends ToolbarLayout
         };
 
         mTabModelSelectorTabModelObserver = new TabModelSelectorTabModelObserver(selector) {
+            @Override
+            public void tabClosureCommitted(Tab tab) {
+                NTPScrollStateStore.getInstance().removeTab(tab.getId());
+            }
+
             @Override
             public void didSelectTab(Tab tab, @TabSelectionType int type, int lastId) {
                 if (mBraveRewardsNativeWorker != null && !tab.isIncognito()) {
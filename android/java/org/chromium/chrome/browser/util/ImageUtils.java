@@ -54,11 +54,21 @@ public class ImageUtils {
     }
 
     public static Bitmap addGradient(Bitmap src) {
-        Context context = ContextUtils.getApplicationContext();
         int w = src.getWidth();
         int h = src.getHeight();
         Bitmap result = Bitmap.createBitmap(src,0,0,w,h);
         Canvas canvas = new Canvas(result);
+        drawGradient(canvas, w, h);
+
+        return result;
+    }
+
+    /**
+     * Darkens the top and the bottom of what is drawn on the canvas, like {@link #addGradient}
+     * but without copying the bitmap.
+     */
+    public static void drawGradient(Canvas canvas, int w, int h) {
+        Context context = ContextUtils.getApplicationContext();
 
         // Top gradient
         int height;
@@ -81,7 +91,5 @@ public class ImageUtils {
         bottomPaint.setShader(bottomShader);
         bottomPaint.setXfermode(new PorterDuffXfermode(PorterDuff.Mode.DARKEN));
         canvas.drawRect(0,2*(h/3),w,h,bottomPaint);
-
-        return result;
     }
 }
\ No newline at end of file
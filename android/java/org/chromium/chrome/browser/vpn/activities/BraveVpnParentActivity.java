@@ -10,7 +10,6 @@ package org.chromium.chrome.browser.vpn.activities;
 import static com.android.billingclient.api.BillingClient.SkuType.SUBS;
 
 import android.content.Intent;
-import android.util.Pair;
 
 import androidx.activity.result.ActivityResultLauncher;
 import androidx.activity.result.contract.ActivityResultContracts;
@@ -152,10 +151,8 @@ public abstract class BraveVpnParentActivity
         KeyPair keyPair = new KeyPair();
         mBraveVpnPrefModel.setClientPrivateKey(keyPair.getPrivateKey().toBase64());
         mBraveVpnPrefModel.setClientPublicKey(keyPair.getPublicKey().toBase64());
-        Pair<String, String> host = BraveVpnApiResponseUtils.handleOnGetHostnamesForRegion(
+        BraveVpnApiResponseUtils.handleOnGetHostnamesForRegion(
                 BraveVpnParentActivity.this, mBraveVpnPrefModel, jsonHostNames, isSuccess);
-        mBraveVpnPrefModel.setHostname(host.first);
-        mBraveVpnPrefModel.setHostnameDisplay(host.second);
     }
 
     @Override
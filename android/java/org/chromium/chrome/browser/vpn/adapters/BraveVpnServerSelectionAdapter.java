@@ -13,69 +13,194 @@ import android.view.ViewGroup;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 
+import org.chromium.base.ThreadUtils;
+import org.chromium.base.task.PostTask;
+import org.chromium.base.task.TaskTraits;
 import org.chromium.chrome.R;
 import org.chromium.chrome.browser.settings.BraveVpnServerSelectionPreferences.OnServerRegionSelection;
-import org.chromium.chrome.browser.vpn.models.BraveVpnServerRegion;
-import org.chromium.chrome.browser.vpn.utils.BraveVpnPrefUtils;
+import org.chromium.chrome.browser.vpn.models.BraveVpnServerSelectionItem;
+import org.chromium.content_public.browser.UiThreadTaskTraits;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
+/**
+ * Server regions, filtered by the search query off the UI thread. Typing more characters
+ * filters the rows shown instead of all regions, and the rows are updated with DiffUtil.
+ * Must be used on the UI thread.
+ */
 public class BraveVpnServerSelectionAdapter
         extends RecyclerView.Adapter<BraveVpnServerSelectionAdapter.ViewHolder> {
-    List<BraveVpnServerRegion> mBraveVpnServerRegions = new ArrayList<>();
+    private List<BraveVpnServerSelectionItem> mAllItems = new ArrayList<>();
+    private List<BraveVpnServerSelectionItem> mItems = new ArrayList<>();
+    // Items and query mItems are filtered from
+    private List<BraveVpnServerSelectionItem> mItemsAllItems = mAllItems;
+    private String mItemsQuery = "";
+    private String mQuery = "";
+    // Incremented with every filter, results of older filters are dropped
+    private int mFilterGeneration;
+    private boolean mShowLatency;
     private OnServerRegionSelection mOnServerRegionSelection;
 
+    private static class ItemDiffCallback extends DiffUtil.Callback {
+        private final List<BraveVpnServerSelectionItem> mOldItems;
+        private final List<BraveVpnServerSelectionItem> mNewItems;
+
+        private ItemDiffCallback(List<BraveVpnServerSelectionItem> oldItems,
+                List<BraveVpnServerSelectionItem> newItems) {
+            mOldItems = oldItems;
+            mNewItems = newItems;
+        }
+
+        @Override
+        public int getOldListSize() {
+            return mOldItems.size();
+        }
+
+        @Override
+        public int getNewListSize() {
+            return mNewItems.size();
+        }
+
+        @Override
+        public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+            return mOldItems.get(oldItemPosition).getServerRegion().getName().equals(
+                    mNewItems.get(newItemPosition).getServerRegion().getName());
+        }
+
+        @Override
+        public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+            BraveVpnServerSelectionItem oldItem = mOldItems.get(oldItemPosition);
+            BraveVpnServerSelectionItem newItem = mNewItems.get(newItemPosition);
+            return oldItem.isSelected() == newItem.isSelected()
+                    && oldItem.getLatencyMs() == newItem.getLatencyMs()
+                    && oldItem.getDisplayName().equals(newItem.getDisplayName());
+        }
+    }
+
+    public BraveVpnServerSelectionAdapter() {
+        setHasStableIds(true);
+    }
+
     @NonNull
     @Override
     public ViewHolder onCreateViewHolder(ViewGroup parent, int viewType) {
         LayoutInflater layoutInflater = LayoutInflater.from(parent.getContext());
         View listItem = layoutInflater.inflate(
-                R.layout.brave_vpn_server_selection_item_layout, parent, false);
-        return new ViewHolder(listItem);
+                R.layout.brave_vpn_server_region_item_layout, parent, false);
+        ViewHolder holder = new ViewHolder(listItem);
+        listItem.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                int position = holder.getAdapterPosition();
+                if (position == RecyclerView.NO_POSITION || mOnServerRegionSelection == null) {
+                    return;
+                }
+                mOnServerRegionSelection.onServerRegionClick(
+                        mItems.get(position).getServerRegion());
+            }
+        });
+        return holder;
     }
 
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        final BraveVpnServerRegion vpnServerRegion = mBraveVpnServerRegions.get(position);
-        if (vpnServerRegion != null) {
-            holder.serverText.setText(vpnServerRegion.getNamePretty());
-            if (BraveVpnPrefUtils.getServerRegion().equals(vpnServerRegion.getName())) {
-                holder.serverText.setCompoundDrawablesWithIntrinsicBounds(
-                        0, 0, R.drawable.ic_server_selection_check, 0);
-            } else {
-                holder.serverText.setCompoundDrawablesWithIntrinsicBounds(0, 0, 0, 0);
-            }
-            holder.serverText.setOnClickListener(new View.OnClickListener() {
-                @Override
-                public void onClick(View v) {
-                    mOnServerRegionSelection.onServerRegionClick(vpnServerRegion);
-                }
-            });
-        }
+        BraveVpnServerSelectionItem item = mItems.get(position);
+        holder.serverText.setText(item.getDisplayName());
+        holder.serverText.setCompoundDrawablesWithIntrinsicBounds(
+                0, 0, item.isSelected() ? R.drawable.ic_server_selection_check : 0, 0);
+        String latencyText = mShowLatency ? item.getLatencyText() : null;
+        holder.latencyText.setVisibility(latencyText != null ? View.VISIBLE : View.GONE);
+        holder.latencyText.setText(latencyText);
     }
 
     @Override
     public int getItemCount() {
-        return mBraveVpnServerRegions.size();
+        return mItems.size();
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return mItems.get(position).getId();
+    }
+
+    public void setServerSelectionItems(List<BraveVpnServerSelectionItem> items) {
+        ThreadUtils.assertOnUiThread();
+        mAllItems = new ArrayList<>(items);
+        filter(mAllItems);
     }
 
-    public void setVpnServerRegions(List<BraveVpnServerRegion> vpnServerRegions) {
-        this.mBraveVpnServerRegions = vpnServerRegions;
+    /**
+     * Replaces the items of the regions with a known latency.
+     *
+     * @param latencies latency in milliseconds keyed by region name
+     */
+    public void setLatencies(Map<String, Long> latencies) {
+        ThreadUtils.assertOnUiThread();
+        if (latencies.isEmpty()) return;
+        List<BraveVpnServerSelectionItem> items = new ArrayList<>(mAllItems.size());
+        for (BraveVpnServerSelectionItem item : mAllItems) {
+            Long latencyMs = latencies.get(item.getServerRegion().getName());
+            items.add(latencyMs != null ? item.withLatency(latencyMs) : item);
+        }
+        mAllItems = items;
+        filter(mAllItems);
+    }
+
+    public void setShowLatency(boolean showLatency) {
+        ThreadUtils.assertOnUiThread();
+        if (mShowLatency == showLatency) return;
+        mShowLatency = showLatency;
+        notifyItemRangeChanged(0, mItems.size());
+    }
+
+    public void setQuery(String query) {
+        ThreadUtils.assertOnUiThread();
+        mQuery = query.trim().toLowerCase(Locale.getDefault());
+        // Rows matching a longer query are among the rows matching its prefix
+        boolean incremental = mItemsAllItems == mAllItems && mQuery.startsWith(mItemsQuery);
+        filter(incremental ? mItems : mAllItems);
     }
 
     public void setOnServerRegionSelection(OnServerRegionSelection onServerRegionSelection) {
         this.mOnServerRegionSelection = onServerRegionSelection;
     }
 
+    private void filter(List<BraveVpnServerSelectionItem> source) {
+        int generation = ++mFilterGeneration;
+        List<BraveVpnServerSelectionItem> allItems = mAllItems;
+        String query = mQuery;
+        List<BraveVpnServerSelectionItem> oldItems = mItems;
+        PostTask.postTask(TaskTraits.USER_VISIBLE, () -> {
+            List<BraveVpnServerSelectionItem> items = new ArrayList<>();
+            for (BraveVpnServerSelectionItem item : source) {
+                if (item.matches(query)) items.add(item);
+            }
+            DiffUtil.DiffResult diffResult =
+                    DiffUtil.calculateDiff(new ItemDiffCallback(oldItems, items));
+            PostTask.postTask(UiThreadTaskTraits.DEFAULT, () -> {
+                if (generation != mFilterGeneration) return;
+                mItems = items;
+                mItemsAllItems = allItems;
+                mItemsQuery = query;
+                diffResult.dispatchUpdatesTo(this);
+            });
+        });
+    }
+
     public static class ViewHolder extends RecyclerView.ViewHolder {
         public TextView serverText;
+        public TextView latencyText;
 
         public ViewHolder(View itemView) {
             super(itemView);
             this.serverText = itemView.findViewById(R.id.server_text);
+            this.latencyText = itemView.findViewById(R.id.server_latency_text);
         }
     }
 }
@@ -0,0 +1,30 @@
+/* Copyright (c) 2022 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.vpn.models;
+
+public class BraveVpnHostname {
+    private final String mHostname;
+    private final String mDisplayName;
+    private final int mCapacityScore;
+
+    public BraveVpnHostname(String hostname, String displayName, int capacityScore) {
+        this.mHostname = hostname;
+        this.mDisplayName = displayName;
+        this.mCapacityScore = capacityScore;
+    }
+
+    public String getHostname() {
+        return mHostname;
+    }
+
+    public String getDisplayName() {
+        return mDisplayName;
+    }
+
+    public int getCapacityScore() {
+        return mCapacityScore;
+    }
+}
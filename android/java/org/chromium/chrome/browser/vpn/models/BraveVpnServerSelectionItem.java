@@ -0,0 +1,106 @@
+/* Copyright (c) 2022 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.vpn.models;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Row of the server selection list. Everything the row shows is computed when the item is
+ * created, items are never changed, a new item is created when the latency becomes known.
+ */
+public class BraveVpnServerSelectionItem {
+    public static final long UNKNOWN_LATENCY = -1;
+
+    // Id of each region name, assigned the first time the name is seen
+    private static final Map<String, Long> sIds = new HashMap<>();
+
+    private final long mId;
+    private final BraveVpnServerRegion mServerRegion;
+    private final boolean mSelected;
+    private final String mSearchKey;
+    private final long mLatencyMs;
+    private final String mLatencyText;
+
+    private BraveVpnServerSelectionItem(long id, BraveVpnServerRegion serverRegion,
+            boolean selected, String searchKey, long latencyMs) {
+        this.mId = id;
+        this.mServerRegion = serverRegion;
+        this.mSelected = selected;
+        this.mSearchKey = searchKey;
+        this.mLatencyMs = latencyMs;
+        this.mLatencyText = latencyMs >= 0 ? latencyMs + " ms" : null;
+    }
+
+    /**
+     * @return items of the regions in the same order, the id of an item is unique to its region
+     *         name so items created again keep their ids when regions are added, removed or
+     *         reordered
+     */
+    public static List<BraveVpnServerSelectionItem> create(
+            List<BraveVpnServerRegion> serverRegions, String selectedRegion) {
+        List<BraveVpnServerSelectionItem> items = new ArrayList<>(serverRegions.size());
+        for (BraveVpnServerRegion serverRegion : serverRegions) {
+            String searchKey = (serverRegion.getNamePretty() + " " + serverRegion.getName())
+                                       .toLowerCase(Locale.getDefault());
+            items.add(new BraveVpnServerSelectionItem(getId(serverRegion.getName()), serverRegion,
+                    serverRegion.getName().equals(selectedRegion), searchKey, UNKNOWN_LATENCY));
+        }
+        return items;
+    }
+
+    private static synchronized long getId(String regionName) {
+        Long id = sIds.get(regionName);
+        if (id == null) {
+            id = (long) sIds.size();
+            sIds.put(regionName, id);
+        }
+
+        return id;
+    }
+
+    public BraveVpnServerSelectionItem withLatency(long latencyMs) {
+        return new BraveVpnServerSelectionItem(
+                mId, mServerRegion, mSelected, mSearchKey, latencyMs);
+    }
+
+    /**
+     * @param query lower case text typed in the search field
+     */
+    public boolean matches(String query) {
+        return query.isEmpty() || mSearchKey.contains(query);
+    }
+
+    public long getId() {
+        return mId;
+    }
+
+    public BraveVpnServerRegion getServerRegion() {
+        return mServerRegion;
+    }
+
+    public String getDisplayName() {
+        return mServerRegion.getNamePretty();
+    }
+
+    public boolean isSelected() {
+        return mSelected;
+    }
+
+    public long getLatencyMs() {
+        return mLatencyMs;
+    }
+
+    /**
+     * @return the latency to show, null while it is unknown
+     */
+    public String getLatencyText() {
+        return mLatencyText;
+    }
+}
@@ -9,10 +9,10 @@ package org.chromium.chrome.browser.vpn.utils;
 
 import android.app.Activity;
 import android.text.TextUtils;
-import android.util.Pair;
 
 import org.chromium.chrome.R;
 import org.chromium.chrome.browser.vpn.BraveVpnNativeWorker;
+import org.chromium.chrome.browser.vpn.models.BraveVpnHostname;
 import org.chromium.chrome.browser.vpn.models.BraveVpnPrefModel;
 import org.chromium.chrome.browser.vpn.utils.BraveVpnPrefUtils;
 import org.chromium.chrome.browser.vpn.utils.BraveVpnProfileUtils;
@@ -20,6 +20,7 @@ import org.chromium.chrome.browser.vpn.utils.BraveVpnUtils;
 import org.chromium.chrome.browser.vpn.utils.InAppPurchaseWrapper;
 import org.chromium.ui.widget.Toast;
 
+import java.util.List;
 import java.util.TimeZone;
 
 public class BraveVpnApiResponseUtils {
@@ -52,7 +53,7 @@ public class BraveVpnApiResponseUtils {
     public static void handleOnGetTimezonesForRegions(Activity activity,
             BraveVpnPrefModel braveVpnPrefModel, String jsonTimezones, boolean isSuccess) {
         if (isSuccess) {
-            String region = BraveVpnUtils.getRegionForTimeZone(
+            String region = BraveVpnRegionCatalog.getRegionForTimezone(
                     jsonTimezones, TimeZone.getDefault().getID());
             if (TextUtils.isEmpty(region)) {
                 Toast.makeText(activity,
@@ -86,19 +87,22 @@ public class BraveVpnApiResponseUtils {
         }
     }
 
-    public static Pair<String, String> handleOnGetHostnamesForRegion(Activity activity,
+    public static void handleOnGetHostnamesForRegion(Activity activity,
             BraveVpnPrefModel braveVpnPrefModel, String jsonHostNames, boolean isSuccess) {
-        Pair<String, String> host = new Pair<String, String>("", "");
         if (isSuccess && braveVpnPrefModel != null) {
-            host = BraveVpnUtils.getHostnameForRegion(jsonHostNames);
-            BraveVpnNativeWorker.getInstance().getWireguardProfileCredentials(
-                    braveVpnPrefModel.getSubscriberCredential(),
-                    braveVpnPrefModel.getClientPublicKey(), host.first);
+            List<BraveVpnHostname> hostnames = BraveVpnRegionCatalog.getHostnames(
+                    braveVpnPrefModel.getServerRegion(), jsonHostNames);
+            BraveVpnHostnameSelector.selectHostname(hostnames, host -> {
+                braveVpnPrefModel.setHostname(host.first);
+                braveVpnPrefModel.setHostnameDisplay(host.second);
+                BraveVpnNativeWorker.getInstance().getWireguardProfileCredentials(
+                        braveVpnPrefModel.getSubscriberCredential(),
+                        braveVpnPrefModel.getClientPublicKey(), host.first);
+            });
         } else {
             Toast.makeText(activity, R.string.vpn_profile_creation_failed, Toast.LENGTH_LONG)
                     .show();
             BraveVpnUtils.dismissProgressDialog();
         }
-        return host;
     }
 }
@@ -0,0 +1,239 @@
+/* Copyright (c) 2022 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.vpn.utils;
+
+import android.os.SystemClock;
+import android.util.Pair;
+
+import androidx.annotation.VisibleForTesting;
+
+import org.chromium.base.Callback;
+import org.chromium.base.Log;
+import org.chromium.base.task.PostTask;
+import org.chromium.base.task.TaskTraits;
+import org.chromium.chrome.browser.vpn.models.BraveVpnHostname;
+import org.chromium.content_public.browser.UiThreadTaskTraits;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Picks the hostname of a region with the lowest handshake time. Up to
+ * {@link #MAX_PROBED_HOSTS} of the hosts with the best capacity are probed in parallel, each
+ * bounded by {@link #PROBE_TIMEOUT_MS}, and results are remembered for
+ * {@link #RESULT_TTL_MS} so switching back to a region does not probe again. Hosts that did not
+ * answer are only skipped for {@link #UNREACHABLE_TTL_MS}, as the network may just have been
+ * down. When no host answers, the host is picked at random like
+ * {@link BraveVpnUtils#getHostnameForRegion}.
+ */
+public class BraveVpnHostnameSelector {
+    private static final String TAG = "BraveVPN";
+
+    public static final long PROBE_TIMEOUT_MS = 1500;
+    public static final long RESULT_TTL_MS = 10 * 60 * 1000;
+    public static final long UNREACHABLE_TTL_MS = 30 * 1000;
+    public static final int MAX_PROBED_HOSTS = 5;
+    // The hosts serve the credentials API over HTTPS
+    private static final int PROBE_PORT = 443;
+    private static final long UNREACHABLE = -1;
+
+    /**
+     * Measures the handshake time with a host. Called on background threads.
+     */
+    public interface Prober {
+        /**
+         * @return the handshake time in milliseconds or a negative value when the host did not
+         *         answer within the timeout
+         */
+        long probe(String hostname, long timeoutMs);
+    }
+
+    /**
+     * Times a TCP handshake with the host.
+     */
+    private static class TcpProber implements Prober {
+        @Override
+        public long probe(String hostname, long timeoutMs) {
+            long startMs = SystemClock.elapsedRealtime();
+            try (Socket socket = new Socket()) {
+                socket.connect(new InetSocketAddress(hostname, PROBE_PORT), (int) timeoutMs);
+                return SystemClock.elapsedRealtime() - startMs;
+            } catch (IOException e) {
+                return UNREACHABLE;
+            }
+        }
+    }
+
+    private static class ProbeResult {
+        private final long mLatencyMs;
+        private final long mProbedMs;
+
+        private ProbeResult(long latencyMs, long probedMs) {
+            mLatencyMs = latencyMs;
+            mProbedMs = probedMs;
+        }
+    }
+
+    private static Prober sProber = new TcpProber();
+    // Recent results keyed by hostname, guarded by itself
+    private static final Map<String, ProbeResult> sResults = new HashMap<>();
+
+    @VisibleForTesting
+    public static void setProberForTesting(Prober prober) {
+        sProber = prober != null ? prober : new TcpProber();
+        synchronized (sResults) {
+            sResults.clear();
+        }
+    }
+
+    /**
+     * @return the remembered handshake time with the host in milliseconds, a negative value
+     *         when the host was not probed recently or did not answer
+     */
+    public static long getRememberedLatencyMs(String hostname) {
+        ProbeResult result = getRememberedResult(hostname, SystemClock.elapsedRealtime());
+
+        return result != null ? result.mLatencyMs : UNREACHABLE;
+    }
+
+    /**
+     * Replies on the UI thread with the hostname and display name to connect to, empty strings
+     * when the region has no hostnames.
+     */
+    public static void selectHostname(
+            List<BraveVpnHostname> hostnames, Callback<Pair<String, String>> callback) {
+        List<Pair<String, String>> candidates = getCandidates(hostnames);
+        if (candidates.isEmpty()) {
+            callback.onResult(BraveVpnUtils.getHostnameForRegion(hostnames));
+            return;
+        }
+
+        new Selection(candidates, hostnames, callback).start(sProber);
+    }
+
+    /**
+     * @return hostname and display name of the hosts with the best capacity score, in the
+     *         order of the server list
+     */
+    private static List<Pair<String, String>> getCandidates(List<BraveVpnHostname> hostnames) {
+        List<Pair<String, String>> all = new ArrayList<>();
+        List<Pair<String, String>> best = new ArrayList<>();
+        for (BraveVpnHostname hostname : hostnames) {
+            Pair<String, String> host =
+                    new Pair<>(hostname.getHostname(), hostname.getDisplayName());
+            all.add(host);
+            if (hostname.getCapacityScore() == 0 || hostname.getCapacityScore() == 1) {
+                best.add(host);
+            }
+        }
+        List<Pair<String, String>> candidates = best.size() < 2 ? all : best;
+
+        return candidates.size() > MAX_PROBED_HOSTS ? candidates.subList(0, MAX_PROBED_HOSTS)
+                                                    : candidates;
+    }
+
+    /**
+     * One selection among the candidates. Probes run on the thread pool and reply on the UI
+     * thread, where the selection finishes with the last reply or after the timeout, so no thread
+     * waits for the probes.
+     */
+    private static class Selection {
+        private final List<Pair<String, String>> mCandidates;
+        private final List<BraveVpnHostname> mHostnames;
+        private final Callback<Pair<String, String>> mCallback;
+        private final long[] mLatencies;
+        // Accessed on the UI thread once the probes are posted
+        private int mRemainingProbes;
+        private boolean mDone;
+
+        private Selection(List<Pair<String, String>> candidates,
+                List<BraveVpnHostname> hostnames, Callback<Pair<String, String>> callback) {
+            mCandidates = candidates;
+            mHostnames = hostnames;
+            mCallback = callback;
+            mLatencies = new long[candidates.size()];
+        }
+
+        private void start(Prober prober) {
+            long nowMs = SystemClock.elapsedRealtime();
+            List<Integer> probed = new ArrayList<>();
+            for (int i = 0; i < mCandidates.size(); i++) {
+                ProbeResult result = getRememberedResult(mCandidates.get(i).first, nowMs);
+                if (result != null) {
+                    mLatencies[i] = result.mLatencyMs;
+                } else {
+                    mLatencies[i] = UNREACHABLE;
+                    probed.add(i);
+                }
+            }
+            mRemainingProbes = probed.size();
+            if (probed.isEmpty()) {
+                PostTask.postTask(UiThreadTaskTraits.DEFAULT, this::finish);
+                return;
+            }
+
+            for (int index : probed) {
+                String hostname = mCandidates.get(index).first;
+                PostTask.postTask(TaskTraits.USER_BLOCKING_MAY_BLOCK, () -> {
+                    long latencyMs = prober.probe(hostname, PROBE_TIMEOUT_MS);
+                    long result = latencyMs < 0 ? UNREACHABLE : latencyMs;
+                    synchronized (sResults) {
+                        sResults.put(
+                                hostname, new ProbeResult(result, SystemClock.elapsedRealtime()));
+                    }
+                    PostTask.postTask(
+                            UiThreadTaskTraits.DEFAULT, () -> onProbeDone(index, result));
+                });
+            }
+            // Probes still queued or running then are left behind, their results are remembered
+            PostTask.postDelayedTask(
+                    UiThreadTaskTraits.DEFAULT, this::finish, PROBE_TIMEOUT_MS * 2);
+        }
+
+        private void onProbeDone(int index, long latencyMs) {
+            if (mDone) return;
+            mLatencies[index] = latencyMs;
+            if (--mRemainingProbes == 0) finish();
+        }
+
+        private void finish() {
+            if (mDone) return;
+            mDone = true;
+
+            Pair<String, String> fastest = null;
+            long fastestLatencyMs = Long.MAX_VALUE;
+            for (int i = 0; i < mLatencies.length; i++) {
+                if (mLatencies[i] >= 0 && mLatencies[i] < fastestLatencyMs) {
+                    fastestLatencyMs = mLatencies[i];
+                    fastest = mCandidates.get(i);
+                }
+            }
+            if (fastest == null) {
+                Log.w(TAG, "No VPN host answered, picking one at random");
+                fastest = BraveVpnUtils.getHostnameForRegion(mHostnames);
+            }
+            mCallback.onResult(fastest);
+        }
+    }
+
+    /**
+     * @return the remembered result of the host, null when it was not probed recently
+     */
+    private static ProbeResult getRememberedResult(String hostname, long nowMs) {
+        synchronized (sResults) {
+            ProbeResult result = sResults.get(hostname);
+            if (result == null) return null;
+            long ttlMs = result.mLatencyMs < 0 ? UNREACHABLE_TTL_MS : RESULT_TTL_MS;
+
+            return nowMs - result.mProbedMs < ttlMs ? result : null;
+        }
+    }
+}
@@ -28,6 +28,9 @@ public class BraveVpnPrefUtils {
     private static final String PREF_BRAVE_VPN_SERVER_CHANGE_LOCATION = "server_change_location";
     private static final String PREF_BRAVE_VPN_RESET_CONFIGURATION =
             "brave_vpn_reset_configuration";
+    private static final String PREF_BRAVE_VPN_TIMEZONES_CHECKSUM = "brave_vpn_timezones_checksum";
+    private static final String PREF_BRAVE_VPN_TIMEZONE = "brave_vpn_timezone";
+    private static final String PREF_BRAVE_VPN_TIMEZONE_REGION = "brave_vpn_timezone_region";
 
     public static final String PREF_BRAVE_VPN_AUTOMATIC = "automatic";
     public static final String PREF_BRAVE_VPN_FEATURE = "brave_vpn_feature";
@@ -164,6 +167,26 @@ public class BraveVpnPrefUtils {
         return mSharedPreferences.getString(PREF_BRAVE_VPN_SERVER_REGIONS, "");
     }
 
+    public static void setTimezoneRegion(String checksum, String timezone, String region) {
+        SharedPreferences.Editor sharedPreferencesEditor = mSharedPreferences.edit();
+        sharedPreferencesEditor.putString(PREF_BRAVE_VPN_TIMEZONES_CHECKSUM, checksum);
+        sharedPreferencesEditor.putString(PREF_BRAVE_VPN_TIMEZONE, timezone);
+        sharedPreferencesEditor.putString(PREF_BRAVE_VPN_TIMEZONE_REGION, region);
+        sharedPreferencesEditor.apply();
+    }
+
+    public static String getTimezonesChecksum() {
+        return mSharedPreferences.getString(PREF_BRAVE_VPN_TIMEZONES_CHECKSUM, "");
+    }
+
+    public static String getTimezone() {
+        return mSharedPreferences.getString(PREF_BRAVE_VPN_TIMEZONE, "");
+    }
+
+    public static String getTimezoneRegion() {
+        return mSharedPreferences.getString(PREF_BRAVE_VPN_TIMEZONE_REGION, "");
+    }
+
     public static String getServerRegion() {
         return mSharedPreferences.getString(
                 PREF_BRAVE_VPN_SERVER_CHANGE_LOCATION, PREF_BRAVE_VPN_AUTOMATIC);
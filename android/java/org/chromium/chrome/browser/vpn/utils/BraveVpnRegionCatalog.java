@@ -0,0 +1,157 @@
+/* Copyright (c) 2022 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.vpn.utils;
+
+import android.text.TextUtils;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import org.chromium.base.Log;
+import org.chromium.chrome.browser.vpn.models.BraveVpnHostname;
+import org.chromium.chrome.browser.vpn.models.BraveVpnServerRegion;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parsed server regions, timezones and hostnames of the VPN. Every response is parsed once and
+ * kept until a different response arrives, timezones are indexed by id. The region of the
+ * device timezone is persisted with a checksum of the timezones response, so setting up the VPN
+ * after a restart skips parsing when the response did not change.
+ */
+public class BraveVpnRegionCatalog {
+    private static final String TAG = "BraveVPN";
+
+    private static String sServerRegionsJson;
+    private static List<BraveVpnServerRegion> sServerRegions = Collections.emptyList();
+    private static String sTimezonesJson;
+    // Region name keyed by timezone id
+    private static Map<String, String> sTimezoneRegions = Collections.emptyMap();
+
+    private static class RegionHostnames {
+        private final String mJson;
+        private final List<BraveVpnHostname> mHostnames;
+
+        private RegionHostnames(String json, List<BraveVpnHostname> hostnames) {
+            mJson = json;
+            mHostnames = hostnames;
+        }
+    }
+
+    // Hostnames keyed by region name
+    private static final Map<String, RegionHostnames> sRegionHostnames = new HashMap<>();
+
+    /**
+     * @return a copy of the server regions of the response, which callers may sort
+     */
+    public static synchronized List<BraveVpnServerRegion> getServerRegions(
+            String jsonServerRegions) {
+        if (TextUtils.isEmpty(jsonServerRegions)) {
+            return new ArrayList<>();
+        }
+        if (!jsonServerRegions.equals(sServerRegionsJson)) {
+            List<BraveVpnServerRegion> serverRegions = new ArrayList<>();
+            try {
+                JSONArray servers = new JSONArray(jsonServerRegions);
+                for (int i = 0; i < servers.length(); i++) {
+                    JSONObject server = servers.getJSONObject(i);
+                    serverRegions.add(new BraveVpnServerRegion(server.getString("continent"),
+                            server.getString("name"), server.getString("name-pretty")));
+                }
+            } catch (JSONException e) {
+                Log.e(TAG, "BraveVpnRegionCatalog -> getServerRegions JSONException error " + e);
+            }
+            sServerRegionsJson = jsonServerRegions;
+            sServerRegions = serverRegions;
+        }
+        return new ArrayList<>(sServerRegions);
+    }
+
+    /**
+     * @return the name of the region of the timezone, empty when no region has it
+     */
+    public static synchronized String getRegionForTimezone(
+            String jsonTimezones, String timezone) {
+        if (!jsonTimezones.equals(sTimezonesJson)) {
+            String checksum = getChecksum(jsonTimezones);
+            if (sTimezonesJson == null && checksum.equals(BraveVpnPrefUtils.getTimezonesChecksum())
+                    && timezone.equals(BraveVpnPrefUtils.getTimezone())) {
+                return BraveVpnPrefUtils.getTimezoneRegion();
+            }
+            indexTimezones(jsonTimezones);
+            String region = sTimezoneRegions.get(timezone);
+            BraveVpnPrefUtils.setTimezoneRegion(
+                    checksum, timezone, region != null ? region : "");
+        }
+        String region = sTimezoneRegions.get(timezone);
+        return region != null ? region : "";
+    }
+
+    /**
+     * @return the hostnames of the region in the order of the response
+     */
+    public static synchronized List<BraveVpnHostname> getHostnames(
+            String region, String jsonHostnames) {
+        RegionHostnames regionHostnames = sRegionHostnames.get(region);
+        if (regionHostnames != null && regionHostnames.mJson.equals(jsonHostnames)) {
+            return regionHostnames.mHostnames;
+        }
+        List<BraveVpnHostname> hostnames = new ArrayList<>();
+        try {
+            JSONArray hosts = new JSONArray(jsonHostnames);
+            for (int i = 0; i < hosts.length(); i++) {
+                JSONObject host = hosts.getJSONObject(i);
+                hostnames.add(new BraveVpnHostname(host.getString("hostname"),
+                        host.getString("display-name"), host.getInt("capacity-score")));
+            }
+        } catch (JSONException e) {
+            Log.e(TAG, "BraveVpnRegionCatalog -> getHostnames JSONException error " + e);
+        }
+        hostnames = Collections.unmodifiableList(hostnames);
+        sRegionHostnames.put(region, new RegionHostnames(jsonHostnames, hostnames));
+        return hostnames;
+    }
+
+    /**
+     * @return the hostnames of the region received last, empty when none were received
+     */
+    public static synchronized List<BraveVpnHostname> getCachedHostnames(String region) {
+        RegionHostnames regionHostnames = sRegionHostnames.get(region);
+        return regionHostnames != null ? regionHostnames.mHostnames
+                                       : Collections.<BraveVpnHostname>emptyList();
+    }
+
+    private static void indexTimezones(String jsonTimezones) {
+        Map<String, String> timezoneRegions = new HashMap<>();
+        try {
+            JSONArray regions = new JSONArray(jsonTimezones);
+            for (int i = 0; i < regions.length(); i++) {
+                JSONObject region = regions.getJSONObject(i);
+                String name = region.getString("name");
+                JSONArray timezones = region.getJSONArray("timezones");
+                for (int j = 0; j < timezones.length(); j++) {
+                    // The first region listing a timezone wins, like the former linear scan
+                    if (!timezoneRegions.containsKey(timezones.getString(j))) {
+                        timezoneRegions.put(timezones.getString(j), name);
+                    }
+                }
+            }
+        } catch (JSONException e) {
+            Log.e(TAG, "BraveVpnRegionCatalog -> indexTimezones JSONException error " + e);
+        }
+        sTimezonesJson = jsonTimezones;
+        sTimezoneRegions = timezoneRegions;
+    }
+
+    private static String getChecksum(String json) {
+        return json.length() + ":" + json.hashCode();
+    }
+}
@@ -12,12 +12,10 @@ import android.app.ProgressDialog;
 import android.content.Context;
 import android.content.Intent;
 import android.os.Build;
-import android.text.TextUtils;
 import android.util.Pair;
 
 import androidx.fragment.app.FragmentActivity;
 
-import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
@@ -30,7 +28,7 @@ import org.chromium.chrome.browser.vpn.activities.BraveVpnProfileActivity;
 import org.chromium.chrome.browser.vpn.activities.BraveVpnSupportActivity;
 import org.chromium.chrome.browser.vpn.fragments.BraveVpnAlwaysOnErrorDialogFragment;
 import org.chromium.chrome.browser.vpn.fragments.BraveVpnConfirmDialogFragment;
-import org.chromium.chrome.browser.vpn.models.BraveVpnServerRegion;
+import org.chromium.chrome.browser.vpn.models.BraveVpnHostname;
 import org.chromium.chrome.browser.vpn.models.BraveVpnWireguardProfileCredentials;
 import org.chromium.chrome.browser.vpn.utils.BraveVpnPrefUtils;
 import org.chromium.chrome.browser.vpn.utils.BraveVpnProfileUtils;
@@ -43,6 +41,7 @@ import java.util.Random;
 
 public class BraveVpnUtils {
     private static final String TAG = "BraveVPN";
+    private static final Random sRandom = new Random();
     public static final String SUBSCRIPTION_PARAM_TEXT = "subscription";
     public static final String IAP_ANDROID_PARAM_TEXT = "iap-android";
     public static final String VERIFY_CREDENTIALS_FAILED = "verify_credentials_failed";
@@ -89,52 +88,24 @@ public class BraveVpnUtils {
         }
     }
 
-    public static String getRegionForTimeZone(String jsonTimezones, String currentTimezone) {
-        // Add root element to make it real JSON, otherwise getJSONArray cannot parse it
-        jsonTimezones = "{\"regions\":" + jsonTimezones + "}";
-        try {
-            JSONObject result = new JSONObject(jsonTimezones);
-            JSONArray regions = result.getJSONArray("regions");
-            for (int i = 0; i < regions.length(); i++) {
-                JSONObject region = regions.getJSONObject(i);
-                JSONArray timezones = region.getJSONArray("timezones");
-                for (int j = 0; j < timezones.length(); j++) {
-                    if (timezones.getString(j).equals(currentTimezone)) {
-                        return region.getString("name");
-                    }
-                }
-            }
-        } catch (JSONException e) {
-            Log.e(TAG, "BraveVpnUtils -> getRegionForTimeZone JSONException error " + e);
+    public static Pair<String, String> getHostnameForRegion(List<BraveVpnHostname> hostnames) {
+        if (hostnames.isEmpty()) {
+            return new Pair<String, String>("", "");
         }
-        return "";
-    }
-
-    public static Pair<String, String> getHostnameForRegion(String jsonHostnames) {
-        jsonHostnames = "{\"hostnames\":" + jsonHostnames + "}";
-        try {
-            JSONObject result = new JSONObject(jsonHostnames);
-            JSONArray hostnames = result.getJSONArray("hostnames");
-            ArrayList<JSONObject> hosts = new ArrayList<JSONObject>();
-            for (int i = 0; i < hostnames.length(); i++) {
-                JSONObject hostname = hostnames.getJSONObject(i);
-                if (hostname.getInt("capacity-score") == 0
-                        || hostname.getInt("capacity-score") == 1) {
-                    hosts.add(hostname);
-                }
+        ArrayList<BraveVpnHostname> hosts = new ArrayList<BraveVpnHostname>();
+        for (BraveVpnHostname hostname : hostnames) {
+            if (hostname.getCapacityScore() == 0 || hostname.getCapacityScore() == 1) {
+                hosts.add(hostname);
             }
+        }
 
-            JSONObject hostname;
-            if (hosts.size() < 2) {
-                hostname = hostnames.getJSONObject(new Random().nextInt(hostnames.length()));
-            } else {
-                hostname = hosts.get(new Random().nextInt(hosts.size()));
-            }
-            return new Pair<>(hostname.getString("hostname"), hostname.getString("display-name"));
-        } catch (JSONException e) {
-            Log.e(TAG, "BraveVpnUtils -> getHostnameForRegion JSONException error " + e);
+        BraveVpnHostname hostname;
+        if (hosts.size() < 2) {
+            hostname = hostnames.get(sRandom.nextInt(hostnames.size()));
+        } else {
+            hostname = hosts.get(sRandom.nextInt(hosts.size()));
         }
-        return new Pair<String, String>("", "");
+        return new Pair<>(hostname.getHostname(), hostname.getDisplayName());
     }
 
     public static BraveVpnWireguardProfileCredentials getWireguardProfileCredentials(
@@ -180,28 +151,6 @@ public class BraveVpnUtils {
         return 0;
     }
 
-    public static List<BraveVpnServerRegion> getServerLocations(String jsonServerLocations) {
-        List<BraveVpnServerRegion> vpnServerRegions = new ArrayList<>();
-        if (TextUtils.isEmpty(jsonServerLocations)) {
-            return vpnServerRegions;
-        }
-        jsonServerLocations = "{\"servers\":" + jsonServerLocations + "}";
-        try {
-            JSONObject result = new JSONObject(jsonServerLocations);
-            JSONArray servers = result.getJSONArray("servers");
-            for (int i = 0; i < servers.length(); i++) {
-                JSONObject server = servers.getJSONObject(i);
-                BraveVpnServerRegion vpnServerRegion =
-                        new BraveVpnServerRegion(server.getString("continent"),
-                                server.getString("name"), server.getString("name-pretty"));
-                vpnServerRegions.add(vpnServerRegion);
-            }
-        } catch (JSONException e) {
-            Log.e(TAG, "BraveVpnUtils -> getServerLocations JSONException error " + e);
-        }
-        return vpnServerRegions;
-    }
-
     public static void resetProfileConfiguration(Activity activity) {
         if (BraveVpnProfileUtils.getInstance().isBraveVPNConnected(activity)) {
             BraveVpnProfileUtils.getInstance().stopVpn(activity);
@@ -16,13 +16,26 @@ import com.wireguard.config.Config;
 import org.chromium.base.Log;
 import org.chromium.chrome.browser.vpn.wireguard.TunnelModel;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
 
+/**
+ * Stores the WireGuard config in a file. The last config written or parsed is kept in memory with
+ * a checksum of its file, so starting the tunnel again only reads the file instead of parsing and
+ * validating it, until the credentials change.
+ */
 public class WireguardConfigUtils {
+    private static final String TAG = "BraveVPN";
+
+    // Guarded by WireguardConfigUtils.class
+    private static Config sCachedConfig;
+    private static long sCachedChecksum;
+
     public static Config createConfig(Context context, String address, String host,
             String clientPrivateKey, String serverPublicKey)
             throws IOException, BadConfigException {
@@ -30,16 +43,20 @@ public class WireguardConfigUtils {
         if (!file.createNewFile()) {
             throw new IOException("Configuration file already exists");
         }
-        FileOutputStream fileOutputStream = new FileOutputStream(file, false);
         Config config = new Config.Builder()
                                 .setInterface(getInterface(address, clientPrivateKey))
                                 .addPeers(getPeers(host, serverPublicKey))
                                 .build();
-        fileOutputStream.write(config.toWgQuickString().getBytes(StandardCharsets.UTF_8));
+        byte[] bytes = config.toWgQuickString().getBytes(StandardCharsets.UTF_8);
+        try (FileOutputStream fileOutputStream = new FileOutputStream(file, false)) {
+            fileOutputStream.write(bytes);
+        }
+        setCachedConfig(config, getChecksum(bytes));
         return config;
     }
 
     public static void deleteConfig(Context context) throws Exception {
+        setCachedConfig(null, 0);
         File file = fileForConfig(context);
         if (!file.delete()) {
             throw new IOException("Cannot delete configuration file");
@@ -47,14 +64,43 @@ public class WireguardConfigUtils {
     }
 
     public static Config loadConfig(Context context) throws Exception {
-        FileInputStream fileInputStream = new FileInputStream(fileForConfig(context));
-        return Config.parse(fileInputStream);
+        File file = fileForConfig(context);
+        byte[] bytes = new byte[(int) file.length()];
+        try (FileInputStream fileInputStream = new FileInputStream(file)) {
+            int offset = 0;
+            while (offset < bytes.length) {
+                int read = fileInputStream.read(bytes, offset, bytes.length - offset);
+                if (read < 0) throw new IOException("Configuration file truncated");
+                offset += read;
+            }
+        }
+        long checksum = getChecksum(bytes);
+        synchronized (WireguardConfigUtils.class) {
+            if (sCachedConfig != null && sCachedChecksum == checksum) {
+                return sCachedConfig;
+            }
+        }
+        Log.i(TAG, "Parsing WireGuard configuration");
+        Config config = Config.parse(new ByteArrayInputStream(bytes));
+        setCachedConfig(config, checksum);
+        return config;
     }
 
     public static boolean isConfigExist(Context context) {
         return fileForConfig(context).exists();
     }
 
+    private static synchronized void setCachedConfig(Config config, long checksum) {
+        sCachedConfig = config;
+        sCachedChecksum = checksum;
+    }
+
+    private static long getChecksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        return crc.getValue();
+    }
+
     private static File fileForConfig(Context context) {
         return new File(context.getNoBackupFilesDir(), TunnelModel.TUNNEL_NAME + ".conf");
     }
@@ -13,20 +13,24 @@ import android.content.Context;
 import android.content.Intent;
 import android.os.Binder;
 import android.os.IBinder;
+import android.os.SystemClock;
 
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import androidx.core.app.NotificationCompat;
-import androidx.core.text.HtmlCompat;
 
 import com.wireguard.android.backend.Backend;
 import com.wireguard.android.backend.BackendException;
 import com.wireguard.android.backend.GoBackend;
-import com.wireguard.android.backend.Statistics;
 import com.wireguard.android.backend.Tunnel;
 import com.wireguard.config.Config;
 
 import org.chromium.base.ContextUtils;
 import org.chromium.base.IntentUtils;
+import org.chromium.base.Log;
+import org.chromium.base.task.PostTask;
+import org.chromium.base.task.SequencedTaskRunner;
+import org.chromium.base.task.TaskTraits;
 import org.chromium.chrome.R;
 import org.chromium.chrome.browser.app.BraveActivity;
 import org.chromium.chrome.browser.notifications.channels.BraveChannelDefinitions;
@@ -34,15 +38,27 @@ import org.chromium.chrome.browser.vpn.DisconnectVpnBroadcastReceiver;
 import org.chromium.chrome.browser.vpn.utils.BraveVpnPrefUtils;
 import org.chromium.chrome.browser.vpn.utils.BraveVpnUtils;
 
-import java.util.Timer;
-import java.util.TimerTask;
-
 public class WireguardServiceImpl
         extends WireguardService.Impl implements TunnelModel.TunnelStateUpdateListener {
-    private Backend mBackend;
-    private TunnelModel mTunnelModel;
+    private static final String TAG = "BraveVPN";
+    // Tunnel state transitions of all service instances run one after the other on this sequence
+    // and share the backend, so the stop of a destroyed instance finishes before the start of
+    // the next one
+    private static final SequencedTaskRunner sTunnelTaskRunner =
+            PostTask.createSequencedTaskRunner(TaskTraits.USER_BLOCKING_MAY_BLOCK);
+    private static Backend sBackend;
+
+    private volatile TunnelModel mTunnelModel;
+    // Config the tunnel is up with, only used on the tunnel sequence
+    private Config mTunnelConfig;
+    private volatile long mLastConnectTimeMs;
+    // Set in onDestroy, the tunnel sequence may still stop the tunnel of this instance afterwards
+    private volatile boolean mDestroyed;
     private final IBinder mBinder = new LocalBinder();
-    private Timer mVpnStatisticsTimer;
+    private volatile WireguardStatisticsSampler mStatisticsSampler;
+    // Built once and only updated with the statistics text, guarded by itself
+    private NotificationCompat.Builder mNotificationBuilder;
+    private NotificationManager mNotificationManager;
     private static final int BRAVE_VPN_NOTIFICATION_ID = 801;
     private Context mContext = ContextUtils.getApplicationContext();
 
@@ -62,36 +78,88 @@ public class WireguardServiceImpl
         return mTunnelModel;
     }
 
+    /**
+     * @return milliseconds from loading the config to the tunnel being up, for the last start
+     */
+    public long getLastConnectTimeMs() {
+        return mLastConnectTimeMs;
+    }
+
+    @VisibleForTesting
+    static void setBackendForTesting(Backend backend) {
+        sBackend = backend;
+    }
+
     @Override
     public void onCreate() {
         super.onCreate();
-        mBackend = new GoBackend(mContext);
+        if (sBackend == null) {
+            sBackend = new GoBackend(mContext);
+        }
     }
 
     @Override
     public int onStartCommand(Intent intent, int flags, int startId) {
-        new Thread() {
-            @Override
-            public void run() {
-                try {
-                    startVpn();
-                } catch (Exception e) {
-                    e.printStackTrace();
-                }
-            }
-        }.start();
+        postStartVpn();
         getService().startForeground(BRAVE_VPN_NOTIFICATION_ID, getBraveVpnNotification(""));
         return Service.START_NOT_STICKY;
     }
 
+    @VisibleForTesting
+    void postStartVpn() {
+        sTunnelTaskRunner.postTask(() -> {
+            try {
+                startVpn();
+            } catch (Exception e) {
+                Log.e(TAG, "Failed to start VPN " + e);
+            }
+        });
+    }
+
     private void startVpn() throws Exception {
+        // Destroyed before the start got its turn
+        if (mDestroyed) return;
+        long startMs = SystemClock.elapsedRealtime();
         Config config = WireguardConfigUtils.loadConfig(mContext);
-        mTunnelModel = TunnelModel.createTunnel(config, this);
-        mBackend.setState(mTunnelModel, Tunnel.State.UP, config);
-        updateVpnStatisticsTimer();
+        // Started again while up with the same credentials
+        if (mTunnelModel != null && mTunnelModel.getState() == Tunnel.State.UP
+                && config == mTunnelConfig) {
+            return;
+        }
+        if (mTunnelModel == null) {
+            mTunnelModel = TunnelModel.createTunnel(config, this);
+        }
+        sBackend.setState(mTunnelModel, Tunnel.State.UP, config);
+        mTunnelConfig = config;
+        mLastConnectTimeMs = SystemClock.elapsedRealtime() - startMs;
+        stopVpnStatisticsSampler();
+        startVpnStatisticsSampler();
+    }
+
+    private void stopVpn() {
+        stopVpnStatisticsSampler();
+        if (mTunnelModel == null || mTunnelModel.getState() == Tunnel.State.DOWN) return;
+        try {
+            sBackend.setState(mTunnelModel, Tunnel.State.DOWN, null);
+        } catch (Exception e) {
+            Log.e(TAG, "Failed to stop VPN " + e);
+        }
+        mTunnelConfig = null;
     }
 
     private Notification getBraveVpnNotification(String notificationText) {
+        NotificationCompat.Builder notificationBuilder = getNotificationBuilder();
+        synchronized (notificationBuilder) {
+            notificationBuilder.setContentText(notificationText)
+                    .setStyle(new NotificationCompat.BigTextStyle().bigText(notificationText));
+
+            return notificationBuilder.build();
+        }
+    }
+
+    private synchronized NotificationCompat.Builder getNotificationBuilder() {
+        if (mNotificationBuilder != null) return mNotificationBuilder;
+
         Intent disconnectVpnIntent = new Intent(mContext, DisconnectVpnBroadcastReceiver.class);
         disconnectVpnIntent.setAction(DisconnectVpnBroadcastReceiver.DISCONNECT_VPN_ACTION);
         PendingIntent disconnectVpnPendingIntent =
@@ -106,67 +174,50 @@ public class WireguardServiceImpl
                 .setContentTitle(
                         String.format(mContext.getResources().getString(R.string.connected_to_host),
                                 BraveVpnPrefUtils.getHostnameDisplay()))
-                .setContentText(notificationText)
-                .setStyle(new NotificationCompat.BigTextStyle().bigText(notificationText))
                 .setPriority(NotificationCompat.PRIORITY_DEFAULT)
                 .addAction(R.drawable.ic_vpn,
                         mContext.getResources().getString(R.string.disconnect),
                         disconnectVpnPendingIntent)
                 .setOnlyAlertOnce(true);
+        mNotificationBuilder = notificationBuilder;
 
-        return notificationBuilder.build();
+        return mNotificationBuilder;
     }
 
     private void updateVpnNotification(String notificationText) {
         Notification notification = getBraveVpnNotification(notificationText);
-        NotificationManager mNotificationManager =
-                (NotificationManager) mContext.getSystemService(Context.NOTIFICATION_SERVICE);
+        if (mNotificationManager == null) {
+            mNotificationManager =
+                    (NotificationManager) mContext.getSystemService(Context.NOTIFICATION_SERVICE);
+        }
         mNotificationManager.notify(BRAVE_VPN_NOTIFICATION_ID, notification);
     }
 
-    private void updateVpnStatisticsTimer() {
-        mVpnStatisticsTimer = new Timer();
-        mVpnStatisticsTimer.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                if (mBackend != null && mTunnelModel != null) {
-                    try {
-                        Statistics statistics = mBackend.getStatistics(mTunnelModel);
-                        updateVpnNotification(String.format(
-                                HtmlCompat
-                                        .fromHtml(mContext.getResources().getString(
-                                                          R.string.transfer_rx_tx),
-                                                HtmlCompat.FROM_HTML_MODE_LEGACY)
-                                        .toString(),
-                                WireguardUtils.formatBytes(mContext, statistics.totalRx()),
-                                WireguardUtils.formatBytes(mContext, statistics.totalTx())));
-                    } catch (Exception e) {
-                        e.printStackTrace();
-                    }
-                }
-            }
-        }, 0, 500);
+    private void startVpnStatisticsSampler() {
+        mStatisticsSampler = new WireguardStatisticsSampler(
+                mContext, sBackend, mTunnelModel, this::updateVpnNotification);
+        mStatisticsSampler.start();
     }
 
-    private void cancelVpnStatisticsTimer() {
-        if (mVpnStatisticsTimer != null) {
-            mVpnStatisticsTimer.cancel();
+    private void stopVpnStatisticsSampler() {
+        if (mStatisticsSampler != null) {
+            mStatisticsSampler.stop();
+            mStatisticsSampler = null;
         }
     }
 
     @Override
     public void onDestroy() {
-        try {
-            mBackend.setState(mTunnelModel, Tunnel.State.DOWN, null);
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        cancelVpnStatisticsTimer();
+        mDestroyed = true;
+        // After any start still in flight, and before the start of a new instance
+        sTunnelTaskRunner.postTask(this::stopVpn);
         super.onDestroy();
     }
 
     @Override
     public void onTunnelStateUpdated(TunnelModel tunnelModel) {
+        // The service is gone already when its tunnel goes down in onDestroy
+        if (mDestroyed) return;
         if (tunnelModel.getState() == Tunnel.State.DOWN) {
             getService().stopForeground(true);
             getService().stopSelf();
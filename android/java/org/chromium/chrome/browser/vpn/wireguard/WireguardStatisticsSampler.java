@@ -0,0 +1,121 @@
+/* Copyright (c) 2022 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.vpn.wireguard;
+
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.PowerManager;
+
+import androidx.core.text.HtmlCompat;
+
+import com.wireguard.android.backend.Backend;
+import com.wireguard.android.backend.Statistics;
+import com.wireguard.android.backend.Tunnel;
+
+import org.chromium.base.Callback;
+import org.chromium.base.Log;
+import org.chromium.chrome.R;
+
+/**
+ * Samples the transfer statistics of the tunnel for the VPN notification. The text is only
+ * reported when it changed, and sampling slows down while the traffic is idle, doubling the
+ * interval up to {@link #IDLE_MAX_INTERVAL_MS}, and while the screen is off. Sampling runs on a
+ * thread of its own, the text is reported on that thread.
+ */
+public class WireguardStatisticsSampler {
+    private static final String TAG = "BraveVPN";
+
+    private static final long ACTIVE_INTERVAL_MS = 500;
+    private static final long IDLE_MAX_INTERVAL_MS = 8000;
+    private static final long SCREEN_OFF_INTERVAL_MS = 60000;
+
+    private final Context mContext;
+    private final Backend mBackend;
+    private final Tunnel mTunnel;
+    private final Callback<String> mTextCallback;
+    // R.string.transfer_rx_tx with its markup resolved, read once
+    private final String mTextTemplate;
+    private final PowerManager mPowerManager;
+    private final HandlerThread mThread;
+    private final Handler mHandler;
+    private final Runnable mSampleRunnable = this::sample;
+    private final BroadcastReceiver mScreenReceiver = new BroadcastReceiver() {
+        @Override
+        public void onReceive(Context context, Intent intent) {
+            // Report the traffic of the time the screen was off right away
+            if (Intent.ACTION_SCREEN_ON.equals(intent.getAction())) {
+                mHandler.removeCallbacks(mSampleRunnable);
+                mHandler.post(mSampleRunnable);
+            }
+        }
+    };
+
+    // Written on the sampling thread only
+    private long mLastRx = -1;
+    private long mLastTx = -1;
+    private String mLastText;
+    private long mIntervalMs = ACTIVE_INTERVAL_MS;
+
+    public WireguardStatisticsSampler(
+            Context context, Backend backend, Tunnel tunnel, Callback<String> textCallback) {
+        mContext = context;
+        mBackend = backend;
+        mTunnel = tunnel;
+        mTextCallback = textCallback;
+        String template = context.getResources().getString(R.string.transfer_rx_tx);
+        mTextTemplate = HtmlCompat.fromHtml(template, HtmlCompat.FROM_HTML_MODE_LEGACY).toString();
+        mPowerManager = (PowerManager) context.getSystemService(Context.POWER_SERVICE);
+        mThread = new HandlerThread("VpnStatistics");
+        mThread.start();
+        mHandler = new Handler(mThread.getLooper());
+    }
+
+    public void start() {
+        mContext.registerReceiver(mScreenReceiver, new IntentFilter(Intent.ACTION_SCREEN_ON));
+        mHandler.post(mSampleRunnable);
+    }
+
+    public void stop() {
+        try {
+            mContext.unregisterReceiver(mScreenReceiver);
+        } catch (IllegalArgumentException e) {
+            // Not started
+        }
+        mHandler.removeCallbacks(mSampleRunnable);
+        mThread.quitSafely();
+    }
+
+    private void sample() {
+        try {
+            Statistics statistics = mBackend.getStatistics(mTunnel);
+            long rx = statistics.totalRx();
+            long tx = statistics.totalTx();
+            if (rx == mLastRx && tx == mLastTx) {
+                mIntervalMs = Math.min(mIntervalMs * 2, IDLE_MAX_INTERVAL_MS);
+            } else {
+                mIntervalMs = ACTIVE_INTERVAL_MS;
+                mLastRx = rx;
+                mLastTx = tx;
+                String text = String.format(mTextTemplate,
+                        WireguardUtils.formatBytes(mContext, rx),
+                        WireguardUtils.formatBytes(mContext, tx));
+                // Byte counts below the displayed precision format the same
+                if (!text.equals(mLastText)) {
+                    mLastText = text;
+                    mTextCallback.onResult(text);
+                }
+            }
+        } catch (Exception e) {
+            Log.e(TAG, "Failed to sample VPN statistics " + e);
+        }
+        mHandler.postDelayed(mSampleRunnable,
+                mPowerManager.isInteractive() ? mIntervalMs : SCREEN_OFF_INTERVAL_MS);
+    }
+}
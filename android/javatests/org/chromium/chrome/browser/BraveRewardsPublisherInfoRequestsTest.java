@@ -0,0 +1,80 @@
+/* Copyright (c) 2022 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import androidx.test.filters.SmallTest;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.chromium.chrome.test.ChromeJUnit4ClassRunner;
+
+@RunWith(ChromeJUnit4ClassRunner.class)
+public class BraveRewardsPublisherInfoRequestsTest {
+    private static final long TIMEOUT_MS = BraveRewardsPublisherInfoRequests.IN_FLIGHT_TIMEOUT_MS;
+
+    private BraveRewardsPublisherInfoRequests mRequests;
+
+    @Before
+    public void setUp() {
+        mRequests = new BraveRewardsPublisherInfoRequests();
+    }
+
+    @Test
+    @SmallTest
+    public void coalescesRequestsInFlightTest() {
+        assertTrue(mRequests.onRequest(1, "brave.com", 0));
+        assertFalse(mRequests.onRequest(1, "brave.com", 100));
+        assertFalse(mRequests.onRequest(1, "brave.com", TIMEOUT_MS - 1));
+        assertEquals(1, mRequests.getInFlightCount());
+    }
+
+    @Test
+    @SmallTest
+    public void sendsRequestsForOtherTabsAndHostsTest() {
+        assertTrue(mRequests.onRequest(1, "brave.com", 0));
+        assertTrue(mRequests.onRequest(2, "brave.com", 0));
+        assertTrue(mRequests.onRequest(1, "github.com", 0));
+        // Tab 11 must not be taken for a request of tab 1
+        assertTrue(mRequests.onRequest(11, "brave.com", 0));
+        assertEquals(4, mRequests.getInFlightCount());
+    }
+
+    @Test
+    @SmallTest
+    public void sendsAgainAfterTimeoutTest() {
+        assertTrue(mRequests.onRequest(1, "brave.com", 0));
+        assertTrue(mRequests.onRequest(1, "brave.com", TIMEOUT_MS));
+        assertFalse(mRequests.onRequest(1, "brave.com", TIMEOUT_MS + 1));
+    }
+
+    @Test
+    @SmallTest
+    public void removesTimedOutRequestsTest() {
+        assertTrue(mRequests.onRequest(1, "brave.com", 0));
+        assertTrue(mRequests.onRequest(2, "brave.com", 0));
+        assertTrue(mRequests.onRequest(3, "brave.com", TIMEOUT_MS));
+        assertEquals(1, mRequests.getInFlightCount());
+    }
+
+    @Test
+    @SmallTest
+    public void onTabDoneEndsRequestsOfTheTabTest() {
+        assertTrue(mRequests.onRequest(1, "brave.com", 0));
+        assertTrue(mRequests.onRequest(1, "github.com", 0));
+        assertTrue(mRequests.onRequest(11, "brave.com", 0));
+
+        mRequests.onTabDone(1);
+        assertEquals(1, mRequests.getInFlightCount());
+        assertTrue(mRequests.onRequest(1, "brave.com", 100));
+        assertFalse(mRequests.onRequest(11, "brave.com", 100));
+    }
+}
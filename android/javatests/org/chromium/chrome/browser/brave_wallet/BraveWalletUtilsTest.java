@@ -5,6 +5,7 @@
 
 package org.chromium.chrome.browser.brave_wallet;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.fail;
@@ -25,6 +26,8 @@ import org.chromium.brave_wallet.mojom.NetworkInfo;
 import org.chromium.brave_wallet.mojom.SwapParams;
 import org.chromium.brave_wallet.mojom.TxData;
 import org.chromium.brave_wallet.mojom.TxData1559;
+import org.chromium.chrome.browser.crypto_wallet.model.TokenKey;
+import org.chromium.chrome.browser.crypto_wallet.util.SmoothLineChartEquallySpaced;
 import org.chromium.chrome.browser.crypto_wallet.util.Utils;
 import org.chromium.chrome.test.ChromeJUnit4ClassRunner;
 
@@ -177,6 +180,38 @@ public class BraveWalletUtilsTest {
                 "0xdef1c0ded9bec7f1a1670819833240f027b25eff");
     }
 
+    @Test
+    @SmallTest
+    public void tokenKeyTest() {
+        TokenKey key = new TokenKey(BraveWalletConstants.MAINNET_CHAIN_ID,
+                "0x0D8775F648430679A709E98d2b0Cb6250d2887EF", "");
+        TokenKey sameKey = new TokenKey(BraveWalletConstants.MAINNET_CHAIN_ID,
+                "0x0d8775f648430679a709e98d2b0cb6250d2887ef", null);
+        assertEquals(key, sameKey);
+        assertEquals(key.hashCode(), sameKey.hashCode());
+        assertNotEquals(key,
+                new TokenKey(BraveWalletConstants.ROPSTEN_CHAIN_ID,
+                        "0x0d8775f648430679a709e98d2b0cb6250d2887ef", ""));
+        assertNotEquals(key,
+                new TokenKey(BraveWalletConstants.MAINNET_CHAIN_ID,
+                        "0x0d8775f648430679a709e98d2b0cb6250d2887ef", "0x1"));
+    }
+
+    @Test
+    @SmallTest
+    public void downsampleLttbTest() {
+        float[] values = {1, 2, 3};
+        assertArrayEquals(
+                new int[] {0, 1, 2}, SmoothLineChartEquallySpaced.downsampleLttb(values, 10));
+        values = new float[] {0, 1, 0, 10, 0, 1, 0, 1, 0};
+        int[] indices = SmoothLineChartEquallySpaced.downsampleLttb(values, 5);
+        assertEquals(5, indices.length);
+        assertEquals(0, indices[0]);
+        assertEquals(values.length - 1, indices[indices.length - 1]);
+        // The spike has to survive downsampling
+        assertEquals(3, indices[2]);
+    }
+
     @Test
     @SmallTest
     public void isJSONValidTest() {
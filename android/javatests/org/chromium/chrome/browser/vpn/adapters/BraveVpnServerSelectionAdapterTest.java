@@ -0,0 +1,154 @@
+/* Copyright (c) 2022 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.vpn.adapters;
+
+import static org.junit.Assert.assertEquals;
+
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.filters.SmallTest;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.chromium.base.test.util.CriteriaHelper;
+import org.chromium.chrome.browser.vpn.models.BraveVpnServerRegion;
+import org.chromium.chrome.browser.vpn.models.BraveVpnServerSelectionItem;
+import org.chromium.chrome.test.ChromeJUnit4ClassRunner;
+import org.chromium.content_public.browser.test.util.TestThreadUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RunWith(ChromeJUnit4ClassRunner.class)
+public class BraveVpnServerSelectionAdapterTest {
+    private static final int REGION_COUNT = 5000;
+
+    /**
+     * Counts the row changes the adapter dispatches.
+     */
+    private static class CountingObserver extends RecyclerView.AdapterDataObserver {
+        private int mChangedCount;
+        private int mInsertedCount;
+        private int mRemovedCount;
+
+        @Override
+        public void onItemRangeChanged(int positionStart, int itemCount) {
+            mChangedCount += itemCount;
+        }
+
+        @Override
+        public void onItemRangeInserted(int positionStart, int itemCount) {
+            mInsertedCount += itemCount;
+        }
+
+        @Override
+        public void onItemRangeRemoved(int positionStart, int itemCount) {
+            mRemovedCount += itemCount;
+        }
+    }
+
+    private BraveVpnServerSelectionAdapter mAdapter;
+    private CountingObserver mObserver;
+
+    @Before
+    public void setUp() {
+        mObserver = new CountingObserver();
+        mAdapter = TestThreadUtils.runOnUiThreadBlockingNoException(() -> {
+            BraveVpnServerSelectionAdapter adapter = new BraveVpnServerSelectionAdapter();
+            adapter.registerAdapterDataObserver(mObserver);
+
+            return adapter;
+        });
+    }
+
+    @Test
+    @SmallTest
+    public void keepsIdsOfRegionsTest() {
+        List<BraveVpnServerRegion> regions = createRegions(REGION_COUNT);
+        List<BraveVpnServerSelectionItem> items = BraveVpnServerSelectionItem.create(regions, "");
+        Map<String, Long> ids = new HashMap<>();
+        Set<Long> uniqueIds = new HashSet<>();
+        for (BraveVpnServerSelectionItem item : items) {
+            ids.put(item.getServerRegion().getName(), item.getId());
+            uniqueIds.add(item.getId());
+        }
+        assertEquals(REGION_COUNT, uniqueIds.size());
+
+        // The ids of the remaining regions do not shift with the first region removed and the
+        // others reordered
+        List<BraveVpnServerRegion> changedRegions = removeFirstAndReverse(regions);
+        for (BraveVpnServerSelectionItem item :
+                BraveVpnServerSelectionItem.create(changedRegions, "")) {
+            assertEquals((long) ids.get(item.getServerRegion().getName()), item.getId());
+        }
+    }
+
+    @Test
+    @SmallTest
+    public void diffsRegionsByNameTest() {
+        List<BraveVpnServerRegion> regions = createRegions(REGION_COUNT);
+        setItems(BraveVpnServerSelectionItem.create(regions, ""), REGION_COUNT);
+
+        List<BraveVpnServerRegion> changedRegions = removeFirstAndMoveLast(regions);
+        List<BraveVpnServerSelectionItem> changedItems =
+                BraveVpnServerSelectionItem.create(changedRegions, "");
+        TestThreadUtils.runOnUiThreadBlocking(() -> {
+            mObserver.mChangedCount = 0;
+            mObserver.mInsertedCount = 0;
+            mObserver.mRemovedCount = 0;
+        });
+        setItems(changedItems, REGION_COUNT - 1);
+
+        // Only the removed region is dispatched, the moved region keeps its row
+        TestThreadUtils.runOnUiThreadBlocking(() -> {
+            assertEquals(0, mObserver.mChangedCount);
+            assertEquals(0, mObserver.mInsertedCount);
+            assertEquals(1, mObserver.mRemovedCount);
+            for (int i = 0; i < changedItems.size(); i++) {
+                assertEquals(changedItems.get(i).getId(), mAdapter.getItemId(i));
+            }
+        });
+    }
+
+    private void setItems(List<BraveVpnServerSelectionItem> items, int expectedCount) {
+        TestThreadUtils.runOnUiThreadBlocking(() -> mAdapter.setServerSelectionItems(items));
+        CriteriaHelper.pollUiThread(() -> mAdapter.getItemCount() == expectedCount);
+    }
+
+    private static List<BraveVpnServerRegion> removeFirstAndReverse(
+            List<BraveVpnServerRegion> regions) {
+        List<BraveVpnServerRegion> changedRegions =
+                new ArrayList<>(regions.subList(1, regions.size()));
+        Collections.reverse(changedRegions);
+
+        return changedRegions;
+    }
+
+    private static List<BraveVpnServerRegion> removeFirstAndMoveLast(
+            List<BraveVpnServerRegion> regions) {
+        List<BraveVpnServerRegion> changedRegions =
+                new ArrayList<>(regions.subList(1, regions.size()));
+        changedRegions.add(0, changedRegions.remove(changedRegions.size() - 1));
+
+        return changedRegions;
+    }
+
+    private static List<BraveVpnServerRegion> createRegions(int count) {
+        List<BraveVpnServerRegion> regions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            regions.add(new BraveVpnServerRegion(
+                    "continent-" + (i % 6), "region-" + i, "Region " + i));
+        }
+
+        return regions;
+    }
+}
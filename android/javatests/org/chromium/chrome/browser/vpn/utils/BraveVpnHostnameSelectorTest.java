@@ -0,0 +1,145 @@
+/* Copyright (c) 2022 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.vpn.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.util.Pair;
+
+import androidx.test.filters.SmallTest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.chromium.base.test.util.CallbackHelper;
+import org.chromium.chrome.browser.vpn.models.BraveVpnHostname;
+import org.chromium.chrome.test.ChromeJUnit4ClassRunner;
+import org.chromium.content_public.browser.test.util.TestThreadUtils;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+@RunWith(ChromeJUnit4ClassRunner.class)
+public class BraveVpnHostnameSelectorTest {
+    /**
+     * Answers with fixed latencies and counts the probes of each host.
+     */
+    private static class FakeProber implements BraveVpnHostnameSelector.Prober {
+        private final Map<String, Long> mLatencies = new HashMap<>();
+        private final Map<String, Integer> mProbeCounts = new HashMap<>();
+
+        @Override
+        public synchronized long probe(String hostname, long timeoutMs) {
+            Integer probeCount = mProbeCounts.get(hostname);
+            mProbeCounts.put(hostname, probeCount == null ? 1 : probeCount + 1);
+            Long latencyMs = mLatencies.get(hostname);
+
+            return latencyMs == null ? -1 : latencyMs;
+        }
+
+        synchronized void setLatency(String hostname, long latencyMs) {
+            mLatencies.put(hostname, latencyMs);
+        }
+
+        synchronized int getProbeCount(String hostname) {
+            Integer probeCount = mProbeCounts.get(hostname);
+
+            return probeCount == null ? 0 : probeCount;
+        }
+    }
+
+    private FakeProber mProber;
+
+    @Before
+    public void setUp() {
+        mProber = new FakeProber();
+        BraveVpnHostnameSelector.setProberForTesting(mProber);
+    }
+
+    @After
+    public void tearDown() {
+        BraveVpnHostnameSelector.setProberForTesting(null);
+    }
+
+    @Test
+    @SmallTest
+    public void selectsFastestHostTest() throws Exception {
+        mProber.setLatency("a.vpn.test", 100);
+        mProber.setLatency("b.vpn.test", 20);
+        mProber.setLatency("c.vpn.test", 50);
+
+        Pair<String, String> host = selectHostname(Arrays.asList(
+                new BraveVpnHostname("a.vpn.test", "A", 0),
+                new BraveVpnHostname("b.vpn.test", "B", 0),
+                new BraveVpnHostname("c.vpn.test", "C", 1)));
+        assertEquals("b.vpn.test", host.first);
+        assertEquals("B", host.second);
+        assertEquals(20, BraveVpnHostnameSelector.getRememberedLatencyMs("b.vpn.test"));
+    }
+
+    @Test
+    @SmallTest
+    public void probesOnlyHostsWithBestCapacityTest() throws Exception {
+        mProber.setLatency("a.vpn.test", 100);
+        mProber.setLatency("b.vpn.test", 50);
+        mProber.setLatency("c.vpn.test", 10);
+
+        Pair<String, String> host = selectHostname(Arrays.asList(
+                new BraveVpnHostname("a.vpn.test", "A", 0),
+                new BraveVpnHostname("b.vpn.test", "B", 1),
+                new BraveVpnHostname("c.vpn.test", "C", 2)));
+        assertEquals("b.vpn.test", host.first);
+        assertEquals(0, mProber.getProbeCount("c.vpn.test"));
+    }
+
+    @Test
+    @SmallTest
+    public void remembersResultsTest() throws Exception {
+        mProber.setLatency("a.vpn.test", 30);
+        mProber.setLatency("b.vpn.test", 40);
+        List<BraveVpnHostname> hostnames =
+                Arrays.asList(new BraveVpnHostname("a.vpn.test", "A", 0),
+                        new BraveVpnHostname("b.vpn.test", "B", 0));
+
+        assertEquals("a.vpn.test", selectHostname(hostnames).first);
+        assertEquals("a.vpn.test", selectHostname(hostnames).first);
+        assertEquals(1, mProber.getProbeCount("a.vpn.test"));
+        assertEquals(1, mProber.getProbeCount("b.vpn.test"));
+    }
+
+    @Test
+    @SmallTest
+    public void picksAnyHostWhenNoneAnswersTest() throws Exception {
+        List<BraveVpnHostname> hostnames =
+                Arrays.asList(new BraveVpnHostname("a.vpn.test", "A", 0),
+                        new BraveVpnHostname("b.vpn.test", "B", 0));
+
+        Pair<String, String> host = selectHostname(hostnames);
+        assertTrue(host.first.equals("a.vpn.test") || host.first.equals("b.vpn.test"));
+        assertEquals(-1, BraveVpnHostnameSelector.getRememberedLatencyMs("a.vpn.test"));
+        assertEquals(1, mProber.getProbeCount("a.vpn.test"));
+    }
+
+    private static Pair<String, String> selectHostname(List<BraveVpnHostname> hostnames)
+            throws Exception {
+        CallbackHelper callbackHelper = new CallbackHelper();
+        AtomicReference<Pair<String, String>> selectedHost = new AtomicReference<>();
+        TestThreadUtils.runOnUiThreadBlocking(
+                () -> BraveVpnHostnameSelector.selectHostname(hostnames, host -> {
+                    selectedHost.set(host);
+                    callbackHelper.notifyCalled();
+                }));
+        callbackHelper.waitForFirst();
+
+        return selectedHost.get();
+    }
+}
@@ -0,0 +1,179 @@
+/* Copyright (c) 2022 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at http://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.vpn.wireguard;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+
+import androidx.annotation.Nullable;
+import androidx.test.filters.SmallTest;
+
+import com.wireguard.android.backend.Backend;
+import com.wireguard.android.backend.Statistics;
+import com.wireguard.android.backend.Tunnel;
+import com.wireguard.config.Config;
+import com.wireguard.crypto.KeyPair;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.chromium.base.ContextUtils;
+import org.chromium.base.test.util.CallbackHelper;
+import org.chromium.base.test.util.CriteriaHelper;
+import org.chromium.chrome.test.ChromeJUnit4ClassRunner;
+import org.chromium.content_public.browser.test.util.TestThreadUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+@RunWith(ChromeJUnit4ClassRunner.class)
+public class WireguardServiceImplTest {
+    private static final long CONNECT_DELAY_MS = 100;
+    private static final long DISCONNECT_DELAY_MS = 200;
+
+    /**
+     * Takes a while to change the tunnel state, like GoBackend, and records the transitions in
+     * the order they finish.
+     */
+    private static class FakeBackend implements Backend {
+        private final List<Tunnel> mTunnels = new ArrayList<>();
+        private final List<Tunnel.State> mStates = new ArrayList<>();
+        private final CallbackHelper mSetStateHelper = new CallbackHelper();
+        private int mActiveCount;
+        private int mMaxActiveCount;
+
+        @Override
+        public Set<String> getRunningTunnelNames() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Tunnel.State getState(Tunnel tunnel) {
+            return Tunnel.State.DOWN;
+        }
+
+        @Override
+        public Statistics getStatistics(Tunnel tunnel) throws Exception {
+            throw new Exception("No statistics");
+        }
+
+        @Override
+        public String getVersion() {
+            return "fake";
+        }
+
+        @Override
+        public Tunnel.State setState(Tunnel tunnel, Tunnel.State state, @Nullable Config config)
+                throws Exception {
+            synchronized (this) {
+                mActiveCount++;
+                mMaxActiveCount = Math.max(mMaxActiveCount, mActiveCount);
+            }
+            Thread.sleep(state == Tunnel.State.UP ? CONNECT_DELAY_MS : DISCONNECT_DELAY_MS);
+            synchronized (this) {
+                mActiveCount--;
+                mTunnels.add(tunnel);
+                mStates.add(state);
+            }
+            tunnel.onStateChange(state);
+            mSetStateHelper.notifyCalled();
+
+            return state;
+        }
+
+        synchronized Tunnel getTunnel(int index) {
+            return mTunnels.get(index);
+        }
+
+        synchronized Tunnel.State getState(int index) {
+            return mStates.get(index);
+        }
+
+        synchronized int getMaxActiveCount() {
+            return mMaxActiveCount;
+        }
+    }
+
+    private FakeBackend mBackend;
+    private Context mContext;
+
+    @Before
+    public void setUp() throws Exception {
+        mContext = ContextUtils.getApplicationContext();
+        mBackend = new FakeBackend();
+        WireguardServiceImpl.setBackendForTesting(mBackend);
+        if (WireguardConfigUtils.isConfigExist(mContext)) {
+            WireguardConfigUtils.deleteConfig(mContext);
+        }
+        WireguardConfigUtils.createConfig(mContext, "10.0.0.2/32", "vpn.test",
+                new KeyPair().getPrivateKey().toBase64(), new KeyPair().getPublicKey().toBase64());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        WireguardServiceImpl.setBackendForTesting(null);
+        WireguardConfigUtils.deleteConfig(mContext);
+    }
+
+    @Test
+    @SmallTest
+    public void measuresConnectTimeTest() throws Exception {
+        WireguardServiceImpl service = createService();
+        service.postStartVpn();
+        mBackend.mSetStateHelper.waitForCallback(0, 1);
+        CriteriaHelper.pollInstrumentationThread(() -> service.getLastConnectTimeMs() > 0);
+
+        assertEquals(Tunnel.State.UP, mBackend.getState(0));
+        assertTrue(service.getLastConnectTimeMs() >= CONNECT_DELAY_MS);
+
+        destroyService(service);
+        mBackend.mSetStateHelper.waitForCallback(1, 1);
+        assertEquals(Tunnel.State.DOWN, mBackend.getState(1));
+    }
+
+    @Test
+    @SmallTest
+    public void stopsBeforeNextStartTest() throws Exception {
+        WireguardServiceImpl firstService = createService();
+        firstService.postStartVpn();
+        mBackend.mSetStateHelper.waitForCallback(0, 1);
+
+        // The stop takes longer than the start of the next service, which must still wait for it
+        destroyService(firstService);
+        WireguardServiceImpl secondService = createService();
+        secondService.postStartVpn();
+        mBackend.mSetStateHelper.waitForCallback(1, 2);
+
+        assertSame(firstService.getTunnelModel(), mBackend.getTunnel(1));
+        assertEquals(Tunnel.State.DOWN, mBackend.getState(1));
+        assertSame(secondService.getTunnelModel(), mBackend.getTunnel(2));
+        assertEquals(Tunnel.State.UP, mBackend.getState(2));
+        assertEquals(1, mBackend.getMaxActiveCount());
+
+        destroyService(secondService);
+        mBackend.mSetStateHelper.waitForCallback(3, 1);
+    }
+
+    private static WireguardServiceImpl createService() {
+        return TestThreadUtils.runOnUiThreadBlockingNoException(() -> {
+            WireguardServiceImpl service = new WireguardServiceImpl();
+            service.onCreate();
+
+            return service;
+        });
+    }
+
+    private static void destroyService(WireguardServiceImpl service) {
+        TestThreadUtils.runOnUiThreadBlocking(service::onDestroy);
+    }
+}
@@ -222,6 +222,24 @@ void BraveRewardsNativeWorker::IncludeInAutoContribution(JNIEnv* env,
   }
 }
 
+void BraveRewardsNativeWorker::SetPublisherExclude(
+    JNIEnv* env,
+    const base::android::JavaParamRef<jstring>& publisher_key,
+    bool exclude) {
+  std::string publisher_id =
+      base::android::ConvertJavaStringToUTF8(env, publisher_key);
+  for (auto& item : map_publishers_info_) {
+    if (item.second->id == publisher_id) {
+      item.second->excluded = exclude
+                                  ? ledger::type::PublisherExclude::EXCLUDED
+                                  : ledger::type::PublisherExclude::INCLUDED;
+    }
+  }
+  if (brave_rewards_service_) {
+    brave_rewards_service_->SetPublisherExclude(publisher_id, exclude);
+  }
+}
+
 void BraveRewardsNativeWorker::RemovePublisherFromMap(JNIEnv* env,
                                                       uint64_t tabId) {
   PublishersInfoMap::const_iterator iter(map_publishers_info_.find(tabId));
@@ -271,6 +289,29 @@ BraveRewardsNativeWorker::GetWalletBalance(JNIEnv* env) {
   return base::android::ConvertUTF8ToJavaString(env, json_balance);
 }
 
+base::android::ScopedJavaLocalRef<jobjectArray>
+BraveRewardsNativeWorker::GetWalletBalanceWalletTypes(JNIEnv* env) {
+  std::vector<std::string> wallet_types;
+  for (const auto& item : balance_.wallets) {
+    wallet_types.push_back(item.first);
+  }
+
+  return base::android::ToJavaArrayOfStrings(env, wallet_types);
+}
+
+// The total, followed by the amounts of the wallets in the order of
+// GetWalletBalanceWalletTypes
+base::android::ScopedJavaLocalRef<jdoubleArray>
+BraveRewardsNativeWorker::GetWalletBalanceAmounts(JNIEnv* env) {
+  std::vector<double> amounts;
+  amounts.push_back(balance_.total);
+  for (const auto& item : balance_.wallets) {
+    amounts.push_back(item.second);
+  }
+
+  return base::android::ToJavaDoubleArray(env, amounts);
+}
+
 base::android::ScopedJavaLocalRef<jstring>
 BraveRewardsNativeWorker::GetExternalWalletType(JNIEnv* env) {
   std::string wallet_type;
@@ -696,30 +737,29 @@ void BraveRewardsNativeWorker::GetExternalWallet(JNIEnv* env) {
 void BraveRewardsNativeWorker::OnGetExternalWallet(
     const ledger::type::Result result,
     ledger::type::ExternalWalletPtr wallet) {
-  std::string json_wallet;
-  if (!wallet) {
-    json_wallet = "";
-  } else {
-    base::Value dict(base::Value::Type::DICTIONARY);
-    dict.SetStringKey("token", wallet->token);
-    dict.SetStringKey("address", wallet->address);
+  base::android::ScopedJavaLocalRef<jobjectArray> java_fields;
+  int status = 0;
+  JNIEnv* env = base::android::AttachCurrentThread();
+  if (wallet) {
+    // Matching the FIELD_* indices in BraveRewardsExternalWallet.java
+    std::vector<std::string> fields;
+    fields.push_back(wallet->account_url);
+    fields.push_back(wallet->add_url);
+    fields.push_back(wallet->address);
+    fields.push_back(wallet->token);
+    fields.push_back(wallet->type);
+    fields.push_back(wallet->user_name);
+    fields.push_back(wallet->verify_url);
+    fields.push_back(wallet->withdraw_url);
+    fields.push_back(wallet->login_url);
+    java_fields = base::android::ToJavaArrayOfStrings(env, fields);
 
     // enum class WalletStatus : int32_t
-    dict.SetIntKey("status", static_cast<int32_t>(wallet->status));
-    dict.SetStringKey("verify_url", wallet->verify_url);
-    dict.SetStringKey("add_url", wallet->add_url);
-    dict.SetStringKey("type", wallet->type);
-    dict.SetStringKey("withdraw_url", wallet->withdraw_url);
-    dict.SetStringKey("user_name", wallet->user_name);
-    dict.SetStringKey("account_url", wallet->account_url);
-    dict.SetStringKey("login_url", wallet->login_url);
-    base::JSONWriter::Write(dict, &json_wallet);
+    status = static_cast<int32_t>(wallet->status);
   }
-  JNIEnv* env = base::android::AttachCurrentThread();
   Java_BraveRewardsNativeWorker_OnGetExternalWallet(env,
       weak_java_brave_rewards_native_worker_.get(env),
-      static_cast<int>(result),
-      base::android::ConvertUTF8ToJavaString(env, json_wallet));
+      static_cast<int>(result), java_fields, status);
 }
 
 void BraveRewardsNativeWorker::DisconnectWallet(JNIEnv* env) {
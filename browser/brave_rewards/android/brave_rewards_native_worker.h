@@ -48,6 +48,12 @@ class BraveRewardsNativeWorker : public brave_rewards::RewardsServiceObserver,
 
     base::android::ScopedJavaLocalRef<jstring> GetWalletBalance(JNIEnv* env);
 
+    base::android::ScopedJavaLocalRef<jobjectArray> GetWalletBalanceWalletTypes(
+        JNIEnv* env);
+
+    base::android::ScopedJavaLocalRef<jdoubleArray> GetWalletBalanceAmounts(
+        JNIEnv* env);
+
     base::android::ScopedJavaLocalRef<jstring> GetExternalWalletType(
         JNIEnv* env);
 
@@ -80,6 +86,11 @@ class BraveRewardsNativeWorker : public brave_rewards::RewardsServiceObserver,
 
     void RemovePublisherFromMap(JNIEnv* env, uint64_t tabId);
 
+    void SetPublisherExclude(
+        JNIEnv* env,
+        const base::android::JavaParamRef<jstring>& publisher_key,
+        bool exclude);
+
     void Donate(JNIEnv* env,
                 const base::android::JavaParamRef<jstring>& publisher_key,
                 int amount,